@@ -0,0 +1,25 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Describes the address books that the benchmarks run against, so that all benchmarks use the same data
+ * for a given book size and link density.
+ */
+public class BenchmarkData {
+
+    /** Seed of the generated data, fixed so that results of different runs can be compared. */
+    public static final long SEED = 2103;
+    public static final int TAG_COUNT = 30;
+    /** Number of persons for every event. */
+    public static final int PERSONS_PER_EVENT = 10;
+
+    /**
+     * Returns a generator of address books with {@code bookSize} persons and one event for every
+     * {@value #PERSONS_PER_EVENT} persons, each event linked to {@code linksPerEvent} persons.
+     */
+    public static SyntheticDataGenerator createGenerator(int bookSize, int linksPerEvent) {
+        return new SyntheticDataGenerator(SEED, bookSize, Math.max(1, bookSize / PERSONS_PER_EVENT), TAG_COUNT,
+                linksPerEvent);
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing the example commands of the user guide, comparing {@link LexedCommand#lex(String)} with the
+ * regex it replaced for separating the command word, model type and arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final List<String> COMMANDS = List.of(
+            "add p n/John Doe p/98765432 e/johnd@example.com a/John street, block 123, #01-01",
+            "add p n/Betsy Crowe t/friend e/betsycrowe@example.com a/Newgate Prison p/1234567 t/criminal",
+            "add e n/Pizza Party a/Clementi Ave 2, #02-25 s/2024-12-01 10:30 t/Work",
+            "edit p 1 p/91234567 e/johndoe@example.com",
+            "edit e 1 a/80 Blockhome Lane s/2024-12-15 08:30",
+            "delete p 3",
+            "delete e 1",
+            "find p James Jake",
+            "find e Sentosa Party",
+            "search p friends colleagues",
+            "search e Work",
+            "schedule 7",
+            "schedule 2024-12-01",
+            "link 1 ev/Pizza Party",
+            "unlink 2 ev/Sentosa",
+            "list",
+            "help");
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final Pattern pattern = parser.getParserRegex();
+
+    @Benchmark
+    public void lex(Blackhole blackhole) {
+        for (String command : COMMANDS) {
+            Optional<LexedCommand> lexedCommand = LexedCommand.lex(command);
+            blackhole.consume(lexedCommand);
+        }
+    }
+
+    /**
+     * Separates the commands as {@code AddressBookParser} did before {@link LexedCommand} was introduced.
+     */
+    @Benchmark
+    public void lexWithRegex(Blackhole blackhole) {
+        for (String command : COMMANDS) {
+            Matcher matcher = pattern.matcher(command.trim());
+            if (matcher.matches()) {
+                ModelType modelType = ModelType.fromShorthand(matcher.group("modelType"));
+                blackhole.consume(matcher.group("commandWord"));
+                blackhole.consume(modelType == ModelType.NEITHER
+                        ? matcher.group("combined")
+                        : matcher.group("arguments"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseCommand(Blackhole blackhole) throws ParseException {
+        for (String command : COMMANDS) {
+            Command parsedCommand = parser.parseCommand(command);
+            blackhole.consume(parsedCommand);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks adding persons and events to an {@code AddressBook} that already holds {@code bookSize} persons.
+ * Each measurement adds {@value #ADDITIONS} new persons or events to a freshly built address book,
+ * so that the book does not grow beyond its intended size over the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = AddressBookBenchmark.ADDITIONS)
+@Measurement(iterations = 10, batchSize = AddressBookBenchmark.ADDITIONS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AddressBookBenchmark {
+
+    static final int ADDITIONS = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private SyntheticDataGenerator generator;
+    private AddressBook addressBook;
+    private List<Person> newPersons;
+    private List<Event> newEvents;
+    private int nextIndex;
+
+    /**
+     * Prepares the generator and the persons and events to be added.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        generator = BenchmarkData.createGenerator(bookSize, 10);
+        newPersons = new ArrayList<>();
+        newEvents = new ArrayList<>();
+        for (int i = 0; i < ADDITIONS; i++) {
+            newPersons.add(new Person(new Name("New Person " + i), new Phone("9" + i + "000"),
+                    new Email("new" + i + "@example.com"), new Address("New Street " + i), Collections.emptySet()));
+            newEvents.add(new Event(new Name("New Event " + i), new Address("New Venue " + i),
+                    new DateTime("2026-06-" + String.format("%02d", i % 28 + 1) + " 12:00"), null, null, null,
+                    Collections.emptySet()));
+        }
+    }
+
+    /**
+     * Rebuilds the address book before each batch of additions.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        addressBook = generator.generate();
+        nextIndex = 0;
+    }
+
+    @Benchmark
+    public AddressBook addPerson() {
+        addressBook.addPerson(newPersons.get(nextIndex++));
+        return addressBook;
+    }
+
+    @Benchmark
+    public AddressBook addEvent() {
+        addressBook.addEvent(newEvents.get(nextIndex++));
+        return addressBook;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.EventInSchedulePredicate;
+import seedu.address.model.types.common.EventNameContainsKeywordsPredicate;
+import seedu.address.model.types.common.EventTagContainsKeywordsPredicate;
+import seedu.address.model.types.common.NameContainsKeywordsPredicate;
+import seedu.address.model.types.common.PagedFilteredList;
+import seedu.address.model.types.common.PersonTagContainsKeywordsPredicate;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Benchmarks filtering the displayed lists, as done by the {@code find}, {@code search} and {@code schedule}
+ * commands, in an address book of {@code bookSize} persons and {@code bookSize / 10} events.
+ * Every invocation sets a new predicate, which makes the {@code PagedFilteredList} test elements from the start
+ * until it finds its first page. {@link #findPersonUnpaged()} does the same with a {@code FilteredList}, which
+ * tests every element, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FilteredListBenchmark {
+
+    private static final List<String> NAME_KEYWORDS = List.of("Alex", "Roy");
+    private static final List<String> EVENT_NAME_KEYWORDS = List.of("Workshop", "345");
+    private static final List<String> TAG_KEYWORDS = List.of("family", "tag12");
+    private static final DateTime SCHEDULE_DATE = new DateTime("2026-03-15 00:00");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private PagedFilteredList<Person> filteredPersons;
+    private PagedFilteredList<Event> filteredEvents;
+    private FilteredList<Person> unpagedFilteredPersons;
+
+    /**
+     * Filters the lists of a generated address book, as {@code ModelManager} does.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = BenchmarkData.createGenerator(bookSize, 0).generate();
+        filteredPersons = new PagedFilteredList<>(addressBook.getPersonList(), Model.PAGE_SIZE);
+        filteredEvents = new PagedFilteredList<>(addressBook.getEventList(), Model.PAGE_SIZE);
+        unpagedFilteredPersons = new FilteredList<>(addressBook.getPersonList());
+    }
+
+    @Benchmark
+    public int findPerson() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(NAME_KEYWORDS));
+        return filteredPersons.size();
+    }
+
+    @Benchmark
+    public int findPersonUnpaged() {
+        unpagedFilteredPersons.setPredicate(new NameContainsKeywordsPredicate(NAME_KEYWORDS));
+        return unpagedFilteredPersons.size();
+    }
+
+    @Benchmark
+    public int findEvent() {
+        filteredEvents.setPredicate(new EventNameContainsKeywordsPredicate(EVENT_NAME_KEYWORDS));
+        return filteredEvents.size();
+    }
+
+    @Benchmark
+    public int searchPerson() {
+        filteredPersons.setPredicate(new PersonTagContainsKeywordsPredicate(TAG_KEYWORDS));
+        return filteredPersons.size();
+    }
+
+    @Benchmark
+    public int searchEvent() {
+        filteredEvents.setPredicate(new EventTagContainsKeywordsPredicate(TAG_KEYWORDS));
+        return filteredEvents.size();
+    }
+
+    @Benchmark
+    public int schedule() {
+        filteredEvents.setPredicate(new EventInSchedulePredicate(SCHEDULE_DATE));
+        return filteredEvents.size();
+    }
+}
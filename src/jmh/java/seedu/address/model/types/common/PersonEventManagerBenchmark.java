@@ -0,0 +1,109 @@
+package seedu.address.model.types.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.AddressBook;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Benchmarks updating the links of one person, as done when the person is edited or deleted,
+ * in an address book of {@code bookSize} persons and {@code bookSize / 10} events,
+ * each event linked to {@code linksPerEvent} persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonEventManagerBenchmark {
+
+    /**
+     * Links of a generated address book, and a person that is linked to at least one event.
+     */
+    @State(Scope.Thread)
+    public static class Links {
+        protected PersonEventManager personEventManager;
+        protected Person linkedPerson;
+        protected Person editedPerson;
+        protected List<Event> eventsOfLinkedPerson;
+
+        @Param({"1000", "10000", "100000", "1000000"})
+        private int bookSize;
+
+        @Param({"1", "10", "100"})
+        private int linksPerEvent;
+
+        /**
+         * Builds the links and picks the linked person.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            AddressBook addressBook = BenchmarkData.createGenerator(bookSize, linksPerEvent).generate();
+            personEventManager = addressBook.getPersonEventManager();
+            linkedPerson = personEventManager.getEventPersonMap().values().iterator().next().get(0);
+            editedPerson = new Person(new Name("Edited Person"), linkedPerson.getPhone(), linkedPerson.getEmail(),
+                    linkedPerson.getAddress(), Collections.emptySet());
+
+            eventsOfLinkedPerson = new ArrayList<>();
+            personEventManager.getEventPersonMap().forEach((event, persons) -> {
+                if (persons.contains(linkedPerson)) {
+                    eventsOfLinkedPerson.add(event);
+                }
+            });
+        }
+    }
+
+    /**
+     * Links whose linked person is linked to its events again before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class RestoredLinks extends Links {
+        /**
+         * Restores the links removed by the previous invocation.
+         */
+        @Setup(Level.Invocation)
+        public void restoreLinks() {
+            for (Event event : eventsOfLinkedPerson) {
+                if (!personEventManager.isPersonLinkedToEvent(linkedPerson, event)) {
+                    personEventManager.addPersonToEvent(linkedPerson, event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the linked person with an edited copy, and alternately back again.
+     */
+    @Benchmark
+    public PersonEventManager setPersonForAllEvents(Links links) {
+        links.personEventManager.setPersonForAllEvents(links.linkedPerson, links.editedPerson);
+        Person previous = links.linkedPerson;
+        links.linkedPerson = links.editedPerson;
+        links.editedPerson = previous;
+        return links.personEventManager;
+    }
+
+    @Benchmark
+    public PersonEventManager removePersonFromAllEvents(RestoredLinks links) {
+        links.personEventManager.removePersonFromAllEvents(links.linkedPerson);
+        return links.personEventManager;
+    }
+}
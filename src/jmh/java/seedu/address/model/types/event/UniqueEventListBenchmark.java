@@ -0,0 +1,82 @@
+package seedu.address.model.types.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.SimulatedClock;
+
+/**
+ * Benchmarks bringing the order of the events of an address book of {@code bookSize} persons, i.e.
+ * {@code bookSize / 10} events, up to date, as done every minute while the application is running.
+ * The events are ordered by a simulated clock that is moved forward by a minute before every update, through the
+ * two years the generated events start in, so that results do not depend on when the benchmark is run.
+ * Between two updates, usually no event or only a few events have started.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniqueEventListBenchmark {
+
+    private static final LocalDateTime SIMULATION_START = SyntheticDataGenerator.EVENTS_CENTRE.minusYears(1);
+    private static final LocalDateTime SIMULATION_END = SyntheticDataGenerator.EVENTS_CENTRE.plusYears(1);
+    private static final Duration UPDATE_INTERVAL = Duration.ofMinutes(1);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private UniqueEventList events;
+
+    private SimulatedClock clock;
+
+    /**
+     * Fills the event list with the generated events.
+     */
+    @Setup
+    public void setUp() {
+        events = new UniqueEventList();
+        events.setEvents(BenchmarkData.createGenerator(bookSize, 0).generate().getEventList());
+    }
+
+    /**
+     * Orders the events for the start of the simulation.
+     */
+    @Setup(Level.Iteration)
+    public void restartSimulation() {
+        clock = SimulatedClock.startingAt(SIMULATION_START);
+        events.setClock(clock);
+    }
+
+    /**
+     * Moves the simulated clock forward by a minute and brings the order up to date. Once the clock has passed
+     * every event, the simulation is restarted, which sorts the whole list but happens only once every
+     * two simulated years.
+     */
+    @Benchmark
+    public UniqueEventList updateEventOrder() {
+        clock.advance(UPDATE_INTERVAL);
+        if (!SIMULATION_END.isAfter(LocalDateTime.now(clock))) {
+            restartSimulation();
+        }
+        events.updateEventOrder();
+        return events;
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks saving and loading an address book of {@code bookSize} persons and {@code bookSize / 10} events,
+ * each event linked to {@code linksPerEvent} persons, as a whole and step by step.
+ * Run with {@code -prof gc} to also report the allocation rate of each step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    @Param({"0", "10", "100"})
+    private int linksPerEvent;
+
+    private ReadOnlyAddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+    private String json;
+    private Path filePath;
+    private JsonAddressBookStorage storage;
+    private long fileSize;
+
+    /**
+     * Counts the bytes written by {@link #saveAddressBook(BytesWritten)}, which JMH reports as a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BytesWritten {
+        private long bytesWritten;
+
+        /**
+         * Resets the count for each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesWritten = 0;
+        }
+
+        public long bytesWritten() {
+            return bytesWritten;
+        }
+
+        void add(long bytes) {
+            bytesWritten += bytes;
+        }
+    }
+
+    /**
+     * Generates the address book and prepares the input of every step.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.createGenerator(bookSize, linksPerEvent).generate();
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        json = JsonUtil.toJsonString(serializableAddressBook);
+
+        filePath = Files.createTempFile("addressbook-benchmark", ".json");
+        storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        fileSize = Files.size(filePath);
+    }
+
+    /**
+     * Deletes the file written by the benchmarks.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public void saveAddressBook(BytesWritten counter) throws IOException {
+        storage.saveAddressBook(addressBook);
+        counter.add(fileSize);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook createSerializableAddressBook() {
+        return new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+    @Benchmark
+    public String toJsonString() throws IOException {
+        return JsonUtil.toJsonString(serializableAddressBook);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromJsonString() throws IOException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+    }
+}
@@ -10,14 +10,38 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.QueryRunner.OutputFormat;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String BATCH_USAGE = "Batch mode parameters: --batch FILE [--checkpoint N] [--config=PATH]\n"
+            + "Runs the commands in FILE without the GUI, saving after every N successful commands "
+            + "(only at the end if N is 0 or not given).";
+    public static final String QUERY_USAGE = "Query mode parameters: --query COMMAND [--format plain|json] "
+            + "[--config=PATH]\n"
+            + "Prints the persons or events found by a find, search or schedule COMMAND without the GUI.";
+
+    public static final String MESSAGE_MISSING_VALUE = "Missing value for %s";
+    public static final String MESSAGE_INVALID_BATCH_PATH = "Invalid batch file path %s";
+    public static final String MESSAGE_INVALID_CHECKPOINT = "Checkpoint interval must be a non-negative integer: %s";
+    public static final String MESSAGE_INVALID_FORMAT = "Output format must be plain or json: %s";
+    public static final String MESSAGE_CONFLICTING_MODES = "--batch and --query cannot be used together";
+
+    private static final String CONFIG_PARAMETER = "--config";
+    private static final String BATCH_PARAMETER = "--batch";
+    private static final String CHECKPOINT_PARAMETER = "--checkpoint";
+    private static final String QUERY_PARAMETER = "--query";
+    private static final String FORMAT_PARAMETER = "--format";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchFilePath;
+    private int checkpointInterval;
+    private String queryText;
+    private OutputFormat outputFormat = OutputFormat.PLAIN;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +51,56 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run in batch mode, or null if the application should start its GUI.
+     */
+    public Path getBatchFilePath() {
+        return batchFilePath;
+    }
+
+    public void setBatchFilePath(Path batchFilePath) {
+        this.batchFilePath = batchFilePath;
+    }
+
+    public boolean isBatchMode() {
+        return batchFilePath != null;
+    }
+
+    /**
+     * Returns the number of successful commands after which batch mode saves the data, or 0 if it only saves
+     * after the last command.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the command to run in query mode, or null if the application should not run a query.
+     */
+    public String getQueryText() {
+        return queryText;
+    }
+
+    public void setQueryText(String queryText) {
+        this.queryText = queryText;
+    }
+
+    public boolean isQueryMode() {
+        return queryText != null;
+    }
+
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    public void setOutputFormat(OutputFormat outputFormat) {
+        this.outputFormat = outputFormat;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -34,14 +108,124 @@ public class AppParameters {
         AppParameters appParameters = new AppParameters();
         Map<String, String> namedParameters = parameters.getNamed();
 
-        String configPathParameter = namedParameters.get("config");
+        appParameters.setConfigPath(parseConfigPath(namedParameters.get("config")));
+
+        return appParameters;
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@link Main}, before JavaFX is started.
+     * Besides {@code --config=PATH}, these can be {@code --batch FILE} and {@code --checkpoint N} for batch mode,
+     * or {@code --query COMMAND} and {@code --format plain|json} for query mode, where a value can also follow
+     * its name after an equals sign. Other arguments are left to JavaFX.
+     *
+     * @throws IllegalArgumentException if a batch or query mode parameter has a missing or invalid value, or if
+     *     both modes are requested.
+     */
+    public static AppParameters parseCommandLine(String... args) {
+        AppParameters appParameters = new AppParameters();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            int separatorIndex = arg.indexOf('=');
+            String name = separatorIndex < 0 ? arg : arg.substring(0, separatorIndex);
+            String value;
+            if (separatorIndex >= 0) {
+                value = arg.substring(separatorIndex + 1);
+            } else if (takesSeparateValue(name) && i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                value = null;
+            }
+
+            switch (name) {
+            case CONFIG_PARAMETER:
+                appParameters.setConfigPath(parseConfigPath(value));
+                break;
+            case BATCH_PARAMETER:
+                appParameters.setBatchFilePath(parseBatchFilePath(value));
+                break;
+            case CHECKPOINT_PARAMETER:
+                appParameters.setCheckpointInterval(parseCheckpointInterval(value));
+                break;
+            case QUERY_PARAMETER:
+                appParameters.setQueryText(parseQueryText(value));
+                break;
+            case FORMAT_PARAMETER:
+                appParameters.setOutputFormat(parseOutputFormat(value));
+                break;
+            default:
+                // Not one of ours, so it is left to JavaFX
+                break;
+            }
+        }
+
+        if (appParameters.isBatchMode() && appParameters.isQueryMode()) {
+            throw new IllegalArgumentException(MESSAGE_CONFLICTING_MODES);
+        }
+        return appParameters;
+    }
+
+    /**
+     * Returns true if the value of parameter {@code name} may be given as the next argument.
+     */
+    private static boolean takesSeparateValue(String name) {
+        return name.equals(BATCH_PARAMETER) || name.equals(CHECKPOINT_PARAMETER)
+                || name.equals(QUERY_PARAMETER) || name.equals(FORMAT_PARAMETER);
+    }
+
+    /**
+     * Returns the path of {@code configPathParameter}, or null if it is null or not a valid path.
+     */
+    private static Path parseConfigPath(String configPathParameter) {
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+            return null;
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        return configPathParameter != null ? Paths.get(configPathParameter) : null;
+    }
 
-        return appParameters;
+    private static Path parseBatchFilePath(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, BATCH_PARAMETER));
+        }
+        if (value.isEmpty() || !FileUtil.isValidPath(value)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_BATCH_PATH, value));
+        }
+        return Paths.get(value);
+    }
+
+    private static int parseCheckpointInterval(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, CHECKPOINT_PARAMETER));
+        }
+        try {
+            int checkpointInterval = Integer.parseInt(value);
+            if (checkpointInterval >= 0) {
+                return checkpointInterval;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with negative values
+        }
+        throw new IllegalArgumentException(String.format(MESSAGE_INVALID_CHECKPOINT, value));
+    }
+
+    private static String parseQueryText(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, QUERY_PARAMETER));
+        }
+        return value.trim();
+    }
+
+    private static OutputFormat parseOutputFormat(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, FORMAT_PARAMETER));
+        }
+        try {
+            return OutputFormat.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_FORMAT, value), e);
+        }
     }
 
     @Override
@@ -56,18 +240,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchFilePath, otherAppParameters.batchFilePath)
+                && checkpointInterval == otherAppParameters.checkpointInterval
+                && Objects.equals(queryText, otherAppParameters.queryText)
+                && outputFormat == otherAppParameters.outputFormat;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchFilePath, checkpointInterval, queryText, outputFormat);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchFilePath", batchFilePath)
+                .add("checkpointInterval", checkpointInterval)
+                .add("queryText", queryText)
+                .add("outputFormat", outputFormat)
                 .toString();
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a generated address book to a data file, for load testing the application with a large amount of data.
+ * Parameters are given in the form {@code --name=value}, e.g. {@code --persons=100000 --events=10000}.
+ */
+public class GenerateSyntheticData {
+
+    public static final String USAGE = "Parameters (all optional): --persons=N --events=N --tags=N --links=N "
+            + "--seed=N --output=PATH";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateSyntheticData.class);
+
+    private static final String DEFAULT_PERSONS = "10000";
+    private static final String DEFAULT_EVENTS = "1000";
+    private static final String DEFAULT_TAGS = "30";
+    private static final String DEFAULT_LINKS = "10";
+    private static final String DEFAULT_SEED = "2103";
+    private static final String DEFAULT_OUTPUT = Paths.get("data", "addressbook.json").toString();
+
+    /**
+     * Generates the address book described by {@code args} and saves it.
+     */
+    public static void main(String[] args) {
+        Map<String, String> parameters;
+        SyntheticDataGenerator generator;
+        try {
+            parameters = parseParameters(args);
+            generator = new SyntheticDataGenerator(
+                    Long.parseLong(parameters.getOrDefault("seed", DEFAULT_SEED)),
+                    Integer.parseInt(parameters.getOrDefault("persons", DEFAULT_PERSONS)),
+                    Integer.parseInt(parameters.getOrDefault("events", DEFAULT_EVENTS)),
+                    Integer.parseInt(parameters.getOrDefault("tags", DEFAULT_TAGS)),
+                    Integer.parseInt(parameters.getOrDefault("links", DEFAULT_LINKS)));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        Path outputPath = Paths.get(parameters.getOrDefault("output", DEFAULT_OUTPUT));
+        long startMillis = System.currentTimeMillis();
+        AddressBook addressBook = generator.generate();
+        logger.info("Generated " + addressBook.getPersonList().size() + " persons and "
+                + addressBook.getEventList().size() + " events in " + (System.currentTimeMillis() - startMillis)
+                + " ms");
+
+        try {
+            new JsonAddressBookStorage(outputPath).saveAddressBook(addressBook);
+        } catch (IOException e) {
+            System.err.println("Could not save to " + outputPath + ": " + e.getMessage());
+            System.exit(1);
+        }
+        logger.info("Saved to " + outputPath.toAbsolutePath());
+    }
+
+    /**
+     * Returns the values of parameters of the form {@code --name=value}, keyed by name.
+     *
+     * @throws IllegalArgumentException if a parameter is not of that form or its name is not in {@link #USAGE}.
+     */
+    static Map<String, String> parseParameters(String... args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            String name = separatorIndex < 0 ? "" : arg.substring(0, separatorIndex);
+            if (!name.startsWith("--") || !USAGE.contains(name + "=")) {
+                throw new IllegalArgumentException("Unknown parameter: " + arg);
+            }
+            parameters.put(name.substring(2), arg.substring(separatorIndex + 1));
+        }
+        return parameters;
+    }
+}
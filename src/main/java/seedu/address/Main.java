@@ -20,11 +20,34 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also runs the application in batch mode or query mode, without starting JavaFX at all,
+ * when given the {@code --batch} or {@code --query} parameter.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
+    /**
+     * Runs the commands of a batch file or a query if one is given in {@code args}, otherwise launches the GUI.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters;
+        try {
+            appParameters = AppParameters.parseCommandLine(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(AppParameters.BATCH_USAGE);
+            System.err.println(AppParameters.QUERY_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        if (appParameters.isBatchMode()) {
+            System.exit(new MainApp().runBatch(appParameters));
+        }
+        if (appParameters.isQueryMode()) {
+            System.exit(new MainApp().runQuery(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -8,13 +8,19 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Diagnostics;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.QueryRunner;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -51,9 +57,18 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the application except the UI.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        Diagnostics.setEnabled(config.isDiagnosticsEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
@@ -63,8 +78,71 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Runs the commands in the batch file of {@code appParameters} without starting JavaFX, printing the result
+     * of each command to the standard output.
+     *
+     * @return the exit status of the application, which is 0 if every command succeeded and the data was saved.
+     */
+    public int runBatch(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook in batch mode ]==================");
+        initComponents(appParameters);
+
+        BatchRunner batchRunner = new BatchRunner(logic, System.out, appParameters.getCheckpointInterval());
+        try {
+            return batchRunner.run(appParameters.getBatchFilePath()) ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Could not read batch file " + appParameters.getBatchFilePath() + ": "
+                    + e.getMessage());
+            return 1;
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * Runs the query of {@code appParameters} without starting JavaFX, printing the persons or events found to the
+     * standard output.
+     * Only the config, the preferences and the address book are read, and none of them is written, so queries can
+     * be run while the GUI is open and a missing data file is not created.
+     *
+     * @return the exit status of the application, which is 0 if the query succeeded.
+     */
+    public int runQuery(AppParameters appParameters) {
+        Path configFilePath = appParameters.getConfigPath() != null
+                ? appParameters.getConfigPath()
+                : Config.DEFAULT_CONFIG_FILE;
+        config = readConfig(configFilePath);
+        initLogging(config);
+
+        // The query is checked before the address book is read, so a mistyped query fails fast on a large book
+        Command query;
+        try {
+            query = QueryRunner.parseQuery(appParameters.getQueryText());
+        } catch (ParseException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+
+        try {
+            ReadOnlyAddressBook addressBook = addressBookStorage.readAddressBook().orElseGet(AddressBook::new);
+            model = new ModelManager(addressBook, userPrefs);
+            new QueryRunner(model, System.out, appParameters.getOutputFormat()).run(query);
+            return 0;
+        } catch (DataLoadingException e) {
+            System.err.println("Could not load data file " + userPrefs.getAddressBookFilePath() + ": "
+                    + e.getMessage());
+            return 1;
+        } catch (CommandException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
     }
 
     /**
@@ -114,18 +192,7 @@ public class MainApp extends Application {
         }
 
         logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
+        initializedConfig = readConfig(configFilePathUsed);
 
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
@@ -136,6 +203,24 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    /**
+     * Returns the {@code Config} in the file at {@code configFilePath}, or the default {@code Config} if the file
+     * is missing or cannot be loaded.
+     */
+    private Config readConfig(Path configFilePath) {
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
+            if (!configOptional.isPresent()) {
+                logger.info("Config file " + configFilePath + " not found. Using default config properties.");
+            }
+            return configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
@@ -145,18 +230,7 @@ public class MainApp extends Application {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using preference file : " + prefsFilePath);
 
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
+        UserPrefs initializedPrefs = readPrefs(storage);
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
@@ -168,6 +242,25 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Returns the {@code UserPrefs} in {@code storage}, or the default {@code UserPrefs} if the file is missing
+     * or cannot be loaded.
+     */
+    private UserPrefs readPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Preference file " + prefsFilePath + " not found. Using default preferences.");
+            }
+            return prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -0,0 +1,143 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import javafx.animation.Animation;
+
+/**
+ * Collects opt-in measurements of UI responsiveness, such as how long the JavaFX Application Thread is kept busy.
+ * Recording does nothing unless diagnostics have been enabled through {@link Config}, so the calls can be left in
+ * frequently run code. All methods may be called from any thread.
+ */
+public class Diagnostics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static volatile boolean isEnabled;
+    private static LocalDateTime enabledSince;
+
+    private static final Map<String, Timing> timings = new TreeMap<>();
+    private static final Map<String, Long> counters = new TreeMap<>();
+    /** Animations that have been created, held weakly so that they can still be garbage collected. */
+    private static final Set<Animation> animations = Collections.newSetFromMap(new WeakHashMap<>());
+    private static long createdAnimationCount;
+
+    /**
+     * Enables or disables recording. Enabling clears all measurements recorded so far.
+     */
+    public static synchronized void setEnabled(boolean isEnabled) {
+        if (isEnabled) {
+            reset();
+        }
+        Diagnostics.isEnabled = isEnabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Records that the operation {@code name} took {@code durationNanos} nanoseconds.
+     */
+    public static void recordTiming(String name, long durationNanos) {
+        if (!isEnabled) {
+            return;
+        }
+        requireNonNull(name);
+        synchronized (Diagnostics.class) {
+            timings.computeIfAbsent(name, unused -> new Timing()).add(durationNanos);
+        }
+    }
+
+    /**
+     * Increments the counter {@code name} by one.
+     */
+    public static void incrementCounter(String name) {
+        if (!isEnabled) {
+            return;
+        }
+        requireNonNull(name);
+        synchronized (Diagnostics.class) {
+            counters.merge(name, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Records that {@code animation} has been created, so that it is counted while it is running.
+     */
+    public static void recordAnimationCreated(Animation animation) {
+        if (!isEnabled) {
+            return;
+        }
+        requireNonNull(animation);
+        synchronized (Diagnostics.class) {
+            animations.add(animation);
+            createdAnimationCount++;
+        }
+    }
+
+    /**
+     * Returns a human-readable report of all measurements recorded since diagnostics were enabled.
+     * Should be called on the JavaFX Application Thread, which owns the state of the animations.
+     */
+    public static synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        if (!isEnabled) {
+            return report.append("Diagnostics are disabled. Set \"diagnosticsEnabled\" to true in the config file.")
+                    .toString();
+        }
+
+        report.append("Diagnostics since ").append(enabledSince).append("\n\n");
+        report.append("Timings (count / average ms / max ms / last ms):\n");
+        timings.forEach((name, timing) -> report.append("  ").append(name).append(": ").append(timing).append("\n"));
+
+        report.append("\nCounters:\n");
+        counters.forEach((name, count) -> report.append("  ").append(name).append(": ").append(count).append("\n"));
+
+        long runningAnimationCount = animations.stream()
+                .filter(animation -> animation.getStatus() == Animation.Status.RUNNING)
+                .count();
+        report.append("\nTimelines running: ").append(runningAnimationCount)
+                .append(" (created: ").append(createdAnimationCount).append(")\n");
+        return report.toString();
+    }
+
+    private static void reset() {
+        enabledSince = LocalDateTime.now();
+        timings.clear();
+        counters.clear();
+        animations.clear();
+        createdAnimationCount = 0;
+    }
+
+    /**
+     * Summary of the durations recorded for one operation.
+     */
+    private static class Timing {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long lastNanos;
+
+        void add(long durationNanos) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            lastNanos = durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d / %.2f / %.2f / %.2f", count, totalNanos / NANOS_PER_MILLI / count,
+                    maxNanos / NANOS_PER_MILLI, lastNanos / NANOS_PER_MILLI);
+        }
+    }
+}
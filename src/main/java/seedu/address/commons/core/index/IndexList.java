@@ -0,0 +1,181 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a set of indexes into a displayed list, e.g. {@code 1-300,450}, or all the indexes of the list.
+ *
+ * The indexes are stored as sorted, disjoint ranges, so a range of any length takes constant space and indexes
+ * given more than once are selected once.
+ */
+public class IndexList {
+
+    /** The word standing for all the indexes of a list when indexes are entered. */
+    public static final String KEYWORD_ALL = "all";
+    public static final String MESSAGE_INVALID_RANGE = "The first index of a range must not be after the last index";
+
+    private static final IndexList ALL = new IndexList(new int[0], true);
+
+    /** Zero-based bounds of the ranges, inclusive: range {@code i} is {@code bounds[2i]} to {@code bounds[2i+1]}. */
+    private final int[] bounds;
+    private final boolean isAll;
+
+    private IndexList(int[] bounds, boolean isAll) {
+        this.bounds = bounds;
+        this.isAll = isAll;
+    }
+
+    /**
+     * Returns an {@code IndexList} of the single index {@code index}.
+     */
+    public static IndexList of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Returns an {@code IndexList} of the indexes from {@code first} to {@code last}, inclusive.
+     *
+     * @throws IllegalArgumentException if {@code first} is after {@code last}.
+     */
+    public static IndexList ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        checkArgument(first.getZeroBased() <= last.getZeroBased(), MESSAGE_INVALID_RANGE);
+        return new IndexList(new int[] {first.getZeroBased(), last.getZeroBased()}, false);
+    }
+
+    /**
+     * Returns an {@code IndexList} of all the indexes of a list, whatever its size.
+     */
+    public static IndexList all() {
+        return ALL;
+    }
+
+    /**
+     * Returns an {@code IndexList} of the indexes in this list or in {@code other}.
+     */
+    public IndexList union(IndexList other) {
+        requireNonNull(other);
+        if (isAll || other.isAll) {
+            return ALL;
+        }
+
+        // Merges the two sorted lists of ranges, joining ranges that overlap or touch
+        int[] merged = new int[bounds.length + other.bounds.length];
+        int mergedLength = 0;
+        int i = 0;
+        int j = 0;
+        while (i < bounds.length || j < other.bounds.length) {
+            int[] source;
+            int position;
+            if (j >= other.bounds.length || (i < bounds.length && bounds[i] <= other.bounds[j])) {
+                source = bounds;
+                position = i;
+                i += 2;
+            } else {
+                source = other.bounds;
+                position = j;
+                j += 2;
+            }
+
+            int start = source[position];
+            int end = source[position + 1];
+            if (mergedLength > 0 && start <= merged[mergedLength - 1] + 1) {
+                merged[mergedLength - 1] = Math.max(merged[mergedLength - 1], end);
+            } else {
+                merged[mergedLength++] = start;
+                merged[mergedLength++] = end;
+            }
+        }
+        return new IndexList(Arrays.copyOf(merged, mergedLength), false);
+    }
+
+    /**
+     * Returns true if this list holds all the indexes of a list, whatever its size.
+     */
+    public boolean isAll() {
+        return isAll;
+    }
+
+    /**
+     * Returns true if every index in this list is an index of a list of {@code size} elements.
+     */
+    public boolean isWithin(int size) {
+        return isAll || bounds[bounds.length - 1] < size;
+    }
+
+    /**
+     * Returns the elements of {@code list} at the indexes in this list, in the order of the indexes.
+     *
+     * @throws IndexOutOfBoundsException if an index is not an index of {@code list}.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        if (isAll) {
+            return new ArrayList<>(list);
+        }
+        if (!isWithin(list.size())) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        List<T> selected = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            selected.addAll(list.subList(bounds[i], bounds[i + 1] + 1));
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexList)) {
+            return false;
+        }
+
+        IndexList otherIndexList = (IndexList) other;
+        return isAll == otherIndexList.isAll && Arrays.equals(bounds, otherIndexList.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll ? 1 : Arrays.hashCode(bounds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("oneBasedIndexes", formatOneBased()).toString();
+    }
+
+    /**
+     * Returns the indexes in the form they are entered in, e.g. {@code 1-300,450}, or {@code all}.
+     */
+    private String formatOneBased() {
+        if (isAll) {
+            return KEYWORD_ALL;
+        }
+
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (i > 0) {
+                formatted.append(',');
+            }
+            formatted.append(bounds[i] + 1);
+            if (bounds[i + 1] != bounds[i]) {
+                formatted.append('-').append(bounds[i + 1] + 1);
+            }
+        }
+        return formatted.toString();
+    }
+}
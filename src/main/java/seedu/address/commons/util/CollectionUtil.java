@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,36 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the positions in {@code list} of the elements that are in {@code elements}, in increasing order.
+     */
+    public static int[] indexesOf(List<?> list, Set<?> elements) {
+        requireAllNonNull(list, elements);
+        return IntStream.range(0, list.size())
+                .filter(i -> elements.contains(list.get(i)))
+                .toArray();
+    }
+
+    /**
+     * Inserts {@code toInsert} into {@code list} so that {@code toInsert.get(i)} ends up at position
+     * {@code indexes[i]} of the resulting list, moving each element of {@code list} at most once.
+     * {@code indexes} must be increasing, e.g. the positions returned by {@link #indexesOf(List, Set)} before
+     * the elements were removed.
+     */
+    public static <T> void insertAll(List<T> list, int[] indexes, List<? extends T> toInsert) {
+        requireAllNonNull(list, indexes, toInsert);
+        checkArgument(indexes.length == toInsert.size(), "Every element inserted needs one index");
+
+        // Grows the list, then fills it from the back, shifting each old element right past the inserted ones
+        int read = list.size() - 1;
+        list.addAll(Collections.nCopies(toInsert.size(), null));
+        int write = list.size() - 1;
+        for (int i = toInsert.size() - 1; i >= 0; i--) {
+            while (write > indexes[i]) {
+                list.set(write--, list.get(read--));
+            }
+            list.set(write--, toInsert.get(i));
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts between lines of comma-separated values and their fields, as described in RFC 4180.
+ * A field is enclosed in double quotes if it contains a comma, a double quote or leading or trailing spaces,
+ * and double quotes inside it are doubled. Fields cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text other than a comma";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of {@code line}, without the quotes of quoted fields.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> parseLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int index = 0;
+
+        while (true) {
+            if (index < line.length() && line.charAt(index) == QUOTE) {
+                index = readQuotedField(line, index + 1, field);
+                if (index < line.length() && line.charAt(index) != SEPARATOR) {
+                    throw new IllegalArgumentException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, index);
+                end = end == -1 ? line.length() : end;
+                field.append(line, index, end);
+                index = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (index >= line.length()) {
+                return fields;
+            }
+            // Skips the separator
+            index++;
+        }
+    }
+
+    /**
+     * Appends the contents of the quoted field starting at {@code index}, just after its opening quote,
+     * to {@code field}, and returns the index just after its closing quote.
+     */
+    private static int readQuotedField(String line, int index, StringBuilder field) {
+        int current = index;
+        while (current < line.length()) {
+            char c = line.charAt(current);
+            if (c != QUOTE) {
+                field.append(c);
+                current++;
+            } else if (current + 1 < line.length() && line.charAt(current + 1) == QUOTE) {
+                field.append(QUOTE);
+                current += 2;
+            } else {
+                return current + 1;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_UNCLOSED_QUOTE);
+    }
+
+    /**
+     * Returns a line of comma-separated values holding {@code fields}, quoting fields where needed.
+     */
+    public static String formatLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || (!field.isEmpty() && (field.charAt(0) == ' ' || field.charAt(field.length() - 1) == ' '));
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+}
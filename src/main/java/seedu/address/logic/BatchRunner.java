@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a file of commands through {@code Logic} without the GUI, one command per line, and reports the result
+ * and running time of each command.
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are skipped. A failed command is reported and the
+ * following commands are still run. An {@code exit} command ends the run.
+ *
+ * Unlike commands entered in the GUI, commands are not saved one at a time: the address book is saved after every
+ * {@code checkpointInterval} successful commands, if that is positive, and after the last command.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL = "Checkpoint interval must not be negative";
+
+    public static final String RESULT_FORMAT = "[line %d] %s in %.3f ms: %s";
+    public static final String OUTCOME_SUCCESS = "OK";
+    public static final String OUTCOME_FAILURE = "FAILED";
+    public static final String FEEDBACK_INDENT = "    ";
+    public static final String SAVE_FORMAT = "Saved after %d commands in %.3f ms";
+    public static final String SAVE_FAILURE_FORMAT = "Stopped at line %d: %s";
+    public static final String SUMMARY_FORMAT = "Ran %d commands (%d failed) in %.3f ms";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands with {@code logic} and reports to {@code out}.
+     *
+     * @param checkpointInterval The number of successful commands after which the address book is saved,
+     *     or 0 to save only after the last command.
+     * @throws IllegalArgumentException if {@code checkpointInterval} is negative.
+     */
+    public BatchRunner(Logic logic, PrintStream out, int checkpointInterval) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        checkArgument(checkpointInterval >= 0, MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+        this.logic = logic;
+        this.out = out;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs the commands in {@code batchFile}.
+     *
+     * @return true if every command succeeded and the address book was saved.
+     * @throws IOException if {@code batchFile} cannot be read.
+     */
+    public boolean run(Path batchFile) throws IOException {
+        requireNonNull(batchFile);
+        logger.info("Running batch file " + batchFile);
+
+        long runStartNanos = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int unsavedCount = 0;
+        int lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(batchFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                commandCount++;
+                long startNanos = System.nanoTime();
+                CommandResult commandResult;
+                try {
+                    commandResult = logic.executeWithoutSaving(commandText);
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    report(lineNumber, OUTCOME_FAILURE, startNanos, commandText, e.getMessage());
+                    continue;
+                }
+                report(lineNumber, OUTCOME_SUCCESS, startNanos, commandText, commandResult.getFeedbackToUser());
+
+                unsavedCount++;
+                if (checkpointInterval > 0 && unsavedCount == checkpointInterval) {
+                    if (!save(unsavedCount, lineNumber)) {
+                        return false;
+                    }
+                    unsavedCount = 0;
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            }
+        }
+
+        boolean isSaved = unsavedCount == 0 || save(unsavedCount, lineNumber);
+        out.println(String.format(SUMMARY_FORMAT, commandCount, failureCount, millisSince(runStartNanos)));
+        return isSaved && failureCount == 0;
+    }
+
+    /**
+     * Saves the address book and reports how long it took.
+     *
+     * @return true if the address book was saved.
+     */
+    private boolean save(int unsavedCount, int lineNumber) {
+        long startNanos = System.nanoTime();
+        try {
+            logic.saveAddressBook();
+        } catch (CommandException e) {
+            out.println(String.format(SAVE_FAILURE_FORMAT, lineNumber, e.getMessage()));
+            return false;
+        }
+        out.println(String.format(SAVE_FORMAT, unsavedCount, millisSince(startNanos)));
+        return true;
+    }
+
+    private void report(int lineNumber, String outcome, long startNanos, String commandText, String feedback) {
+        out.println(String.format(RESULT_FORMAT, lineNumber, outcome, millisSince(startNanos), commandText));
+        for (String feedbackLine : feedback.split("\n")) {
+            out.println(FEEDBACK_INDENT + feedbackLine);
+        }
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import javafx.collections.ObservableList;
@@ -9,6 +12,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
@@ -25,6 +29,14 @@ public interface Logic {
      */
     public String getCommandHint(String commandText);
 
+    /**
+     * Provides completions of the person or event name being typed at the end of the current input.
+     *
+     * @param commandText The partial command input provided by the user.
+     * @return the input completed with each matching name, or an empty list if no name is being typed.
+     */
+    List<String> getCommandSuggestions(String commandText);
+
     /**
      * Executes the command and returns the result.
      * @param commandText The command as entered by the user.
@@ -34,6 +46,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command and returns the result, without saving the address book afterwards.
+     * Callers that run many commands in a row can save once with {@link #saveAddressBook()} instead.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the address book to storage.
+     * @throws CommandException If an error occurs while saving.
+     */
+    void saveAddressBook() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,8 +75,33 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
-    /** Resorts Events */
-    void reSortEvents();
+    /**
+     * Returns the events starting at or after {@code from} and strictly before {@code to}, in chronological order.
+     *
+     * @see seedu.address.model.Model#getEventsBetween(LocalDateTime, LocalDateTime)
+     */
+    List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the statistics of the address book.
+     *
+     * @see seedu.address.model.Model#getStatistics()
+     */
+    AddressBookStatistics getStatistics();
+
+    /**
+     * Brings the order of the events up to date with the current time.
+     *
+     * @see seedu.address.model.Model#updateEventOrder()
+     */
+    void updateEventOrder();
+
+    /**
+     * Returns the clock giving the current time.
+     *
+     * @see seedu.address.model.Model#getClock()
+     */
+    Clock getClock();
 
     /**
      * Returns the user prefs' address book file path.
@@ -3,9 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -14,7 +19,10 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ModelType;
+import seedu.address.logic.parser.PartialName;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.types.event.Event;
@@ -30,6 +38,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Maximum number of name suggestions offered for a partially typed command. */
+    public static final int MAX_SUGGESTIONS = 8;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -40,9 +51,16 @@ public class LogicManager implements Logic {
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AddressBookParser());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that parses commands with {@code addressBookParser}.
+     */
+    LogicManager(Model model, Storage storage, AddressBookParser addressBookParser) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.addressBookParser = addressBookParser;
     }
 
     @Override
@@ -50,14 +68,57 @@ public class LogicManager implements Logic {
         return addressBookParser.getHint(commandText);
     }
 
+    @Override
+    public List<String> getCommandSuggestions(String commandText) {
+        Optional<PartialName> partialName = addressBookParser.getPartialName(commandText);
+        if (partialName.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String typedText = partialName.get().getTypedText();
+        List<String> names = partialName.get().getModelType() == ModelType.EVENT
+                ? model.getEventNamesStartingWith(typedText, MAX_SUGGESTIONS)
+                : model.getPersonNamesStartingWith(typedText, MAX_SUGGESTIONS);
+
+        return names.stream()
+                .map(name -> partialName.get().complete(commandText, name))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        saveAddressBook();
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
 
+        // All changes made by a command reach the UI as a single change per list, and are undone together.
+        // A command that fails leaves the address book as it was, so that the user only sees the error.
+        boolean isExecuted = false;
+        model.beginBatchUpdate();
+        try {
+            commandResult = command.execute(model);
+            isExecuted = true;
+        } finally {
+            if (!isExecuted) {
+                model.discardAddressBookChanges();
+            }
+            model.endBatchUpdate();
+        }
+        model.commitAddressBook();
+
+        return commandResult;
+    }
+
+    @Override
+    public void saveAddressBook() throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -65,8 +126,6 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -85,8 +144,23 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void reSortEvents() {
-        model.reSortEvents();
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        return model.getEventsBetween(from, to);
+    }
+
+    @Override
+    public AddressBookStatistics getStatistics() {
+        return model.getStatistics();
+    }
+
+    @Override
+    public void updateEventOrder() {
+        model.updateEventOrder();
+    }
+
+    @Override
+    public Clock getClock() {
+        return model.getClock();
     }
 
     @Override
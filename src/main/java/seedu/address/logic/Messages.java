@@ -1,10 +1,12 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
 
@@ -18,10 +20,14 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_EVENTS_LISTED_OVERVIEW = "%1$d events listed!";
+    public static final String MESSAGE_MORE_PERSONS = "More persons may match: use \"more p\" to list them.";
+    public static final String MESSAGE_MORE_EVENTS = "More events may match: use \"more e\" to list them.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_EVENT_DISPLAYED_INDEX = "The event index provided is invalid";
     public static final String MESSAGE_NO_EVENTS = "There are no events in the address book";
+    public static final String MESSAGE_EVENT_CONFLICTS =
+            "Warning: overlaps with events at the same location or with the same linked persons: %1$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -61,10 +67,44 @@ public class Messages {
                 .append("; Location: ")
                 .append(event.getLocation())
                 .append("; StartTime: ")
-                .append(event.getStartTime())
-                .append("; Tags: ");
+                .append(event.getStartTime());
+        event.getEndTime().ifPresent(endTime -> builder.append("; EndTime: ").append(endTime));
+        event.getRecurrence().ifPresent(recurrence -> builder.append("; Repeats: ").append(recurrence));
+        event.getCapacity().ifPresent(capacity -> builder.append("; Capacity: ").append(capacity));
+        builder.append("; Tags: ");
         event.getTags().forEach(builder::append);
         return builder.toString();
     }
 
+    /**
+     * Returns a warning naming the {@code conflicts} of an event on a new line,
+     * or an empty string if there are none.
+     */
+    public static String formatConflicts(List<Event> conflicts) {
+        if (conflicts.isEmpty()) {
+            return "";
+        }
+
+        String names = conflicts.stream()
+                .map(Event::getEventName)
+                .collect(Collectors.joining(", "));
+        return "\n" + String.format(MESSAGE_EVENT_CONFLICTS, names);
+    }
+
+    /**
+     * Returns a note on a new line that more persons may match the filter of the filtered person list of
+     * {@code model}, or an empty string if every match is listed.
+     */
+    public static String formatMorePersons(Model model) {
+        return model.hasMoreFilteredPersons() ? "\n" + MESSAGE_MORE_PERSONS : "";
+    }
+
+    /**
+     * Returns a note on a new line that more events may match the filter of the filtered event list of
+     * {@code model}, or an empty string if every match is listed.
+     */
+    public static String formatMoreEvents(Model model) {
+        return model.hasMoreFilteredEvents() ? "\n" + MESSAGE_MORE_EVENTS : "";
+    }
+
 }
@@ -0,0 +1,209 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.eventcommands.FindEventCommand;
+import seedu.address.logic.commands.eventcommands.ScheduleCommand;
+import seedu.address.logic.commands.eventcommands.SearchEventCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Runs a single read-only query against a {@code Model} without the GUI, and prints the persons or events found.
+ * Only {@code find}, {@code search} and {@code schedule} commands are queries. The address book is never saved.
+ *
+ * Each person is printed with the events it is linked to, and each event with the persons linked to it, either
+ * one per line or as a JSON array.
+ */
+public class QueryRunner {
+
+    /**
+     * Represents the ways the results of a query can be printed.
+     */
+    public enum OutputFormat {
+        PLAIN, JSON
+    }
+
+    public static final String MESSAGE_NOT_A_QUERY = "Only find, search and schedule commands can be run as queries";
+    public static final String LINKED_EVENTS_LABEL = "; Events: ";
+    public static final String LINKED_PERSONS_LABEL = "; Linked persons: ";
+    public static final String WAITLIST_LABEL = "; Waitlist: ";
+    public static final String LINK_SEPARATOR = ", ";
+
+    private static final Logger logger = LogsCenter.getLogger(QueryRunner.class);
+
+    private final Model model;
+    private final PrintStream out;
+    private final OutputFormat outputFormat;
+
+    /**
+     * Creates a {@code QueryRunner} that queries {@code model} and prints the results to {@code out}
+     * in {@code outputFormat}.
+     */
+    public QueryRunner(Model model, PrintStream out, OutputFormat outputFormat) {
+        requireNonNull(model);
+        requireNonNull(out);
+        requireNonNull(outputFormat);
+        this.model = model;
+        this.out = out;
+        this.outputFormat = outputFormat;
+    }
+
+    /**
+     * Parses {@code queryText} into the command it runs, without needing the address book.
+     *
+     * @throws ParseException if {@code queryText} is not a valid query.
+     */
+    public static Command parseQuery(String queryText) throws ParseException {
+        requireNonNull(queryText);
+        Command command = new AddressBookParser().parseCommand(queryText);
+        if (!isQuery(command)) {
+            throw new ParseException(MESSAGE_NOT_A_QUERY);
+        }
+        return command;
+    }
+
+    /**
+     * Runs {@code queryText} and prints the persons or events it finds.
+     *
+     * @throws ParseException if {@code queryText} is not a valid query.
+     * @throws CommandException if the query fails.
+     */
+    public void run(String queryText) throws CommandException, ParseException {
+        run(parseQuery(queryText));
+    }
+
+    /**
+     * Runs {@code query}, which was returned by {@link #parseQuery(String)}, and prints the persons or events
+     * it finds.
+     *
+     * @throws CommandException if the query fails.
+     */
+    public void run(Command query) throws CommandException {
+        requireNonNull(query);
+        checkArgument(isQuery(query), MESSAGE_NOT_A_QUERY);
+        logger.info("Running query " + query);
+
+        CommandResult commandResult = query.execute(model);
+        logger.info(commandResult.getFeedbackToUser());
+
+        if (isEventQuery(query)) {
+            printEvents(model.getAllFilteredEvents());
+        } else {
+            printPersons(model.getAllFilteredPersons());
+        }
+    }
+
+    private static boolean isQuery(Command command) {
+        return command instanceof FindCommand || command instanceof SearchCommand
+                || command instanceof ScheduleCommand;
+    }
+
+    private static boolean isEventQuery(Command command) {
+        return command instanceof FindEventCommand || command instanceof SearchEventCommand
+                || command instanceof ScheduleCommand;
+    }
+
+    private void printPersons(List<Person> persons) {
+        // The links are stored by event, so the events of every person are gathered in one pass over them
+        Map<Person, List<String>> linkedEvents = new HashMap<>();
+        model.getPersonEventAssociationMap().forEach((event, linkedPersons) -> linkedPersons.forEach(person ->
+                linkedEvents.computeIfAbsent(person, unused -> new ArrayList<>()).add(event.getName().fullName)));
+
+        if (outputFormat == OutputFormat.PLAIN) {
+            persons.forEach(person -> out.println(Messages.format(person) + LINKED_EVENTS_LABEL
+                    + String.join(LINK_SEPARATOR, linkedEvents.getOrDefault(person, List.of()))));
+            return;
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Person person : persons) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("name", person.getName().fullName);
+            result.put("phone", person.getPhone().value);
+            result.put("email", person.getEmail().value);
+            result.put("address", person.getAddress().value);
+            result.put("tags", getTagNames(person.getTags()));
+            result.put("events", linkedEvents.getOrDefault(person, List.of()));
+            results.add(result);
+        }
+        printJson(results);
+    }
+
+    private void printEvents(List<Event> events) {
+        Map<Event, ArrayList<Person>> linkedPersons = model.getPersonEventAssociationMap();
+
+        if (outputFormat == OutputFormat.PLAIN) {
+            for (Event event : events) {
+                List<String> waitlist = getPersonNames(model.getWaitlist(event));
+                out.println(Messages.format(event) + LINKED_PERSONS_LABEL
+                        + String.join(LINK_SEPARATOR, getPersonNames(linkedPersons.get(event)))
+                        + (waitlist.isEmpty() ? "" : WAITLIST_LABEL + String.join(LINK_SEPARATOR, waitlist)));
+            }
+            return;
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Event event : events) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("name", event.getName().fullName);
+            result.put("location", event.getLocation().value);
+            result.put("startTime", event.getStartTime().toString());
+            event.getEndTime().ifPresent(endTime -> result.put("endTime", endTime.toString()));
+            event.getRecurrence().ifPresent(recurrence -> result.put("recurrence", recurrence.value));
+            event.getCapacity().ifPresent(capacity -> result.put("capacity", capacity.value));
+            result.put("tags", getTagNames(event.getTags()));
+            result.put("persons", getPersonNames(linkedPersons.get(event)));
+            if (event.getCapacity().isPresent()) {
+                result.put("waitlist", getPersonNames(model.getWaitlist(event)));
+            }
+            results.add(result);
+        }
+        printJson(results);
+    }
+
+    private void printJson(List<Map<String, Object>> results) {
+        try {
+            out.println(JsonUtil.toJsonString(results));
+        } catch (JsonProcessingException e) {
+            // Only strings and lists of strings are written, which can always be converted
+            throw new AssertionError("Query results could not be converted to JSON", e);
+        }
+    }
+
+    private static List<String> getTagNames(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> getPersonNames(Collection<Person> persons) {
+        if (persons == null) {
+            return List.of();
+        }
+        return persons.stream().map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+}
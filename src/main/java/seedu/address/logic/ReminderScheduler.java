@@ -0,0 +1,259 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.event.Event;
+
+/**
+ * Reminds the user of events shortly before they start.
+ *
+ * The next reminder of every event is kept in a single priority queue ordered by the start time of the occurrence
+ * it is for. The queue is kept up to date by listening to the event list, so adding, editing or deleting an event
+ * costs O(log n): a deleted event's reminder is not searched for, but left in the queue and skipped when it comes up.
+ * A single background thread sleeps until the reminder at the head of the queue is due, and is woken early only
+ * when a reminder is added ahead of it.
+ */
+public class ReminderScheduler {
+
+    /** How long before an event starts its reminder is given. */
+    public static final Duration REMINDER_LEAD_TIME = Duration.ofMinutes(15);
+    public static final String MESSAGE_REMINDER = "Reminder: %1$s starts at %2$s";
+
+    private static final String THREAD_NAME = "reminder-scheduler";
+
+    private final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(
+            Comparator.comparing(reminder -> reminder.startTime));
+
+    /** The reminder of each event that is still valid. Reminders in the queue but not here are skipped. */
+    private final Map<Event, Reminder> scheduledReminders = new HashMap<>();
+
+    private final Consumer<String> notifier;
+
+    private final Clock clock;
+
+    private Thread thread;
+
+    /**
+     * Creates a {@code ReminderScheduler} for the events in {@code events} that takes the current time from the
+     * system clock.
+     *
+     * @see #ReminderScheduler(ObservableList, Consumer, Clock)
+     */
+    public ReminderScheduler(ObservableList<Event> events, Consumer<String> notifier) {
+        this(events, notifier, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code ReminderScheduler} for the events in {@code events}, which must not be modified concurrently
+     * with this call. Reminders are passed to {@code notifier} on the scheduler's thread once it is started, when
+     * they are due by {@code clock}.
+     */
+    public ReminderScheduler(ObservableList<Event> events, Consumer<String> notifier, Clock clock) {
+        requireAllNonNull(events, notifier, clock);
+        this.notifier = notifier;
+        this.clock = clock;
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (this) {
+            events.forEach(event -> schedule(event, now));
+        }
+        events.addListener(this::handleEventListChange);
+    }
+
+    /**
+     * Starts giving reminders on a background thread.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops giving reminders.
+     */
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Reschedules the reminders of the events added to or removed from the event list.
+     * Called on the thread that modifies the list.
+     */
+    private void handleEventListChange(ListChangeListener.Change<? extends Event> change) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Event> removed = new HashSet<>();
+        Set<Event> added = new LinkedHashSet<>();
+        while (change.next()) {
+            // Sorting the list changes no event
+            if (!change.wasPermutated()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        }
+
+        // Events that are only moved, e.g. when the whole list is replaced, keep their reminders
+        Set<Event> moved = new HashSet<>(removed);
+        moved.retainAll(added);
+        synchronized (this) {
+            removed.stream().filter(event -> !moved.contains(event)).forEach(scheduledReminders::remove);
+            added.stream().filter(event -> !moved.contains(event)).forEach(event -> schedule(event, now));
+            notifyAll();
+        }
+    }
+
+    /**
+     * Queues the reminder for the next occurrence of {@code event} starting after {@code time}, if there is one,
+     * in place of its current reminder.
+     */
+    private synchronized void schedule(Event event, LocalDateTime time) {
+        Optional<DateTime> nextStartTime = event.getNextStartTimeAfter(time);
+        if (nextStartTime.isEmpty()) {
+            scheduledReminders.remove(event);
+            return;
+        }
+
+        Reminder reminder = new Reminder(event, nextStartTime.get());
+        scheduledReminders.put(event, reminder);
+        queue.add(reminder);
+        compactIfMostlySkipped();
+    }
+
+    /**
+     * Removes the reminders that are due at {@code now} from the queue, queues the next reminders of the events
+     * that repeat, and returns the messages of the reminders removed, in chronological order.
+     */
+    synchronized List<String> pollDueReminders(LocalDateTime now) {
+        List<String> messages = new ArrayList<>();
+        for (Reminder reminder = peekValid(); reminder != null && !reminder.getDueTime().isAfter(now);
+                reminder = peekValid()) {
+            queue.poll();
+            scheduledReminders.remove(reminder.event);
+            messages.add(String.format(MESSAGE_REMINDER, reminder.event.getEventName(), reminder.startTime));
+            schedule(reminder.event, reminder.startTime.toLocalDateTime());
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the time the next reminder is due, or an empty {@code Optional} if there are no reminders.
+     */
+    synchronized Optional<LocalDateTime> getNextDueTime() {
+        return Optional.ofNullable(peekValid()).map(Reminder::getDueTime);
+    }
+
+    /**
+     * Returns the number of reminders in the queue, including the ones to be skipped.
+     */
+    synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Drops the skipped reminders at the head of the queue, and returns the reminder at the head.
+     */
+    private Reminder peekValid() {
+        Reminder head = queue.peek();
+        while (head != null && scheduledReminders.get(head.event) != head) {
+            queue.poll();
+            head = queue.peek();
+        }
+        return head;
+    }
+
+    /**
+     * Rebuilds the queue without the reminders to be skipped once they outnumber the valid ones,
+     * so that the queue stays within twice the number of events.
+     */
+    private void compactIfMostlySkipped() {
+        if (queue.size() <= 2 * scheduledReminders.size() + 1) {
+            return;
+        }
+
+        queue.clear();
+        queue.addAll(scheduledReminders.values());
+    }
+
+    /**
+     * Gives each reminder when it is due, sleeping until then.
+     */
+    private void run() {
+        logger.info("Reminder scheduler started");
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                for (String message : waitForDueReminders()) {
+                    logger.info(message);
+                    notifier.accept(message);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Reminder scheduler stopped");
+    }
+
+    /**
+     * Waits until a reminder is due, and returns the messages of the reminders due.
+     * The wait is measured in real time, so a clock that is moved forward during the wait is only read again
+     * when the wait ends or the event list changes.
+     */
+    private synchronized List<String> waitForDueReminders() throws InterruptedException {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Optional<LocalDateTime> nextDueTime = getNextDueTime();
+            if (nextDueTime.isEmpty()) {
+                wait();
+            } else if (nextDueTime.get().isAfter(now)) {
+                // Rounded up, since waking up early only to wait again costs more than being a millisecond late
+                wait(Duration.between(now, nextDueTime.get()).toMillis() + 1);
+            } else {
+                return pollDueReminders(now);
+            }
+        }
+    }
+
+    /**
+     * The reminder of an event for its occurrence starting at {@code startTime}.
+     */
+    private static class Reminder {
+        private final Event event;
+        private final DateTime startTime;
+
+        Reminder(Event event, DateTime startTime) {
+            this.event = event;
+            this.startTime = startTime;
+        }
+
+        LocalDateTime getDueTime() {
+            return startTime.toLocalDateTime().minus(REMINDER_LEAD_TIME);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents an abstract command that writes the entities matching the filter of the displayed list to a CSV file,
+ * in the format read by {@link ImportCommand}.
+ *
+ * @param <T> the type of entity exported.
+ */
+public abstract class ExportCommand<T> extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = "Use \"export p\" or \"export e\" to"
+            + " specify whether persons or events are exported.";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    protected final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export to the CSV file at {@code filePath}.
+     */
+    protected ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the names of the columns of the file, in order.
+     */
+    protected abstract List<String> getHeader();
+
+    /**
+     * Returns the fields of the row describing {@code entity}, one for each column of the header.
+     */
+    protected abstract List<String> formatRow(T entity);
+
+    /**
+     * Returns the entities to export, which are those matching the filter of the displayed list.
+     */
+    protected abstract List<T> getEntities(Model model);
+
+    /**
+     * Returns the plural noun for the exported entities, e.g. "persons".
+     */
+    protected abstract String getEntitiesNoun();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<T> entities = getEntities(model);
+
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+                writer.write(CsvUtil.formatLine(getHeader()));
+                writer.newLine();
+                for (T entity : entities) {
+                    writer.write(CsvUtil.formatLine(formatRow(entity)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entities.size(), getEntitiesNoun(), filePath));
+    }
+
+    /**
+     * Returns the names of {@code tags} in alphabetical order, separated by spaces.
+     */
+    protected static String formatTags(Set<Tag> tags) {
+        List<String> tagNames = tags.stream().map(Tag::getTagName).sorted().collect(Collectors.toList());
+        return String.join(" ", tagNames);
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Name;
+
+/**
+ * Represents an abstract command that adds the entities in a CSV file to the address book.
+ *
+ * <p>The file is read in chunks of {@value #CHUNK_SIZE} rows. The rows of a chunk are validated in parallel with
+ * the rules of {@code ParserUtil}, then checked one at a time against the names already in the address book and
+ * earlier in the file. The entities of all valid rows are added together once the whole file has been read, so
+ * the address book is left unchanged if the file cannot be read. Rows that are invalid or duplicates are skipped
+ * and reported.</p>
+ *
+ * @param <T> the type of entity imported.
+ */
+public abstract class ImportCommand<T> extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = "Use \"import p\" or \"import e\" to"
+            + " specify whether persons or events are imported.";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s from %3$s (%4$d rows, %5$d skipped)";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more skipped rows";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "%1$s appears earlier in the file";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_INVALID_HEADER = "The first line of the file must be the header: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    /** Number of rows validated together. */
+    public static final int CHUNK_SIZE = 1000;
+
+    /** Maximum number of skipped rows listed in the result. */
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    protected final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the CSV file at {@code filePath}.
+     */
+    protected ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the names of the columns of the file, in order.
+     */
+    protected abstract List<String> getHeader();
+
+    /**
+     * Returns the headers a file may start with, such as those of files written by earlier versions,
+     * including {@link #getHeader()}.
+     */
+    protected List<List<String>> getAcceptedHeaders() {
+        return List.of(getHeader());
+    }
+
+    /**
+     * Returns the entity described by the fields of a row, which are as many as the columns of the header
+     * the file starts with. Called from several threads at once.
+     *
+     * @throws ParseException if a field is invalid.
+     */
+    protected abstract T parseRow(List<String> fields) throws ParseException;
+
+    protected abstract Name getName(T entity);
+
+    /**
+     * Returns true if {@code model} has an entity with the same identity as {@code entity}.
+     */
+    protected abstract boolean hasEntity(Model model, T entity);
+
+    protected abstract void addEntity(Model model, T entity);
+
+    /**
+     * Returns the message for an entity that already exists in the address book.
+     */
+    protected abstract String getDuplicateMessage();
+
+    /**
+     * Returns the plural noun for the imported entities, e.g. "persons".
+     */
+    protected abstract String getEntitiesNoun();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<T> toAdd = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Set<Name> namesInFile = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> header = findAcceptedHeader(reader.readLine()).orElseThrow(() -> new CommandException(
+                    String.format(MESSAGE_INVALID_HEADER, CsvUtil.formatLine(getHeader()))));
+
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> lineNumbers = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                chunk.add(line);
+                lineNumbers.add(lineNumber);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(model, header, chunk, lineNumbers, namesInFile, toAdd, errors);
+                }
+            }
+            importChunk(model, header, chunk, lineNumbers, namesInFile, toAdd, errors);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        // Adds all entities in one batch update, so that they reach the UI in one change
+        model.beginBatchUpdate();
+        try {
+            toAdd.forEach(entity -> addEntity(model, entity));
+        } finally {
+            model.endBatchUpdate();
+        }
+
+        return new CommandResult(getReport(toAdd.size(), errors));
+    }
+
+    /**
+     * Parses a field of tag names separated by spaces, as written by {@link ExportCommand#formatTags(Set)}.
+     *
+     * @throws ParseException if a tag name is invalid.
+     */
+    protected static Set<Tag> parseTags(String tagsField) throws ParseException {
+        String trimmedTags = tagsField.trim();
+        if (trimmedTags.isEmpty()) {
+            return new HashSet<>();
+        }
+        return ParserUtil.parseTags(Arrays.asList(trimmedTags.split("\\s+")));
+    }
+
+    /**
+     * Returns the accepted header that {@code line}, the first line of a file, is, if any.
+     */
+    private Optional<List<String>> findAcceptedHeader(String line) {
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        // Spreadsheet programs may start the file with a byte order mark
+        String headerLine = line.startsWith(BYTE_ORDER_MARK) ? line.substring(1) : line;
+        try {
+            List<String> columns = CsvUtil.parseLine(headerLine).stream()
+                    .map(column -> column.trim().toLowerCase())
+                    .collect(Collectors.toList());
+            return getAcceptedHeaders().stream().filter(columns::equals).findFirst();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Validates the rows in {@code chunk}, which are at the given line numbers of a file starting with
+     * {@code header}, and sorts them into the entities to add and the errors to report. Empties the chunk afterwards.
+     */
+    private void importChunk(Model model, List<String> header, List<String> chunk, List<Integer> lineNumbers,
+                             Set<Name> namesInFile, List<T> toAdd, List<String> errors) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Rows are independent, so they are validated in parallel; the results keep the order of the rows
+        List<Row<T>> rows = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> validateRow(header, chunk.get(i), lineNumbers.get(i)))
+                .collect(Collectors.toList());
+        addValidRows(model, rows, namesInFile, toAdd, errors);
+        logger.info("Validated " + (toAdd.size() + errors.size()) + " rows of " + filePath + " so far");
+
+        chunk.clear();
+        lineNumbers.clear();
+    }
+
+    private Row<T> validateRow(List<String> header, String line, int lineNumber) {
+        try {
+            List<String> fields = CsvUtil.parseLine(line);
+            if (fields.size() != header.size()) {
+                return Row.invalid(lineNumber,
+                        String.format(MESSAGE_WRONG_FIELD_COUNT, header.size(), fields.size()));
+            }
+            return Row.valid(lineNumber, parseRow(fields));
+        } catch (IllegalArgumentException | ParseException e) {
+            return Row.invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the entities of the valid rows that are not duplicates to {@code toAdd}, and reports the other rows
+     * in {@code errors}.
+     */
+    private void addValidRows(Model model, List<Row<T>> rows, Set<Name> namesInFile, List<T> toAdd,
+                              List<String> errors) {
+        for (Row<T> row : rows) {
+            if (row.error != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.lineNumber, row.error));
+            } else if (hasEntity(model, row.entity)) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.lineNumber, getDuplicateMessage()));
+            } else if (!namesInFile.add(getName(row.entity))) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.lineNumber,
+                        String.format(MESSAGE_DUPLICATE_IN_FILE, getName(row.entity))));
+            } else {
+                toAdd.add(row.entity);
+            }
+        }
+    }
+
+    private String getReport(int importedCount, List<String> errors) {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, getEntitiesNoun(),
+                filePath, importedCount + errors.size(), errors.size()));
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> report.append('\n').append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            report.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Represents the outcome of validating one row: either an entity or the reason the row is invalid.
+     */
+    private static class Row<T> {
+        private final int lineNumber;
+        private final T entity;
+        private final String error;
+
+        private Row(int lineNumber, T entity, String error) {
+            this.lineNumber = lineNumber;
+            this.entity = entity;
+            this.error = error;
+        }
+
+        static <T> Row<T> valid(int lineNumber, T entity) {
+            return new Row<>(lineNumber, entity, null);
+        }
+
+        static <T> Row<T> invalid(int lineNumber, String error) {
+            return new Row<>(lineNumber, null, error);
+        }
+    }
+}
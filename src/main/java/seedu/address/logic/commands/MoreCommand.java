@@ -0,0 +1,13 @@
+package seedu.address.logic.commands;
+
+/**
+ * Represents an abstract command to list more of the entities found by the last list, find, search or schedule
+ * command.
+ *
+ * <p>This class is intended to be extended by specific commands that handle
+ * different types of entities, such as persons or events.</p>
+ */
+public abstract class MoreCommand extends Command {
+    public static final String MESSAGE_USAGE = "Use \"more p\" or \"more e\" to list more of the"
+            + " persons or events found.";
+}
@@ -2,7 +2,10 @@ package seedu.address.logic.commands.eventcommands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -26,11 +29,15 @@ public class AddEventCommand extends AddCommand {
             + PREFIX_NAME + "NAME "
             + PREFIX_ADDRESS + "ADDRESS "
             + PREFIX_START_TIME + "START TIME "
+            + "[" + PREFIX_END_TIME + "END TIME] "
+            + "[" + PREFIX_RECURRENCE + "RECURRENCE] "
+            + "[" + PREFIX_CAPACITY + "CAPACITY] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " e "
             + PREFIX_NAME + "Winter Time Convention "
             + PREFIX_ADDRESS + "311, Clementi Ave 2, #02-25 "
             + PREFIX_START_TIME + "2024-10-15 14:30 "
+            + PREFIX_END_TIME + "2024-10-15 18:00 "
             + PREFIX_TAG + "fashion "
             + PREFIX_TAG + "convention";
 
@@ -56,7 +63,8 @@ public class AddEventCommand extends AddCommand {
         }
 
         model.addEvent(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
+                + Messages.formatConflicts(model.getConflictingEvents(toAdd)));
     }
 
     @Override
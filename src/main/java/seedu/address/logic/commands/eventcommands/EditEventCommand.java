@@ -2,7 +2,10 @@ package seedu.address.logic.commands.eventcommands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
@@ -26,7 +29,9 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 
 /**
  * Edits the details of an existing event in the address book.
@@ -41,6 +46,9 @@ public class EditEventCommand extends EditCommand {
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_START_TIME + "START_TIME] "
+            + "[" + PREFIX_END_TIME + "[END_TIME]] "
+            + "[" + PREFIX_RECURRENCE + "[RECURRENCE]] "
+            + "[" + PREFIX_CAPACITY + "[CAPACITY]] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " e 1 "
             + PREFIX_ADDRESS + "80 Blockhome Lane "
@@ -83,24 +91,39 @@ public class EditEventCommand extends EditCommand {
 
         model.setEvent(eventToEdit, editedEvent);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent)),
+        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent))
+                + Messages.formatConflicts(model.getConflictingEvents(editedEvent)),
         false, false, true);
     }
 
     /**
      * Creates and returns a {@code Event} with the details of {@code eventToEdit}
      * edited with {@code editEventDescriptor}.
+     *
+     * @throws CommandException if the edited event would not end after it starts, or would stop repeating before it
+     *     starts.
      */
     private static Event createEditedEvent(Event eventToEdit,
-                                           EditEventCommand.EditEventDescriptor editEventDescriptor) {
+            EditEventCommand.EditEventDescriptor editEventDescriptor) throws CommandException {
         assert eventToEdit != null;
 
         Name updatedName = editEventDescriptor.getName().orElse(eventToEdit.getName());
         Address updatedAddress = editEventDescriptor.getAddress().orElse(eventToEdit.getLocation());
         DateTime updatedStartTime = editEventDescriptor.getStartTime().orElse(eventToEdit.getStartTime());
+        Optional<DateTime> updatedEndTime = editEventDescriptor.getEndTime().orElse(eventToEdit.getEndTime());
+        Optional<Recurrence> updatedRecurrence =
+                editEventDescriptor.getRecurrence().orElse(eventToEdit.getRecurrence());
+        Optional<Capacity> updatedCapacity = editEventDescriptor.getCapacity().orElse(eventToEdit.getCapacity());
         Set<Tag> updatedTags = editEventDescriptor.getTags().orElse(eventToEdit.getTags());
 
-        return new Event(updatedName, updatedAddress, updatedStartTime, updatedTags);
+        if (updatedEndTime.isPresent() && !Event.isValidEndTime(updatedStartTime, updatedEndTime.get())) {
+            throw new CommandException(Event.MESSAGE_END_TIME_CONSTRAINTS);
+        }
+        if (updatedRecurrence.isPresent() && !Event.isValidRecurrence(updatedStartTime, updatedRecurrence.get())) {
+            throw new CommandException(Event.MESSAGE_RECURRENCE_CONSTRAINTS);
+        }
+        return new Event(updatedName, updatedAddress, updatedStartTime, updatedEndTime.orElse(null),
+                updatedRecurrence.orElse(null), updatedCapacity.orElse(null), updatedTags);
     }
 
     @Override
@@ -135,6 +158,9 @@ public class EditEventCommand extends EditCommand {
         private Name name;
         private Address address;
         private DateTime startTime;
+        private Optional<DateTime> endTime;
+        private Optional<Recurrence> recurrence;
+        private Optional<Capacity> capacity;
         private Set<Tag> tags;
 
         public EditEventDescriptor() {}
@@ -147,6 +173,9 @@ public class EditEventCommand extends EditCommand {
             setName(toCopy.name);
             setAddress(toCopy.address);
             setStartTime(toCopy.startTime);
+            setEndTime(toCopy.endTime);
+            setRecurrence(toCopy.recurrence);
+            setCapacity(toCopy.capacity);
             setTags(toCopy.tags);
         }
 
@@ -154,7 +183,7 @@ public class EditEventCommand extends EditCommand {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, address, startTime, tags);
+            return CollectionUtil.isAnyNonNull(name, address, startTime, endTime, recurrence, capacity, tags);
         }
 
         public void setName(Name name) {
@@ -181,6 +210,54 @@ public class EditEventCommand extends EditCommand {
             return Optional.ofNullable(startTime);
         }
 
+        /**
+         * Sets the end time to edit the event with, where an empty {@code endTime} removes the end time of the
+         * event and a null one leaves it unedited.
+         */
+        public void setEndTime(Optional<DateTime> endTime) {
+            this.endTime = endTime;
+        }
+
+        /**
+         * Returns the end time to edit the event with, which is empty if the end time of the event is to be removed.
+         * Returns {@code Optional#empty()} if the end time is not edited.
+         */
+        public Optional<Optional<DateTime>> getEndTime() {
+            return Optional.ofNullable(endTime);
+        }
+
+        /**
+         * Sets the recurrence to edit the event with, where an empty {@code recurrence} stops the event from
+         * repeating and a null one leaves it unedited.
+         */
+        public void setRecurrence(Optional<Recurrence> recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        /**
+         * Returns the recurrence to edit the event with, which is empty if the event is to stop repeating.
+         * Returns {@code Optional#empty()} if the recurrence is not edited.
+         */
+        public Optional<Optional<Recurrence>> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
+        /**
+         * Sets the capacity to edit the event with, where an empty {@code capacity} removes the capacity of the
+         * event and a null one leaves it unedited.
+         */
+        public void setCapacity(Optional<Capacity> capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns the capacity to edit the event with, which is empty if the capacity of the event is to be removed.
+         * Returns {@code Optional#empty()} if the capacity is not edited.
+         */
+        public Optional<Optional<Capacity>> getCapacity() {
+            return Optional.ofNullable(capacity);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -214,6 +291,9 @@ public class EditEventCommand extends EditCommand {
             return Objects.equals(name, otherEditEventDescriptor.name)
                     && Objects.equals(address, otherEditEventDescriptor.address)
                     && Objects.equals(startTime, otherEditEventDescriptor.startTime)
+                    && Objects.equals(endTime, otherEditEventDescriptor.endTime)
+                    && Objects.equals(recurrence, otherEditEventDescriptor.recurrence)
+                    && Objects.equals(capacity, otherEditEventDescriptor.capacity)
                     && Objects.equals(tags, otherEditEventDescriptor.tags);
         }
 
@@ -223,6 +303,9 @@ public class EditEventCommand extends EditCommand {
                     .add("name", name)
                     .add("address", address)
                     .add("start time", startTime)
+                    .add("end time", endTime)
+                    .add("recurrence", recurrence)
+                    .add("capacity", capacity)
                     .add("tags", tags)
                     .toString();
         }
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands.eventcommands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
+
+/**
+ * Writes the listed events, including those not shown yet, to a CSV file that can be imported with
+ * {@link ImportEventCommand}.
+ */
+public class ExportEventCommand extends ExportCommand<Event> {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " e: Writes the listed events to a CSV file, "
+            + "replacing the file if it exists.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " e data/events.csv";
+
+    /**
+     * Creates an ExportEventCommand to export the listed events to the CSV file at {@code filePath}.
+     */
+    public ExportEventCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return ImportEventCommand.CSV_HEADER;
+    }
+
+    @Override
+    protected List<String> formatRow(Event event) {
+        return List.of(event.getName().fullName, event.getLocation().value, event.getStartTime().toString(),
+                formatTags(event.getTags()), event.getEndTime().map(DateTime::toString).orElse(""),
+                event.getRecurrence().map(Recurrence::toString).orElse(""),
+                event.getCapacity().map(Capacity::toString).orElse(""));
+    }
+
+    @Override
+    protected List<Event> getEntities(Model model) {
+        return model.getAllFilteredEvents();
+    }
+
+    @Override
+    protected String getEntitiesNoun() {
+        return "events";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportEventCommand)) {
+            return false;
+        }
+
+        ExportEventCommand otherExportCommand = (ExportEventCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
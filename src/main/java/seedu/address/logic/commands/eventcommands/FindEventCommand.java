@@ -32,8 +32,8 @@ public class FindEventCommand extends FindCommand {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredEventList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+        return new CommandResult(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW,
+                model.getFilteredEventList().size()) + Messages.formatMoreEvents(model));
     }
 
     @Override
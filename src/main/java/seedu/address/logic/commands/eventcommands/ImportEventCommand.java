@@ -0,0 +1,137 @@
+package seedu.address.logic.commands.eventcommands;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
+
+/**
+ * Adds the events in a CSV file to the address book.
+ */
+public class ImportEventCommand extends ImportCommand<Event> {
+
+    public static final String COMMAND_WORD = "import";
+
+    /** Columns of a CSV file of events. Tags are separated by spaces. The last three columns may be empty. */
+    public static final List<String> CSV_HEADER = List.of("name", "address", "start time", "tags",
+            "end time", "recurrence", "capacity");
+
+    /** Columns of a CSV file of events without end times, recurrences or capacities, which is also accepted. */
+    public static final List<String> BASIC_CSV_HEADER = CSV_HEADER.subList(0, 4);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " e: Adds the events in a CSV file to the address "
+            + "book. The first line of the file must be the header: " + String.join(",", CSV_HEADER)
+            + " or, for events without end times, recurrences or capacities: " + String.join(",", BASIC_CSV_HEADER)
+            + "\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " e data/events.csv";
+
+    /**
+     * Creates an ImportEventCommand to import the events in the CSV file at {@code filePath}.
+     */
+    public ImportEventCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return CSV_HEADER;
+    }
+
+    @Override
+    protected List<List<String>> getAcceptedHeaders() {
+        return List.of(CSV_HEADER, BASIC_CSV_HEADER);
+    }
+
+    @Override
+    protected Event parseRow(List<String> fields) throws ParseException {
+        Name name = ParserUtil.parseName(fields.get(0));
+        Address address = ParserUtil.parseAddress(fields.get(1));
+        DateTime startTime = ParserUtil.parseDateTime(fields.get(2));
+        Set<Tag> tags = parseTags(fields.get(3));
+        // A file with the basic header has none of the optional columns, which are read as empty
+        String endTimeField = getOptionalField(fields, 4);
+        String recurrenceField = getOptionalField(fields, 5);
+        String capacityField = getOptionalField(fields, 6);
+
+        DateTime endTime = null;
+        if (!endTimeField.isBlank()) {
+            endTime = ParserUtil.parseDateTime(endTimeField);
+            if (!Event.isValidEndTime(startTime, endTime)) {
+                throw new ParseException(Event.MESSAGE_END_TIME_CONSTRAINTS);
+            }
+        }
+        Recurrence recurrence = null;
+        if (!recurrenceField.isBlank()) {
+            recurrence = ParserUtil.parseRecurrence(recurrenceField);
+            if (!Event.isValidRecurrence(startTime, recurrence)) {
+                throw new ParseException(Event.MESSAGE_RECURRENCE_CONSTRAINTS);
+            }
+        }
+        Capacity capacity = capacityField.isBlank() ? null : ParserUtil.parseCapacity(capacityField);
+        return new Event(name, address, startTime, endTime, recurrence, capacity, tags);
+    }
+
+    private static String getOptionalField(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : "";
+    }
+
+    @Override
+    protected Name getName(Event event) {
+        return event.getName();
+    }
+
+    @Override
+    protected boolean hasEntity(Model model, Event event) {
+        return model.hasEvent(event);
+    }
+
+    @Override
+    protected void addEntity(Model model, Event event) {
+        model.addEvent(event);
+    }
+
+    @Override
+    protected String getDuplicateMessage() {
+        return AddEventCommand.MESSAGE_DUPLICATE_EVENT;
+    }
+
+    @Override
+    protected String getEntitiesNoun() {
+        return "events";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportEventCommand)) {
+            return false;
+        }
+
+        ImportEventCommand otherImportCommand = (ImportEventCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands.eventcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.model.Model;
+
+/**
+ * Adds the next page of events found by the last list, find, search or schedule command to the displayed
+ * event list.
+ * Only as many events are tested as needed to fill the page.
+ */
+public class MoreEventCommand extends MoreCommand {
+
+    public static final String COMMAND_WORD = "more";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " e: Lists the next " + Model.PAGE_SIZE
+            + " events found, after those listed.\n"
+            + "Example: " + COMMAND_WORD + " e";
+
+    public static final String MESSAGE_NO_MORE_EVENTS = "There are no more events to list";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (model.showMoreFilteredEvents() == 0) {
+            return new CommandResult(MESSAGE_NO_MORE_EVENTS);
+        }
+
+        return new CommandResult(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW,
+                model.getFilteredEventList().size()) + Messages.formatMoreEvents(model));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MoreEventCommand)) {
+            return false;
+        }
+
+        // all instances of more event command are equal
+        return true;
+    }
+}
@@ -2,11 +2,14 @@ package seedu.address.logic.commands.eventcommands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.types.common.DateTimeUtil;
 import seedu.address.model.types.common.EventInSchedulePredicate;
 
 /**
@@ -14,6 +17,7 @@ import seedu.address.model.types.common.EventInSchedulePredicate;
  * If the input is positive integer N, shows all events in next N days
  * If the input is negative integer N, shows all events in past N days
  * If the input is a date YYYY-MM-DD, shows all events on that date
+ * The days are counted from the current time of the model's clock when the command is executed.
  */
 public class ScheduleCommand extends Command {
 
@@ -27,18 +31,34 @@ public class ScheduleCommand extends Command {
     public static final String MESSAGE_HINT = "Use \"schedule\" to find all events happening in "
             + "the next N days or to find all events on that date.";
 
-    private EventInSchedulePredicate predicate;
+    private final Integer range;
+    private final EventInSchedulePredicate predicate;
+
+    /**
+     * Creates a ScheduleCommand to find the events in the next {@code range} days, or in the past
+     * {@code -range} days if {@code range} is negative.
+     */
+    public ScheduleCommand(int range) {
+        this.range = range;
+        this.predicate = null;
+    }
 
+    /**
+     * Creates a ScheduleCommand to find the events matching {@code predicate}.
+     */
     public ScheduleCommand(EventInSchedulePredicate predicate) {
+        requireNonNull(predicate);
+        this.range = null;
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+        model.updateFilteredEventList(predicate != null ? predicate
+                : new EventInSchedulePredicate(range, DateTimeUtil.getCurrentDateTime(model.getClock())));
+        return new CommandResult(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW,
+                model.getFilteredEventList().size()) + Messages.formatMoreEvents(model));
     }
 
     @Override
@@ -53,13 +73,14 @@ public class ScheduleCommand extends Command {
         }
 
         ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
-        return predicate.equals(otherScheduleCommand.predicate);
-
+        return Objects.equals(range, otherScheduleCommand.range)
+                && Objects.equals(predicate, otherScheduleCommand.predicate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("range", range)
                 .add("predicate", predicate)
                 .toString();
     }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
@@ -14,23 +15,32 @@ import seedu.address.model.Model;
 import seedu.address.model.types.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes the persons identified using their displayed indexes from the address book.
  */
 public class DeletePersonCommand extends DeleteCommand {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + " p: Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " p 1";
+            + " p: Deletes the persons identified by the index numbers used in the displayed person list.\n"
+            + "Parameters: INDEXES (positive integers or ranges such as 2-5, separated by commas)\n"
+            + "Example: " + COMMAND_WORD + " p 1,3-5";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
 
-    private final Index targetIndex;
+    private final IndexList targetIndexes;
 
     public DeletePersonCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexList.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeletePersonCommand to delete the persons at {@code targetIndexes} in the displayed person list.
+     */
+    public DeletePersonCommand(IndexList targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -38,13 +48,19 @@ public class DeletePersonCommand extends DeleteCommand {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        List<Person> personsToDelete = targetIndexes.select(lastShownList);
+        if (personsToDelete.size() == 1) {
+            model.deletePerson(personsToDelete.get(0));
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(personsToDelete.get(0))));
+        }
+
+        model.deletePersons(personsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
@@ -59,13 +75,13 @@ public class DeletePersonCommand extends DeleteCommand {
         }
 
         DeletePersonCommand otherDeleteCommand = (DeletePersonCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
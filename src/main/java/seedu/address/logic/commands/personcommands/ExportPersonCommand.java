@@ -0,0 +1,73 @@
+package seedu.address.logic.commands.personcommands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Writes the listed persons, including those not shown yet, to a CSV file that can be imported with
+ * {@link ImportPersonCommand}.
+ */
+public class ExportPersonCommand extends ExportCommand<Person> {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " p: Writes the listed persons to a CSV file, "
+            + "replacing the file if it exists.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " p data/persons.csv";
+
+    /**
+     * Creates an ExportPersonCommand to export the listed persons to the CSV file at {@code filePath}.
+     */
+    public ExportPersonCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return ImportPersonCommand.CSV_HEADER;
+    }
+
+    @Override
+    protected List<String> formatRow(Person person) {
+        return List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, formatTags(person.getTags()));
+    }
+
+    @Override
+    protected List<Person> getEntities(Model model) {
+        return model.getAllFilteredPersons();
+    }
+
+    @Override
+    protected String getEntitiesNoun() {
+        return "persons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportPersonCommand)) {
+            return false;
+        }
+
+        ExportPersonCommand otherExportCommand = (ExportPersonCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
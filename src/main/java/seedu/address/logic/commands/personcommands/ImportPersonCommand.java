@@ -0,0 +1,94 @@
+package seedu.address.logic.commands.personcommands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Adds the persons in a CSV file to the address book.
+ */
+public class ImportPersonCommand extends ImportCommand<Person> {
+
+    public static final String COMMAND_WORD = "import";
+
+    /** Columns of a CSV file of persons. Tags are separated by spaces. */
+    public static final List<String> CSV_HEADER = List.of("name", "phone", "email", "address", "tags");
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " p: Adds the persons in a CSV file to the address "
+            + "book. The first line of the file must be the header: " + String.join(",", CSV_HEADER) + "\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " p data/persons.csv";
+
+    /**
+     * Creates an ImportPersonCommand to import the persons in the CSV file at {@code filePath}.
+     */
+    public ImportPersonCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return CSV_HEADER;
+    }
+
+    @Override
+    protected Person parseRow(List<String> fields) throws ParseException {
+        return new Person(ParserUtil.parseName(fields.get(0)), ParserUtil.parsePhone(fields.get(1)),
+                ParserUtil.parseEmail(fields.get(2)), ParserUtil.parseAddress(fields.get(3)),
+                parseTags(fields.get(4)));
+    }
+
+    @Override
+    protected Name getName(Person person) {
+        return person.getName();
+    }
+
+    @Override
+    protected boolean hasEntity(Model model, Person person) {
+        return model.hasPerson(person);
+    }
+
+    @Override
+    protected void addEntity(Model model, Person person) {
+        model.addPerson(person);
+    }
+
+    @Override
+    protected String getDuplicateMessage() {
+        return AddPersonCommand.MESSAGE_DUPLICATE_PERSON;
+    }
+
+    @Override
+    protected String getEntitiesNoun() {
+        return "persons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportPersonCommand)) {
+            return false;
+        }
+
+        ImportPersonCommand otherImportCommand = (ImportPersonCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
@@ -17,86 +20,130 @@ import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
 
 /**
- * Links a person to an event in the address book.
+ * Links persons to an event in the address book.
+ * The persons are identified by their displayed indexes, or are all the persons matching the current filter.
  */
 public class LinkPersonCommand extends Command {
 
     public static final String COMMAND_WORD = "link";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Link identified person to"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Link identified persons to"
             + " an event in the address book.\n"
-            + "Parameters: INDEX_OF_PERSON (must be a positive integer) "
+            + "Parameters: INDEXES_OF_PERSONS (positive integers or ranges such as 2-5, separated by commas,"
+            + " or \"" + IndexList.KEYWORD_ALL + "\" for all persons listed) "
             + PREFIX_EVENT + "EVENT_NAME\n"
-            + "Example: " + COMMAND_WORD + " 1 "
+            + "Example: " + COMMAND_WORD + " 1,3-5 "
             + PREFIX_EVENT + "Company Meeting";
 
     public static final String MESSAGE_HINT = "Use \"link\" to link identified person to"
             + " an event in the address book.";
 
     public static final String MESSAGE_LINK_SUCCESS = "Person linked to event: %1$s";
-    public static final String MESSAGE_DUPLICATE_PERSON = "This person is already linked to the event";
+    public static final String MESSAGE_LINK_PERSONS_SUCCESS = "%1$d persons linked to event: %2$s";
+    public static final String MESSAGE_WAITLIST_SUCCESS = "Event is full, person put on its waitlist: %1$s";
+    public static final String MESSAGE_WAITLISTED = ", %1$d put on its waitlist as it is full";
+    public static final String MESSAGE_ALREADY_LINKED_SKIPPED = " (%1$d already linked or on the waitlist)";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "This person is already linked to the event or on its waitlist";
+    public static final String MESSAGE_DUPLICATE_PERSONS =
+            "These persons are already linked to the event or on its waitlist";
+    public static final String MESSAGE_NO_PERSONS = "There are no displayed persons to link";
     public static final String MESSAGE_EVENT_NOT_FOUND = "This event does not exist in the address book";
+    public static final String MESSAGE_SCHEDULE_CLASHES =
+            "\nWarning: already linked to events at the same time: %1$s";
 
-    private final Index index;
+    private final IndexList indexes;
     private final Name event;
 
     /**
      * Creates a LinkPersonCommand to link the specified {@code Person} with the specified {@code Event}
      */
     public LinkPersonCommand(Index index, Name event) {
-        requireNonNull(index);
+        this(IndexList.of(index), event);
+    }
+
+    /**
+     * Creates a LinkPersonCommand to link the persons at {@code indexes} with the specified {@code Event}
+     */
+    public LinkPersonCommand(IndexList indexes, Name event) {
+        requireNonNull(indexes);
         requireNonNull(event);
-        this.index = index;
+        this.indexes = indexes;
         this.event = event;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToLink;
+        if (indexes.isAll()) {
+            // Every matching person is linked, including those on pages not shown yet
+            personsToLink = model.getAllFilteredPersons();
+        } else {
+            List<Person> lastShownList = model.getFilteredPersonList();
+            if (!indexes.isWithin(lastShownList.size())) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            personsToLink = indexes.select(lastShownList);
         }
-
-        Person personToLink = lastShownList.get(index.getZeroBased());
         Event eventToLink = model.getEventByName(event);
 
         if (eventToLink == null) {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        if (model.isPersonLinkedToEvent(personToLink, eventToLink)) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        if (personsToLink.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
         }
 
-        personToLink = copyPerson(personToLink);
-        eventToLink = copyEvent(eventToLink);
+        // Each person's linked events are indexed by time, so this takes O(log d) for a person linked to d events
+        Map<Person, List<Event>> clashes = model.getScheduleClashes(personsToLink, eventToLink);
 
-        model.linkPersonToEvent(personToLink, eventToLink);
+        // All persons are linked in one pass over the persons already linked to the event,
+        // and those left once the event is full are put on its waitlist
+        int waitlistSizeBefore = model.getWaitlistSize(eventToLink);
+        int linkedCount = model.linkPersonsToEvent(personsToLink, eventToLink);
+        int waitlistedCount = model.getWaitlistSize(eventToLink) - waitlistSizeBefore;
+        // Persons on the waitlist do not take part in the event yet, so only clashes of linked persons are reported
+        model.getWaitlist(eventToLink).forEach(clashes::remove);
 
-        return new CommandResult(String.format(MESSAGE_LINK_SUCCESS, Messages.format(eventToLink)), false, false, true);
-    }
+        if (linkedCount == 0 && waitlistedCount == 0) {
+            throw new CommandException(
+                    personsToLink.size() == 1 ? MESSAGE_DUPLICATE_PERSON : MESSAGE_DUPLICATE_PERSONS);
+        }
 
-    /**
-     * Creates and returns a {@code Person} with the details of {@code person}
-     */
-    public Person copyPerson(Person person) {
-        return new Person(person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getAddress(),
-                person.getTags());
+        String feedback;
+        if (personsToLink.size() == 1) {
+            feedback = String.format(linkedCount == 1 ? MESSAGE_LINK_SUCCESS : MESSAGE_WAITLIST_SUCCESS,
+                    Messages.format(eventToLink));
+        } else {
+            feedback = String.format(MESSAGE_LINK_PERSONS_SUCCESS, linkedCount, Messages.format(eventToLink));
+            if (waitlistedCount > 0) {
+                feedback += String.format(MESSAGE_WAITLISTED, waitlistedCount);
+            }
+        }
+        int skippedCount = personsToLink.size() - linkedCount - waitlistedCount;
+        if (skippedCount > 0) {
+            feedback += String.format(MESSAGE_ALREADY_LINKED_SKIPPED, skippedCount);
+        }
+        feedback += formatClashes(clashes);
+        return new CommandResult(feedback, false, false, true);
     }
 
     /**
-     * Creates and returns a {@code Event} with the details of {@code event}
+     * Returns a warning naming each person in {@code clashes} with the events they are already linked to,
+     * or an empty string if there are no clashes.
      */
-    public Event copyEvent(Event event) {
-        return new Event(event.getName(),
-                event.getLocation(),
-                event.getStartTime(),
-                event.getTags());
+    private static String formatClashes(Map<Person, List<Event>> clashes) {
+        if (clashes.isEmpty()) {
+            return "";
+        }
+
+        String clashList = clashes.entrySet().stream()
+                .map(clash -> clash.getKey().getName() + " ("
+                        + clash.getValue().stream().map(Event::getEventName).collect(Collectors.joining(", ")) + ")")
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_SCHEDULE_CLASHES, clashList);
     }
 
     @Override
@@ -110,14 +157,14 @@ public class LinkPersonCommand extends Command {
         }
 
         LinkPersonCommand otherCommand = (LinkPersonCommand) other;
-        return index.equals(otherCommand.index)
+        return indexes.equals(otherCommand.indexes)
                 && event.equals(otherCommand.event);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", indexes)
                 .add("event", event)
                 .toString();
     }
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.model.Model;
+
+/**
+ * Adds the next page of persons found by the last list, find or search command to the displayed person list.
+ * Only as many persons are tested as needed to fill the page.
+ */
+public class MorePersonCommand extends MoreCommand {
+
+    public static final String COMMAND_WORD = "more";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " p: Lists the next " + Model.PAGE_SIZE
+            + " persons found, after those listed.\n"
+            + "Example: " + COMMAND_WORD + " p";
+
+    public static final String MESSAGE_NO_MORE_PERSONS = "There are no more persons to list";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (model.showMoreFilteredPersons() == 0) {
+            return new CommandResult(MESSAGE_NO_MORE_PERSONS);
+        }
+
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getFilteredPersonList().size()) + Messages.formatMorePersons(model));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MorePersonCommand)) {
+            return false;
+        }
+
+        // all instances of more person command are equal
+        return true;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
@@ -17,35 +18,46 @@ import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
 
 /**
- * Unlinks a person from an event in the address book.
+ * Unlinks persons from an event in the address book.
  */
 public class UnlinkPersonCommand extends Command {
     public static final String COMMAND_WORD = "unlink";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unlink identified person from"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unlink identified persons from"
             + " an event in the address book.\n"
-            + "Parameters: INDEX_OF_PERSON (must be a positive integer) "
+            + "Parameters: INDEXES_OF_PERSONS (positive integers or ranges such as 2-5, separated by commas) "
             + PREFIX_EVENT + "EVENT_NAME\n"
-            + "Example: " + COMMAND_WORD + " 1 "
+            + "Example: " + COMMAND_WORD + " 1,3-5 "
             + PREFIX_EVENT + "Company Meeting";
 
     public static final String MESSAGE_HINT = "Use \"unlink\" to unlink identified person from"
             + " an event in the address book.";
 
     public static final String MESSAGE_LINK_SUCCESS = "Person unlinked from event: %1$s";
-    public static final String MESSAGE_NOT_LINKED = "This person is not linked to the event";
+    public static final String MESSAGE_UNLINK_PERSONS_SUCCESS = "%1$d persons unlinked from event: %2$s";
+    public static final String MESSAGE_NOT_LINKED_SKIPPED = " (%1$d were not linked)";
+    public static final String MESSAGE_NOT_LINKED = "This person is not linked to the event or on its waitlist";
+    public static final String MESSAGE_NONE_LINKED =
+            "None of these persons are linked to the event or on its waitlist";
     public static final String MESSAGE_EVENT_NOT_FOUND = "This event does not exist in the address book";
 
-    private final Index index;
+    private final IndexList indexes;
     private final Name event;
 
     /**
      * Creates a UnlinkPersonCommand to unlink the specified {@code Person} from the specified {@code Event}
      */
     public UnlinkPersonCommand(Index index, Name event) {
-        requireNonNull(index);
+        this(IndexList.of(index), event);
+    }
+
+    /**
+     * Creates a UnlinkPersonCommand to unlink the persons at {@code indexes} from the specified {@code Event}
+     */
+    public UnlinkPersonCommand(IndexList indexes, Name event) {
+        requireNonNull(indexes);
         requireNonNull(event);
-        this.index = index;
+        this.indexes = indexes;
         this.event = event;
     }
 
@@ -54,24 +66,30 @@ public class UnlinkPersonCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person personToUnlink = lastShownList.get(index.getZeroBased());
+        List<Person> personsToUnlink = indexes.select(lastShownList);
         Event targetEvent = model.getEventByName(event);
 
         if (targetEvent == null) {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        if (!model.isPersonLinkedToEvent(personToUnlink, targetEvent)) {
-            throw new CommandException(MESSAGE_NOT_LINKED);
-        }
+        int unlinkedCount = model.unlinkPersonsFromEvent(personsToUnlink, targetEvent);
 
-        model.unlinkPersonFromEvent(personToUnlink, targetEvent);
+        if (unlinkedCount == 0) {
+            throw new CommandException(personsToUnlink.size() == 1 ? MESSAGE_NOT_LINKED : MESSAGE_NONE_LINKED);
+        }
 
-        return new CommandResult(String.format(MESSAGE_LINK_SUCCESS, Messages.format(targetEvent)), false, false, true);
+        String feedback = personsToUnlink.size() == 1
+                ? String.format(MESSAGE_LINK_SUCCESS, Messages.format(targetEvent))
+                : String.format(MESSAGE_UNLINK_PERSONS_SUCCESS, unlinkedCount, Messages.format(targetEvent));
+        if (unlinkedCount < personsToUnlink.size()) {
+            feedback += String.format(MESSAGE_NOT_LINKED_SKIPPED, personsToUnlink.size() - unlinkedCount);
+        }
+        return new CommandResult(feedback, false, false, true);
     }
 
     @Override
@@ -85,14 +103,14 @@ public class UnlinkPersonCommand extends Command {
         }
 
         UnlinkPersonCommand otherCommand = (UnlinkPersonCommand) other;
-        return index.equals(otherCommand.index)
+        return indexes.equals(otherCommand.indexes)
                 && event.equals(otherCommand.event);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", indexes)
                 .add("event", event)
                 .toString();
     }
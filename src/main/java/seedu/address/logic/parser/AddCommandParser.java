@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -21,7 +24,9 @@ import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Email;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 import seedu.address.model.types.person.Person;
 
 /**
@@ -29,6 +34,12 @@ import seedu.address.model.types.person.Person;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final ArgumentTokenizer PERSON_TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+    private static final ArgumentTokenizer EVENT_TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME, PREFIX_END_TIME,
+                    PREFIX_RECURRENCE, PREFIX_CAPACITY, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -58,8 +69,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddPersonCommand parseForPerson(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = PERSON_TOKENIZER.tokenize(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -84,24 +94,42 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddEventCommand parseForEvent(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME, PREFIX_TAG);
+        ArgumentMultimap argMultimap = EVENT_TOKENIZER.tokenize(args);
         // Validate that the necessary prefixes are present
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddEventCommand.MESSAGE_USAGE));
         }
         // Ensure no duplicate prefixes
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_START_TIME, PREFIX_ADDRESS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_RECURRENCE,
+                PREFIX_CAPACITY, PREFIX_ADDRESS);
 
         // Parse individual values for the event
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
         DateTime startTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        DateTime endTime = null;
+        if (argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            endTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_TIME).get());
+            if (!Event.isValidEndTime(startTime, endTime)) {
+                throw new ParseException(Event.MESSAGE_END_TIME_CONSTRAINTS);
+            }
+        }
+        Recurrence recurrence = null;
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isPresent()) {
+            recurrence = ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_RECURRENCE).get());
+            if (!Event.isValidRecurrence(startTime, recurrence)) {
+                throw new ParseException(Event.MESSAGE_RECURRENCE_CONSTRAINTS);
+            }
+        }
+        Capacity capacity = null;
+        if (argMultimap.getValue(PREFIX_CAPACITY).isPresent()) {
+            capacity = ParserUtil.parseCapacity(argMultimap.getValue(PREFIX_CAPACITY).get());
+        }
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         // Create a new Event object using the parsed values
-        Event event = new Event(name, address, startTime, tagList);
+        Event event = new Event(name, address, startTime, endTime, recurrence, capacity, tagList);
 
         // Return the appropriate AddEventCommand that takes the created event
         return new AddEventCommand(event);
@@ -2,9 +2,10 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,23 +15,34 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.eventcommands.AddEventCommand;
 import seedu.address.logic.commands.eventcommands.ClearEventCommand;
 import seedu.address.logic.commands.eventcommands.DeleteEventCommand;
 import seedu.address.logic.commands.eventcommands.EditEventCommand;
+import seedu.address.logic.commands.eventcommands.ExportEventCommand;
 import seedu.address.logic.commands.eventcommands.FindEventCommand;
+import seedu.address.logic.commands.eventcommands.ImportEventCommand;
+import seedu.address.logic.commands.eventcommands.MoreEventCommand;
 import seedu.address.logic.commands.eventcommands.ScheduleCommand;
 import seedu.address.logic.commands.eventcommands.SearchEventCommand;
 import seedu.address.logic.commands.personcommands.AddPersonCommand;
 import seedu.address.logic.commands.personcommands.ClearPersonCommand;
 import seedu.address.logic.commands.personcommands.DeletePersonCommand;
 import seedu.address.logic.commands.personcommands.EditPersonCommand;
+import seedu.address.logic.commands.personcommands.ExportPersonCommand;
 import seedu.address.logic.commands.personcommands.FindPersonCommand;
+import seedu.address.logic.commands.personcommands.ImportPersonCommand;
 import seedu.address.logic.commands.personcommands.LinkPersonCommand;
+import seedu.address.logic.commands.personcommands.MorePersonCommand;
 import seedu.address.logic.commands.personcommands.SearchPersonCommand;
 import seedu.address.logic.commands.personcommands.UnlinkPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -41,7 +53,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class AddressBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Describes how user input is separated into command word and args.
+     * Commands are separated by {@link LexedCommand#lex(String)}, which scans the input once without a regex;
+     * the pattern is kept to test and benchmark it against.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile(
         "(?<commandWord>\\S+)(?<combined>\\s+(?<modelType>\\S+)?(?<arguments>.*)?)?"
@@ -66,17 +80,12 @@ public class AddressBookParser {
             }
         }
 
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
+        final LexedCommand lexedCommand = LexedCommand.lex(userInput).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE)));
 
-        final String commandWord = matcher.group("commandWord");
-        final String modelTypeShortHand = matcher.group("modelType");
-        final ModelType modelType = ModelType.fromShorthand(modelTypeShortHand);
-        final String arguments = (modelType == ModelType.NEITHER)
-                ? matcher.group("combined")
-                : matcher.group("arguments");
+        final String commandWord = lexedCommand.getCommandWord();
+        final ModelType modelType = lexedCommand.getModelType();
+        final String arguments = lexedCommand.getArguments();
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
@@ -103,6 +112,9 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case MorePersonCommand.COMMAND_WORD:
+            return new MoreCommandParser().parse(modelType, arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -121,6 +133,18 @@ public class AddressBookParser {
         case UnlinkPersonCommand.COMMAND_WORD:
             return new UnlinkCommandParser().parse(modelType, arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case ImportPersonCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(modelType, arguments);
+
+        case ExportPersonCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(modelType, arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -144,6 +168,8 @@ public class AddressBookParser {
         case 'e':
             if (userInput.startsWith("ed")) {
                 return getEditHint(userInput);
+            } else if (userInput.startsWith("exp")) {
+                return getExportHint(userInput);
             } else if (userInput.startsWith("ex")) {
                 return ExitCommand.MESSAGE_USAGE;
             } else {
@@ -168,7 +194,17 @@ public class AddressBookParser {
                 return ListCommand.MESSAGE_USAGE + "\n" + LinkPersonCommand.MESSAGE_HINT;
             }
         case 'u':
-            return UnlinkPersonCommand.MESSAGE_USAGE;
+            if (userInput.startsWith("und")) {
+                return UndoCommand.MESSAGE_USAGE;
+            } else {
+                return UnlinkPersonCommand.MESSAGE_USAGE;
+            }
+        case 'r':
+            return RedoCommand.MESSAGE_USAGE;
+        case 'm':
+            return getMoreHint(userInput);
+        case 'i':
+            return getImportHint(userInput);
         case 'c':
             return getClearHint(userInput);
         default:
@@ -176,6 +212,62 @@ public class AddressBookParser {
         }
     }
 
+    /**
+     * Returns the person or event name that is being typed at the end of {@code userInput}, if any.
+     * Event names are recognised after the {@code ev/} prefix of link and unlink commands, and person or event
+     * names are recognised as the last keyword of find commands.
+     *
+     * @param userInput The partially entered user input.
+     * @return The partial name and where it starts in {@code userInput}, or empty if no name is being typed.
+     */
+    public Optional<PartialName> getPartialName(String userInput) {
+        String command = userInput.stripLeading();
+        int commandStart = userInput.length() - command.length();
+
+        if (command.startsWith(LinkPersonCommand.COMMAND_WORD + " ")
+                || command.startsWith(UnlinkPersonCommand.COMMAND_WORD + " ")) {
+            return getPartialEventName(userInput);
+        }
+
+        String findPerson = FindPersonCommand.COMMAND_WORD + " " + ModelType.PERSON.getShorthand() + " ";
+        String findEvent = FindEventCommand.COMMAND_WORD + " " + ModelType.EVENT.getShorthand() + " ";
+        if (command.startsWith(findPerson)) {
+            return getPartialKeyword(userInput, commandStart + findPerson.length(), ModelType.PERSON);
+        } else if (command.startsWith(findEvent)) {
+            return getPartialKeyword(userInput, commandStart + findEvent.length(), ModelType.EVENT);
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<PartialName> getPartialEventName(String userInput) {
+        int prefixPosition = userInput.lastIndexOf(" " + PREFIX_EVENT.getPrefix());
+        if (prefixPosition == -1) {
+            return Optional.empty();
+        }
+
+        int nameStart = prefixPosition + 1 + PREFIX_EVENT.getPrefix().length();
+        while (nameStart < userInput.length() && Character.isWhitespace(userInput.charAt(nameStart))) {
+            nameStart++;
+        }
+        return Optional.of(new PartialName(ModelType.EVENT, userInput.substring(nameStart), nameStart));
+    }
+
+    private Optional<PartialName> getPartialKeyword(String userInput, int argumentsStart, ModelType modelType) {
+        int keywordStart = argumentsStart;
+        for (int i = userInput.length() - 1; i >= argumentsStart; i--) {
+            if (Character.isWhitespace(userInput.charAt(i))) {
+                keywordStart = i + 1;
+                break;
+            }
+        }
+
+        if (keywordStart >= userInput.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PartialName(modelType, userInput.substring(keywordStart), keywordStart));
+    }
+
     private String getAddHint(String userInput) {
         if (userInput.startsWith("add e")) {
             return AddEventCommand.MESSAGE_USAGE;
@@ -226,6 +318,36 @@ public class AddressBookParser {
         }
     }
 
+    private String getMoreHint(String userInput) {
+        if (userInput.startsWith("more e")) {
+            return MoreEventCommand.MESSAGE_USAGE;
+        } else if (userInput.startsWith("more p")) {
+            return MorePersonCommand.MESSAGE_USAGE;
+        } else {
+            return MoreCommand.MESSAGE_USAGE;
+        }
+    }
+
+    private String getImportHint(String userInput) {
+        if (userInput.startsWith("import e")) {
+            return ImportEventCommand.MESSAGE_USAGE;
+        } else if (userInput.startsWith("import p")) {
+            return ImportPersonCommand.MESSAGE_USAGE;
+        } else {
+            return ImportCommand.MESSAGE_USAGE;
+        }
+    }
+
+    private String getExportHint(String userInput) {
+        if (userInput.startsWith("export e")) {
+            return ExportEventCommand.MESSAGE_USAGE;
+        } else if (userInput.startsWith("export p")) {
+            return ExportPersonCommand.MESSAGE_USAGE;
+        } else {
+            return ExportCommand.MESSAGE_USAGE;
+        }
+    }
+
     private String getClearHint(String userInput) {
         if (userInput.startsWith("clear e")) {
             return ClearEventCommand.MESSAGE_USAGE;
@@ -237,7 +359,7 @@ public class AddressBookParser {
     }
 
     /**
-     * For testing of the regex
+     * For testing of the regex, and comparing {@link LexedCommand#lex(String)} with it.
      */
     public Pattern getParserRegex() {
         return BASIC_COMMAND_FORMAT;
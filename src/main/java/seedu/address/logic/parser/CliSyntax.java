@@ -12,6 +12,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_START_TIME = new Prefix("s/");
+    public static final Prefix PREFIX_END_TIME = new Prefix("en/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("r/");
+    public static final Prefix PREFIX_CAPACITY = new Prefix("c/");
     public static final Prefix PREFIX_EVENT = new Prefix("ev/");
 
 }
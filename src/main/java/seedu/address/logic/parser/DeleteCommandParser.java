@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.eventcommands.DeleteEventCommand;
 import seedu.address.logic.commands.personcommands.DeletePersonCommand;
@@ -35,8 +36,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeletePersonCommand parseForPerson(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeletePersonCommand(index);
+            IndexList indexes = ParserUtil.parseIndexList(args);
+            return new DeletePersonCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeletePersonCommand.MESSAGE_USAGE), pe);
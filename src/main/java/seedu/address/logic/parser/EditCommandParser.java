@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -23,11 +26,21 @@ import seedu.address.logic.commands.personcommands.EditPersonCommand;
 import seedu.address.logic.commands.personcommands.EditPersonCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Recurrence;
 
 /**
  * Parses input arguments and creates a new EditCommand object
  */
 public class EditCommandParser implements Parser<EditCommand> {
+
+    private static final ArgumentTokenizer PERSON_TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+    private static final ArgumentTokenizer EVENT_TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME, PREFIX_END_TIME,
+                    PREFIX_RECURRENCE, PREFIX_CAPACITY, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the Edit Person or Event
      * and returns the appropriate EditCommand object for execution.
@@ -48,13 +61,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditPersonCommand parseForPerson(ModelType modelType, String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args,
-                        PREFIX_NAME,
-                        PREFIX_PHONE,
-                        PREFIX_EMAIL,
-                        PREFIX_ADDRESS,
-                        PREFIX_TAG);
+        ArgumentMultimap argMultimap = PERSON_TOKENIZER.tokenize(args);
 
 
         Index index;
@@ -99,8 +106,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditEventCommand parseForEvent(ModelType modelType, String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME, PREFIX_TAG);
+        ArgumentMultimap argMultimap = EVENT_TOKENIZER.tokenize(args);
 
         Index index;
 
@@ -110,7 +116,8 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditEventCommand.MESSAGE_USAGE), pe);
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_START_TIME, PREFIX_END_TIME,
+                PREFIX_RECURRENCE, PREFIX_CAPACITY);
 
         EditEventDescriptor editEventDescriptor = new EditEventDescriptor();
 
@@ -123,6 +130,16 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (argMultimap.getValue(PREFIX_START_TIME).isPresent()) {
             editEventDescriptor.setStartTime(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_TIME).get()));
         }
+        if (argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            editEventDescriptor.setEndTime(parseEndTimeForEdit(argMultimap.getValue(PREFIX_END_TIME).get()));
+        }
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isPresent()) {
+            editEventDescriptor.setRecurrence(
+                    parseRecurrenceForEdit(argMultimap.getValue(PREFIX_RECURRENCE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_CAPACITY).isPresent()) {
+            editEventDescriptor.setCapacity(parseCapacityForEdit(argMultimap.getValue(PREFIX_CAPACITY).get()));
+        }
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editEventDescriptor::setTags);
 
         if (!editEventDescriptor.isAnyFieldEdited()) {
@@ -132,6 +149,45 @@ public class EditCommandParser implements Parser<EditCommand> {
         return new EditEventCommand(index, editEventDescriptor);
     }
 
+    /**
+     * Parses {@code String endTime} into a {@code DateTime}, or into {@code Optional#empty()} if {@code endTime}
+     * is an empty string, which removes the end time of the event.
+     */
+    private Optional<DateTime> parseEndTimeForEdit(String endTime) throws ParseException {
+        assert endTime != null;
+
+        if (endTime.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseDateTime(endTime));
+    }
+
+    /**
+     * Parses {@code String recurrence} into a {@code Recurrence}, or into {@code Optional#empty()} if
+     * {@code recurrence} is an empty string, which stops the event from repeating.
+     */
+    private Optional<Recurrence> parseRecurrenceForEdit(String recurrence) throws ParseException {
+        assert recurrence != null;
+
+        if (recurrence.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseRecurrence(recurrence));
+    }
+
+    /**
+     * Parses {@code String capacity} into a {@code Capacity}, or into {@code Optional#empty()} if
+     * {@code capacity} is an empty string, which removes the capacity of the event.
+     */
+    private Optional<Capacity> parseCapacityForEdit(String capacity) throws ParseException {
+        assert capacity != null;
+
+        if (capacity.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseCapacity(capacity));
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>} if {@code tags} is non-empty.
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
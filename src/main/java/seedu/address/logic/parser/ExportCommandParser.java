@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.eventcommands.ExportEventCommand;
+import seedu.address.logic.commands.personcommands.ExportPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand<?>> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand<?> parse(ModelType modelType, String args) throws ParseException {
+        if (modelType == ModelType.PERSON) {
+            return new ExportPersonCommand(parseFilePath(args, ExportPersonCommand.MESSAGE_USAGE));
+        } else if (modelType == ModelType.EVENT) {
+            return new ExportEventCommand(parseFilePath(args, ExportEventCommand.MESSAGE_USAGE));
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+    }
+
+    private static Path parseFilePath(String args, String messageUsage) throws ParseException {
+        try {
+            return ParserUtil.parseFilePath(args);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage), pe);
+        }
+    }
+}
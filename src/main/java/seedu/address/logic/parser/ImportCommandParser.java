@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.eventcommands.ImportEventCommand;
+import seedu.address.logic.commands.personcommands.ImportPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand<?>> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand<?> parse(ModelType modelType, String args) throws ParseException {
+        if (modelType == ModelType.PERSON) {
+            return new ImportPersonCommand(parseFilePath(args, ImportPersonCommand.MESSAGE_USAGE));
+        } else if (modelType == ModelType.EVENT) {
+            return new ImportEventCommand(parseFilePath(args, ImportEventCommand.MESSAGE_USAGE));
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+    }
+
+    private static Path parseFilePath(String args, String messageUsage) throws ParseException {
+        try {
+            return ParserUtil.parseFilePath(args);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage), pe);
+        }
+    }
+}
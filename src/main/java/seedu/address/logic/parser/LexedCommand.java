@@ -0,0 +1,138 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents user input split into its command word, model type and arguments.
+ * E.g. {@code add p n/John} is split into {@code add}, {@code PERSON} and {@code " n/John"}.
+ */
+public class LexedCommand {
+
+    private final String commandWord;
+    private final ModelType modelType;
+    private final String arguments;
+
+    /**
+     * Creates a {@code LexedCommand} with the given parts. All parts must be present and not null.
+     */
+    public LexedCommand(String commandWord, ModelType modelType, String arguments) {
+        requireNonNull(commandWord);
+        requireNonNull(modelType);
+        requireNonNull(arguments);
+        this.commandWord = commandWord;
+        this.modelType = modelType;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Splits {@code userInput} in a single pass, in the same way as matching the trimmed input against
+     * {@code AddressBookParser#getParserRegex()}.
+     * The command word is the first word. If the second word is a model type shorthand, the arguments are the
+     * text after it, otherwise they are all the text after the command word, including any leading whitespace.
+     *
+     * @return The parts of the input, or empty if the input is blank or its arguments span several lines.
+     */
+    public static Optional<LexedCommand> lex(String userInput) {
+        String input = userInput.trim();
+        int length = input.length();
+        if (length == 0) {
+            return Optional.empty();
+        }
+
+        int commandWordEnd = skip(input, 0, false);
+        String commandWord = input.substring(0, commandWordEnd);
+        if (commandWordEnd == length) {
+            return Optional.of(new LexedCommand(commandWord, ModelType.NEITHER, ""));
+        }
+
+        // The input is trimmed, so the whitespace after the command word is always followed by another word
+        int modelTypeStart = skip(input, commandWordEnd, true);
+        int modelTypeEnd = skip(input, modelTypeStart, false);
+        for (int i = modelTypeEnd; i < length; i++) {
+            if (isLineTerminator(input.charAt(i))) {
+                return Optional.empty();
+            }
+        }
+
+        ModelType modelType = ModelType.fromShorthand(input.substring(modelTypeStart, modelTypeEnd));
+        String arguments = modelType == ModelType.NEITHER
+                ? input.substring(commandWordEnd)
+                : input.substring(modelTypeEnd);
+        return Optional.of(new LexedCommand(commandWord, modelType, arguments));
+    }
+
+    /**
+     * Returns the index of the first character at or after {@code fromIndex} that is whitespace if
+     * {@code isWhitespace} is false, or that is not whitespace if it is true, or the length of {@code input}
+     * if there is no such character.
+     */
+    private static int skip(String input, int fromIndex, boolean isWhitespace) {
+        int index = fromIndex;
+        while (index < input.length() && isWhitespace(input.charAt(index)) == isWhitespace) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .} in a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public ModelType getModelType() {
+        return modelType;
+    }
+
+    public String getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LexedCommand)) {
+            return false;
+        }
+
+        LexedCommand otherLexedCommand = (LexedCommand) other;
+        return commandWord.equals(otherLexedCommand.commandWord)
+                && modelType == otherLexedCommand.modelType
+                && arguments.equals(otherLexedCommand.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandWord, modelType, arguments);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandWord", commandWord)
+                .add("modelType", modelType)
+                .add("arguments", arguments)
+                .toString();
+    }
+}
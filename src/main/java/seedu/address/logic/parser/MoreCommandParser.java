@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.eventcommands.MoreEventCommand;
+import seedu.address.logic.commands.personcommands.MorePersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MoreCommand object
+ */
+public class MoreCommandParser implements Parser<MoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MoreCommand
+     * and returns a MoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MoreCommand parse(ModelType modelType, String args) throws ParseException {
+        if (modelType == ModelType.PERSON) {
+            return new MorePersonCommand();
+        } else if (modelType == ModelType.EVENT) {
+            return new MoreEventCommand();
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MoreCommand.MESSAGE_USAGE));
+        }
+    }
+}
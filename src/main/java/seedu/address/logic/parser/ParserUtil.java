@@ -2,11 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -15,6 +19,8 @@ import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Email;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Recurrence;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -22,6 +28,9 @@ import seedu.address.model.types.common.Phone;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_LIST = "Indexes must be non-zero unsigned integers or ranges"
+            + " such as 1-5, separated by commas.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is empty or not a valid path.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -36,6 +45,43 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a list of indexes and ranges of indexes separated by commas such as
+     * {@code 1-300,450}, into an {@code IndexList} and returns it. Whitespace around the indexes is ignored.
+     * @throws ParseException if an index is invalid or a range ends before it starts.
+     */
+    public static IndexList parseIndexList(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        IndexList indexList = null;
+        for (String part : oneBasedIndexes.split(",", -1)) {
+            int rangeSeparator = part.indexOf('-');
+            IndexList partIndexes;
+            try {
+                partIndexes = rangeSeparator == -1
+                        ? IndexList.of(parseIndex(part))
+                        : IndexList.ofRange(parseIndex(part.substring(0, rangeSeparator)),
+                                parseIndex(part.substring(rangeSeparator + 1)));
+            } catch (ParseException | IllegalArgumentException e) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_LIST, e);
+            }
+            indexList = indexList == null ? partIndexes : indexList.union(partIndexes);
+        }
+        return indexList;
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified path is empty or invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -111,6 +157,36 @@ public class ParserUtil {
         return new DateTime(trimmedDateTime);
     }
 
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(trimmedRecurrence);
+    }
+
+    /**
+     * Parses a {@code String capacity} into a {@code Capacity}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code capacity} is invalid.
+     */
+    public static Capacity parseCapacity(String capacity) throws ParseException {
+        requireNonNull(capacity);
+        String trimmedCapacity = capacity.trim();
+        if (!Capacity.isValidCapacity(trimmedCapacity)) {
+            throw new ParseException(Capacity.MESSAGE_CONSTRAINTS);
+        }
+        return new Capacity(trimmedCapacity);
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a person or event name that is still being typed at the end of a command.
+ * E.g. {@code Company Mee} in {@code link 3 ev/Company Mee}.
+ */
+public class PartialName {
+
+    private final ModelType modelType;
+    private final String typedText;
+    private final int startIndex;
+
+    /**
+     * Creates a {@code PartialName} for a name of the given {@code modelType}, of which {@code typedText}
+     * has been typed starting at {@code startIndex} of the command.
+     */
+    public PartialName(ModelType modelType, String typedText, int startIndex) {
+        requireNonNull(modelType);
+        requireNonNull(typedText);
+        this.modelType = modelType;
+        this.typedText = typedText;
+        this.startIndex = startIndex;
+    }
+
+    public ModelType getModelType() {
+        return modelType;
+    }
+
+    public String getTypedText() {
+        return typedText;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Returns {@code commandText} with this partial name replaced by {@code fullName}.
+     */
+    public String complete(String commandText, String fullName) {
+        return commandText.substring(0, startIndex) + fullName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartialName)) {
+            return false;
+        }
+
+        PartialName otherPartialName = (PartialName) other;
+        return modelType == otherPartialName.modelType
+                && typedText.equals(otherPartialName.typedText)
+                && startIndex == otherPartialName.startIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(modelType, typedText, startIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("modelType", modelType)
+                .add("typedText", typedText)
+                .add("startIndex", startIndex)
+                .toString();
+    }
+}
@@ -45,7 +45,7 @@ public class ScheduleCommandParser implements Parser<Command> {
         }
 
         if (isInt) {
-            return new ScheduleCommand(new EventInSchedulePredicate(range));
+            return new ScheduleCommand(range);
         } else {
             return new ScheduleCommand(new EventInSchedulePredicate(date));
         }
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.commands.personcommands.UnlinkPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.types.common.Name;
@@ -14,6 +14,8 @@ import seedu.address.model.types.common.Name;
  */
 public class UnlinkCommandParser implements Parser<UnlinkPersonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_EVENT);
+
     /**
      * Parses the given {@code String} of arguments in the context of the UnlinkPersonCommand
      * and returns a UnlinkPersonCommand object for execution.
@@ -21,12 +23,11 @@ public class UnlinkCommandParser implements Parser<UnlinkPersonCommand> {
      */
     public UnlinkPersonCommand parse(ModelType model, String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_EVENT);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
-        Index index;
+        IndexList indexes;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexList(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -42,6 +43,6 @@ public class UnlinkCommandParser implements Parser<UnlinkPersonCommand> {
 
         Name eventName = ParserUtil.parseName(argMultimap.getValue(PREFIX_EVENT).get());
 
-        return new UnlinkPersonCommand(index, eventName);
+        return new UnlinkPersonCommand(indexes, eventName);
     }
 }
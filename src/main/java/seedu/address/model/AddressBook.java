@@ -3,7 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -102,6 +106,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         personEventManager.clearAllPersons();
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch update of the person and event lists.
+     * Changes made until the matching {@link #endBatchUpdate()} are delivered to list listeners as one change per list.
+     */
+    public void beginBatchUpdate() {
+        persons.beginBatchUpdate();
+        events.beginBatchUpdate();
+    }
+
+    /**
+     * Ends a batch update started by {@link #beginBatchUpdate()}.
+     */
+    public void endBatchUpdate() {
+        persons.endBatchUpdate();
+        events.endBatchUpdate();
+    }
+
     //// person-level operations
 
     /**
@@ -141,6 +164,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         personEventManager.removePersonFromAllEvents(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook}.
+     * {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        personEventManager.removePersonsFromAllEvents(keys);
+    }
+
     /**
      * Returns true if a person is linked to an event.
      */
@@ -150,7 +182,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Links a person to an event.
+     * Returns the number of persons on the waitlist of an event.
+     */
+    public int getWaitlistSize(Event event) {
+        requireNonNull(event);
+        return personEventManager.getWaitlistSize(event);
+    }
+
+    /**
+     * Returns the persons on the waitlist of an event, front first.
+     */
+    public List<Person> getWaitlist(Event event) {
+        requireNonNull(event);
+        return personEventManager.getWaitlist(event);
+    }
+
+    /**
+     * Links a person to an event, or puts the person on its waitlist if the event is full.
      */
     public void linkPersonToEvent(Person person, Event event) {
         requireAllNonNull(person, event);
@@ -158,13 +206,44 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Unlinks a person from an event.
+     * Links the persons that are neither linked to an event nor on its waitlist to it.
+     * Once the event is full, the remaining persons are put on its waitlist instead.
+     * @return the number of persons linked.
+     */
+    public int linkPersonsToEvent(Collection<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return personEventManager.addPersonsToEvent(persons, event);
+    }
+
+    /**
+     * Returns, for each person in {@code persons} not yet linked to {@code event}, the other events the person is
+     * linked to that overlap {@code event} in time, in chronological order. Persons without such events are left out.
+     * For an event that repeats, only its first occurrence is checked.
+     */
+    public Map<Person, List<Event>> getScheduleClashes(Collection<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return personEventManager.getScheduleClashes(persons, event);
+    }
+
+    /**
+     * Unlinks a person from an event, or takes the person off its waitlist.
+     * The place the person leaves goes to the person at the front of the waitlist.
      */
     public void unlinkPersonFromEvent(Person person, Event event) {
         requireAllNonNull(person, event);
         personEventManager.removePersonFromEvent(person, event);
     }
 
+    /**
+     * Unlinks the persons from an event and takes them off its waitlist.
+     * The places they leave go to the persons at the front of the waitlist.
+     * @return the number of persons that were linked to the event or on its waitlist.
+     */
+    public int unlinkPersonsFromEvent(Collection<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return personEventManager.removePersonsFromEvent(persons, event);
+    }
+
     //// event-level operations
 
     /**
@@ -210,18 +289,75 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Event getEventByName(Name name) {
         requireNonNull(name);
-        for (Event e : events) {
-            if (e.getName().equals(name)) {
-                return e;
-            }
-        }
-        return null;
+        return events.getEventByName(name);
+    }
+
+    /**
+     * Returns up to {@code limit} person names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> getPersonNamesStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.getNamesStartingWith(prefix, limit);
     }
 
-    /** Resorts Events */
-    public void reSortEvents() {
-        events.sortEvents();
-    };
+    /**
+     * Returns up to {@code limit} event names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> getEventNamesStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return events.getNamesStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and strictly before {@code to},
+     * in chronological order. Recurring events are represented by their occurrences in the window.
+     */
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return events.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns the events that overlap {@code event} in time and either take place at the same location or have
+     * a linked person in common with it, in chronological order.
+     * {@code event} itself is left out.
+     */
+    public List<Event> getConflictingEvents(Event event) {
+        requireNonNull(event);
+        List<Event> conflicts = events.getEventsOverlapping(event);
+        conflicts.removeIf(other -> !other.getLocation().equals(event.getLocation())
+                && !personEventManager.haveLinkedPersonInCommon(event, other));
+        return conflicts;
+    }
+
+    /**
+     * Returns the statistics of the address book, counting events from {@code today}.
+     * The counts are kept up to date as the address book changes, so this takes the same time at any size, apart
+     * from checking the occurrences of recurring events on each day counted.
+     */
+    public AddressBookStatistics getStatistics(LocalDate today) {
+        requireNonNull(today);
+        int limit = AddressBookStatistics.TOP_LIMIT;
+        return new AddressBookStatistics(getPersonList().size(), getEventList().size(),
+                personEventManager.getLinkCount(), personEventManager.getTopEventsByAttendees(limit),
+                personEventManager.getTopPersonsByLinkedEvents(limit), persons.getTopTags(limit),
+                events.getTopTags(limit), events.getEventCountsByDay(today, AddressBookStatistics.UPCOMING_DAYS));
+    }
+
+    /**
+     * Takes the current time the events are ordered for from {@code clock} from now on.
+     */
+    public void setClock(Clock clock) {
+        events.setClock(clock);
+    }
+
+    /**
+     * Brings the order of the events up to date with the current time, moving only the events that have started
+     * or ended since the last update.
+     */
+    public void updateEventOrder() {
+        events.updateEventOrder();
+    }
 
     /**
      * Adds a linked persons entry to the personEventManager.
@@ -230,6 +366,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         personEventManager.addLinkedPersonsEntry(linkedPersonsEntry);
     }
 
+    //// history support, for VersionedAddressBook to record and reverse changes
+
+    /**
+     * Returns a copy of the person list, including changes made during a batch update.
+     */
+    List<Person> copyPersonList() {
+        List<Person> copy = new ArrayList<>();
+        persons.forEach(copy::add);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the event list, including changes made during a batch update.
+     */
+    List<Event> copyEventList() {
+        List<Event> copy = new ArrayList<>();
+        events.forEach(copy::add);
+        return copy;
+    }
+
+    /**
+     * Returns the positions of {@code keys} in the person list, in increasing order.
+     */
+    int[] getPersonIndexes(Collection<Person> keys) {
+        return persons.indexesOf(keys);
+    }
+
+    /**
+     * Returns the persons at {@code indexes} of the person list.
+     */
+    List<Person> getPersonsAt(int[] indexes) {
+        return persons.getAll(indexes);
+    }
+
+    /**
+     * Inserts {@code toInsert} into the person list at the matching positions of {@code indexes}.
+     */
+    void insertPersons(int[] indexes, List<Person> toInsert) {
+        persons.insertAll(indexes, toInsert);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * The statistics of an address book at one time, such as the events with the most persons linked and the number of
+ * events on each of the coming days. Immutable.
+ * The address book keeps the counts these are read from up to date as it changes, so that reading them takes the
+ * same time however many persons, events and links there are.
+ */
+public class AddressBookStatistics {
+
+    /** The number of items in each ranking. */
+    public static final int TOP_LIMIT = 5;
+    /** The number of days, from today, that events are counted for. */
+    public static final int UPCOMING_DAYS = 7;
+
+    private final int personCount;
+    private final int eventCount;
+    private final long linkCount;
+    private final List<CountRanking.Entry<Event>> topEvents;
+    private final List<CountRanking.Entry<Person>> topPersons;
+    private final List<CountRanking.Entry<Tag>> topPersonTags;
+    private final List<CountRanking.Entry<Tag>> topEventTags;
+    private final Map<LocalDate, Integer> upcomingEventCounts;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param topEvents The events with the most persons linked, with their numbers of persons.
+     * @param topPersons The persons linked to the most events, with their numbers of events.
+     * @param topPersonTags The tags of the most persons, with their numbers of persons.
+     * @param topEventTags The tags of the most events, with their numbers of events.
+     * @param upcomingEventCounts The number of events starting on each of the coming days, in order.
+     */
+    public AddressBookStatistics(int personCount, int eventCount, long linkCount,
+            List<CountRanking.Entry<Event>> topEvents, List<CountRanking.Entry<Person>> topPersons,
+            List<CountRanking.Entry<Tag>> topPersonTags, List<CountRanking.Entry<Tag>> topEventTags,
+            Map<LocalDate, Integer> upcomingEventCounts) {
+        requireAllNonNull(topEvents, topPersons, topPersonTags, topEventTags, upcomingEventCounts);
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+        this.linkCount = linkCount;
+        this.topEvents = List.copyOf(topEvents);
+        this.topPersons = List.copyOf(topPersons);
+        this.topPersonTags = List.copyOf(topPersonTags);
+        this.topEventTags = List.copyOf(topEventTags);
+        this.upcomingEventCounts = Collections.unmodifiableMap(new LinkedHashMap<>(upcomingEventCounts));
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public long getLinkCount() {
+        return linkCount;
+    }
+
+    public List<CountRanking.Entry<Event>> getTopEvents() {
+        return topEvents;
+    }
+
+    public List<CountRanking.Entry<Person>> getTopPersons() {
+        return topPersons;
+    }
+
+    public List<CountRanking.Entry<Tag>> getTopPersonTags() {
+        return topPersonTags;
+    }
+
+    public List<CountRanking.Entry<Tag>> getTopEventTags() {
+        return topEventTags;
+    }
+
+    public Map<LocalDate, Integer> getUpcomingEventCounts() {
+        return upcomingEventCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookStatistics)) {
+            return false;
+        }
+
+        AddressBookStatistics otherStatistics = (AddressBookStatistics) other;
+        return personCount == otherStatistics.personCount
+                && eventCount == otherStatistics.eventCount
+                && linkCount == otherStatistics.linkCount
+                && topEvents.equals(otherStatistics.topEvents)
+                && topPersons.equals(otherStatistics.topPersons)
+                && topPersonTags.equals(otherStatistics.topPersonTags)
+                && topEventTags.equals(otherStatistics.topEventTags)
+                && upcomingEventCounts.equals(otherStatistics.upcomingEventCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personCount, eventCount, linkCount, topEvents, topPersons, topPersonTags, topEventTags,
+                upcomingEventCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("eventCount", eventCount)
+                .add("linkCount", linkCount)
+                .add("topEvents", topEvents)
+                .add("topPersons", topPersons)
+                .add("topPersonTags", topPersonTags)
+                .add("topEventTags", topEventTags)
+                .add("upcomingEventCounts", upcomingEventCounts)
+                .toString();
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -20,6 +23,9 @@ public interface Model {
 
     Predicate<Event> PREDICATE_SHOW_ALL_EVENTS = unused -> true;
 
+    /** The number of persons or events added to a filtered list at a time. */
+    int PAGE_SIZE = 100;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -68,6 +74,50 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a batch update of the address book. Changes made until the matching {@link #endBatchUpdate()}
+     * are delivered to the observable person and event lists as a single change per list.
+     * Every call must be paired with a call to {@link #endBatchUpdate()}, e.g. in a {@code finally} block.
+     */
+    void beginBatchUpdate();
+
+    /**
+     * Ends a batch update started by {@link #beginBatchUpdate()}.
+     */
+    void endBatchUpdate();
+
+    /**
+     * Saves the changes made to the address book since the last commit as a state that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Reverses the changes made to the address book since the last commit, which are not saved as a state.
+     */
+    void discardAddressBookChanges();
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest change.
+     * There must be a change to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest undo.
+     * There must be an undone change to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,6 +129,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons in one pass over the address book.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -101,12 +157,37 @@ public interface Model {
     boolean isPersonLinkedToEvent(Person person, Event event);
 
     /**
-     * Links the given person {@code person} with {@code event}.
+     * Returns the number of persons on the waitlist of {@code event}, or 0 if it is not in the address book.
+     */
+    int getWaitlistSize(Event event);
+
+    /**
+     * Returns the persons on the waitlist of {@code event}, front first, or an empty list if it is not in the
+     * address book.
+     */
+    List<Person> getWaitlist(Event event);
+
+    /**
+     * Links the given person {@code person} with {@code event}, or puts the person on its waitlist if it is full.
      * {@code person} must exist in the address book.
      * {@code event} must exist in the address book.
      */
     void linkPersonToEvent(Person person, Event event);
 
+    /**
+     * Links each person in {@code persons} that is neither linked to {@code event} nor on its waitlist with
+     * {@code event}. Once {@code event} is full, the remaining persons are put on its waitlist instead.
+     * The persons and {@code event} must exist in the address book.
+     * @return the number of persons linked.
+     */
+    int linkPersonsToEvent(List<Person> persons, Event event);
+
+    /**
+     * Returns, for each person in {@code persons} not yet linked to {@code event}, the other events the person is
+     * linked to that overlap {@code event} in time, in chronological order. Persons without such events are left out.
+     */
+    Map<Person, List<Event>> getScheduleClashes(List<Person> persons, Event event);
+
     /**
      * Unlinks the given person {@code person} with {@code event}.
      * {@code person} must exist in the address book.
@@ -114,6 +195,14 @@ public interface Model {
      */
     void unlinkPersonFromEvent(Person person, Event event);
 
+    /**
+     * Unlinks the persons in {@code persons} from {@code event} and takes them off its waitlist.
+     * Their places go to the persons at the front of the waitlist.
+     * The persons and {@code event} must exist in the address book.
+     * @return the number of persons that were linked to {@code event} or on its waitlist.
+     */
+    int unlinkPersonsFromEvent(List<Person> persons, Event event);
+
     /**
      * Removes all events from the address book.
      */
@@ -121,15 +210,37 @@ public interface Model {
 
     void clearAllPersons();
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns an unmodifiable view of the filtered person list, which holds the first pages of persons that match
+     * its filter.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, showing the first
+     * {@value #PAGE_SIZE} matching persons. Only as many persons are tested as needed to find them.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Adds the next {@value #PAGE_SIZE} persons that match the filter to the filtered person list.
+     *
+     * @return The number of persons added, which is zero if there are no more.
+     */
+    int showMoreFilteredPersons();
+
+    /**
+     * Returns true if persons not tested against the filter of the filtered person list remain.
+     */
+    boolean hasMoreFilteredPersons();
+
+    /**
+     * Returns every person that matches the filter of the filtered person list, including those not shown yet.
+     * This tests every person.
+     */
+    List<Person> getAllFilteredPersons();
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      */
@@ -159,17 +270,79 @@ public interface Model {
      */
     Event getEventByName(Name name);
 
-    /** Returns an unmodifiable view of the filtered event list */
+    /**
+     * Returns up to {@code limit} names of persons in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    List<String> getPersonNamesStartingWith(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} names of events in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    List<String> getEventNamesStartingWith(String prefix, int limit);
+
+    /**
+     * Returns the events in the address book starting at or after {@code from} and strictly before {@code to},
+     * in chronological order. Events outside this window are not visited, except recurring events starting before
+     * it, whose occurrences in the window are created only for it.
+     */
+    List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the statistics of the address book, counting events from today.
+     * Reading them does not scan the persons, events or links.
+     */
+    AddressBookStatistics getStatistics();
+
+    /**
+     * Returns the events in the address book, other than {@code event}, that overlap it in time and either take
+     * place at the same location or have a linked person in common with it, in chronological order.
+     */
+    List<Event> getConflictingEvents(Event event);
+
+    /**
+     * Returns an unmodifiable view of the filtered event list, which holds the first pages of events that match
+     * its filter.
+     */
     ObservableList<Event> getFilteredEventList();
 
     /**
-     * Updates the filter of the filtered event list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered event list to filter by the given {@code predicate}, showing the first
+     * {@value #PAGE_SIZE} matching events. Only as many events are tested as needed to find them.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
-    /** Resorts Events */
-    void reSortEvents();
+    /**
+     * Adds the next {@value #PAGE_SIZE} events that match the filter to the filtered event list.
+     *
+     * @return The number of events added, which is zero if there are no more.
+     */
+    int showMoreFilteredEvents();
+
+    /**
+     * Returns true if events not tested against the filter of the filtered event list remain.
+     */
+    boolean hasMoreFilteredEvents();
+
+    /**
+     * Returns every event that matches the filter of the filtered event list, including those not shown yet.
+     * This tests every event.
+     */
+    List<Event> getAllFilteredEvents();
+
+    /**
+     * Brings the order of the events up to date with the current time, moving only the events that have started
+     * or ended since the last update.
+     */
+    void updateEventOrder();
+
+    /**
+     * Returns the clock giving the current time, which time-dependent behaviour such as the order of the events
+     * is based on.
+     */
+    Clock getClock();
 
     /**
      * Return person event association mapping
@@ -4,17 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.PagedFilteredList;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
 
@@ -24,27 +28,39 @@ import seedu.address.model.types.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Event> filteredEvents;
+    private final PagedFilteredList<Person> filteredPersons;
+    private final PagedFilteredList<Event> filteredEvents;
+    private final Clock clock;
     private boolean clearCommandPrompted = ClearCommand.isPrompted();
     private boolean clearCommandConfirmed = ClearCommand.isConfirmed();
 
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, taking the current time from the
+     * system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, taking the current time from
+     * {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.clock = clock;
+        this.addressBook = new VersionedAddressBook(addressBook);
+        this.addressBook.setClock(clock);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredEvents = new FilteredList<>(this.addressBook.getEventList());
+        filteredPersons = new PagedFilteredList<>(this.addressBook.getPersonList(), PAGE_SIZE);
+        filteredEvents = new PagedFilteredList<>(this.addressBook.getEventList(), PAGE_SIZE);
     }
 
     public ModelManager() {
@@ -124,6 +140,46 @@ public class ModelManager implements Model {
         ClearCommand.setConfirmed(isConfirmed);
     }
 
+    @Override
+    public void beginBatchUpdate() {
+        addressBook.beginBatchUpdate();
+    }
+
+    @Override
+    public void endBatchUpdate() {
+        addressBook.endBatchUpdate();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public void discardAddressBookChanges() {
+        addressBook.discardPendingChanges();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     //=========== Person Methods==============================================================================
     @Override
     public boolean hasPerson(Person person) {
@@ -136,6 +192,12 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
@@ -155,18 +217,48 @@ public class ModelManager implements Model {
         return addressBook.isPersonLinkedToEvent(person, event);
     }
 
+    @Override
+    public int getWaitlistSize(Event event) {
+        requireNonNull(event);
+        return addressBook.getWaitlistSize(event);
+    }
+
+    @Override
+    public List<Person> getWaitlist(Event event) {
+        requireNonNull(event);
+        return addressBook.getWaitlist(event);
+    }
+
     @Override
     public void linkPersonToEvent(Person person, Event event) {
         requireAllNonNull(person, event);
         addressBook.linkPersonToEvent(person, event);
     }
 
+    @Override
+    public int linkPersonsToEvent(List<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return addressBook.linkPersonsToEvent(persons, event);
+    }
+
+    @Override
+    public Map<Person, List<Event>> getScheduleClashes(List<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return addressBook.getScheduleClashes(persons, event);
+    }
+
     @Override
     public void unlinkPersonFromEvent(Person person, Event event) {
         requireAllNonNull(person, event);
         addressBook.unlinkPersonFromEvent(person, event);
     }
 
+    @Override
+    public int unlinkPersonsFromEvent(List<Person> persons, Event event) {
+        requireAllNonNull(persons, event);
+        return addressBook.unlinkPersonsFromEvent(persons, event);
+    }
+
     @Override
     public void clearAllEvents() {
         addressBook.clearEvents(new AddressBook());
@@ -194,6 +286,21 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public int showMoreFilteredPersons() {
+        return filteredPersons.showNextPage();
+    }
+
+    @Override
+    public boolean hasMoreFilteredPersons() {
+        return filteredPersons.hasMore();
+    }
+
+    @Override
+    public List<Person> getAllFilteredPersons() {
+        return filteredPersons.getAllMatches();
+    }
+
     //=========== Event Methods==============================================================================
 
     @Override
@@ -227,6 +334,35 @@ public class ModelManager implements Model {
         return addressBook.getEventByName(name);
     }
 
+    @Override
+    public List<String> getPersonNamesStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonNamesStartingWith(prefix, limit);
+    }
+
+    @Override
+    public List<String> getEventNamesStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getEventNamesStartingWith(prefix, limit);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsBetween(from, to);
+    }
+
+    @Override
+    public AddressBookStatistics getStatistics() {
+        return addressBook.getStatistics(LocalDate.now(clock));
+    }
+
+    @Override
+    public List<Event> getConflictingEvents(Event event) {
+        requireNonNull(event);
+        return addressBook.getConflictingEvents(event);
+    }
+
     //=========== Filtered Event List Accessors =============================================================
     @Override
     public ObservableList<Event> getFilteredEventList() {
@@ -240,9 +376,29 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void reSortEvents() {
-        addressBook.reSortEvents();
-    };
+    public int showMoreFilteredEvents() {
+        return filteredEvents.showNextPage();
+    }
+
+    @Override
+    public boolean hasMoreFilteredEvents() {
+        return filteredEvents.hasMore();
+    }
+
+    @Override
+    public List<Event> getAllFilteredEvents() {
+        return filteredEvents.getAllMatches();
+    }
+
+    @Override
+    public void updateEventOrder() {
+        addressBook.updateEventOrder();
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,429 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.common.PersonEventManager;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * An {@code AddressBook} that keeps a history of its states, which can be undone and redone.
+ *
+ * Rather than keeping a copy of the address book for every state, each change records how to reverse itself,
+ * e.g. the positions a person is removed from in the person list and in the events it is linked to. Persons and
+ * events are immutable, so they are shared between all states, and a state only costs as much as the changes that
+ * lead to it.
+ *
+ * The changes made since the previous state are saved as a new state by {@link #commit()}.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** Number of states kept by default, not counting the current one. */
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    public static final String MESSAGE_NO_UNDO = "There is no change to undo";
+    public static final String MESSAGE_NO_REDO = "There is no undone change to redo";
+
+    private final int historyLimit;
+    /** Changes that can be undone, the latest first. */
+    private final Deque<List<Step>> undoStack = new ArrayDeque<>();
+    /** Changes that have been undone and can be redone, the latest undone first. */
+    private final Deque<List<Step>> redoStack = new ArrayDeque<>();
+    /** Steps made since the last commit, in order. */
+    private List<Step> pendingSteps = new ArrayList<>();
+
+    /**
+     * Creates a VersionedAddressBook holding the data of {@code initialState}, keeping up to
+     * {@value #DEFAULT_HISTORY_LIMIT} states.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a VersionedAddressBook holding the data of {@code initialState}, keeping up to {@code historyLimit}
+     * states.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        requireNonNull(initialState);
+        checkArgument(historyLimit > 0, "The history must keep at least one state");
+        this.historyLimit = historyLimit;
+        resetData(initialState);
+
+        // The initial data is not a change that can be undone
+        pendingSteps.clear();
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the last commit as a new state, if there are any.
+     * States that were undone can no longer be redone afterwards.
+     *
+     * @return true if a state was saved.
+     */
+    public boolean commit() {
+        if (pendingSteps.isEmpty()) {
+            return false;
+        }
+
+        undoStack.push(pendingSteps);
+        if (undoStack.size() > historyLimit) {
+            undoStack.removeLast();
+        }
+        redoStack.clear();
+        pendingSteps = new ArrayList<>();
+        return true;
+    }
+
+    /**
+     * Reverses the changes made since the last commit and forgets them, so that they cannot be undone or redone,
+     * e.g. when a command fails after making some of its changes.
+     */
+    public void discardPendingChanges() {
+        List<Step> steps = pendingSteps;
+        pendingSteps = new ArrayList<>();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            steps.get(i).undo.run();
+        }
+    }
+
+    /**
+     * Returns true if there is a state before the current one to go back to.
+     * Changes that are not committed yet count as a state.
+     */
+    public boolean canUndo() {
+        return !pendingSteps.isEmpty() || !undoStack.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to go forward to.
+     */
+    public boolean canRedo() {
+        return pendingSteps.isEmpty() && !redoStack.isEmpty();
+    }
+
+    /**
+     * Goes back to the state before the latest change, committing changes that are not committed yet first.
+     *
+     * @throws IllegalStateException if there is no change to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException(MESSAGE_NO_UNDO);
+        }
+
+        commit();
+        List<Step> steps = undoStack.pop();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            steps.get(i).undo.run();
+        }
+        redoStack.push(steps);
+    }
+
+    /**
+     * Goes forward to the state that was last undone.
+     *
+     * @throws IllegalStateException if there is no undone change to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException(MESSAGE_NO_REDO);
+        }
+
+        List<Step> steps = redoStack.pop();
+        steps.forEach(step -> step.redo.run());
+        undoStack.push(steps);
+    }
+
+    /**
+     * Records a change that has just been made, given how to reverse it and how to make it again.
+     * The change is made again only from the state it was first made from, and reversed only from the state
+     * right after it, so both may rely on positions in lists.
+     */
+    private void record(Runnable undo, Runnable redo) {
+        pendingSteps.add(new Step(undo, redo));
+    }
+
+    //// list overwrite operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = copyPersonList();
+        List<Person> newPersons = new ArrayList<>(persons);
+        super.setPersons(newPersons);
+        record(() -> super.setPersons(oldPersons), () -> super.setPersons(newPersons));
+    }
+
+    @Override
+    public void setEvents(List<Event> events) {
+        List<Event> oldEvents = copyEventList();
+        List<Event> newEvents = new ArrayList<>(events);
+        super.setEvents(newEvents);
+        record(() -> super.setEvents(oldEvents), () -> super.setEvents(newEvents));
+    }
+
+    @Override
+    public void setPersonEventManager(PersonEventManager personEventManager) {
+        PersonEventManager oldManager = getPersonEventManager();
+        super.setPersonEventManager(personEventManager);
+        record(() -> super.setPersonEventManager(oldManager), () -> super.setPersonEventManager(personEventManager));
+    }
+
+    @Override
+    public void clearEvents(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        setEvents(newData.getEventList());
+
+        // The lists of linked persons and the waitlists are kept as they are, to be put back if the change is undone
+        List<LinkedPersonsEntry> oldLinks = getPersonEventManager().getLinkedPersonsEntryList();
+        getPersonEventManager().clearAllEvents();
+        Runnable undo = () -> oldLinks.forEach(getPersonEventManager()::addLinkedPersonsEntry);
+        record(undo, () -> getPersonEventManager().clearAllEvents());
+    }
+
+    @Override
+    public void clearPersons(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        setPersons(newData.getPersonList());
+
+        // The lists of linked persons are cleared in place, so they are copied, while the waitlists are replaced
+        List<LinkedPersonsEntry> oldLinks = new ArrayList<>();
+        for (LinkedPersonsEntry entry : getPersonEventManager().getLinkedPersonsEntryList()) {
+            if (!entry.getPersons().isEmpty() || !entry.getWaitlist().isEmpty()) {
+                oldLinks.add(new LinkedPersonsEntry(entry.getEvent(), new ArrayList<>(entry.getPersons()),
+                        entry.getWaitlist()));
+            }
+        }
+        getPersonEventManager().clearAllPersons();
+        Runnable undo = () -> oldLinks.forEach(getPersonEventManager()::addLinkedPersonsEntry);
+        record(undo, () -> getPersonEventManager().clearAllPersons());
+    }
+
+    //// person-level operations
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        record(() -> super.removePerson(p), () -> super.addPerson(p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        Map<Event, int[]> linkIndexes = getPersonEventManager().getLinkIndexes(List.of(target));
+        super.setPerson(target, editedPerson);
+        record(() -> {
+            super.setPerson(editedPerson, target);
+            // The target is linked again at the end of each list, so it is moved back to where it was
+            linkIndexes.forEach((event, indexes) ->
+                    getPersonEventManager().movePersonInEvent(target, event, indexes[0]));
+        }, () -> super.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int[] indexes = getPersonIndexes(List.of(key));
+        Map<Event, int[]> linkIndexes = getPersonEventManager().getLinkIndexes(List.of(key));
+        Map<Event, List<Person>> links = getLinkedPersonsAt(linkIndexes);
+        Map<Event, Map<Person, Long>> waitlistPlaces = getPersonEventManager().getWaitlistPlaces(List.of(key));
+        super.removePerson(key);
+        record(() -> {
+            insertPersons(indexes, List.of(key));
+            restoreWaitlists(waitlistPlaces);
+            relink(links, linkIndexes);
+        }, () -> super.removePerson(key));
+    }
+
+    @Override
+    public void removePersons(Collection<Person> keys) {
+        List<Person> keyList = new ArrayList<>(keys);
+        int[] indexes = getPersonIndexes(keyList);
+        List<Person> removedPersons = getPersonsAt(indexes);
+        Map<Event, int[]> linkIndexes = getPersonEventManager().getLinkIndexes(keyList);
+        Map<Event, List<Person>> links = getLinkedPersonsAt(linkIndexes);
+        Map<Event, Map<Person, Long>> waitlistPlaces = getPersonEventManager().getWaitlistPlaces(keyList);
+        super.removePersons(keyList);
+        record(() -> {
+            insertPersons(indexes, removedPersons);
+            restoreWaitlists(waitlistPlaces);
+            relink(links, linkIndexes);
+        }, () -> super.removePersons(keyList));
+    }
+
+    @Override
+    public void removePersonFromAllEvents(Person person) {
+        Map<Event, int[]> linkIndexes = getPersonEventManager().getLinkIndexes(List.of(person));
+        Map<Event, List<Person>> links = getLinkedPersonsAt(linkIndexes);
+        Map<Event, Map<Person, Long>> waitlistPlaces = getPersonEventManager().getWaitlistPlaces(List.of(person));
+        super.removePersonFromAllEvents(person);
+        if (!links.isEmpty() || !waitlistPlaces.isEmpty()) {
+            record(() -> {
+                restoreWaitlists(waitlistPlaces);
+                relink(links, linkIndexes);
+            }, () -> super.removePersonFromAllEvents(person));
+        }
+    }
+
+    @Override
+    public void linkPersonToEvent(Person person, Event event) {
+        // An event with persons on its waitlist is full, so unlinking the person does not link anyone else
+        super.linkPersonToEvent(person, event);
+        record(() -> super.unlinkPersonFromEvent(person, event), () -> super.linkPersonToEvent(person, event));
+    }
+
+    @Override
+    public int linkPersonsToEvent(Collection<Person> persons, Event event) {
+        int waitlistSizeBefore = getWaitlistSize(event);
+        int linkedCount = super.linkPersonsToEvent(persons, event);
+        int waitlistedCount = getWaitlistSize(event) - waitlistSizeBefore;
+        if (linkedCount == 0 && waitlistedCount == 0) {
+            return 0;
+        }
+
+        // The persons newly linked are the ones added at the end of the list, then at the back of the waitlist
+        List<Person> linkedPersons = getPersonEventAssociationMap().get(event);
+        List<Person> added = new ArrayList<>(
+                linkedPersons.subList(linkedPersons.size() - linkedCount, linkedPersons.size()));
+        added.addAll(getPersonEventManager().getLinkedPersonsEntry(event).getWaitlist().getLast(waitlistedCount));
+        record(() -> super.unlinkPersonsFromEvent(added, event), () -> super.linkPersonsToEvent(added, event));
+        return linkedCount;
+    }
+
+    @Override
+    public void unlinkPersonFromEvent(Person person, Event event) {
+        int[] indexes = getPersonEventManager().getLinkIndexes(List.of(person), event);
+        Map<Person, Long> waitlistPlaces = getPersonEventManager().getWaitlistPlaces(List.of(person), event);
+        boolean isWaitlisted = waitlistPlaces.containsKey(person);
+        super.unlinkPersonFromEvent(person, event);
+        if (indexes.length > 0 || isWaitlisted) {
+            // Only the first link of the person is removed
+            int[] removedIndex = isWaitlisted ? new int[0] : new int[] {indexes[0]};
+            Runnable undo = () -> {
+                getPersonEventManager().restoreWaitlistPlaces(event, waitlistPlaces);
+                getPersonEventManager().insertPersonsToEvent(isWaitlisted ? List.of() : List.of(person), event,
+                        removedIndex);
+            };
+            record(undo, () -> super.unlinkPersonFromEvent(person, event));
+        }
+    }
+
+    @Override
+    public int unlinkPersonsFromEvent(Collection<Person> persons, Event event) {
+        List<Person> personList = new ArrayList<>(persons);
+        Map<Event, int[]> linkIndexes = Map.of(event, getPersonEventManager().getLinkIndexes(personList, event));
+        Map<Event, List<Person>> links = getLinkedPersonsAt(linkIndexes);
+        Map<Event, Map<Person, Long>> waitlistPlaces =
+                Map.of(event, getPersonEventManager().getWaitlistPlaces(personList, event));
+        int unlinkedCount = super.unlinkPersonsFromEvent(personList, event);
+        if (unlinkedCount > 0) {
+            record(() -> {
+                restoreWaitlists(waitlistPlaces);
+                relink(links, linkIndexes);
+            }, () -> super.unlinkPersonsFromEvent(personList, event));
+        }
+        return unlinkedCount;
+    }
+
+    //// event-level operations
+
+    @Override
+    public void addEvent(Event e) {
+        super.addEvent(e);
+        record(() -> super.removeEvent(e), () -> super.addEvent(e));
+    }
+
+    @Override
+    public void setEvent(Event target, Event editedEvent) {
+        // Persons linked from the waitlist if the edited event has more room are put back if the change is undone
+        Map<Person, Long> waitlistPlaces = getPersonEventManager().getWaitlistPlaces(target);
+        super.setEvent(target, editedEvent);
+        record(() -> {
+            super.setEvent(editedEvent, target);
+            getPersonEventManager().restoreWaitlistPlaces(target, waitlistPlaces);
+        }, () -> super.setEvent(target, editedEvent));
+    }
+
+    @Override
+    public void removeEvent(Event key) {
+        LinkedPersonsEntry linkedPersons = getPersonEventManager().getLinkedPersonsEntry(key);
+        super.removeEvent(key);
+        record(() -> {
+            super.addEvent(key);
+            if (linkedPersons != null) {
+                getPersonEventManager().addLinkedPersonsEntry(linkedPersons);
+            }
+        }, () -> super.removeEvent(key));
+    }
+
+    @Override
+    public void addLinkedPersonsEntry(LinkedPersonsEntry linkedPersonsEntry) {
+        Event event = linkedPersonsEntry.getEvent();
+        LinkedPersonsEntry oldLinkedPersons = getPersonEventManager().getLinkedPersonsEntry(event);
+        super.addLinkedPersonsEntry(linkedPersonsEntry);
+        record(() -> {
+            if (oldLinkedPersons == null) {
+                getPersonEventManager().removeEvent(event);
+            } else {
+                getPersonEventManager().addLinkedPersonsEntry(oldLinkedPersons);
+            }
+        }, () -> super.addLinkedPersonsEntry(linkedPersonsEntry));
+    }
+
+    //// helpers
+
+    /**
+     * Returns the persons linked to each event at the positions in {@code linkIndexes}.
+     */
+    private Map<Event, List<Person>> getLinkedPersonsAt(Map<Event, int[]> linkIndexes) {
+        Map<Event, List<Person>> links = new HashMap<>();
+        linkIndexes.forEach((event, indexes) -> {
+            List<Person> linkedPersons = getPersonEventAssociationMap().get(event);
+            List<Person> persons = new ArrayList<>(indexes.length);
+            for (int index : indexes) {
+                persons.add(linkedPersons.get(index));
+            }
+            links.put(event, persons);
+        });
+        return links;
+    }
+
+    /**
+     * Puts the persons in {@code waitlistPlaces} back on the waitlist of each event at the places they held.
+     * This must be done before linking persons back, as persons linked from the waitlists since are at the end of
+     * the lists of linked persons.
+     */
+    private void restoreWaitlists(Map<Event, Map<Person, Long>> waitlistPlaces) {
+        waitlistPlaces.forEach(getPersonEventManager()::restoreWaitlistPlaces);
+    }
+
+    /**
+     * Links the persons in {@code links} back to each event at the positions in {@code linkIndexes}.
+     */
+    private void relink(Map<Event, List<Person>> links, Map<Event, int[]> linkIndexes) {
+        links.forEach((event, persons) ->
+                getPersonEventManager().insertPersonsToEvent(persons, event, linkIndexes.get(event)));
+    }
+
+    /**
+     * Represents a change to the address book and how to reverse it.
+     */
+    private static class Step {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        private Step(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.model.types.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Counts of items, kept ranked from the highest count down as the counts change.
+ * Changing the count of an item takes O(log n) for n counted items, and the top k items are read in O(k),
+ * so that rankings such as the most used tags are ready at any time without counting again.
+ * Items with the same count are ranked by the order given when the ranking is created.
+ *
+ * @param <T> the type of item counted.
+ */
+public class CountRanking<T> {
+
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private final TreeSet<Entry<T>> ranking;
+    private long total;
+    /** Tells apart items that the given order ranks the same, in the order they were first counted. */
+    private long nextSequence;
+
+    /**
+     * Creates an empty ranking that ranks items with the same count by {@code order}.
+     */
+    public CountRanking(Comparator<? super T> order) {
+        requireNonNull(order);
+        Comparator<Entry<T>> byCount = Comparator.comparingInt(entry -> -entry.count);
+        ranking = new TreeSet<>(byCount.thenComparing(entry -> entry.item, order)
+                .thenComparingLong(entry -> entry.sequence));
+    }
+
+    /**
+     * Adds one to the count of {@code item}.
+     */
+    public void increment(T item) {
+        add(item, 1);
+    }
+
+    /**
+     * Subtracts one from the count of {@code item}, which must be counted.
+     */
+    public void decrement(T item) {
+        add(item, -1);
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code item}. An item whose count drops to zero is no longer counted.
+     * The count of an item must not drop below zero.
+     */
+    public void add(T item, int delta) {
+        set(item, getCount(item) + delta);
+    }
+
+    /**
+     * Sets the count of {@code item} to {@code count}. An item whose count is zero is not counted.
+     */
+    public void set(T item, int count) {
+        requireNonNull(item);
+        checkArgument(count >= 0, "A count must not be negative");
+        Entry<T> entry = entries.get(item);
+        if (entry != null) {
+            if (entry.count == count) {
+                return;
+            }
+            ranking.remove(entry);
+            total -= entry.count;
+        }
+
+        if (count == 0) {
+            entries.remove(item);
+            return;
+        }
+
+        Entry<T> updatedEntry = new Entry<>(item, count, entry == null ? nextSequence++ : entry.sequence);
+        entries.put(item, updatedEntry);
+        ranking.add(updatedEntry);
+        total += count;
+    }
+
+    /**
+     * Stops counting {@code item}.
+     */
+    public void remove(T item) {
+        set(item, 0);
+    }
+
+    /**
+     * Returns the count of {@code item}, or zero if it is not counted.
+     */
+    public int getCount(T item) {
+        Entry<T> entry = entries.get(item);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Returns the sum of the counts of all items.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of items counted.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns up to {@code limit} items with the highest counts, highest first.
+     */
+    public List<Entry<T>> getTop(int limit) {
+        List<Entry<T>> top = new ArrayList<>();
+        Iterator<Entry<T>> iterator = ranking.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * Stops counting all items.
+     */
+    public void clear() {
+        entries.clear();
+        ranking.clear();
+        total = 0;
+    }
+
+    /**
+     * An item and its count at the time it was read. Immutable.
+     *
+     * @param <T> the type of item counted.
+     */
+    public static class Entry<T> {
+        private final T item;
+        private final int count;
+        private final long sequence;
+
+        private Entry(T item, int count, long sequence) {
+            this.item = item;
+            this.count = count;
+            this.sequence = sequence;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+
+            Entry<?> otherEntry = (Entry<?>) other;
+            return item.equals(otherEntry.item) && count == otherEntry.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(item, count);
+        }
+
+        @Override
+        public String toString() {
+            return item + "=" + count;
+        }
+    }
+}
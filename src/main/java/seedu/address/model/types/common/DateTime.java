@@ -4,26 +4,53 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
 
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Represents an Event's datetime in the address book.
+ * Represents an Event's datetime in the address book, to the minute, optionally in a given time zone.
+ * A datetime without a time zone is kept as a number of minutes on the local timeline, i.e. as the date and time
+ * shown by the clocks of the system time zone. A datetime in a time zone is kept as the instant it occurs, in
+ * minutes since the epoch in UTC, so that datetimes in time zones are compared and hashed the same way on every
+ * machine. It is only placed on the local timeline to be found among local times, and only shown in its own
+ * time zone when it is formatted, for display or to be saved.
  * Guarantees: immutable; is valid as declared in {@link #isValidDateTime(String)}
  */
-public class DateTime {
+public class DateTime implements Comparable<DateTime> {
 
     public static final String MESSAGE_CONSTRAINTS = "DateTime should be in the format YYYY-MM-DD HH:MM "
-        + "(24-hour format) and must be valid.";
+        + "(24-hour format) and must be valid. It may be followed by a time zone, e.g. 2024-10-15 09:00 Asia/Tokyo, "
+        + "to give the time in that time zone.";
     /*
      * The date must follow the format YYYY-MM-DD (ISO standard date format), and the time must follow
      * the 24-hour format (HH:mm), where hours are between 00 and 23 and minutes are between 00 and 59.
+     * The time zone, if any, is a region ID such as Europe/London or an offset such as UTC+08:00.
      */
     public static final String VALIDATION_REGEX = "\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])"
         + " ([01][0-9]|2[0-3]):[0-5][0-9]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(
+            "(?<dateTime>" + VALIDATION_REGEX + ")(?: (?<zone>\\S+))?");
 
-    public final String value;
-    public final LocalDateTime localDateTimeValue;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /**
+     * Minutes since 1970-01-01 00:00 UTC at which the datetime occurs if it has a time zone,
+     * or since 1970-01-01 00:00 on the local timeline if it has none.
+     */
+    private final long epochMinute;
+    /** The time zone the datetime is shown in, or null if it is a local datetime. */
+    private final ZoneId zone;
+    /**
+     * Minutes since 1970-01-01 00:00 on the local timeline, kept so that datetimes in time zones are indexed among
+     * local times without converting them each time. Not used to compare or hash datetimes.
+     */
+    private final long localEpochMinute;
 
     /**
      * Constructs a {@code DateTime}.
@@ -33,37 +60,198 @@ public class DateTime {
     public DateTime(String dateTime) {
         requireNonNull(dateTime);
         checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        value = dateTime;
-        localDateTimeValue = LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
+        Matcher matcher = VALIDATION_PATTERN.matcher(dateTime);
+        matcher.matches();
+        String zoneId = matcher.group("zone");
+        long shownEpochMinute = toEpochMinute(LocalDateTime.parse(matcher.group("dateTime"), DATE_TIME_FORMATTER));
+        if (zoneId == null) {
+            zone = null;
+            epochMinute = shownEpochMinute;
+        } else {
+            zone = ZoneId.of(zoneId);
+            epochMinute = toInstantMinute(ofEpochMinute(shownEpochMinute), zone);
+        }
+        localEpochMinute = toLocalEpochMinute(epochMinute, zone);
+    }
+
+    private DateTime(long epochMinute, ZoneId zone) {
+        this.epochMinute = epochMinute;
+        this.zone = zone;
+        this.localEpochMinute = toLocalEpochMinute(epochMinute, zone);
     }
 
     /**
      * Returns true if a given string is a valid date and time.
      */
     public static boolean isValidDateTime(String test) {
-        boolean internalValidation;
-        boolean externalValidation;
-
-        internalValidation = test.matches(VALIDATION_REGEX);
+        Matcher matcher = VALIDATION_PATTERN.matcher(test);
+        if (!matcher.matches()) {
+            return false;
+        }
 
+        String dateTimeString = matcher.group("dateTime");
+        String zoneId = matcher.group("zone");
         try {
-            LocalDateTime dateTime = LocalDateTime.parse(test, DATE_TIME_FORMATTER);
-            String dateTimeString = dateTime.format(DATE_TIME_FORMATTER);
-            externalValidation = test.equals(dateTimeString); //Since LocalDateTime parser is lenient
-        } catch (DateTimeParseException e) {
-            externalValidation = false;
+            LocalDateTime dateTime = LocalDateTime.parse(dateTimeString, DATE_TIME_FORMATTER);
+            //Since LocalDateTime parser is lenient
+            if (!dateTimeString.equals(dateTime.format(DATE_TIME_FORMATTER))) {
+                return false;
+            }
+            // The time must exist in the time zone, e.g. not be skipped when the clocks go forward
+            return zoneId == null || !ZoneId.of(zoneId).getRules().getValidOffsets(dateTime).isEmpty();
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of whole minutes from 1970-01-01 00:00 to {@code localDateTime}, rounded down.
+     */
+    public static long toEpochMinute(LocalDateTime localDateTime) {
+        return Math.floorDiv(localDateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the number of whole minutes from 1970-01-01 00:00 to {@code localDateTime}, rounded up.
+     */
+    public static long toEpochMinuteCeiling(LocalDateTime localDateTime) {
+        long epochSecond = localDateTime.toEpochSecond(ZoneOffset.UTC);
+        boolean isWholeMinute = Math.floorMod(epochSecond, SECONDS_PER_MINUTE) == 0 && localDateTime.getNano() == 0;
+        return Math.floorDiv(epochSecond, SECONDS_PER_MINUTE) + (isWholeMinute ? 0 : 1);
+    }
+
+    private static LocalDateTime ofEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the minutes since 1970-01-01 00:00 UTC of the instant at which the clocks of {@code zone} show
+     * {@code shownDateTime}. A time shown twice when the clocks go back is taken at its earlier instant,
+     * and a time skipped when the clocks go forward is moved later by the length of the gap.
+     */
+    private static long toInstantMinute(LocalDateTime shownDateTime, ZoneId zone) {
+        return Math.floorDiv(shownDateTime.atZone(zone).toEpochSecond(), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the minutes since 1970-01-01 00:00 on the local timeline of the datetime kept as {@code epochMinute}
+     * in {@code zone}, or in no time zone if it is null.
+     */
+    private static long toLocalEpochMinute(long epochMinute, ZoneId zone) {
+        if (zone == null) {
+            return epochMinute;
         }
+        Instant instant = Instant.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE);
+        return toEpochMinute(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
 
-        return internalValidation && externalValidation;
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to this datetime on the local timeline.
+     */
+    public long getEpochMinute() {
+        return localEpochMinute;
     }
 
+    /**
+     * Returns this datetime on the local timeline.
+     */
     public LocalDateTime toLocalDateTime() {
-        return localDateTimeValue;
+        return ofEpochMinute(localEpochMinute);
     }
 
+    /**
+     * Returns this datetime as shown by the clocks of its time zone, or on the local timeline if it has none.
+     */
+    public LocalDateTime toShownDateTime() {
+        if (zone == null) {
+            return ofEpochMinute(epochMinute);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE), zone);
+    }
+
+    /**
+     * Returns the date and time shown by the clocks of this datetime's time zone at the same instant as
+     * {@code localDateTime} on the local timeline, which is {@code localDateTime} itself if it has no time zone.
+     */
+    public LocalDateTime toShownDateTime(LocalDateTime localDateTime) {
+        requireNonNull(localDateTime);
+        if (zone == null) {
+            return localDateTime;
+        }
+        return localDateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    /**
+     * Returns the datetime shown as {@code shownDateTime} by the clocks of this datetime's time zone.
+     * A time skipped when the clocks go forward is moved later by the length of the gap.
+     */
+    public DateTime withShownDateTime(LocalDateTime shownDateTime) {
+        requireNonNull(shownDateTime);
+        if (zone == null) {
+            return new DateTime(toEpochMinute(shownDateTime), null);
+        }
+        return new DateTime(toInstantMinute(shownDateTime, zone), zone);
+    }
+
+    /**
+     * Returns true if this datetime is strictly before {@code time} on the local timeline.
+     */
+    public boolean isBefore(LocalDateTime time) {
+        return localEpochMinute < toEpochMinuteCeiling(time);
+    }
+
+    /**
+     * Returns true if this datetime is strictly after {@code time} on the local timeline.
+     */
+    public boolean isAfter(LocalDateTime time) {
+        return localEpochMinute > toEpochMinute(time);
+    }
+
+    /**
+     * Returns the datetime {@code minutes} minutes later, shown in the same time zone.
+     */
+    public DateTime plusMinutes(long minutes) {
+        return minutes == 0 ? this : new DateTime(epochMinute + minutes, zone);
+    }
+
+    /**
+     * Returns the number of minutes from this datetime to {@code other}, which is negative if {@code other}
+     * is earlier. Datetimes in time zones are measured by the instants they occur at, and others on the
+     * local timeline.
+     */
+    public long getMinutesUntil(DateTime other) {
+        requireNonNull(other);
+        return other.getComparedMinute(this) - getComparedMinute(other);
+    }
+
+    /**
+     * Compares datetimes by the instants they occur at if both have time zones, or by their places on the
+     * local timeline if neither has one. A local datetime is compared with a datetime in a time zone at the instant
+     * it occurs in the system time zone.
+     */
+    @Override
+    public int compareTo(DateTime other) {
+        return Long.compare(getComparedMinute(other), other.getComparedMinute(this));
+    }
+
+    /**
+     * Returns the minute this datetime is compared at against {@code other}: its own epoch minute if both
+     * datetimes are local or both are in time zones, or else the instant at which it occurs.
+     */
+    private long getComparedMinute(DateTime other) {
+        if ((zone == null) == (other.zone == null) || zone != null) {
+            return epochMinute;
+        }
+        return toInstantMinute(ofEpochMinute(epochMinute), ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the datetime in the format it is entered in, shown in its time zone if it has one.
+     */
     @Override
     public String toString() {
-        return value;
+        String shown = toShownDateTime().format(DATE_TIME_FORMATTER);
+        return zone == null ? shown : shown + " " + zone.getId();
     }
 
     @Override
@@ -78,11 +266,11 @@ public class DateTime {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return value.equals(otherDateTime.value);
+        return epochMinute == otherDateTime.epochMinute && Objects.equals(zone, otherDateTime.zone);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochMinute) * 31 + Objects.hashCode(zone);
     }
 }
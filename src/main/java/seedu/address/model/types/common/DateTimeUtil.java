@@ -1,5 +1,6 @@
 package seedu.address.model.types.common;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.logging.Logger;
@@ -7,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
+import seedu.address.commons.core.Diagnostics;
 
 /**
  * Utility class for handling date and time operations.
@@ -21,7 +23,14 @@ public class DateTimeUtil {
      * @return The current date and time as a formatted {@link LocalDateTime} object.
      */
     public static LocalDateTime getCurrentDateTime() {
-        return LocalDateTime.now();
+        return getCurrentDateTime(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Gets the current date and time of {@code clock} as a {@link LocalDateTime} object.
+     */
+    public static LocalDateTime getCurrentDateTime(Clock clock) {
+        return LocalDateTime.now(clock);
     }
 
     /**
@@ -30,7 +39,14 @@ public class DateTimeUtil {
      * @return The current date and time as a formatted string in the pattern "yyyy-MM-dd HH:mm".
      */
     public static String getCurrentDateTimeString() {
-        return getCurrentDateTime().format(DATE_TIME_FORMATTER);
+        return getCurrentDateTimeString(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Gets the current date and time of {@code clock} formatted as a string in the pattern "yyyy-MM-dd HH:mm".
+     */
+    public static String getCurrentDateTimeString(Clock clock) {
+        return getCurrentDateTime(clock).format(DATE_TIME_FORMATTER);
     }
 
     /**
@@ -52,6 +68,7 @@ public class DateTimeUtil {
         }
 
         timeline.setCycleCount(Timeline.INDEFINITE);
+        Diagnostics.recordAnimationCreated(timeline);
         return timeline;
     }
 
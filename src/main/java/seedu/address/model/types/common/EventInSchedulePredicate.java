@@ -1,5 +1,6 @@
 package seedu.address.model.types.common;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,8 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.types.event.Event;
 
 /**
- * Tests that a {@code Event}'s {@code StartDate} between a start and end date.
+ * Tests that a {@code Event}'s {@code StartDate}, or that of an occurrence of a recurring event,
+ * is between a start and end date.
  */
 public class EventInSchedulePredicate implements Predicate<Event> {
     private final LocalDateTime startDate;
@@ -19,16 +21,16 @@ public class EventInSchedulePredicate implements Predicate<Event> {
      * Constructs an EventInSchedulePredicate with a positive or negative number of days
      * This constructor is used to create a filter for the past N or next N days of events
      * @param range the number of days in the future/past.
+     * @param now the current date and time the days are counted from.
      */
-    public EventInSchedulePredicate(int range) {
+    public EventInSchedulePredicate(int range, LocalDateTime now) {
+        requireNonNull(now);
         if (range >= 0) {
-            startDate = DateTimeUtil.getCurrentDateTime();
-            endDate = DateTimeUtil.getCurrentDateTime().withHour(23).withMinute(59).withSecond(59)
-                    .plusDays(range);
+            startDate = now;
+            endDate = now.withHour(23).withMinute(59).withSecond(59).plusDays(range);
         } else {
-            startDate = DateTimeUtil.getCurrentDateTime().withHour(0).withMinute(0).withSecond(0)
-                    .minusDays(-range);
-            endDate = DateTimeUtil.getCurrentDateTime();
+            startDate = now.withHour(0).withMinute(0).withSecond(0).minusDays(-range);
+            endDate = now;
         }
     }
 
@@ -44,9 +46,8 @@ public class EventInSchedulePredicate implements Predicate<Event> {
 
     @Override
     public boolean test(Event event) {
-        LocalDateTime eventLocalDateTime = event.getStartTime().toLocalDateTime();
-        return (eventLocalDateTime.isAfter(startDate) || eventLocalDateTime.isEqual(startDate))
-                && (eventLocalDateTime.isBefore(endDate) || eventLocalDateTime.isEqual(endDate));
+        // Occurrences of a recurring event are only looked for in the window, without creating them
+        return event.hasOccurrenceStartingBetween(startDate, endDate.plusNanos(1));
     }
 
     @Override
@@ -7,11 +7,13 @@ import seedu.address.model.types.person.Person;
 
 /**
  * Entry in the event-person mapping.
- * Represents a mapping between an event and a list of persons linked to the event.
+ * Represents a mapping between an event and a list of persons linked to the event, along with the persons on
+ * its waitlist.
  */
 public class LinkedPersonsEntry {
     private Event event;
     private ArrayList<Person> persons;
+    private Waitlist waitlist;
 
     /**
      * Creates a LinkedPersonsEntry with the specified event and list of persons.
@@ -19,8 +21,19 @@ public class LinkedPersonsEntry {
      * @param persons List of persons to be linked to the event.
      */
     public LinkedPersonsEntry(Event event, ArrayList<Person> persons) {
+        this(event, persons, new Waitlist());
+    }
+
+    /**
+     * Creates a LinkedPersonsEntry with the specified event, list of persons and waitlist.
+     * @param event Event to be linked to the persons.
+     * @param persons List of persons to be linked to the event.
+     * @param waitlist Persons waiting for a place at the event.
+     */
+    public LinkedPersonsEntry(Event event, ArrayList<Person> persons, Waitlist waitlist) {
         this.event = event;
         this.persons = persons;
+        this.waitlist = waitlist;
     }
 
     /**
@@ -39,6 +52,14 @@ public class LinkedPersonsEntry {
         return persons;
     }
 
+    /**
+     * Returns the persons waiting for a place at the event.
+     * @return Waitlist of the event.
+     */
+    public Waitlist getWaitlist() {
+        return waitlist;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,7 +67,8 @@ public class LinkedPersonsEntry {
         } else if (other instanceof LinkedPersonsEntry) {
             LinkedPersonsEntry otherEntry = (LinkedPersonsEntry) other;
             return otherEntry.getEvent().equals(this.getEvent())
-                    && otherEntry.getPersons().equals(this.getPersons());
+                    && otherEntry.getPersons().equals(this.getPersons())
+                    && otherEntry.getWaitlist().equals(this.getWaitlist());
         } else {
             return false;
         }
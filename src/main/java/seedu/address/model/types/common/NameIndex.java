@@ -0,0 +1,110 @@
+package seedu.address.model.types.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from {@code Name} to the item that owns the name.
+ * Names are ordered case-insensitively so that all names starting with a given prefix
+ * form a contiguous range, which allows prefix lookups in O(log n + k) for k results.
+ *
+ * @param <T> the type of item indexed by name.
+ */
+public class NameIndex<T> {
+
+    /** Upper bound appended to a prefix to close the range of keys starting with that prefix. */
+    private static final char RANGE_END = Character.MAX_VALUE;
+
+    /**
+     * Lower-cased names mapped to the items owning a name with that spelling, keyed on the exact name.
+     * Names that differ only in case are kept in the natural order of their exact spelling.
+     */
+    private final NavigableMap<String, Map<String, T>> index = new TreeMap<>();
+
+    private int size;
+
+    /**
+     * Indexes {@code item} under {@code name}, replacing any item previously indexed under the same name.
+     */
+    public void add(Name name, T item) {
+        requireAllNonNull(name, item);
+        Map<String, T> items = index.computeIfAbsent(toKey(name.fullName), unused -> new TreeMap<>());
+        if (items.put(name.fullName, item) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes the item indexed under {@code name}, if any.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        String key = toKey(name.fullName);
+        Map<String, T> items = index.get(key);
+        if (items == null || items.remove(name.fullName) == null) {
+            return;
+        }
+
+        size--;
+        if (items.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the item indexed under exactly {@code name}, or null if there is none.
+     */
+    public T get(Name name) {
+        requireNonNull(name);
+        Map<String, T> items = index.get(toKey(name.fullName));
+        return items == null ? null : items.get(name.fullName);
+    }
+
+    /**
+     * Returns true if an item is indexed under exactly {@code name}.
+     */
+    public boolean contains(Name name) {
+        return get(name) != null;
+    }
+
+    /**
+     * Returns up to {@code limit} names that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getNamesStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> names = new ArrayList<>();
+        String fromKey = toKey(prefix);
+
+        for (Map<String, T> items : index.subMap(fromKey, true, fromKey + RANGE_END, false).values()) {
+            for (String name : items.keySet()) {
+                if (names.size() >= limit) {
+                    return names;
+                }
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        index.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase();
+    }
+}
@@ -0,0 +1,280 @@
+package seedu.address.model.types.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the first elements of a source list that match a predicate, in the order of the source list,
+ * a page at a time.
+ * Unlike a {@code FilteredList}, which tests every element of the source whenever its predicate is set, the source
+ * is only tested from its start until the matches shown are found, so the first page of a broad filter is found
+ * in time proportional to the page size rather than the size of the source. {@link #showNextPage()} continues
+ * from where the previous page stopped.
+ * Changes to the source are applied to the part of it tested so far, and the view then tests further elements
+ * or drops its last matches to show the same number of pages. Every change to the view is reported as a
+ * replacement of all of its elements, which are at most the matches shown.
+ *
+ * @param <E> the type of the elements.
+ */
+public class PagedFilteredList<E> extends TransformationList<E, E> {
+
+    private final int pageSize;
+    private Predicate<? super E> predicate = unused -> true;
+    /** The most matches to show, which is a whole number of pages. */
+    private int limit;
+    /** The indices in the source of the matches shown, in ascending order. */
+    private final List<Integer> matchIndices = new ArrayList<>();
+    /** The matches shown, in the same order as {@code matchIndices}. */
+    private final List<E> matches = new ArrayList<>();
+    /** The number of elements at the start of the source that have been tested. All matches among them are shown. */
+    private int tested;
+
+    /**
+     * Creates a view of the first {@code pageSize} elements of {@code source}.
+     */
+    public PagedFilteredList(ObservableList<E> source, int pageSize) {
+        super(source);
+        checkArgument(pageSize > 0, "The page size must be positive");
+        this.pageSize = pageSize;
+        limit = pageSize;
+        testUntilLimit();
+    }
+
+    /**
+     * Shows the first page of the elements of the source that match {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        List<E> oldMatches = new ArrayList<>(matches);
+        this.predicate = predicate;
+        limit = pageSize;
+        matchIndices.clear();
+        matches.clear();
+        tested = 0;
+        testUntilLimit();
+        fireChangeFrom(oldMatches);
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the next page of matches after those shown, testing the source only until they are found.
+     *
+     * @return The number of matches added, which is zero if there are no more.
+     */
+    public int showNextPage() {
+        if (!hasMore()) {
+            return 0;
+        }
+
+        List<E> oldMatches = new ArrayList<>(matches);
+        limit += pageSize;
+        testUntilLimit();
+        fireChangeFrom(oldMatches);
+        return matches.size() - oldMatches.size();
+    }
+
+    /**
+     * Returns true if elements of the source that may match have not been tested yet.
+     * The remaining elements are not tested, so there may be none that match.
+     */
+    public boolean hasMore() {
+        return tested < getSource().size();
+    }
+
+    /**
+     * Returns every element of the source that matches the predicate, in order, including those not shown yet.
+     * This tests the whole source.
+     */
+    public List<E> getAllMatches() {
+        return getSource().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public E get(int index) {
+        return matches.get(index);
+    }
+
+    @Override
+    public int size() {
+        return matches.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return matchIndices.get(index);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Collections.binarySearch(matchIndices, index);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<E> oldMatches = new ArrayList<>(matches);
+        // The changes are in ascending order of position, so each is at its position in the changed source
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Elements may have moved into or out of the tested part, so it is tested again as far as needed
+                matchIndices.clear();
+                matches.clear();
+                tested = 0;
+            } else if (change.wasUpdated()) {
+                retest(change.getFrom(), change.getTo());
+            } else {
+                if (change.wasRemoved()) {
+                    removeTested(change.getFrom(), change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    addTested(change.getFrom(), change.getTo());
+                }
+            }
+        }
+
+        dropMatchesOverLimit();
+        testUntilLimit();
+        fireChangeFrom(oldMatches);
+    }
+
+    /**
+     * Tests the elements of the source from the first untested one until the limit of matches is reached.
+     */
+    private void testUntilLimit() {
+        List<? extends E> source = getSource();
+        while (matches.size() < limit && tested < source.size()) {
+            E element = source.get(tested);
+            if (predicate.test(element)) {
+                matchIndices.add(tested);
+                matches.add(element);
+            }
+            tested++;
+        }
+    }
+
+    /**
+     * Drops the matches over the limit, which are no longer counted as tested.
+     */
+    private void dropMatchesOverLimit() {
+        if (matches.size() <= limit) {
+            return;
+        }
+
+        tested = matchIndices.get(limit);
+        matchIndices.subList(limit, matchIndices.size()).clear();
+        matches.subList(limit, matches.size()).clear();
+    }
+
+    /**
+     * Tests again the elements of the source from {@code from} to {@code to}, exclusive, that have been tested.
+     */
+    private void retest(int from, int to) {
+        for (int i = from; i < Math.min(to, tested); i++) {
+            E element = getSource().get(i);
+            int position = Collections.binarySearch(matchIndices, i);
+            boolean isMatch = predicate.test(element);
+            if (isMatch && position >= 0) {
+                matches.set(position, element);
+            } else if (isMatch) {
+                matchIndices.add(-position - 1, i);
+                matches.add(-position - 1, element);
+            } else if (position >= 0) {
+                matchIndices.remove(position);
+                matches.remove(position);
+            }
+        }
+    }
+
+    /**
+     * Accounts for the removal of {@code count} elements of the source at {@code from}.
+     */
+    private void removeTested(int from, int count) {
+        if (from >= tested) {
+            return;
+        }
+
+        int start = getFirstMatchPosition(from);
+        int end = getFirstMatchPosition(from + count);
+        matchIndices.subList(start, end).clear();
+        matches.subList(start, end).clear();
+        shiftMatchIndices(start, -count);
+        tested = Math.max(from, tested - count);
+    }
+
+    /**
+     * Accounts for the elements added to the source from {@code from} to {@code to}, exclusive.
+     * Elements added after the tested part are left to be tested when they are needed.
+     */
+    private void addTested(int from, int to) {
+        if (from >= tested) {
+            return;
+        }
+
+        int position = getFirstMatchPosition(from);
+        shiftMatchIndices(position, to - from);
+        tested += to - from;
+        for (int i = from; i < to; i++) {
+            E element = getSource().get(i);
+            if (predicate.test(element)) {
+                matchIndices.add(position, i);
+                matches.add(position, element);
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the first match at or after {@code sourceIndex} in the source.
+     */
+    private int getFirstMatchPosition(int sourceIndex) {
+        int position = Collections.binarySearch(matchIndices, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void shiftMatchIndices(int fromPosition, int shift) {
+        for (int i = fromPosition; i < matchIndices.size(); i++) {
+            matchIndices.set(i, matchIndices.get(i) + shift);
+        }
+    }
+
+    private void fireChangeFrom(List<E> oldMatches) {
+        if (isSameElements(oldMatches, matches)) {
+            return;
+        }
+
+        beginChange();
+        if (!oldMatches.isEmpty()) {
+            nextRemove(0, oldMatches);
+        }
+        if (!matches.isEmpty()) {
+            nextAdd(0, matches.size());
+        }
+        endChange();
+    }
+
+    private static <E> boolean isSameElements(List<E> list, List<E> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,23 +1,63 @@
 package seedu.address.model.types.common;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.EventIntervalIndex;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.event.exceptions.EventNotFoundException;
 import seedu.address.model.types.person.Person;
 
 /**
  * Manages the relationship between events and persons.
+ * Besides the persons linked to each event, it keeps the events linked to each person indexed by time,
+ * so that the events a person is already busy with at some time can be found without scanning every event.
+ * Persons linked to an event that is full, i.e. has as many persons linked as its capacity, are put on its
+ * waitlist instead, and are linked in order as places become free.
+ * The number of persons linked to each event and of events linked to each person are kept ranked as links change,
+ * so that the busiest events and persons can be read without counting the links.
  */
 public class PersonEventManager {
 
     private HashMap<Event, ArrayList<Person>> eventPersonMap;
 
+    private final HashMap<Event, Waitlist> waitlists;
+
+    private final HashMap<Person, PersonSchedule> personSchedules;
+
+    private final CountRanking<Event> attendeeCounts;
+
+    private final CountRanking<Person> linkedEventCounts;
+
+    /** Changes whenever the events, links or waitlists change, so that copies of them are only made when needed. */
+    private long version;
+
+    /**
+     * Creates a manager with no events.
+     */
     public PersonEventManager() {
         eventPersonMap = new HashMap<>();
+        waitlists = new HashMap<>();
+        personSchedules = new HashMap<>();
+        attendeeCounts = new CountRanking<>(Comparator.comparing(event -> event.getName().fullName));
+        linkedEventCounts = new CountRanking<>(Comparator.comparing(person -> person.getName().fullName));
+    }
+
+    /**
+     * Returns a number that changes whenever the events, links or waitlists of this manager change.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /* ============================== Person Methods ============================== */
@@ -33,40 +73,259 @@ public class PersonEventManager {
     }
 
     /**
-     * Adds the person to the specified event.
+     * Returns the number of persons on the waitlist of the specified event, or 0 if the event is not managed.
+     */
+    public int getWaitlistSize(Event event) {
+        Waitlist waitlist = waitlists.get(event);
+        return waitlist == null ? 0 : waitlist.size();
+    }
+
+    /**
+     * Returns the persons on the waitlist of the specified event, front first,
+     * or an empty list if the event is not managed.
+     */
+    public List<Person> getWaitlist(Event event) {
+        Waitlist waitlist = waitlists.get(event);
+        return waitlist == null ? new ArrayList<>() : waitlist.asList();
+    }
+
+    /**
+     * Adds the person to the specified event, or to the back of its waitlist if the event is full.
      * @param event
      * @param person
-     * @throws EventNotFoundException
+     * @return true if the person is linked to the event, false if the person is put on its waitlist.
      */
-    public void addPersonToEvent(Person person, Event event) {
-        eventPersonMap.get(event).add(person);
+    public boolean addPersonToEvent(Person person, Event event) {
+        version++;
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        if (event.isFullWith(linkedPeople.size())) {
+            waitlists.get(event).add(person);
+            return false;
+        }
+
+        linkedPeople.add(person);
+        addToSchedule(person, event);
+        updateAttendeeCount(event);
+        return true;
     }
 
     /**
-     * removes the person from the specified event.
+     * Adds the persons that are neither linked to the specified event nor on its waitlist to it, in order.
+     * Once the event is full, the remaining persons are put on its waitlist instead.
+     * @return the number of persons linked to the event.
+     */
+    public int addPersonsToEvent(Collection<Person> persons, Event event) {
+        version++;
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        Waitlist waitlist = waitlists.get(event);
+        Set<Person> linkedPeopleSet = new HashSet<>(linkedPeople);
+        int addedCount = 0;
+        for (Person person : persons) {
+            if (waitlist.contains(person) || !linkedPeopleSet.add(person)) {
+                continue;
+            }
+
+            if (event.isFullWith(linkedPeople.size())) {
+                waitlist.add(person);
+            } else {
+                linkedPeople.add(person);
+                addToSchedule(person, event);
+                addedCount++;
+            }
+        }
+        updateAttendeeCount(event);
+        return addedCount;
+    }
+
+    /**
+     * removes the person from the specified event, or from its waitlist.
+     * The place the person leaves at the event goes to the person at the front of its waitlist.
      * @param event
      * @param person
      * @throws EventNotFoundException
      */
     public void removePersonFromEvent(Person person, Event event) {
-        eventPersonMap.get(event).remove(person);
+        version++;
+        if (waitlists.get(event).remove(person)) {
+            return;
+        }
+
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        linkedPeople.remove(person);
+        if (!linkedPeople.contains(person)) {
+            removeFromSchedule(person, event);
+        }
+        promoteFromWaitlist(event);
+    }
+
+    /**
+     * Removes the persons from the specified event and from its waitlist.
+     * The places they leave at the event go to the persons at the front of its waitlist.
+     * @return the number of persons removed, from the event or from its waitlist.
+     */
+    public int removePersonsFromEvent(Collection<Person> persons, Event event) {
+        version++;
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        Waitlist waitlist = waitlists.get(event);
+        Set<Person> personsToRemove = new HashSet<>(persons);
+        int removedCount = 0;
+        for (Person person : personsToRemove) {
+            if (waitlist.remove(person)) {
+                removedCount++;
+            }
+        }
+
+        int sizeBefore = linkedPeople.size();
+        linkedPeople.removeAll(personsToRemove);
+        personsToRemove.forEach(person -> removeFromSchedule(person, event));
+        removedCount += sizeBefore - linkedPeople.size();
+        promoteFromWaitlist(event);
+        return removedCount;
     }
 
     /**
-     * Removes the person from all events.
+     * Removes the person from all events and their waitlists.
      * @param person
      */
     public void removePersonFromAllEvents(Person person) {
+        version++;
         if (eventPersonMap.keySet() == null) {
             return;
         }
 
+        waitlists.values().forEach(waitlist -> waitlist.remove(person));
         for (Event event : eventPersonMap.keySet()) {
             ArrayList<Person> linkedPeople = eventPersonMap.get(event);
-            if (linkedPeople != null) {
-                linkedPeople.remove(person);
+            if (linkedPeople != null && linkedPeople.remove(person)) {
+                promoteFromWaitlist(event);
             }
         }
+        personSchedules.remove(person);
+        linkedEventCounts.remove(person);
+    }
+
+    /**
+     * Removes the persons from all events and their waitlists, looking at each linked person once.
+     */
+    public void removePersonsFromAllEvents(Collection<Person> persons) {
+        version++;
+        Set<Person> personsToRemove = new HashSet<>(persons);
+        waitlists.values().forEach(waitlist -> personsToRemove.forEach(waitlist::remove));
+        for (Map.Entry<Event, ArrayList<Person>> entry : eventPersonMap.entrySet()) {
+            ArrayList<Person> linkedPeople = entry.getValue();
+            if (linkedPeople != null && linkedPeople.removeAll(personsToRemove)) {
+                promoteFromWaitlist(entry.getKey());
+            }
+        }
+        personsToRemove.forEach(person -> {
+            personSchedules.remove(person);
+            linkedEventCounts.remove(person);
+        });
+    }
+
+    /**
+     * Returns the positions of {@code persons} among the persons linked to the specified event, in increasing order.
+     */
+    public int[] getLinkIndexes(Collection<Person> persons, Event event) {
+        return CollectionUtil.indexesOf(eventPersonMap.get(event), new HashSet<>(persons));
+    }
+
+    /**
+     * Returns the positions of {@code persons} among the persons linked to each event, in increasing order.
+     * Events that none of the persons are linked to are left out.
+     */
+    public Map<Event, int[]> getLinkIndexes(Collection<Person> persons) {
+        Set<Person> personSet = new HashSet<>(persons);
+        Map<Event, int[]> linkIndexes = new HashMap<>();
+        eventPersonMap.forEach((event, linkedPeople) -> {
+            int[] indexes = CollectionUtil.indexesOf(linkedPeople, personSet);
+            if (indexes.length > 0) {
+                linkIndexes.put(event, indexes);
+            }
+        });
+        return linkIndexes;
+    }
+
+    /**
+     * Links the persons to the specified event at the matching positions of {@code indexes} among its linked persons,
+     * e.g. to put unlinked persons back at the positions {@link #getLinkIndexes(Collection, Event)} returned.
+     */
+    public void insertPersonsToEvent(List<Person> persons, Event event, int[] indexes) {
+        version++;
+        CollectionUtil.insertAll(eventPersonMap.get(event), indexes, persons);
+        persons.forEach(person -> addToSchedule(person, event));
+        updateAttendeeCount(event);
+    }
+
+    /**
+     * Moves the person linked to the specified event to position {@code index} among its linked persons.
+     */
+    public void movePersonInEvent(Person person, Event event, int index) {
+        version++;
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        linkedPeople.remove(person);
+        linkedPeople.add(index, person);
+    }
+
+    /**
+     * Returns the places on the waitlist of the specified event that unlinking {@code persons} from it can change:
+     * those of the persons on the waitlist, and those of the persons who would be linked in place of the others.
+     */
+    public Map<Person, Long> getWaitlistPlaces(Collection<Person> persons, Event event) {
+        Waitlist waitlist = waitlists.get(event);
+        if (waitlist == null || waitlist.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Person, Long> places = waitlist.getPlaces(persons);
+        int linkedCount = getLinkIndexes(persons, event).length;
+        places.putAll(waitlist.getFirstPlaces(linkedCount + places.size()));
+        return places;
+    }
+
+    /**
+     * Returns the places on the waitlist of each event that unlinking {@code persons} from all events can change.
+     * Events whose waitlists cannot change are left out.
+     *
+     * @see #getWaitlistPlaces(Collection, Event)
+     */
+    public Map<Event, Map<Person, Long>> getWaitlistPlaces(Collection<Person> persons) {
+        Map<Event, Map<Person, Long>> places = new HashMap<>();
+        waitlists.forEach((event, waitlist) -> {
+            Map<Person, Long> eventPlaces = getWaitlistPlaces(persons, event);
+            if (!eventPlaces.isEmpty()) {
+                places.put(event, eventPlaces);
+            }
+        });
+        return places;
+    }
+
+    /**
+     * Returns the places of all persons on the waitlist of the specified event.
+     */
+    public Map<Person, Long> getWaitlistPlaces(Event event) {
+        Waitlist waitlist = waitlists.get(event);
+        return waitlist == null ? new HashMap<>() : waitlist.getFirstPlaces(waitlist.size());
+    }
+
+    /**
+     * Puts the persons back on the waitlist of the specified event at the places they held, as returned by
+     * {@link #getWaitlistPlaces(Collection, Event)}, unlinking those linked to the event from the waitlist since.
+     */
+    public void restoreWaitlistPlaces(Event event, Map<Person, Long> places) {
+        version++;
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        Waitlist waitlist = waitlists.get(event);
+        places.forEach((person, place) -> {
+            // Persons linked from the waitlist are at the end of the list
+            int index = linkedPeople.lastIndexOf(person);
+            if (index >= 0) {
+                linkedPeople.remove(index);
+                removeFromSchedule(person, event);
+            }
+            waitlist.addAt(person, place);
+        });
+        updateAttendeeCount(event);
     }
 
     /**
@@ -75,6 +334,7 @@ public class PersonEventManager {
      * @param editedPerson
      */
     public void setPersonForAllEvents(Person target, Person editedPerson) {
+        version++;
         if (eventPersonMap.keySet() == null) {
             return;
         }
@@ -91,6 +351,14 @@ public class PersonEventManager {
                 eventPersonMap.get(event).add(editedPerson);
             }
         }
+        waitlists.values().forEach(waitlist -> waitlist.replace(target, editedPerson));
+
+        PersonSchedule schedule = personSchedules.remove(target);
+        if (schedule != null) {
+            personSchedules.put(editedPerson, schedule);
+            linkedEventCounts.remove(target);
+            linkedEventCounts.set(editedPerson, schedule.size());
+        }
     }
 
     /* ============================== Event Methods ============================== */
@@ -110,7 +378,9 @@ public class PersonEventManager {
      * @throws DuplicateEventException
      */
     public void addEvent(Event event) {
+        version++;
         eventPersonMap.put(event, new ArrayList<>());
+        waitlists.put(event, new Waitlist());
     }
 
     /**
@@ -119,18 +389,72 @@ public class PersonEventManager {
      * @throws EventNotFoundException
      */
     public void removeEvent(Event event) {
+        version++;
+        removeFromSchedules(event);
         eventPersonMap.remove(event);
+        waitlists.remove(event);
+        attendeeCounts.remove(event);
     }
 
     /**
      * Replaces the target event with the edited event.
+     * If the edited event has room for more persons, they are linked from its waitlist.
      * @param target
      * @param editedEvent
      */
     public void setEvent(Event target, Event editedEvent) {
+        version++;
+        removeFromSchedules(target);
         ArrayList<Person> persons = eventPersonMap.get(target);
+        Waitlist waitlist = waitlists.get(target);
         eventPersonMap.remove(target);
+        waitlists.remove(target);
+        attendeeCounts.remove(target);
         eventPersonMap.put(editedEvent, persons);
+        waitlists.put(editedEvent, waitlist == null ? new Waitlist() : waitlist);
+        addToSchedules(editedEvent);
+        promoteFromWaitlist(editedEvent);
+    }
+
+    /**
+     * Returns true if a person is linked to both of the specified events.
+     */
+    public boolean haveLinkedPersonInCommon(Event first, Event second) {
+        List<Person> firstPersons = eventPersonMap.getOrDefault(first, new ArrayList<>());
+        List<Person> secondPersons = eventPersonMap.getOrDefault(second, new ArrayList<>());
+        if (firstPersons.size() > secondPersons.size()) {
+            List<Person> swap = firstPersons;
+            firstPersons = secondPersons;
+            secondPersons = swap;
+        }
+        if (firstPersons.isEmpty()) {
+            return false;
+        }
+
+        Set<Person> secondPersonSet = new HashSet<>(secondPersons);
+        return firstPersons.stream().anyMatch(secondPersonSet::contains);
+    }
+
+    /**
+     * Returns the other events that each person in {@code persons} not yet linked to {@code event} is linked to
+     * and that overlap {@code event} in time, in chronological order.
+     * Persons without such events are left out. For an event that repeats, only its first occurrence is checked.
+     */
+    public Map<Person, List<Event>> getScheduleClashes(Collection<Person> persons, Event event) {
+        Map<Person, List<Event>> clashes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            // A person's own schedule tells whether they are linked to the event, without looking at its roster
+            PersonSchedule schedule = personSchedules.get(person);
+            if (schedule == null || schedule.contains(event) || clashes.containsKey(person)) {
+                continue;
+            }
+
+            List<Event> overlapping = schedule.getEventsOverlapping(event);
+            if (!overlapping.isEmpty()) {
+                clashes.put(person, overlapping);
+            }
+        }
+        return clashes;
     }
 
     public Event getEventByName(Event target) {
@@ -141,22 +465,173 @@ public class PersonEventManager {
     }
 
     /**
-     * adds a linked persons entry to the eventPersonMap.
+     * adds a linked persons entry to the eventPersonMap, along with its waitlist.
      */
     public void addLinkedPersonsEntry(LinkedPersonsEntry linkedPersonsEntry) {
+        version++;
+        removeFromSchedules(linkedPersonsEntry.getEvent());
         eventPersonMap.put(linkedPersonsEntry.getEvent(), linkedPersonsEntry.getPersons());
+        waitlists.put(linkedPersonsEntry.getEvent(), linkedPersonsEntry.getWaitlist());
+        addToSchedules(linkedPersonsEntry.getEvent());
+        updateAttendeeCount(linkedPersonsEntry.getEvent());
+    }
+
+    /**
+     * Returns the persons linked to the specified event and its waitlist, or null if the event is not managed.
+     */
+    public LinkedPersonsEntry getLinkedPersonsEntry(Event event) {
+        ArrayList<Person> persons = eventPersonMap.get(event);
+        return persons == null ? null : new LinkedPersonsEntry(event, persons, waitlists.get(event));
     }
 
     public ArrayList<LinkedPersonsEntry> getLinkedPersonsEntryList() {
         ArrayList<LinkedPersonsEntry> linkedPersonsEntries = new ArrayList<>();
-        for (Map.Entry<Event, ArrayList<Person>> entry : eventPersonMap.entrySet()) {
-            Event event = entry.getKey();
-            ArrayList<Person> persons = entry.getValue();
-            linkedPersonsEntries.add(new LinkedPersonsEntry(event, persons));
+        for (Event event : eventPersonMap.keySet()) {
+            linkedPersonsEntries.add(getLinkedPersonsEntry(event));
         }
         return linkedPersonsEntries;
     }
 
+    /**
+     * Returns the total number of links between persons and events.
+     */
+    public long getLinkCount() {
+        return attendeeCounts.getTotal();
+    }
+
+    /**
+     * Returns up to {@code limit} events with the most persons linked, the most first, with their numbers of persons.
+     */
+    public List<CountRanking.Entry<Event>> getTopEventsByAttendees(int limit) {
+        return attendeeCounts.getTop(limit);
+    }
+
+    /**
+     * Returns up to {@code limit} persons linked to the most events, the most first, with their numbers of events.
+     */
+    public List<CountRanking.Entry<Person>> getTopPersonsByLinkedEvents(int limit) {
+        return linkedEventCounts.getTop(limit);
+    }
+
+    /**
+     * Links persons from the front of the waitlist of the specified event until it is full or the waitlist is empty.
+     * Checking whether the event is full takes O(1), and taking each person from the waitlist O(log n).
+     */
+    private void promoteFromWaitlist(Event event) {
+        ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        Waitlist waitlist = waitlists.get(event);
+        while (!waitlist.isEmpty() && !event.isFullWith(linkedPeople.size())) {
+            Person person = waitlist.poll();
+            linkedPeople.add(person);
+            addToSchedule(person, event);
+        }
+        updateAttendeeCount(event);
+    }
+
+    private void updateAttendeeCount(Event event) {
+        List<Person> linkedPeople = eventPersonMap.get(event);
+        attendeeCounts.set(event, linkedPeople == null ? 0 : linkedPeople.size());
+    }
+
+    private void addToSchedule(Person person, Event event) {
+        PersonSchedule schedule = personSchedules.computeIfAbsent(person, unused -> new PersonSchedule());
+        schedule.add(event);
+        linkedEventCounts.set(person, schedule.size());
+    }
+
+    private void removeFromSchedule(Person person, Event event) {
+        PersonSchedule schedule = personSchedules.get(person);
+        if (schedule == null) {
+            return;
+        }
+
+        schedule.remove(event);
+        linkedEventCounts.set(person, schedule.size());
+        if (schedule.isEmpty()) {
+            personSchedules.remove(person);
+        }
+    }
+
+    /**
+     * Adds {@code event} to the schedules of the persons linked to it.
+     */
+    private void addToSchedules(Event event) {
+        List<Person> linkedPeople = eventPersonMap.get(event);
+        if (linkedPeople != null) {
+            linkedPeople.forEach(person -> addToSchedule(person, event));
+        }
+    }
+
+    /**
+     * Removes {@code event} from the schedules of the persons linked to it.
+     */
+    private void removeFromSchedules(Event event) {
+        List<Person> linkedPeople = eventPersonMap.get(event);
+        if (linkedPeople != null) {
+            linkedPeople.forEach(person -> removeFromSchedule(person, event));
+        }
+    }
+
+    /**
+     * The events linked to a person, indexed by time.
+     * Events that do not repeat are kept in an interval tree, so finding the ones overlapping a time takes
+     * O(log d) for a person linked to d events. A repeating event can overlap a time far after it starts,
+     * so the few repeating events are checked one by one.
+     */
+    private static class PersonSchedule {
+        private final EventIntervalIndex events = new EventIntervalIndex();
+        private final Set<Event> recurringEvents = new HashSet<>();
+
+        void add(Event event) {
+            if (event.isRecurring()) {
+                recurringEvents.add(event);
+            } else {
+                events.add(event);
+            }
+        }
+
+        void remove(Event event) {
+            if (event.isRecurring()) {
+                recurringEvents.remove(event);
+            } else {
+                events.remove(event);
+            }
+        }
+
+        boolean contains(Event event) {
+            return event.isRecurring() ? recurringEvents.contains(event) : events.contains(event);
+        }
+
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        int size() {
+            return events.size() + recurringEvents.size();
+        }
+
+        /**
+         * Returns the events other than {@code event} that overlap it in time, in chronological order.
+         */
+        List<Event> getEventsOverlapping(Event event) {
+            LocalDateTime from = event.getStartTime().toLocalDateTime();
+            LocalDateTime to = event.getOccupiedUntil();
+            List<Event> overlapping = events.getEventsOverlapping(from, to);
+            boolean hasRecurring = false;
+            for (Event recurringEvent : recurringEvents) {
+                if (recurringEvent.hasOccurrenceOverlapping(from, to)) {
+                    overlapping.add(recurringEvent);
+                    hasRecurring = true;
+                }
+            }
+            if (hasRecurring) {
+                overlapping.sort(Comparator.comparing(Event::getStartTime));
+            }
+            overlapping.removeIf(event::isSameEvent);
+            return overlapping;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -178,7 +653,8 @@ public class PersonEventManager {
             return true;
         } else if (other instanceof PersonEventManager) {
             PersonEventManager otherManager = (PersonEventManager) other;
-            return otherManager.eventPersonMap.equals(eventPersonMap);
+            return otherManager.eventPersonMap.equals(eventPersonMap)
+                    && otherManager.waitlists.equals(waitlists);
         } else {
             return false;
         }
@@ -192,15 +668,26 @@ public class PersonEventManager {
      * Clears all events from the eventPersonMap.
      */
     public void clearAllEvents() {
+        version++;
         eventPersonMap.clear();
+        waitlists.clear();
+        personSchedules.clear();
+        attendeeCounts.clear();
+        linkedEventCounts.clear();
     }
 
     /**
      * Clears all persons from all events.
      */
     public void clearAllPersons() {
+        version++;
         for (Event event : eventPersonMap.keySet()) {
             eventPersonMap.get(event).clear();
         }
+        // The waitlists are replaced rather than cleared, so that they can be put back as they were
+        waitlists.replaceAll((event, waitlist) -> new Waitlist());
+        personSchedules.clear();
+        attendeeCounts.clear();
+        linkedEventCounts.clear();
     }
 }
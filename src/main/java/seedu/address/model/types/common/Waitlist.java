@@ -0,0 +1,200 @@
+package seedu.address.model.types.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.types.person.Person;
+
+/**
+ * The persons waiting for a place at a full event, in the order they joined the waitlist.
+ * Each person holds a place, a number that only orders the waitlist, so that persons join at the back, leave and
+ * are taken from the front in O(log n) for n persons waiting, and can be put back at the place they held.
+ */
+public class Waitlist {
+
+    private final TreeMap<Long, Person> personsByPlace = new TreeMap<>();
+    private final HashMap<Person, Long> places = new HashMap<>();
+    private long nextPlace;
+
+    /**
+     * Creates an empty waitlist.
+     */
+    public Waitlist() {}
+
+    /**
+     * Creates a waitlist of {@code persons}, in order.
+     */
+    public Waitlist(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    public boolean isEmpty() {
+        return places.isEmpty();
+    }
+
+    public boolean contains(Person person) {
+        return places.containsKey(person);
+    }
+
+    /**
+     * Puts {@code person} at the back of the waitlist.
+     * @return false if the person is already on the waitlist.
+     */
+    public boolean add(Person person) {
+        requireNonNull(person);
+        if (places.containsKey(person)) {
+            return false;
+        }
+
+        putAt(person, nextPlace);
+        return true;
+    }
+
+    /**
+     * Puts {@code person} back at {@code place}, as returned by {@link #getPlaces(Collection)} or
+     * {@link #getFirstPlaces(int)}. Does nothing if the person already holds that place.
+     */
+    public void addAt(Person person, long place) {
+        requireNonNull(person);
+        Long currentPlace = places.get(person);
+        if (currentPlace != null && currentPlace == place) {
+            return;
+        }
+        checkArgument(currentPlace == null && !personsByPlace.containsKey(place),
+                "The person or the place is already on the waitlist");
+        putAt(person, place);
+    }
+
+    /**
+     * Removes {@code person} from the waitlist.
+     * @return false if the person was not on the waitlist.
+     */
+    public boolean remove(Person person) {
+        Long place = places.remove(person);
+        if (place == null) {
+            return false;
+        }
+
+        personsByPlace.remove(place);
+        return true;
+    }
+
+    /**
+     * Removes and returns the person at the front of the waitlist, or returns null if it is empty.
+     */
+    public Person poll() {
+        Map.Entry<Long, Person> first = personsByPlace.pollFirstEntry();
+        if (first == null) {
+            return null;
+        }
+
+        places.remove(first.getValue());
+        return first.getValue();
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, who takes its place.
+     * Does nothing if {@code target} is not on the waitlist.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Long place = places.remove(target);
+        if (place != null) {
+            putAt(editedPerson, place);
+        }
+    }
+
+    /**
+     * Returns the places held by those of {@code persons} on the waitlist.
+     */
+    public Map<Person, Long> getPlaces(Collection<Person> persons) {
+        Map<Person, Long> personPlaces = new HashMap<>();
+        for (Person person : persons) {
+            Long place = places.get(person);
+            if (place != null) {
+                personPlaces.put(person, place);
+            }
+        }
+        return personPlaces;
+    }
+
+    /**
+     * Returns the places held by the first {@code count} persons on the waitlist, front first.
+     */
+    public Map<Person, Long> getFirstPlaces(int count) {
+        Map<Person, Long> firstPlaces = new LinkedHashMap<>();
+        Iterator<Map.Entry<Long, Person>> entries = personsByPlace.entrySet().iterator();
+        for (int i = 0; i < count && entries.hasNext(); i++) {
+            Map.Entry<Long, Person> entry = entries.next();
+            firstPlaces.put(entry.getValue(), entry.getKey());
+        }
+        return firstPlaces;
+    }
+
+    /**
+     * Returns the last {@code count} persons on the waitlist, front first.
+     */
+    public List<Person> getLast(int count) {
+        List<Person> last = new ArrayList<>();
+        Iterator<Person> persons = personsByPlace.descendingMap().values().iterator();
+        for (int i = 0; i < count && persons.hasNext(); i++) {
+            last.add(persons.next());
+        }
+        Collections.reverse(last);
+        return last;
+    }
+
+    /**
+     * Returns the persons on the waitlist, front first.
+     */
+    public List<Person> asList() {
+        return new ArrayList<>(personsByPlace.values());
+    }
+
+    private void putAt(Person person, long place) {
+        personsByPlace.put(place, person);
+        places.put(person, place);
+        nextPlace = Math.max(nextPlace, place + 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Waitlist)) {
+            return false;
+        }
+
+        Waitlist otherWaitlist = (Waitlist) other;
+        return asList().equals(otherWaitlist.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.types.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Pattern;
+
+/**
+ * Represents the number of persons that can be linked to an Event in the address book.
+ * Persons linked once the event is full are put on its waitlist instead.
+ * Guarantees: immutable; is valid as declared in {@link #isValidCapacity(String)}
+ */
+public class Capacity {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Capacity should be a positive whole number of persons, at most " + Integer.MAX_VALUE;
+    public static final String VALIDATION_REGEX = "0*[1-9]\\d{0,9}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public final int value;
+
+    /**
+     * Constructs a {@code Capacity}.
+     *
+     * @param capacity A valid capacity.
+     */
+    public Capacity(String capacity) {
+        requireNonNull(capacity);
+        checkArgument(isValidCapacity(capacity), MESSAGE_CONSTRAINTS);
+        value = Integer.parseInt(capacity);
+    }
+
+    /**
+     * Returns true if a given string is a valid capacity.
+     */
+    public static boolean isValidCapacity(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches() && Long.parseLong(test) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if an event with this capacity is full once {@code linkedCount} persons are linked to it.
+     */
+    public boolean isReachedBy(int linkedCount) {
+        return linkedCount >= value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Capacity)) {
+            return false;
+        }
+
+        Capacity otherCapacity = (Capacity) other;
+        return value == otherCapacity.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+}
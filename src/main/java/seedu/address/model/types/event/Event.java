@@ -1,10 +1,17 @@
 package seedu.address.model.types.event;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,25 +26,57 @@ import seedu.address.model.types.common.Name;
  */
 public class Event {
 
+    public static final String MESSAGE_END_TIME_CONSTRAINTS = "An event's end time must be after its start time.";
+    public static final String MESSAGE_RECURRENCE_CONSTRAINTS =
+            "A recurring event must not stop repeating before its start date.";
+
     // Identity fields
     private final Name name;
     private final Address location;
     private final DateTime startTime;
 
     // Data fields
+    private final DateTime endTime;
+    private final Recurrence recurrence;
+    private final Capacity capacity;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
-     * Every field must be present and not null.
+     * Every field except {@code endTime}, {@code recurrence} and {@code capacity} must be present and not null.
+     * Those three are optional, and are null if the event does not have them.
+     * {@code endTime}, if present, must be valid as declared in {@link #isValidEndTime(DateTime, DateTime)},
+     * and {@code recurrence}, if present, as declared in {@link #isValidRecurrence(DateTime, Recurrence)}.
+     * An event without a {@code capacity} can have any number of persons linked to it.
      */
-    public Event(Name name, Address location, DateTime startTime, Set<Tag> tags) {
+    public Event(Name name, Address location, DateTime startTime, DateTime endTime, Recurrence recurrence,
+            Capacity capacity, Set<Tag> tags) {
         requireAllNonNull(name, location, startTime, tags);
+        checkArgument(endTime == null || isValidEndTime(startTime, endTime), MESSAGE_END_TIME_CONSTRAINTS);
+        checkArgument(recurrence == null || isValidRecurrence(startTime, recurrence),
+                MESSAGE_RECURRENCE_CONSTRAINTS);
         this.name = name;
         this.location = location;
         this.startTime = startTime;
+        this.endTime = endTime;
+        this.recurrence = recurrence;
+        this.capacity = capacity;
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns true if {@code endTime} is a valid end time for an event starting at {@code startTime}.
+     */
+    public static boolean isValidEndTime(DateTime startTime, DateTime endTime) {
+        return endTime.compareTo(startTime) > 0;
+    }
+
+    /**
+     * Returns true if {@code recurrence} is valid for an event starting at {@code startTime}.
+     */
+    public static boolean isValidRecurrence(DateTime startTime, Recurrence recurrence) {
+        return recurrence.isValidStart(startTime.toShownDateTime());
+    }
+
     public Name getName() {
         return name;
     }
@@ -49,6 +88,181 @@ public class Event {
         return startTime;
     }
 
+    public Optional<DateTime> getEndTime() {
+        return Optional.ofNullable(endTime);
+    }
+
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public Optional<Capacity> getCapacity() {
+        return Optional.ofNullable(capacity);
+    }
+
+    /**
+     * Returns true if the event has a capacity that {@code linkedCount} linked persons take up.
+     */
+    public boolean isFullWith(int linkedCount) {
+        return capacity != null && capacity.isReachedBy(linkedCount);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the time the event, or the first occurrence of a recurring event, takes up until, exclusive:
+     * its end time, or the minute after its start time if it has no end time, since times are recorded to the minute.
+     */
+    public LocalDateTime getOccupiedUntil() {
+        return endTime != null ? endTime.toLocalDateTime() : startTime.toLocalDateTime().plusMinutes(1);
+    }
+
+    /**
+     * Returns the time the event, or the first occurrence of a recurring event, takes up until, exclusive,
+     * in minutes on the local timeline as given by {@link DateTime#getEpochMinute()}.
+     *
+     * @see #getOccupiedUntil()
+     */
+    public long getOccupiedUntilEpochMinute() {
+        return endTime != null ? endTime.getEpochMinute() : startTime.getEpochMinute() + 1;
+    }
+
+    /**
+     * Returns true if this event and {@code otherEvent}, or their first occurrences if they repeat,
+     * take up some of the same time.
+     */
+    public boolean overlaps(Event otherEvent) {
+        return startTime.getEpochMinute() < otherEvent.getOccupiedUntilEpochMinute()
+                && otherEvent.getStartTime().getEpochMinute() < getOccupiedUntilEpochMinute();
+    }
+
+    /**
+     * Returns the occurrences of this event starting at or after {@code from} and strictly before {@code to},
+     * in chronological order.
+     * An event that does not repeat is its only occurrence. The occurrences of a recurring event are events that do
+     * not repeat, and are created only for the given window.
+     */
+    public List<Event> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> occurrences = new ArrayList<>();
+        if (recurrence == null) {
+            LocalDateTime start = startTime.toLocalDateTime();
+            if (!start.isBefore(from) && start.isBefore(to)) {
+                occurrences.add(this);
+            }
+            return occurrences;
+        }
+
+        LocalDateTime seriesStart = startTime.toShownDateTime();
+        long last = recurrence.getLastOccurrence(seriesStart);
+        for (long n = getFirstOccurrenceFrom(seriesStart, from); n <= last; n++) {
+            DateTime occurrenceStart = getOccurrenceStart(seriesStart, n);
+            if (!occurrenceStart.isBefore(to)) {
+                break;
+            }
+            occurrences.add(getOccurrenceStartingAt(occurrenceStart));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns true if an occurrence of this event starts at or after {@code from} and strictly before {@code to},
+     * without creating the occurrences.
+     */
+    public boolean hasOccurrenceStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (recurrence == null) {
+            LocalDateTime start = startTime.toLocalDateTime();
+            return !start.isBefore(from) && start.isBefore(to);
+        }
+
+        LocalDateTime seriesStart = startTime.toShownDateTime();
+        long n = getFirstOccurrenceFrom(seriesStart, from);
+        return n <= recurrence.getLastOccurrence(seriesStart) && getOccurrenceStart(seriesStart, n).isBefore(to);
+    }
+
+    /**
+     * Returns true if an occurrence of this event takes up some of the time from {@code from} (inclusive)
+     * to {@code to} (exclusive), without creating the occurrences.
+     */
+    public boolean hasOccurrenceOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        // The occurrences overlapping the window are those starting after the window starts minus their length
+        return hasOccurrenceStartingBetween(from.minus(getLength()).plusNanos(1), to);
+    }
+
+    /**
+     * Returns the occurrence of this event that is ongoing or next at {@code time},
+     * or its last occurrence if all of them have ended.
+     * An event that does not repeat is its only occurrence.
+     */
+    public Event getOccurrenceAt(LocalDateTime time) {
+        requireNonNull(time);
+        if (recurrence == null) {
+            return this;
+        }
+
+        LocalDateTime seriesStart = startTime.toShownDateTime();
+        long n = Math.min(getFirstOccurrenceFrom(seriesStart, time.minus(getLength()).plusNanos(1)),
+                recurrence.getLastOccurrence(seriesStart));
+        return getOccurrenceStartingAt(getOccurrenceStart(seriesStart, n));
+    }
+
+    /**
+     * Returns the start time of the first occurrence of this event starting strictly after {@code time},
+     * or an empty {@code Optional} if there is none.
+     */
+    public Optional<DateTime> getNextStartTimeAfter(LocalDateTime time) {
+        requireNonNull(time);
+        if (recurrence == null) {
+            return startTime.isAfter(time) ? Optional.of(startTime) : Optional.empty();
+        }
+
+        LocalDateTime seriesStart = startTime.toShownDateTime();
+        long n = getFirstOccurrenceFrom(seriesStart, time.plusNanos(1));
+        if (n > recurrence.getLastOccurrence(seriesStart)) {
+            return Optional.empty();
+        }
+        return Optional.of(getOccurrenceStart(seriesStart, n));
+    }
+
+    /**
+     * Returns the time taken up by each occurrence of this event.
+     */
+    private Duration getLength() {
+        return Duration.ofMinutes(getOccupiedUntilEpochMinute() - startTime.getEpochMinute());
+    }
+
+    /**
+     * Returns the number of the first occurrence of this recurring event, whose series starts at {@code seriesStart},
+     * that starts at or after {@code from} on the local timeline.
+     * Occurrences are counted on the clocks of the start time's time zone, so an event in another time zone keeps its
+     * time of day there when the clocks of either time zone change.
+     */
+    private long getFirstOccurrenceFrom(LocalDateTime seriesStart, LocalDateTime from) {
+        return recurrence.getFirstOccurrenceFrom(seriesStart, startTime.toShownDateTime(from));
+    }
+
+    /**
+     * Returns the start time of the occurrence numbered {@code n} of this recurring event, whose series starts at
+     * {@code seriesStart} on the clocks of the start time's time zone.
+     */
+    private DateTime getOccurrenceStart(LocalDateTime seriesStart, long n) {
+        return startTime.withShownDateTime(recurrence.getOccurrence(seriesStart, n));
+    }
+
+    /**
+     * Returns a copy of this event that starts at {@code occurrenceStart}, lasts as long and does not repeat.
+     * The times of the copy are shown in the same time zones as those of this event.
+     */
+    private Event getOccurrenceStartingAt(DateTime occurrenceStart) {
+        long minutesFromStart = startTime.getMinutesUntil(occurrenceStart);
+        DateTime occurrenceEnd = endTime == null ? null : endTime.plusMinutes(minutesFromStart);
+        return new Event(name, location, occurrenceStart, occurrenceEnd, null, capacity, tags);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -89,13 +303,16 @@ public class Event {
         return name.equals(otherEvent.name)
                 && location.equals(otherEvent.location)
                 && startTime.equals(otherEvent.startTime)
+                && Objects.equals(endTime, otherEvent.endTime)
+                && Objects.equals(recurrence, otherEvent.recurrence)
+                && Objects.equals(capacity, otherEvent.capacity)
                 && tags.equals(otherEvent.tags);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, location, startTime, tags);
+        return Objects.hash(name, location, startTime, endTime, recurrence, capacity, tags);
     }
 
     @Override
@@ -104,6 +321,9 @@ public class Event {
                 .add("name", name)
                 .add("location", location)
                 .add("startTime", startTime)
+                .add("endTime", endTime)
+                .add("recurrence", recurrence)
+                .add("capacity", capacity)
                 .add("tags", tags)
                 .toString();
     }
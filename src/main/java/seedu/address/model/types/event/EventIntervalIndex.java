@@ -0,0 +1,229 @@
+package seedu.address.model.types.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.types.common.DateTime;
+
+/**
+ * An index of events by the time they take up, from their start time until {@link Event#getOccupiedUntil()}.
+ * This is an interval tree: a balanced (AVL) binary search tree of the events ordered by start time, in which every
+ * node also holds the latest end of the events in its subtree. A search skips the subtrees that end before the
+ * window starts and the subtrees that start after it ends, so the events overlapping a window can be found in
+ * O(log n) for each of the k results, instead of scanning the whole event list.
+ * Times are held as minutes on the local timeline, so that searching compares numbers rather than dates.
+ */
+public class EventIntervalIndex {
+
+    /** Orders events by start time, breaking ties by name since event names are unique. */
+    private static final Comparator<Event> ORDER = Comparator
+            .comparingLong((Event event) -> event.getStartTime().getEpochMinute())
+            .thenComparing(event -> event.getName().fullName);
+
+    private Node root;
+
+    private int size;
+
+    /**
+     * Indexes {@code event} under the time it takes up.
+     * An event with the same start time and name as an indexed one replaces it.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        root = insert(root, event);
+    }
+
+    /**
+     * Removes {@code event} from the index, if it is indexed.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        root = delete(root, event);
+    }
+
+    /**
+     * Returns true if {@code event} is indexed, in O(log n).
+     */
+    public boolean contains(Event event) {
+        requireNonNull(event);
+        Node node = root;
+        while (node != null) {
+            int comparison = ORDER.compare(event, node.event);
+            if (comparison == 0) {
+                return node.event.equals(event);
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the events that take up some of the time from {@code from} (inclusive) to {@code to} (exclusive),
+     * in chronological order.
+     */
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> events = new ArrayList<>();
+        if (from.isBefore(to)) {
+            // Times are whole minutes, so an event ends after the window starts if it ends after the minute the
+            // window starts in, and starts before the window ends if it starts before the window's end rounded up
+            collectOverlapping(root, DateTime.toEpochMinute(from), DateTime.toEpochMinuteCeiling(to), events);
+        }
+        return events;
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void collectOverlapping(Node node, long from, long to, List<Event> events) {
+        // No event in this subtree ends after the window starts
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+
+        collectOverlapping(node.left, from, to, events);
+        // This event and every event in the right subtree start at or after the end of the window
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            events.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, events);
+    }
+
+    private Node insert(Node node, Event event) {
+        if (node == null) {
+            size++;
+            return new Node(event);
+        }
+
+        int comparison = ORDER.compare(event, node.event);
+        if (comparison < 0) {
+            node.left = insert(node.left, event);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, event);
+        } else {
+            node.setEvent(event);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = ORDER.compare(event, node.event);
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, event);
+        } else if (!node.event.equals(event)) {
+            return node;
+        } else if (node.left == null || node.right == null) {
+            size--;
+            return node.left != null ? node.left : node.right;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.setEvent(successor.event);
+            node.right = delete(node.right, successor.event);
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding an event and the latest end of the events in its subtree.
+     */
+    private static class Node {
+        private Event event;
+        private long start;
+        private long end;
+        private long maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        Node(Event event) {
+            setEvent(event);
+            update();
+        }
+
+        void setEvent(Event event) {
+            this.event = event;
+            start = event.getStartTime().getEpochMinute();
+            end = event.getOccupiedUntilEpochMinute();
+        }
+
+        /**
+         * Recomputes the height and latest end of this subtree from those of its children.
+         */
+        void update() {
+            height = 1 + Math.max(EventIntervalIndex.height(left), EventIntervalIndex.height(right));
+            maxEnd = end;
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
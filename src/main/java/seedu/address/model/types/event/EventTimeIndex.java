@@ -0,0 +1,92 @@
+package seedu.address.model.types.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.types.common.DateTime;
+
+/**
+ * An index of events ordered by their start time.
+ * Allows the events starting within a time window to be retrieved in O(log n + k) for k results,
+ * without scanning the whole event list. Start times are keyed by their minute on the local timeline,
+ * so that no date objects are created to index or look up events.
+ */
+public class EventTimeIndex {
+
+    /** Start times, in minutes, mapped to the events starting at that time, in the order they were added. */
+    private final NavigableMap<Long, Set<Event>> index = new TreeMap<>();
+
+    private int size;
+
+    /**
+     * Indexes {@code event} under its start time.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        Set<Event> events = index.computeIfAbsent(getKey(event), unused -> new LinkedHashSet<>());
+        if (events.add(event)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code event} from the index, if it is indexed.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        long key = getKey(event);
+        Set<Event> events = index.get(key);
+        if (events == null || !events.remove(event)) {
+            return;
+        }
+
+        size--;
+        if (events.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and strictly before {@code to},
+     * in chronological order.
+     */
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> events = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return events;
+        }
+
+        // Start times are whole minutes, so rounding both ends of the window up to whole minutes keeps its events
+        long fromKey = DateTime.toEpochMinuteCeiling(from);
+        long toKey = DateTime.toEpochMinuteCeiling(to);
+        for (Set<Event> eventsAtTime : index.subMap(fromKey, true, toKey, false).values()) {
+            events.addAll(eventsAtTime);
+        }
+        return events;
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    public void clear() {
+        index.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static long getKey(Event event) {
+        return event.getStartTime().getEpochMinute();
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.types.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents how an Event repeats in the address book: daily, weekly or monthly from its start time,
+ * optionally until a last date.
+ * Occurrences are not stored, but computed from the start time of the event when they are needed.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS = "Recurrence should be daily, weekly or monthly, optionally "
+            + "followed by until and the date of the last occurrence in the format YYYY-MM-DD, "
+            + "e.g. weekly until 2025-06-30";
+    public static final String VALIDATION_REGEX = "(?i)(daily|weekly|monthly)(?: until (\\d{4}-\\d{2}-\\d{2}))?";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /**
+     * How often an event repeats.
+     */
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    public final String value;
+    private final Frequency frequency;
+    private final LocalDate until;
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param recurrence A valid recurrence.
+     */
+    public Recurrence(String recurrence) {
+        requireNonNull(recurrence);
+        checkArgument(isValidRecurrence(recurrence), MESSAGE_CONSTRAINTS);
+        Matcher matcher = VALIDATION_PATTERN.matcher(recurrence);
+        matcher.matches();
+        frequency = Frequency.valueOf(matcher.group(1).toUpperCase(Locale.ROOT));
+        until = matcher.group(2) == null ? null : LocalDate.parse(matcher.group(2));
+        value = frequency.name().toLowerCase(Locale.ROOT) + (until == null ? "" : " until " + until);
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence.
+     */
+    public static boolean isValidRecurrence(String test) {
+        Matcher matcher = VALIDATION_PATTERN.matcher(test);
+        if (!matcher.matches()) {
+            return false;
+        }
+        if (matcher.group(2) == null) {
+            return true;
+        }
+
+        try {
+            LocalDate.parse(matcher.group(2));
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns true if a series starting at {@code start} has at least one occurrence, i.e. it does not end
+     * before it starts.
+     */
+    public boolean isValidStart(LocalDateTime start) {
+        return until == null || !until.isBefore(start.toLocalDate());
+    }
+
+    /**
+     * Returns the start of the occurrence numbered {@code n}, counting from 0, of a series starting at {@code start}.
+     * Monthly occurrences are counted from the start, so that a series starting on the 31st falls on the last day
+     * of shorter months and on the 31st again afterwards.
+     */
+    public LocalDateTime getOccurrence(LocalDateTime start, long n) {
+        return start.plus(n, frequency.unit);
+    }
+
+    /**
+     * Returns the number of the first occurrence of a series starting at {@code start} that starts at or after
+     * {@code from}, whether or not the series has ended by then.
+     */
+    public long getFirstOccurrenceFrom(LocalDateTime start, LocalDateTime from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+
+        // Counting whole units from the start can be off by one, e.g. for months of different lengths
+        long n = frequency.unit.between(start, from);
+        while (n > 0 && !getOccurrence(start, n - 1).isBefore(from)) {
+            n--;
+        }
+        while (getOccurrence(start, n).isBefore(from)) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns true if the occurrence starting at {@code occurrenceStart} is on or before the last date of the series.
+     */
+    public boolean includes(LocalDateTime occurrenceStart) {
+        return until == null || !occurrenceStart.toLocalDate().isAfter(until);
+    }
+
+    /**
+     * Returns the number of the last occurrence of a series starting at {@code start},
+     * or {@code Long.MAX_VALUE} if it repeats forever.
+     */
+    public long getLastOccurrence(LocalDateTime start) {
+        if (until == null) {
+            return Long.MAX_VALUE;
+        }
+        return getFirstOccurrenceFrom(start, until.plusDays(1).atStartOfDay()) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return frequency == otherRecurrence.frequency && Objects.equals(until, otherRecurrence.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, until);
+    }
+}
@@ -3,14 +3,31 @@ package seedu.address.model.types.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.Duration;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
+import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.DateTimeUtil;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.NameIndex;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.event.exceptions.EventNotFoundException;
 
@@ -23,6 +40,14 @@ import seedu.address.model.types.event.exceptions.EventNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Changes can be grouped into a batch update, which is delivered to listeners of the observable list
+ * as a single change when the batch ends.
+ *
+ * The events are kept in order of their ongoing or next occurrence for the time the list was last updated:
+ * upcoming events first, soonest first, then past events, earliest first. Added and edited events are inserted
+ * in place, and the time at which each event's place may next change, such as when it starts, is tracked, so
+ * that bringing the order up to date only moves the events whose time has come instead of sorting the whole list.
+ *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
@@ -30,43 +55,230 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NameIndex<Event> nameIndex = new NameIndex<>();
+    /** Events that do not repeat, by start time and by the time they take up. */
+    private final EventTimeIndex timeIndex = new EventTimeIndex();
+    private final EventIntervalIndex intervalIndex = new EventIntervalIndex();
+    /** Recurring events, by the start time of their first occurrence. */
+    private final EventTimeIndex recurringIndex = new EventTimeIndex();
+    /** The number of events that do not repeat starting on each day. */
+    private final Map<LocalDate, Integer> dayCounts = new HashMap<>();
+    /** The number of events with each tag. */
+    private final CountRanking<Tag> tagCounts = new CountRanking<>(Comparator.comparing(tag -> tag.tagName));
+
+    /** Number of batch updates in progress, which may be nested. */
+    private int batchUpdateDepth;
+    /** Copy of the list holding the changes made during the current batch update, or null if there are none. */
+    private List<Event> batchList;
+
+    /** The clock giving the current time the events are ordered for. */
+    private Clock clock = Clock.systemDefaultZone();
+    /** The time the events are ordered for. */
+    private LocalDateTime orderTime = DateTimeUtil.getCurrentDateTime(clock);
+    /** The times at which the place of some events in the order may change, mapped to those events. */
+    private final NavigableMap<LocalDateTime, Set<Event>> orderChanges = new TreeMap<>();
+    /** The time at which the place of each event in the order may next change. */
+    private final Map<Event, LocalDateTime> orderChangeTimes = new HashMap<>();
+
+    /**
+     * Starts a batch update. Until the matching {@link #endBatchUpdate()}, changes are made to a copy of the list,
+     * and the list returned by {@link #asUnmodifiableObservableList()} is not updated.
+     */
+    public void beginBatchUpdate() {
+        batchUpdateDepth++;
+    }
+
+    /**
+     * Ends a batch update, replacing the observable list with all changes made during the batch in one change.
+     * Nested batch updates are applied when the outermost one ends.
+     */
+    public void endBatchUpdate() {
+        if (batchUpdateDepth == 0) {
+            throw new IllegalStateException("No batch update in progress");
+        }
+
+        batchUpdateDepth--;
+        if (batchUpdateDepth > 0) {
+            return;
+        }
+
+        if (batchList != null) {
+            List<Event> updatedList = batchList;
+            batchList = null;
+            internalList.setAll(updatedList);
+        }
+    }
+
+    /**
+     * Returns the list holding the latest contents, which is the copy during a batch update.
+     */
+    private List<Event> getWorkingList() {
+        return batchList == null ? internalList : batchList;
+    }
+
+    /**
+     * Returns the list that changes should be made to, copying the list when a batch update first changes it.
+     */
+    private List<Event> getModifiableList() {
+        if (batchUpdateDepth == 0) {
+            return internalList;
+        }
+        if (batchList == null) {
+            batchList = new ArrayList<>(internalList);
+        }
+        return batchList;
+    }
+
+    /**
+     * Orders the events for the current time of {@code clock} from now on, which may be earlier than the time
+     * they are ordered for, e.g. when a simulated clock replaces the system clock.
+     */
+    public void setClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        orderTime = DateTimeUtil.getCurrentDateTime(clock);
+        replaceAll(new ArrayList<>(getWorkingList()));
+    }
+
+    /**
+     * Brings the order of the events up to date with the current time, moving only the events whose place in the
+     * order has changed since the last update, such as events that have started.
+     */
+    public void updateEventOrder() {
+        updateEventOrder(DateTimeUtil.getCurrentDateTime(clock));
+    }
 
     /**
-     * Resorts Events
+     * Brings the order of the events up to date with {@code now}, or keeps it if it is for a later time.
      */
-    public void sortEvents() {
-        internalList.sort((event1, event2) -> {
-            long remainingTime1 = getEventTimeRemaining(event1);
-            long remainingTime2 = getEventTimeRemaining(event2);
+    void updateEventOrder(LocalDateTime now) {
+        LocalDateTime previousOrderTime = orderTime;
+        if (now.isAfter(orderTime)) {
+            orderTime = now;
+        }
+
+        List<Event> movedEvents = new ArrayList<>();
+        while (!orderChanges.isEmpty() && !orderChanges.firstKey().isAfter(orderTime)) {
+            for (Event event : orderChanges.pollFirstEntry().getValue()) {
+                orderChangeTimes.remove(event);
+                movedEvents.add(event);
+            }
+        }
+        if (movedEvents.isEmpty()) {
+            return;
+        }
 
-            // Compare based on the remaining time in minutes
-            if (remainingTime1 == 0 && remainingTime2 == 0) {
-                return 0; // Both events start now
-            } else if (remainingTime1 == 0) {
-                return -1; // event1 starts now, it comes first
-            } else if (remainingTime2 == 0) {
-                return 1; // event2 starts now, it comes first
+        // Listeners receive one change however many events are moved, so that each moved event is both removed
+        // and added within it
+        beginBatchUpdate();
+        try {
+            // The list is still in the order for the previous time, so each moved event is found by binary search.
+            // The other events keep their places relative to each other, so the moved events can be inserted in order
+            List<Event> events = getModifiableList();
+            Comparator<Event> previousOrder = getOrder(previousOrderTime);
+            for (Event event : movedEvents) {
+                events.remove(indexOf(events, event, previousOrder));
             }
+            for (Event event : movedEvents) {
+                insertInOrder(events, event);
+            }
+        } finally {
+            endBatchUpdate();
+        }
+    }
+
+    /**
+     * Returns the position of {@code event} in {@code events}, which are in the given {@code order}, in O(log n)
+     * comparisons and a step for each other event in the same place in the order.
+     */
+    private static int indexOf(List<Event> events, Event event, Comparator<Event> order) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(events.get(middle), event) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        while (!events.get(low).equals(event)) {
+            low++;
+        }
+        return low;
+    }
 
-            // If both events are in the past
-            if (remainingTime1 < 0 && remainingTime2 < 0) {
-                return Long.compare(remainingTime1, remainingTime2); // Sort by which event is further in the past
-            } else if (remainingTime1 < 0) {
-                return 1; // event1 is in the past, comes after event2
-            } else if (remainingTime2 < 0) {
-                return -1; // event2 is in the past, comes after event1
+    /**
+     * Inserts {@code event} into {@code events}, which are in order for {@link #orderTime}, after the events that
+     * come before it or at the same time, and tracks when its place may change.
+     */
+    private void insertInOrder(List<Event> events, Event event) {
+        Comparator<Event> order = getOrder(orderTime);
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(events.get(middle), event) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
+        }
+        events.add(low, event);
+        trackOrderChange(event);
+    }
 
-            // Sort based on remaining time in minutes
-            return Long.compare(remainingTime1, remainingTime2);
-        });
+    /**
+     * Returns the order of events at {@code now}: upcoming events, by the start of their next occurrence,
+     * then past and ongoing events, by the start of their last or ongoing occurrence.
+     */
+    private static Comparator<Event> getOrder(LocalDateTime now) {
+        return Comparator.comparing((Event event) -> getOrderKey(event, now).isBefore(now))
+                .thenComparing(event -> getOrderKey(event, now));
     }
 
-    private long getEventTimeRemaining(Event event) {
-        LocalDateTime eventStart = event.getStartTime().toLocalDateTime();
-        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
-        Duration duration = Duration.between(now, eventStart);
-        return duration.toMillis();
+    private static DateTime getOrderKey(Event event, LocalDateTime now) {
+        return event.getOccurrenceAt(now).getStartTime();
+    }
+
+    /**
+     * Records the time after {@link #orderTime} at which the place of {@code event} in the order may next change:
+     * when its next occurrence starts, or when its ongoing occurrence ends if another one follows.
+     */
+    private void trackOrderChange(Event event) {
+        Optional<LocalDateTime> changeTime = getOrderChangeTime(event, orderTime);
+        if (changeTime.isEmpty()) {
+            return;
+        }
+
+        orderChangeTimes.put(event, changeTime.get());
+        orderChanges.computeIfAbsent(changeTime.get(), unused -> new LinkedHashSet<>()).add(event);
+    }
+
+    private static Optional<LocalDateTime> getOrderChangeTime(Event event, LocalDateTime now) {
+        Event occurrence = event.getOccurrenceAt(now);
+        LocalDateTime start = occurrence.getStartTime().toLocalDateTime();
+        if (!start.isBefore(now)) {
+            // An event is upcoming until the moment it has started
+            return Optional.of(start.plusNanos(1));
+        }
+        if (event.isRecurring() && occurrence.getOccupiedUntil().isAfter(now)) {
+            return Optional.of(occurrence.getOccupiedUntil());
+        }
+        return Optional.empty();
+    }
+
+    private void untrackOrderChange(Event event) {
+        LocalDateTime changeTime = orderChangeTimes.remove(event);
+        if (changeTime == null) {
+            return;
+        }
+
+        Set<Event> events = orderChanges.get(changeTime);
+        events.remove(event);
+        if (events.isEmpty()) {
+            orderChanges.remove(changeTime);
+        }
     }
 
     /**
@@ -74,7 +286,136 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return nameIndex.contains(toCheck.getName());
+    }
+
+    /**
+     * Returns the event with exactly the given {@code name}, or null if there is none.
+     */
+    public Event getEventByName(Name name) {
+        requireNonNull(name);
+        return nameIndex.get(name);
+    }
+
+    /**
+     * Returns up to {@code limit} event names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> getNamesStartingWith(String prefix, int limit) {
+        return nameIndex.getNamesStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and strictly before {@code to},
+     * in chronological order.
+     * Recurring events are represented by their occurrences in the window, which are only created for it.
+     */
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        List<Event> events = timeIndex.getEventsBetween(from, to);
+        List<Event> series = recurringIndex.getEventsBetween(LocalDateTime.MIN, to);
+        if (series.isEmpty()) {
+            return events;
+        }
+
+        for (Event recurringEvent : series) {
+            events.addAll(recurringEvent.getOccurrencesBetween(from, to));
+        }
+        events.sort(Comparator.comparing(Event::getStartTime));
+        return events;
+    }
+
+    /**
+     * Returns the events that take up some of the time {@code event} takes up, other than {@code event} itself,
+     * in chronological order of their first occurrences.
+     * If {@code event} repeats, only its first occurrence is compared, with every occurrence of the other events.
+     */
+    public List<Event> getEventsOverlapping(Event event) {
+        requireNonNull(event);
+        LocalDateTime from = event.getStartTime().toLocalDateTime();
+        LocalDateTime to = event.getOccupiedUntil();
+        List<Event> events = intervalIndex.getEventsOverlapping(from, to);
+        List<Event> series = recurringIndex.getEventsBetween(LocalDateTime.MIN, to);
+        for (Event recurringEvent : series) {
+            if (recurringEvent.hasOccurrenceOverlapping(from, to)) {
+                events.add(recurringEvent);
+            }
+        }
+        if (!series.isEmpty()) {
+            events.sort(Comparator.comparing(Event::getStartTime));
+        }
+        events.removeIf(event::isSameEvent);
+        return events;
+    }
+
+    /**
+     * Returns the number of events starting on each of the {@code days} days from {@code from}, in order.
+     * Events that do not repeat are counted per day as they are added and removed, so each day takes O(1)
+     * for them, while each occurrence of the few recurring events is checked for the day.
+     */
+    public Map<LocalDate, Integer> getEventCountsByDay(LocalDate from, int days) {
+        requireNonNull(from);
+        LocalDate to = from.plusDays(days);
+        List<Event> series = recurringIndex.getEventsBetween(LocalDateTime.MIN, to.atStartOfDay());
+        Map<LocalDate, Integer> counts = new LinkedHashMap<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            int count = dayCounts.getOrDefault(day, 0);
+            for (Event recurringEvent : series) {
+                if (recurringEvent.hasOccurrenceStartingBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay())) {
+                    count++;
+                }
+            }
+            counts.put(day, count);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns up to {@code limit} of the tags of the events in the list, the most used first,
+     * with the number of events having each tag.
+     */
+    public List<CountRanking.Entry<Tag>> getTopTags(int limit) {
+        return tagCounts.getTop(limit);
+    }
+
+    /**
+     * Indexes {@code event} by name and by time, and counts it for its start day and its tags.
+     */
+    private void index(Event event) {
+        nameIndex.add(event.getName(), event);
+        addToTimeIndexes(event);
+        event.getTags().forEach(tagCounts::increment);
+    }
+
+    private void unindex(Event event) {
+        nameIndex.remove(event.getName());
+        removeFromTimeIndexes(event);
+        event.getTags().forEach(tagCounts::decrement);
+    }
+
+    /**
+     * Indexes {@code event} by time, in the indexes for events that repeat or that do not.
+     */
+    private void addToTimeIndexes(Event event) {
+        if (event.isRecurring()) {
+            recurringIndex.add(event);
+        } else {
+            timeIndex.add(event);
+            intervalIndex.add(event);
+            dayCounts.merge(getStartDay(event), 1, Integer::sum);
+        }
+    }
+
+    private void removeFromTimeIndexes(Event event) {
+        if (event.isRecurring()) {
+            recurringIndex.remove(event);
+        } else {
+            timeIndex.remove(event);
+            intervalIndex.remove(event);
+            dayCounts.computeIfPresent(getStartDay(event), (day, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private static LocalDate getStartDay(Event event) {
+        return event.getStartTime().toLocalDateTime().toLocalDate();
     }
 
     /**
@@ -86,8 +427,9 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
-        sortEvents();
+        updateEventOrder();
+        insertInOrder(getModifiableList(), toAdd);
+        index(toAdd);
     }
 
     /**
@@ -98,7 +440,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = getWorkingList().indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -107,8 +449,12 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
-        sortEvents();
+        untrackOrderChange(target);
+        getModifiableList().remove(index);
+        updateEventOrder();
+        insertInOrder(getModifiableList(), editedEvent);
+        unindex(target);
+        index(editedEvent);
     }
 
     /**
@@ -117,15 +463,16 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!getModifiableList().remove(toRemove)) {
             throw new EventNotFoundException();
         }
+        untrackOrderChange(toRemove);
+        unindex(toRemove);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        sortEvents();
+        replaceAll(replacement.getWorkingList());
     }
 
     /**
@@ -138,12 +485,40 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.setAll(events);
-        sortEvents();
+        replaceAll(events);
+    }
+
+    private void replaceAll(List<Event> events) {
+        // Sorted before replacing the list so that listeners receive a single change
+        LocalDateTime now = DateTimeUtil.getCurrentDateTime(clock);
+        if (now.isAfter(orderTime)) {
+            orderTime = now;
+        }
+        List<Event> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(getOrder(orderTime));
+        if (batchUpdateDepth == 0) {
+            internalList.setAll(sortedEvents);
+        } else {
+            batchList = sortedEvents;
+        }
+
+        nameIndex.clear();
+        timeIndex.clear();
+        intervalIndex.clear();
+        recurringIndex.clear();
+        dayCounts.clear();
+        tagCounts.clear();
+        orderChanges.clear();
+        orderChangeTimes.clear();
+        for (Event event : events) {
+            index(event);
+            trackOrderChange(event);
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * During a batch update, it does not reflect the changes made in the batch yet.
      */
     public ObservableList<Event> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -151,7 +526,7 @@ public class UniqueEventList implements Iterable<Event> {
 
     @Override
     public Iterator<Event> iterator() {
-        return internalList.iterator();
+        return getWorkingList().iterator();
     }
 
     @Override
@@ -166,28 +541,28 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         UniqueEventList otherUniqueEventList = (UniqueEventList) other;
-        return internalList.equals(otherUniqueEventList.internalList);
+        return getWorkingList().equals(otherUniqueEventList.getWorkingList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return getWorkingList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return getWorkingList().toString();
     }
 
     /**
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        // Events are the same event exactly when their names are equal
+        Set<Name> names = new HashSet<>();
+        for (Event event : events) {
+            if (!names.add(event.getName())) {
+                return false;
             }
         }
         return true;
@@ -3,11 +3,23 @@ package seedu.address.model.types.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.NameIndex;
 import seedu.address.model.types.person.exceptions.DuplicatePersonException;
 import seedu.address.model.types.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +32,9 @@ import seedu.address.model.types.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Changes can be grouped into a batch update, which is delivered to listeners of the observable list
+ * as a single change when the batch ends.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +42,73 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NameIndex<Person> nameIndex = new NameIndex<>();
+    /** The number of persons with each tag. */
+    private final CountRanking<Tag> tagCounts = new CountRanking<>(Comparator.comparing(tag -> tag.tagName));
+
+    /** Number of batch updates in progress, which may be nested. */
+    private int batchUpdateDepth;
+    /** Copy of the list holding the changes made during the current batch update, or null if there are none. */
+    private List<Person> batchList;
+
+    /**
+     * Starts a batch update. Until the matching {@link #endBatchUpdate()}, changes are made to a copy of the list
+     * and the list returned by {@link #asUnmodifiableObservableList()} is not updated.
+     */
+    public void beginBatchUpdate() {
+        batchUpdateDepth++;
+    }
+
+    /**
+     * Ends a batch update, replacing the observable list with all changes made during the batch in one change.
+     * Nested batch updates are applied when the outermost one ends.
+     */
+    public void endBatchUpdate() {
+        if (batchUpdateDepth == 0) {
+            throw new IllegalStateException("No batch update in progress");
+        }
+
+        batchUpdateDepth--;
+        if (batchUpdateDepth == 0 && batchList != null) {
+            List<Person> updatedList = batchList;
+            batchList = null;
+            internalList.setAll(updatedList);
+        }
+    }
+
+    /**
+     * Returns the list holding the latest contents, which is the copy during a batch update.
+     */
+    private List<Person> getWorkingList() {
+        return batchList == null ? internalList : batchList;
+    }
+
+    /**
+     * Returns the list that changes should be made to, copying the list when a batch update first changes it.
+     */
+    private List<Person> getModifiableList() {
+        if (batchUpdateDepth == 0) {
+            return internalList;
+        }
+        if (batchList == null) {
+            batchList = new ArrayList<>(internalList);
+        }
+        return batchList;
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.contains(toCheck.getName());
+    }
+
+    /**
+     * Returns up to {@code limit} person names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> getNamesStartingWith(String prefix, int limit) {
+        return nameIndex.getNamesStartingWith(prefix, limit);
     }
 
     /**
@@ -45,7 +120,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        getModifiableList().add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -56,7 +132,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = getWorkingList().indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +141,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        getModifiableList().set(index, editedPerson);
+        unindex(target);
+        index(editedPerson);
     }
 
     /**
@@ -74,14 +152,71 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!getModifiableList().remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        unindex(toRemove);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list in a single pass over the list.
+     * The persons must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        for (Person person : personsToRemove) {
+            if (!person.equals(nameIndex.get(person.getName()))) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        getModifiableList().removeIf(personsToRemove::contains);
+        personsToRemove.forEach(this::unindex);
+    }
+
+    /**
+     * Returns the positions of {@code persons} in the list, in increasing order.
+     */
+    public int[] indexesOf(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        return CollectionUtil.indexesOf(getWorkingList(), new HashSet<>(persons));
+    }
+
+    /**
+     * Returns the persons at {@code indexes} of the list, in the order of the indexes.
+     */
+    public List<Person> getAll(int[] indexes) {
+        requireNonNull(indexes);
+        List<Person> workingList = getWorkingList();
+        return Arrays.stream(indexes).mapToObj(workingList::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Inserts {@code toInsert} so that each person ends up at the matching position of {@code indexes}, e.g. to
+     * put removed persons back at the positions {@link #indexesOf(Collection)} returned before their removal.
+     * The persons must not already exist in the list.
+     */
+    public void insertAll(int[] indexes, List<Person> toInsert) {
+        requireAllNonNull(toInsert);
+        requireNonNull(indexes);
+        if (!personsAreUnique(toInsert) || toInsert.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        // Listeners receive one change however many persons are inserted
+        beginBatchUpdate();
+        try {
+            CollectionUtil.insertAll(getModifiableList(), indexes, toInsert);
+        } finally {
+            endBatchUpdate();
+        }
+        toInsert.forEach(this::index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.getWorkingList());
     }
 
     /**
@@ -94,11 +229,47 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(persons);
+    }
+
+    private void replaceAll(List<Person> persons) {
+        if (batchUpdateDepth == 0) {
+            internalList.setAll(persons);
+        } else {
+            batchList = new ArrayList<>(persons);
+        }
+
+        nameIndex.clear();
+        tagCounts.clear();
+        for (Person person : persons) {
+            index(person);
+        }
+    }
+
+    /**
+     * Indexes {@code person} by name and counts its tags.
+     */
+    private void index(Person person) {
+        nameIndex.add(person.getName(), person);
+        person.getTags().forEach(tagCounts::increment);
+    }
+
+    private void unindex(Person person) {
+        nameIndex.remove(person.getName());
+        person.getTags().forEach(tagCounts::decrement);
+    }
+
+    /**
+     * Returns up to {@code limit} of the tags of the persons in the list, the most used first,
+     * with the number of persons having each tag.
+     */
+    public List<CountRanking.Entry<Tag>> getTopTags(int limit) {
+        return tagCounts.getTop(limit);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * During a batch update, it does not reflect the changes made in the batch yet.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -106,7 +277,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return getWorkingList().iterator();
     }
 
     @Override
@@ -121,28 +292,28 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return getWorkingList().equals(otherUniquePersonList.getWorkingList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return getWorkingList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return getWorkingList().toString();
     }
 
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person exactly when their names are equal
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,167 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.DateTimeUtil;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Generates address books of any size for load testing, based on the sample data of {@link SampleDataUtil}.
+ * The generated data depends only on the arguments given, so the same book can be generated again
+ * by using the same seed.
+ *
+ * Tags are drawn from a vocabulary following Zipf's law: the k-th most common tag is used about 1/k times
+ * as often as the most common one, as is typical of user-chosen labels.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_INVALID_ARGUMENTS = "Counts must not be negative, there must be at least one "
+            + "tag, and each event cannot be linked to more persons than there are";
+
+    /** Events start within a year before or after this time. */
+    public static final LocalDateTime EVENTS_CENTRE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final String[] EVENT_KINDS = {
+        "Team Meeting", "Workshop", "Dinner", "Conference", "Hackathon", "Book Club", "Career Fair", "Concert"
+    };
+    private static final int MAX_TAGS_PER_PERSON = 3;
+    private static final int VENUE_COUNT = 50;
+    private static final int MINUTES_IN_YEAR = 365 * 24 * 60;
+
+    private final Person[] samplePersons = SampleDataUtil.getSamplePersons();
+    private final long seed;
+    private final int personCount;
+    private final int eventCount;
+    private final int linksPerEvent;
+    private final List<Tag> tagVocabulary;
+    /** Cumulative Zipf weights of the tags in {@code tagVocabulary}. */
+    private final double[] cumulativeTagWeights;
+
+    /**
+     * Creates a generator of address books with {@code personCount} persons and {@code eventCount} events,
+     * each event linked to {@code linksPerEvent} distinct persons, and tags drawn from a vocabulary of
+     * {@code tagCount} tags.
+     *
+     * @throws IllegalArgumentException if the counts are negative, {@code tagCount} is zero, or
+     *     {@code linksPerEvent} is greater than {@code personCount}.
+     */
+    public SyntheticDataGenerator(long seed, int personCount, int eventCount, int tagCount, int linksPerEvent) {
+        checkArgument(personCount >= 0 && eventCount >= 0 && tagCount > 0 && linksPerEvent >= 0
+                && linksPerEvent <= personCount, MESSAGE_INVALID_ARGUMENTS);
+        this.seed = seed;
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+        this.linksPerEvent = linksPerEvent;
+        tagVocabulary = createTagVocabulary(tagCount);
+
+        cumulativeTagWeights = new double[tagCount];
+        double totalWeight = 0;
+        for (int rank = 1; rank <= tagCount; rank++) {
+            totalWeight += 1.0 / rank;
+            cumulativeTagWeights[rank - 1] = totalWeight;
+        }
+    }
+
+    /**
+     * Returns {@code tagCount} tags, starting with those of the sample persons.
+     */
+    private List<Tag> createTagVocabulary(int tagCount) {
+        Set<Tag> sampleTags = new LinkedHashSet<>();
+        for (Person samplePerson : samplePersons) {
+            sampleTags.addAll(samplePerson.getTags());
+        }
+
+        List<Tag> tags = new ArrayList<>(sampleTags);
+        while (tags.size() < tagCount) {
+            tags.add(new Tag("tag" + (tags.size() + 1)));
+        }
+        return tags.subList(0, tagCount);
+    }
+
+    /**
+     * Generates a new address book. Every call with the same generator returns an equal address book.
+     */
+    public AddressBook generate() {
+        Random random = new Random(seed);
+        AddressBook addressBook = new AddressBook();
+        // Sorts the events once at the end instead of after every addition
+        addressBook.beginBatchUpdate();
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Person person = createPerson(i, random);
+            persons.add(person);
+            addressBook.addPerson(person);
+        }
+
+        for (int i = 0; i < eventCount; i++) {
+            Event event = createEvent(i, random);
+            addressBook.addEvent(event);
+
+            // Consecutive persons from a random start are distinct without having to check for repeats
+            int firstLinked = personCount == 0 ? 0 : random.nextInt(personCount);
+            for (int j = 0; j < linksPerEvent; j++) {
+                addressBook.linkPersonToEvent(persons.get((firstLinked + j) % personCount), event);
+            }
+        }
+
+        addressBook.endBatchUpdate();
+        return addressBook;
+    }
+
+    /**
+     * Returns a person based on one of the sample persons, made unique by {@code index}.
+     */
+    private Person createPerson(int index, Random random) {
+        Person template = samplePersons[index % samplePersons.length];
+        String[] emailParts = template.getEmail().value.split("@", 2);
+
+        return new Person(new Name(template.getName().fullName + " " + index),
+                new Phone(String.valueOf(80000000L + index)),
+                new Email(emailParts[0] + index + "@" + emailParts[1]),
+                template.getAddress(), createTags(1 + random.nextInt(MAX_TAGS_PER_PERSON), random));
+    }
+
+    private Event createEvent(int index, Random random) {
+        String name = EVENT_KINDS[random.nextInt(EVENT_KINDS.length)] + " " + index;
+        LocalDateTime startTime = EVENTS_CENTRE.plusMinutes(random.nextInt(2 * MINUTES_IN_YEAR) - MINUTES_IN_YEAR);
+        return new Event(new Name(name), new Address("Venue " + random.nextInt(VENUE_COUNT)),
+                new DateTime(startTime.format(DateTimeUtil.DATE_TIME_FORMATTER)), null, null, null,
+                createTags(1, random));
+    }
+
+    /**
+     * Returns up to {@code count} tags drawn from the vocabulary, fewer if the same tag is drawn more than once.
+     */
+    private Set<Tag> createTags(int count, Random random) {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(drawTag(random));
+        }
+        return tags;
+    }
+
+    private Tag drawTag(Random random) {
+        double target = random.nextDouble() * cumulativeTagWeights[cumulativeTagWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeTagWeights, target);
+        // binarySearch returns (-(insertion point) - 1) when target is not one of the weights
+        return tagVocabulary.get(index >= 0 ? index : -index - 1);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -14,7 +15,9 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 
 /**
  * Jackson-friendly version of {@link Event}.
@@ -26,6 +29,12 @@ class JsonAdaptedEvent {
     private final String name;
     private final String address;
     private final String startTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String endTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String recurrence;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer capacity;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
     /**
@@ -34,10 +43,16 @@ class JsonAdaptedEvent {
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("name") String name, @JsonProperty("address") String address,
                              @JsonProperty("startTime") String startTime,
+                             @JsonProperty("endTime") String endTime,
+                             @JsonProperty("recurrence") String recurrence,
+                             @JsonProperty("capacity") Integer capacity,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
         this.name = name;
         this.address = address;
         this.startTime = startTime;
+        this.endTime = endTime;
+        this.recurrence = recurrence;
+        this.capacity = capacity;
         if (tags != null) {
             this.tags.addAll(tags);
         }
@@ -49,7 +64,10 @@ class JsonAdaptedEvent {
     public JsonAdaptedEvent(Event source) {
         name = source.getName().fullName;
         address = source.getLocation().value;
-        startTime = source.getStartTime().value;
+        startTime = source.getStartTime().toString();
+        endTime = source.getEndTime().map(DateTime::toString).orElse(null);
+        recurrence = source.getRecurrence().map(rule -> rule.value).orElse(null);
+        capacity = source.getCapacity().map(limit -> limit.value).orElse(null);
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -91,8 +109,42 @@ class JsonAdaptedEvent {
         }
         final DateTime modelStartTime = new DateTime(startTime);
 
+        // An event without an end time has none stored
+        DateTime modelEndTime = null;
+        if (endTime != null) {
+            if (!DateTime.isValidDateTime(endTime)) {
+                throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+            }
+            modelEndTime = new DateTime(endTime);
+            if (!Event.isValidEndTime(modelStartTime, modelEndTime)) {
+                throw new IllegalValueException(Event.MESSAGE_END_TIME_CONSTRAINTS);
+            }
+        }
+
+        // An event that does not repeat has no recurrence stored
+        Recurrence modelRecurrence = null;
+        if (recurrence != null) {
+            if (!Recurrence.isValidRecurrence(recurrence)) {
+                throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+            }
+            modelRecurrence = new Recurrence(recurrence);
+            if (!Event.isValidRecurrence(modelStartTime, modelRecurrence)) {
+                throw new IllegalValueException(Event.MESSAGE_RECURRENCE_CONSTRAINTS);
+            }
+        }
+
+        // An event that anyone can be linked to has no capacity stored
+        Capacity modelCapacity = null;
+        if (capacity != null) {
+            if (!Capacity.isValidCapacity(capacity.toString())) {
+                throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+            }
+            modelCapacity = new Capacity(capacity.toString());
+        }
+
         final Set<Tag> modelTags = new HashSet<>(eventTags);
-        return new Event(modelName, modelAddress, modelStartTime, modelTags);
+        return new Event(modelName, modelAddress, modelStartTime, modelEndTime, modelRecurrence, modelCapacity,
+                modelTags);
     }
 
 }
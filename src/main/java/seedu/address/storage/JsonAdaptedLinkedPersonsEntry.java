@@ -5,10 +5,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.common.Waitlist;
 import seedu.address.model.types.person.Person;
 
 /**
@@ -20,14 +22,21 @@ public class JsonAdaptedLinkedPersonsEntry {
 
     private final List<JsonAdaptedPerson> persons;
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedPerson> waitlist = new ArrayList<>();
+
     /**
      * Constructs a {@code JsonAdaptedLinkedPersonsEntry} with the given linked persons entry details.
      */
     @JsonCreator
     public JsonAdaptedLinkedPersonsEntry(@JsonProperty("event") JsonAdaptedEvent event,
-                                         @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+                                         @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                         @JsonProperty("waitlist") List<JsonAdaptedPerson> waitlist) {
         this.event = event;
         this.persons = persons;
+        if (waitlist != null) {
+            this.waitlist.addAll(waitlist);
+        }
     }
 
     /**
@@ -38,6 +47,9 @@ public class JsonAdaptedLinkedPersonsEntry {
         this.persons = source.getPersons().stream()
                 .map(JsonAdaptedPerson::new)
                 .collect(Collectors.toList());
+        this.waitlist.addAll(source.getWaitlist().asList().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -47,6 +59,12 @@ public class JsonAdaptedLinkedPersonsEntry {
      * @throws IllegalValueException if there were any data constraints violated in the adapted linked persons entry.
      */
     public LinkedPersonsEntry toModelType() throws IllegalValueException {
+        ArrayList<Person> modelPersons = toModelPersons(persons);
+        Waitlist modelWaitlist = new Waitlist(toModelPersons(waitlist));
+        return new LinkedPersonsEntry(event.toModelType(), modelPersons, modelWaitlist);
+    }
+
+    private static ArrayList<Person> toModelPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
         ArrayList<Person> modelPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             try {
@@ -55,6 +73,6 @@ public class JsonAdaptedLinkedPersonsEntry {
                 throw new IllegalValueException("Error converting JsonAdaptedPerson to Person: " + e.getMessage());
             }
         }
-        return new LinkedPersonsEntry(event.toModelType(), modelPersons);
+        return modelPersons;
     }
 }
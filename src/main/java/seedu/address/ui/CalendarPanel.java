@@ -0,0 +1,271 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.ToggleGroup;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.types.common.DateTimeUtil;
+import seedu.address.model.types.event.Event;
+
+/**
+ * Panel showing the events of a single day, week or month in chronological order.
+ * Only the events within the displayed period are queried, and they are rendered by a virtualized
+ * {@code ListView} whose cells are reused, so a period with thousands of events still renders quickly.
+ */
+public class CalendarPanel extends UiPart<Region> {
+    private static final String FXML = "CalendarPanel.fxml";
+    private static final String MESSAGE_NO_EVENTS = "No events in this period";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE, d MMM yyyy");
+    private static final DateTimeFormatter SHORT_DAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Logger logger = LogsCenter.getLogger(CalendarPanel.class);
+
+    private final EventRangeQuery eventRangeQuery;
+    private final Clock clock;
+    private final ObservableList<Event> displayedEvents = FXCollections.observableArrayList();
+
+    private CalendarView calendarView = CalendarView.WEEK;
+    private LocalDate anchorDate;
+
+    @FXML
+    private Button previousButton;
+    @FXML
+    private Button todayButton;
+    @FXML
+    private Button nextButton;
+    @FXML
+    private Label rangeLabel;
+    @FXML
+    private ToggleGroup viewToggleGroup;
+    @FXML
+    private ToggleButton dayButton;
+    @FXML
+    private ToggleButton weekButton;
+    @FXML
+    private ToggleButton monthButton;
+    @FXML
+    private ListView<Event> calendarListView;
+
+    /**
+     * Creates a {@code CalendarPanel} that displays events retrieved through {@code eventRangeQuery}
+     * and is refreshed whenever {@code eventList} changes. The period shown first, and whenever "today" is
+     * clicked, is the one containing the current date of {@code clock}.
+     */
+    public CalendarPanel(ObservableList<Event> eventList, EventRangeQuery eventRangeQuery, Clock clock) {
+        super(FXML);
+        requireAllNonNull(eventRangeQuery, clock);
+        this.eventRangeQuery = eventRangeQuery;
+        this.clock = clock;
+        anchorDate = DateTimeUtil.getCurrentDateTime(clock).toLocalDate();
+
+        calendarListView.setItems(displayedEvents);
+        calendarListView.setCellFactory(listView -> new CalendarListViewCell());
+        calendarListView.setPlaceholder(new Label(MESSAGE_NO_EVENTS));
+
+        eventList.addListener(this::handleEventListChange);
+        initializeControls();
+        refresh();
+    }
+
+    private void initializeControls() {
+        previousButton.setOnAction(event -> shiftPeriod(-1));
+        nextButton.setOnAction(event -> shiftPeriod(1));
+        todayButton.setOnAction(event -> {
+            anchorDate = DateTimeUtil.getCurrentDateTime(clock).toLocalDate();
+            refresh();
+        });
+
+        dayButton.setOnAction(event -> setCalendarView(CalendarView.DAY));
+        weekButton.setOnAction(event -> setCalendarView(CalendarView.WEEK));
+        monthButton.setOnAction(event -> setCalendarView(CalendarView.MONTH));
+        viewToggleGroup.selectToggle(weekButton);
+    }
+
+    private void setCalendarView(CalendarView calendarView) {
+        this.calendarView = calendarView;
+        // Keep the current view selected when its button is clicked again
+        viewToggleGroup.selectToggle(getToggleButton(calendarView));
+        refresh();
+    }
+
+    private ToggleButton getToggleButton(CalendarView calendarView) {
+        switch (calendarView) {
+        case DAY:
+            return dayButton;
+        case MONTH:
+            return monthButton;
+        default:
+            return weekButton;
+        }
+    }
+
+    private void shiftPeriod(int periods) {
+        anchorDate = calendarView.shift(anchorDate, periods);
+        refresh();
+    }
+
+    /**
+     * Reloads the events within the displayed period.
+     * Changes that only reorder the event list (e.g. the periodic re-sort) do not affect the calendar
+     * and are ignored.
+     */
+    private void handleEventListChange(ListChangeListener.Change<? extends Event> change) {
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                refresh();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reloads the events within the displayed period.
+     */
+    public void refresh() {
+        LocalDate startDate = calendarView.getStartDate(anchorDate);
+        LocalDate endDate = calendarView.shift(startDate, 1);
+        rangeLabel.setText(calendarView.getDescription(startDate, endDate.minusDays(1)));
+        eventRangeQuery.getEventsBetween(startDate.atStartOfDay(), endDate.atStartOfDay(), events -> {
+            logger.fine("Displaying " + events.size() + " events from " + startDate + " to " + endDate);
+            displayedEvents.setAll(events);
+            calendarListView.scrollTo(0);
+        });
+    }
+
+    /**
+     * The length of the period displayed by the calendar.
+     */
+    enum CalendarView {
+        DAY, WEEK, MONTH;
+
+        /**
+         * Returns the first day of the period of this length containing {@code date}.
+         * Weeks start on Monday.
+         */
+        LocalDate getStartDate(LocalDate date) {
+            switch (this) {
+            case DAY:
+                return date;
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            default:
+                return date.withDayOfMonth(1);
+            }
+        }
+
+        /**
+         * Returns {@code date} moved forward by {@code periods} periods of this length, or backward if negative.
+         */
+        LocalDate shift(LocalDate date, int periods) {
+            switch (this) {
+            case DAY:
+                return date.plusDays(periods);
+            case WEEK:
+                return date.plusWeeks(periods);
+            default:
+                return date.plusMonths(periods);
+            }
+        }
+
+        /**
+         * Returns a description of the period from {@code firstDay} to {@code lastDay} inclusive.
+         */
+        String getDescription(LocalDate firstDay, LocalDate lastDay) {
+            switch (this) {
+            case DAY:
+                return firstDay.format(DAY_FORMATTER);
+            case WEEK:
+                return firstDay.format(SHORT_DAY_FORMATTER) + " - " + lastDay.format(SHORT_DAY_FORMATTER)
+                        + " " + lastDay.getYear();
+            default:
+                return firstDay.format(MONTH_FORMATTER);
+            }
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays an {@code Event} as a row of the calendar, preceded by a heading
+     * for its day if it is the first event of that day.
+     * The cell's nodes are created once and only their text is updated when the cell is reused.
+     */
+    class CalendarListViewCell extends ListCell<Event> {
+        private final Label dayLabel = new Label();
+        private final Label timeLabel = new Label();
+        private final Label nameLabel = new Label();
+        private final Label locationLabel = new Label();
+        private final VBox container;
+
+        CalendarListViewCell() {
+            dayLabel.getStyleClass().add("calendar-day-label");
+            timeLabel.getStyleClass().add("cell_big_label");
+            timeLabel.setMinWidth(Region.USE_PREF_SIZE);
+            nameLabel.getStyleClass().add("cell_big_label");
+            locationLabel.getStyleClass().add("cell_small_label");
+
+            HBox eventRow = new HBox(15, timeLabel, new VBox(nameLabel, locationLabel));
+            eventRow.getStyleClass().add("calendar-event-row");
+            container = new VBox(dayLabel, eventRow);
+        }
+
+        @Override
+        protected void updateItem(Event event, boolean empty) {
+            super.updateItem(event, empty);
+
+            if (empty || event == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+
+            LocalDateTime startTime = event.getStartTime().toLocalDateTime();
+            boolean isFirstOfDay = getIndex() == 0
+                    || !getListView().getItems().get(getIndex() - 1).getStartTime().toLocalDateTime().toLocalDate()
+                            .equals(startTime.toLocalDate());
+            dayLabel.setText(startTime.format(DAY_FORMATTER));
+            dayLabel.setVisible(isFirstOfDay);
+            dayLabel.setManaged(isFirstOfDay);
+
+            timeLabel.setText(startTime.format(TIME_FORMATTER));
+            nameLabel.setText(event.getName().fullName);
+            locationLabel.setText(event.getLocation().value);
+            setGraphic(container);
+        }
+    }
+
+    /**
+     * Retrieves the events starting within a time window.
+     */
+    @FunctionalInterface
+    public interface EventRangeQuery {
+        /**
+         * Passes the events starting at or after {@code from} and strictly before {@code to},
+         * in chronological order, to {@code resultHandler} on the JavaFX Application Thread.
+         */
+        void getEventsBetween(LocalDateTime from, LocalDateTime to, Consumer<List<Event>> resultHandler);
+    }
+}
@@ -1,13 +1,21 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -19,18 +27,25 @@ public class CommandBox extends UiPart<Region> {
 
     private final CommandExecutor commandExecutor;
     private final HintHandler hintHandler;
+    private final SuggestionProvider suggestionProvider;
     private final MainWindow mainWindow;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+
+    private boolean isExecuting;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code HintHandler}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code HintHandler}
+     * and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor, HintHandler hintHandler, MainWindow mainWindow) {
+    public CommandBox(CommandExecutor commandExecutor, HintHandler hintHandler,
+                      SuggestionProvider suggestionProvider, MainWindow mainWindow) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         this.hintHandler = hintHandler;
+        this.suggestionProvider = suggestionProvider;
         this.mainWindow = mainWindow;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((observable, oldValue, newValue) -> {
@@ -40,25 +55,88 @@ public class CommandBox extends UiPart<Region> {
             } else if (mainWindow.isHintDisplayed()) {
                 mainWindow.clearResultDisplay();
             }
+            showSuggestions(newValue);
+        });
+
+        // Tab accepts the first suggestion instead of moving focus away from the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && suggestionMenu.isShowing()
+                    && !suggestionMenu.getItems().isEmpty()) {
+                suggestionMenu.getItems().get(0).fire();
+                event.consume();
+            }
         });
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box does not accept input until the command has finished executing.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isExecuting) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        suggestionMenu.hide();
+        setExecuting(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, exception) -> {
+            setExecuting(false);
+            if (exception == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private void setExecuting(boolean isExecuting) {
+        this.isExecuting = isExecuting;
+        commandTextField.setEditable(!isExecuting);
+    }
+
+    /**
+     * Shows the completions of the name being typed in {@code commandText} below the command box once they
+     * are found, unless the text has changed by then.
+     */
+    private void showSuggestions(String commandText) {
+        if (ClearCommand.isPrompted()) {
+            suggestionMenu.hide();
+            return;
         }
+
+        suggestionProvider.getSuggestions(commandText, suggestions -> {
+            if (commandText.equals(commandTextField.getText())) {
+                showSuggestions(commandText, suggestions);
+            }
+        });
+    }
+
+    private void showSuggestions(String commandText, List<String> suggestions) {
+        if (suggestions.isEmpty() || (suggestions.size() == 1 && suggestions.get(0).equals(commandText))) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            MenuItem menuItem = new MenuItem(suggestion);
+            menuItem.setMnemonicParsing(false);
+            menuItem.setOnAction(event -> acceptSuggestion(suggestion));
+            menuItems.add(menuItem);
+        }
+        suggestionMenu.getItems().setAll(menuItems);
+
+        if (!suggestionMenu.isShowing() && commandTextField.getScene() != null) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void acceptSuggestion(String suggestion) {
+        commandTextField.setText(suggestion);
+        commandTextField.positionCaret(suggestion.length());
+        suggestionMenu.hide();
     }
 
     /**
@@ -87,11 +165,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX Application
+         * Thread, or completed exceptionally if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
@@ -104,4 +183,18 @@ public class CommandBox extends UiPart<Region> {
          */
         void handleRealTimeHint(String inputText);
     }
+
+    /**
+     * Represents a function that can suggest completions of the name being typed.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Starts finding the current input completed with each matching person or event name, and passes them
+         * to {@code resultHandler} on the JavaFX Application Thread.
+         *
+         * @see seedu.address.logic.Logic#getCommandSuggestions(String)
+         */
+        void getSuggestions(String inputText, Consumer<List<String>> resultHandler);
+    }
 }
@@ -0,0 +1,129 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.Diagnostics;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs tasks that access the model, such as commands, one at a time on a background thread
+ * so that the JavaFX Application Thread stays responsive while they run.
+ *
+ * The model must only be accessed through this runner once it is started. The UI displays
+ * {@code Mirror}s of the model instead, which are brought up to date on the JavaFX Application Thread
+ * after each task, in a single batch per task.
+ */
+public class CommandRunner {
+
+    private static final String THREAD_NAME = "command-runner";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Mirror> mirrors = new ArrayList<>();
+
+    /**
+     * Registers {@code mirror} to be brought up to date after every task.
+     * Mirrors must be added before any task is submitted.
+     */
+    public void addMirror(Mirror mirror) {
+        mirrors.add(mirror);
+    }
+
+    /**
+     * Runs {@code task} on the background thread, then passes its result to {@code resultHandler},
+     * or the exception it threw to {@code exceptionHandler}, on the JavaFX Application Thread.
+     * All mirrors are up to date by the time either handler is called.
+     *
+     * @param taskName The kind of task, under which its durations are recorded in {@link Diagnostics}.
+     */
+    public <T> void submit(String taskName, Callable<T> task, Consumer<T> resultHandler,
+                           Consumer<Throwable> exceptionHandler) {
+        requireAllNonNull(taskName, task, resultHandler, exceptionHandler);
+        executor.execute(() -> {
+            long startNanos = System.nanoTime();
+            Runnable handleOutcome;
+            try {
+                T result = task.call();
+                handleOutcome = () -> resultHandler.accept(result);
+            } catch (Throwable e) {
+                // Errors such as failed assertions are reported too, so that the UI does not wait forever
+                handleOutcome = () -> exceptionHandler.accept(e);
+            }
+
+            Runnable updateMirrors = getMirrorUpdates();
+            Diagnostics.recordTiming(taskName + " (background thread)", System.nanoTime() - startNanos);
+
+            Runnable handler = handleOutcome;
+            Platform.runLater(() -> {
+                long fxStartNanos = System.nanoTime();
+                updateMirrors.run();
+                handler.run();
+                Diagnostics.recordTiming(taskName + " (FX thread)", System.nanoTime() - fxStartNanos);
+            });
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread, logging any exception it throws.
+     */
+    public void submit(String taskName, Runnable task) {
+        submit(taskName, () -> {
+            task.run();
+            return null;
+        }, unused -> {}, e -> logger.warning("Background task failed: " + e));
+    }
+
+    /**
+     * Collects the pending updates of all mirrors. Called on the background thread.
+     */
+    private Runnable getMirrorUpdates() {
+        List<Runnable> updates = new ArrayList<>();
+        for (Mirror mirror : mirrors) {
+            updates.add(mirror.getPendingUpdate());
+        }
+        return () -> updates.forEach(Runnable::run);
+    }
+
+    /**
+     * Stops accepting tasks and waits briefly for the running task, e.g. a save, to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Command runner did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A copy of part of the model for display on the JavaFX Application Thread.
+     */
+    @FunctionalInterface
+    public interface Mirror {
+        /**
+         * Captures the changes to the model since the last call, and returns an update that applies them
+         * to the copy. Called on the background thread; the update is run on the JavaFX Application Thread.
+         */
+        Runnable getPendingUpdate();
+    }
+}
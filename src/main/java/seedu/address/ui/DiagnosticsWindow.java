@@ -0,0 +1,98 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Logger;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import seedu.address.commons.core.Diagnostics;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Controller for a window showing the measurements collected by {@link Diagnostics}.
+ * The window is not reachable from the menus; it is opened with a keyboard shortcut when diagnostics are enabled.
+ */
+public class DiagnosticsWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(DiagnosticsWindow.class);
+    private static final String FXML = "DiagnosticsWindow.fxml";
+    private static final DateTimeFormatter DUMP_FILE_NAME_FORMATTER =
+            DateTimeFormatter.ofPattern("'diagnostics-'yyyyMMdd-HHmmss'.txt'");
+
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> refresh()));
+
+    @FXML
+    private TextArea report;
+
+    @FXML
+    private Label dumpStatus;
+
+    /**
+     * Creates a new DiagnosticsWindow.
+     */
+    public DiagnosticsWindow() {
+        super(FXML, new Stage());
+        refreshTimeline.setCycleCount(Animation.INDEFINITE);
+        getRoot().setOnHidden(event -> refreshTimeline.stop());
+    }
+
+    /**
+     * Shows the diagnostics window, refreshing the report every second while it is showing.
+     */
+    public void show() {
+        refresh();
+        refreshTimeline.play();
+        getRoot().show();
+    }
+
+    /**
+     * Returns true if the diagnostics window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Hides the diagnostics window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+
+    /**
+     * Focuses on the diagnostics window.
+     */
+    public void focus() {
+        getRoot().requestFocus();
+    }
+
+    private void refresh() {
+        report.setText(Diagnostics.getReport());
+    }
+
+    /**
+     * Writes the current report to a new file in the working directory.
+     */
+    @FXML
+    private void dumpReport() {
+        Path dumpFile = Paths.get(LocalDateTime.now().format(DUMP_FILE_NAME_FORMATTER));
+        try {
+            FileUtil.writeToFile(dumpFile, Diagnostics.getReport());
+            dumpStatus.setText("Saved to " + dumpFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Could not write diagnostics to " + dumpFile + ": " + e);
+            dumpStatus.setText("Could not save: " + e.getMessage());
+        }
+    }
+}
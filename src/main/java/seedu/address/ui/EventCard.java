@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
@@ -10,9 +13,9 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.DateTimeUtil;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
 
 /**
  * A UI component that displays information of a {@code Event}.
@@ -21,6 +24,9 @@ public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventListCard.fxml";
 
+    /** Most persons on the waitlist named on the card. */
+    private static final int MAX_WAITLIST_NAMES = 5;
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -31,6 +37,8 @@ public class EventCard extends UiPart<Region> {
 
     public final Event event;
 
+    private final Clock clock;
+
     @FXML
     private HBox cardPane;
     @FXML
@@ -42,46 +50,87 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private Label address;
     @FXML
+    private Label capacity;
+    @FXML
+    private Label waitlist;
+    @FXML
     private FlowPane tags;
     @FXML
     private Label statusLabel;
 
     /**
-     * Creates a {@code EventCode} with the given {@code Event} and index to display.
+     * Creates a {@code EventCode} with the given {@code Event}, index and persons on its {@code waitlist}
+     * to display, counting down to the event by the time of {@code clock}.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard(Event event, int displayedIndex, List<Person> waitlist, Clock clock) {
         super(FXML);
         this.event = event;
+        this.clock = clock;
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
         address.setText(event.getLocation().value);
-        time.setText(event.getStartTime().value);
+        // A recurring event is shown by its ongoing or next occurrence
+        Event occurrence = event.getOccurrenceAt(DateTimeUtil.getCurrentDateTime(clock));
+        time.setText(occurrence.getEndTime()
+                .map(endTime -> occurrence.getStartTime() + " to " + endTime)
+                .orElse(occurrence.getStartTime().toString())
+                + event.getRecurrence().map(recurrence -> " (repeats " + recurrence + ")").orElse(""));
+        setCapacityLabel(event);
+        setWaitlistLabel(waitlist);
         event.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        setEventStatusLabel(event.getStartTime());
+        setEventStatusLabel(event);
         initializeUpdateTimeline();
     }
 
+    /**
+     * Shows the capacity of {@code event}, or hides the capacity label if it can have any number of persons.
+     */
+    private void setCapacityLabel(Event event) {
+        event.getCapacity().ifPresent(eventCapacity -> capacity.setText("Capacity: " + eventCapacity));
+        capacity.setVisible(event.getCapacity().isPresent());
+        capacity.setManaged(event.getCapacity().isPresent());
+    }
+
+    /**
+     * Shows the first persons on {@code waitlistedPersons}, front first, or hides the waitlist label if it is empty.
+     */
+    private void setWaitlistLabel(List<Person> waitlistedPersons) {
+        String names = waitlistedPersons.stream()
+                .limit(MAX_WAITLIST_NAMES)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        int unnamedCount = waitlistedPersons.size() - MAX_WAITLIST_NAMES;
+        waitlist.setText("Waitlist: " + names + (unnamedCount > 0 ? " and " + unnamedCount + " more" : ""));
+        waitlist.setVisible(!waitlistedPersons.isEmpty());
+        waitlist.setManaged(!waitlistedPersons.isEmpty());
+    }
+
     private void initializeUpdateTimeline() {
         Timeline updateTimeline = DateTimeUtil.createTimeline(() -> {
-            setEventStatusLabel(this.event.getStartTime());
+            setEventStatusLabel(this.event);
         });
         updateTimeline.play();
     }
 
-    private void setEventStatusLabel(DateTime startTime) {
-        LocalDateTime eventStart = startTime.toLocalDateTime();
-        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
+    private void setEventStatusLabel(Event event) {
+        LocalDateTime now = DateTimeUtil.getCurrentDateTime(clock);
+        Event occurrence = event.getOccurrenceAt(now);
+        LocalDateTime eventStart = occurrence.getStartTime().toLocalDateTime();
         Duration duration = Duration.between(now, eventStart);
+        // An event without an end time is only ongoing at its start time
+        boolean hasEnded = occurrence.getEndTime()
+                .map(endTime -> !now.isBefore(endTime.toLocalDateTime()))
+                .orElse(duration.isNegative());
 
         String statusText;
         String styleClass;
 
-        if (duration.isNegative()) {
+        if (hasEnded) {
             statusText = "Completed";
             styleClass = "event-status-completed";
-        } else if (duration.isZero()) {
+        } else if (duration.isZero() || duration.isNegative()) {
             statusText = "Ongoing";
             styleClass = "event-status-ongoing";
         } else {
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -7,8 +10,10 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.Diagnostics;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
 
 
 /**
@@ -21,13 +26,22 @@ public class EventListPanel extends UiPart<Region> {
     @FXML
     private ListView<Event> eventListView;
 
+    private final Map<Event, List<Person>> waitlists;
+    private final Clock clock;
+
     /**
-     * Creates a {@code EventListPanel} with the given {@code ObservableList}.
+     * Creates a {@code EventListPanel} with the given {@code ObservableList}, whose events are shown with their
+     * {@code waitlists} and counted down to by the time of {@code clock}.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, Map<Event, List<Person>> waitlists, Clock clock) {
         super(FXML);
+        this.waitlists = waitlists;
+        this.clock = clock;
         eventListView.setItems(eventList);
-        eventListView.setCellFactory(listView -> new EventListViewCell());
+        eventListView.setCellFactory(listView -> {
+            Diagnostics.incrementCounter("EventListPanel cells created");
+            return new EventListViewCell();
+        });
     }
 
     /**
@@ -42,9 +56,15 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                Diagnostics.incrementCounter("EventListPanel cards created");
+                setGraphic(new EventCard(event, getIndex() + 1, waitlists.getOrDefault(event, List.of()), clock)
+                        .getRoot());
             }
         }
     }
 
+    public void refreshEventListView() {
+        eventListView.refresh();
+    }
+
 }
@@ -0,0 +1,52 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} of the model for display on the JavaFX Application Thread.
+ * All changes made to the source list by a task are applied to the copy with a single {@code setAll}.
+ */
+public class ListMirror<T> implements CommandRunner.Mirror {
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+
+    /** Only accessed on the thread that modifies {@code source}. */
+    private boolean hasPendingChanges;
+
+    /**
+     * Creates a {@code ListMirror} of {@code source}, which must not be modified concurrently with this call.
+     */
+    public ListMirror(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        mirror.setAll(source);
+        source.addListener((ListChangeListener<T>) change -> hasPendingChanges = true);
+    }
+
+    @Override
+    public Runnable getPendingUpdate() {
+        if (!hasPendingChanges) {
+            return () -> {};
+        }
+
+        hasPendingChanges = false;
+        List<T> snapshot = new ArrayList<>(source);
+        return () -> mirror.setAll(snapshot);
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}, to be used on the JavaFX Application Thread only.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+}
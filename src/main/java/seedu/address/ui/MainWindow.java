@@ -1,10 +1,16 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -12,13 +18,18 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.address.commons.core.Diagnostics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ReminderScheduler;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.types.common.DateTimeUtil;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -27,18 +38,27 @@ import seedu.address.model.types.common.DateTimeUtil;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final KeyCombination DIAGNOSTICS_KEY_COMBINATION = KeyCombination.valueOf("Shortcut+Shift+D");
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private final CommandRunner commandRunner = new CommandRunner();
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private EventListPanel eventListPanel;
+    private CalendarPanel calendarPanel;
+    private StatisticsPanel statisticsPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private DiagnosticsWindow diagnosticsWindow;
     private NavBar navBar;
+    private StatusBarFooter statusBarFooter;
+    private ReminderScheduler reminderScheduler;
+    /** Whether the statistics page is shown, which the command runner thread reads after each task. */
+    private volatile boolean isStatisticsShown;
 
     @FXML
     private StackPane navBarPlaceholder;
@@ -54,6 +74,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane eventListPanelPlaceholder;
 
+    @FXML
+    private StackPane calendarPanelPlaceholder;
+
+    @FXML
+    private StackPane statisticsPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -66,6 +92,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private VBox eventList;
 
+    @FXML
+    private VBox calendar;
+
+    @FXML
+    private VBox statistics;
+
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
      */
@@ -83,13 +115,19 @@ public class MainWindow extends UiPart<Stage> {
 
         helpWindow = new HelpWindow();
 
-        // Resort Events at the exact minute mark
-        long currentTimeMillis = System.currentTimeMillis();
+        if (Diagnostics.isEnabled()) {
+            initializeDiagnostics();
+        }
+
+        // Events start at whole minutes, so the order of the events is brought up to date at the minute mark.
+        // Only the events that have started or ended since the last update are moved.
+        long currentTimeMillis = logic.getClock().millis();
         long delayMillis = 60000 - (currentTimeMillis % 60000);
 
-        Timeline eventReSortTimeline = DateTimeUtil.createTimeline(logic::reSortEvents,
+        Runnable updateEventOrder = () -> commandRunner.submit("event order update", logic::updateEventOrder);
+        Timeline eventOrderTimeline = DateTimeUtil.createTimeline(updateEventOrder,
                 javafx.util.Duration.minutes(1), delayMillis);
-        eventReSortTimeline.play();
+        eventOrderTimeline.play();
     }
 
     public Stage getPrimaryStage() {
@@ -100,6 +138,33 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
 
+    /**
+     * Records the duration of the CSS and layout passes of every pulse, and opens the hidden diagnostics window
+     * with {@code DIAGNOSTICS_KEY_COMBINATION}.
+     */
+    private void initializeDiagnostics() {
+        diagnosticsWindow = new DiagnosticsWindow();
+
+        Scene scene = primaryStage.getScene();
+        long[] pulseStartNanos = new long[1];
+        scene.addPreLayoutPulseListener(() -> pulseStartNanos[0] = System.nanoTime());
+        scene.addPostLayoutPulseListener(() ->
+                Diagnostics.recordTiming("pulse CSS and layout", System.nanoTime() - pulseStartNanos[0]));
+
+        scene.getAccelerators().put(DIAGNOSTICS_KEY_COMBINATION, this::handleDiagnostics);
+    }
+
+    /**
+     * Opens the diagnostics window or focuses on it if it's already opened.
+     */
+    private void handleDiagnostics() {
+        if (!diagnosticsWindow.isShowing()) {
+            diagnosticsWindow.show();
+        } else {
+            diagnosticsWindow.focus();
+        }
+    }
+
     /**
      * Sets the accelerator of a MenuItem.
      * @param keyCombination the KeyCombination value of the accelerator
@@ -132,24 +197,63 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The panels display mirrors of the model, since the model is modified by the {@code CommandRunner}.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getPersonEventAssociationMap());
+        ListMirror<Person> filteredPersons = new ListMirror<>(logic.getFilteredPersonList());
+        ListMirror<Event> filteredEvents = new ListMirror<>(logic.getFilteredEventList());
+        ListMirror<Event> allEvents = new ListMirror<>(logic.getAddressBook().getEventList());
+        PersonEventLinksMirror personEventLinks = new PersonEventLinksMirror(logic.getAddressBook());
+
+        commandRunner.addMirror(filteredPersons);
+        commandRunner.addMirror(filteredEvents);
+        commandRunner.addMirror(allEvents);
+        commandRunner.addMirror(personEventLinks);
+        // Counting the upcoming occurrences of recurring events takes time, so the statistics are only taken
+        // while they are shown
+        commandRunner.addMirror(() -> {
+            if (!isStatisticsShown) {
+                return () -> {};
+            }
+            AddressBookStatistics snapshot = logic.getStatistics();
+            return () -> statisticsPanel.setStatistics(snapshot);
+        });
+
+        personListPanel = new PersonListPanel(filteredPersons.asUnmodifiableObservableList(),
+                personEventLinks.getPersonEventAssociations());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(filteredEvents.asUnmodifiableObservableList(),
+                personEventLinks.getWaitlists(), logic.getClock());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
+        personEventLinks.setOnUpdate(() -> {
+            personListPanel.refreshPersonListView();
+            eventListPanel.refreshEventListView();
+        });
+
+        calendarPanel = new CalendarPanel(allEvents.asUnmodifiableObservableList(), this::getEventsBetween,
+                logic.getClock());
+        calendarPanelPlaceholder.getChildren().add(calendarPanel.getRoot());
+
+        statisticsPanel = new StatisticsPanel(logic.getStatistics());
+        statisticsPanelPlaceholder.getChildren().add(statisticsPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, this::handleRealTimeHint, this);
+        // Created before any task is submitted, so that the event list is not modified while it is read
+        reminderScheduler = new ReminderScheduler(logic.getAddressBook().getEventList(), reminder ->
+                Platform.runLater(() -> statusBarFooter.showReminder(reminder)), logic.getClock());
+        reminderScheduler.start();
+
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::handleRealTimeHint,
+                this::getCommandSuggestions, this);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        navBar = new NavBar(this::handleNav);
+        navBar = new NavBar(this::handleNav, logic.getClock());
         navBarPlaceholder.getChildren().add(navBar.getRoot());
 
         // Default view shows the contacts list
@@ -165,27 +269,47 @@ public class MainWindow extends UiPart<Stage> {
             displayContactsList();
         } else if (page.equals("Events")) {
             displayEventsList();
+        } else if (page.equals("Calendar")) {
+            displayCalendar();
+        } else if (page.equals("Stats")) {
+            displayStatistics();
         }
     }
 
     private void displayContactsList() {
         navBar.setActiveButton(navBar.getContactsButton());
-
-        personList.setVisible(true);
-        personList.setManaged(true);
-
-        eventList.setVisible(false);
-        eventList.setManaged(false);
+        displayPage(personList);
     }
 
     private void displayEventsList() {
         navBar.setActiveButton(navBar.getEventsButton());
+        displayPage(eventList);
+    }
 
-        eventList.setVisible(true);
-        eventList.setManaged(true);
+    private void displayCalendar() {
+        navBar.setActiveButton(navBar.getCalendarButton());
+        displayPage(calendar);
+    }
 
-        personList.setVisible(false);
-        personList.setManaged(false);
+    /**
+     * Shows the statistics page, bringing its statistics up to date in the background.
+     */
+    private void displayStatistics() {
+        navBar.setActiveButton(navBar.getStatisticsButton());
+        displayPage(statistics);
+        commandRunner.submit("statistics", logic::getStatistics, statisticsPanel::setStatistics,
+                e -> logger.warning("Could not retrieve statistics: " + e));
+    }
+
+    /**
+     * Shows {@code page} and hides the other pages of the main panel.
+     */
+    private void displayPage(VBox page) {
+        isStatisticsShown = page == statistics;
+        for (VBox eachPage : new VBox[] {personList, eventList, calendar, statistics}) {
+            eachPage.setVisible(eachPage == page);
+            eachPage.setManaged(eachPage == page);
+        }
     }
 
     /**
@@ -225,7 +349,14 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        if (diagnosticsWindow != null) {
+            diagnosticsWindow.hide();
+        }
         primaryStage.hide();
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+        commandRunner.shutdown();
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -236,14 +367,22 @@ public class MainWindow extends UiPart<Stage> {
         return eventListPanel;
     }
 
+    public CalendarPanel getCalendarPanel() {
+        return calendarPanel;
+    }
+
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns its result, which is completed on the
+     * JavaFX Application Thread once the result has been displayed.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        statusBarFooter.showProgress("Executing: " + commandText);
+
+        commandRunner.submit("command", () -> logic.execute(commandText), commandResult -> {
+            statusBarFooter.hideProgress();
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -259,12 +398,39 @@ public class MainWindow extends UiPart<Stage> {
                 handleRefresh();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            result.complete(commandResult);
+        }, e -> {
+            statusBarFooter.hideProgress();
+            if (e instanceof CommandException || e instanceof ParseException) {
+                logger.info("An error occurred while executing command: " + commandText);
+            } else {
+                logger.warning("Unexpected error while executing command: " + commandText + ": " + e);
+            }
+            resultDisplay.setFeedbackToUser(String.valueOf(e.getMessage()));
+            result.completeExceptionally(e);
+        });
+        return result;
+    }
+
+    /**
+     * Retrieves the events starting within the given time window in the background.
+     *
+     * @see seedu.address.logic.Logic#getEventsBetween(LocalDateTime, LocalDateTime)
+     */
+    private void getEventsBetween(LocalDateTime from, LocalDateTime to,
+                                  Consumer<List<Event>> resultHandler) {
+        commandRunner.submit("calendar query", () -> logic.getEventsBetween(from, to), resultHandler,
+                e -> logger.warning("Could not retrieve events: " + e));
+    }
+
+    /**
+     * Retrieves the completions of the name being typed in the background, since they are read from the model.
+     *
+     * @see seedu.address.logic.Logic#getCommandSuggestions(String)
+     */
+    private void getCommandSuggestions(String commandText, Consumer<List<String>> resultHandler) {
+        commandRunner.submit("suggestions", () -> logic.getCommandSuggestions(commandText), resultHandler,
+                e -> logger.warning("Could not retrieve suggestions: " + e));
     }
 
     /**
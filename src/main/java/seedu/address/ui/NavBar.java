@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.time.Clock;
+
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -9,7 +11,7 @@ import seedu.address.model.types.common.DateTimeUtil;
 
 /**
  * Represents a navigation bar to toggle between different pages,
- * such as Contacts and Events.
+ * such as Contacts, Events, Calendar and Stats.
  */
 public class NavBar extends UiPart<HBox> {
 
@@ -21,18 +23,25 @@ public class NavBar extends UiPart<HBox> {
     @FXML
     private Button eventsButton;
     @FXML
+    private Button calendarButton;
+    @FXML
+    private Button statisticsButton;
+    @FXML
     private Label dateTimeLabel;
 
     private final NavHandler navHandler;
+    private final Clock clock;
 
     /**
      * Creates a NavBar with the specified navigation handler.
      *
      * @param navHandler The handler to manage navigation actions for the buttons.
+     * @param clock The clock giving the date and time displayed.
      */
-    public NavBar(NavHandler navHandler) {
+    public NavBar(NavHandler navHandler, Clock clock) {
         super(FXML);
         this.navHandler = navHandler;
+        this.clock = clock;
         initializeButtons();
         initializeDateTime();
     }
@@ -47,6 +56,16 @@ public class NavBar extends UiPart<HBox> {
             navHandler.handleNav("Events");
             setActiveButton(eventsButton);
         });
+
+        calendarButton.setOnAction(event -> {
+            navHandler.handleNav("Calendar");
+            setActiveButton(calendarButton);
+        });
+
+        statisticsButton.setOnAction(event -> {
+            navHandler.handleNav("Stats");
+            setActiveButton(statisticsButton);
+        });
     }
 
     private void initializeDateTime() {
@@ -56,13 +75,15 @@ public class NavBar extends UiPart<HBox> {
     }
 
     private void updateDateTime() {
-        String formattedDateTime = DateTimeUtil.getCurrentDateTimeString();
+        String formattedDateTime = DateTimeUtil.getCurrentDateTimeString(clock);
         dateTimeLabel.setText(formattedDateTime);
     }
 
     public void setActiveButton(Button activeButton) {
         contactsButton.getStyleClass().remove("active");
         eventsButton.getStyleClass().remove("active");
+        calendarButton.getStyleClass().remove("active");
+        statisticsButton.getStyleClass().remove("active");
 
         activeButton.getStyleClass().add("active");
     }
@@ -75,6 +96,14 @@ public class NavBar extends UiPart<HBox> {
         return eventsButton;
     }
 
+    public Button getCalendarButton() {
+        return calendarButton;
+    }
+
+    public Button getStatisticsButton() {
+        return statisticsButton;
+    }
+
     /**
      * A functional interface to handle navigation actions when a button is pressed.
      * Implementing classes define how to switch views based on the selected page.
@@ -83,7 +112,7 @@ public class NavBar extends UiPart<HBox> {
         /**
          * Handles the navigation action based on the specified page.
          *
-         * @param page The name of the page to navigate to (e.g., "Contacts" or "Events").
+         * @param page The name of the page to navigate to (e.g., "Contacts", "Events", "Calendar" or "Stats").
          */
         void handleNav(String page);
     }
@@ -0,0 +1,91 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.types.common.PersonEventManager;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * A copy of the persons linked to each event of the model, and of the waitlists of full events, for display on the
+ * JavaFX Application Thread.
+ * The links are only copied again after a task changes them, as told by {@link PersonEventManager#getVersion()},
+ * since copying them takes time proportional to the number of links.
+ */
+public class PersonEventLinksMirror implements CommandRunner.Mirror {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Map<Event, ArrayList<Person>> personEventAssociations = new HashMap<>();
+    private final Map<Event, List<Person>> waitlists = new HashMap<>();
+    private Runnable onUpdate = () -> {};
+
+    /** The manager and version last copied. Only accessed on the thread that modifies the address book. */
+    private PersonEventManager copiedManager;
+    private long copiedVersion;
+
+    /**
+     * Creates a {@code PersonEventLinksMirror} of the links of {@code addressBook}, which must not be modified
+     * concurrently with this call.
+     */
+    public PersonEventLinksMirror(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        getPendingUpdate().run();
+    }
+
+    @Override
+    public Runnable getPendingUpdate() {
+        // The manager is replaced as a whole when the address book is reset, e.g. by an undo
+        PersonEventManager manager = addressBook.getPersonEventManager();
+        if (manager == copiedManager && manager.getVersion() == copiedVersion) {
+            return () -> {};
+        }
+
+        copiedManager = manager;
+        copiedVersion = manager.getVersion();
+        Map<Event, ArrayList<Person>> snapshot = new HashMap<>();
+        Map<Event, List<Person>> waitlistsSnapshot = new HashMap<>();
+        manager.getEventPersonMap().forEach((event, persons) -> {
+            snapshot.put(event, new ArrayList<>(persons));
+            if (manager.getWaitlistSize(event) > 0) {
+                waitlistsSnapshot.put(event, manager.getWaitlist(event));
+            }
+        });
+        return () -> {
+            personEventAssociations.clear();
+            personEventAssociations.putAll(snapshot);
+            waitlists.clear();
+            waitlists.putAll(waitlistsSnapshot);
+            onUpdate.run();
+        };
+    }
+
+    /**
+     * Sets {@code onUpdate} to be run on the JavaFX Application Thread whenever the copy has been brought up to date.
+     */
+    public void setOnUpdate(Runnable onUpdate) {
+        requireNonNull(onUpdate);
+        this.onUpdate = onUpdate;
+    }
+
+    /**
+     * Returns the persons linked to each event, to be read on the JavaFX Application Thread only.
+     */
+    public Map<Event, ArrayList<Person>> getPersonEventAssociations() {
+        return personEventAssociations;
+    }
+
+    /**
+     * Returns the persons on the waitlist of each event that has any, front first, to be read on the
+     * JavaFX Application Thread only.
+     */
+    public Map<Event, List<Person>> getWaitlists() {
+        return waitlists;
+    }
+}
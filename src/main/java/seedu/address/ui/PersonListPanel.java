@@ -11,6 +11,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.Diagnostics;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
@@ -33,7 +34,10 @@ public class PersonListPanel extends UiPart<Region> {
         super(FXML);
         this.personEventAssociationMap = personEventAssociationMap;
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> {
+            Diagnostics.incrementCounter("PersonListPanel cells created");
+            return new PersonListViewCell();
+        });
     }
 
     /**
@@ -49,6 +53,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 Set<Event> associatedEvents = findEventsForPerson(person);
+                Diagnostics.incrementCounter("PersonListPanel cards created");
                 setGraphic(new PersonCard(person, getIndex() + 1, associatedEvents).getRoot());
             }
         }
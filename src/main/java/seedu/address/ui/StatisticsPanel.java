@@ -0,0 +1,96 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.model.AddressBookStatistics;
+import seedu.address.model.types.common.CountRanking;
+
+/**
+ * Panel showing the statistics of the address book, such as the events with the most persons linked.
+ * The statistics are read from counts the model keeps up to date, and only the few rows shown are rendered,
+ * so the panel shows and updates as quickly at any size of address book.
+ */
+public class StatisticsPanel extends UiPart<Region> {
+    private static final String FXML = "StatisticsPanel.fxml";
+    private static final String MESSAGE_NONE = "None yet";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE, d MMM");
+
+    private AddressBookStatistics statistics;
+
+    @FXML
+    private Label overviewLabel;
+    @FXML
+    private VBox topEventsBox;
+    @FXML
+    private VBox topPersonsBox;
+    @FXML
+    private VBox topPersonTagsBox;
+    @FXML
+    private VBox topEventTagsBox;
+    @FXML
+    private VBox upcomingBox;
+
+    /**
+     * Creates a {@code StatisticsPanel} showing {@code statistics}.
+     */
+    public StatisticsPanel(AddressBookStatistics statistics) {
+        super(FXML);
+        setStatistics(statistics);
+    }
+
+    /**
+     * Shows {@code statistics}, unless they are the ones already shown.
+     */
+    public void setStatistics(AddressBookStatistics statistics) {
+        requireNonNull(statistics);
+        if (statistics.equals(this.statistics)) {
+            return;
+        }
+
+        this.statistics = statistics;
+        overviewLabel.setText(String.format("%d persons, %d events, %d links", statistics.getPersonCount(),
+                statistics.getEventCount(), statistics.getLinkCount()));
+        showRanking(topEventsBox, statistics.getTopEvents(), event -> event.getName().fullName, "person");
+        showRanking(topPersonsBox, statistics.getTopPersons(), person -> person.getName().fullName, "event");
+        showRanking(topPersonTagsBox, statistics.getTopPersonTags(), tag -> tag.tagName, "person");
+        showRanking(topEventTagsBox, statistics.getTopEventTags(), tag -> tag.tagName, "event");
+
+        upcomingBox.getChildren().clear();
+        statistics.getUpcomingEventCounts().forEach((day, count) ->
+                upcomingBox.getChildren().add(createRow(day.format(DAY_FORMATTER) + ": " + count(count, "event"))));
+    }
+
+    private <T> void showRanking(VBox box, List<CountRanking.Entry<T>> ranking, Function<T, String> toName,
+                                 String countedItem) {
+        box.getChildren().clear();
+        if (ranking.isEmpty()) {
+            box.getChildren().add(createRow(MESSAGE_NONE));
+            return;
+        }
+
+        for (int i = 0; i < ranking.size(); i++) {
+            CountRanking.Entry<T> entry = ranking.get(i);
+            box.getChildren().add(createRow(String.format("%d. %s (%s)", i + 1, toName.apply(entry.getItem()),
+                    count(entry.getCount(), countedItem))));
+        }
+    }
+
+    private static String count(int count, String item) {
+        return count + " " + item + (count == 1 ? "" : "s");
+    }
+
+    private static Label createRow(String text) {
+        Label row = new Label(text);
+        row.getStyleClass().add("statistics-row");
+        return row;
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -14,8 +18,21 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    /** Operations that finish faster than this do not show any progress, to avoid flickering. */
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
+
+    private final PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private HBox progressStatus;
+    @FXML
+    private Label progressLabel;
+    @FXML
+    private ProgressBar progressBar;
+    @FXML
+    private Label reminderStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -23,6 +40,38 @@ public class StatusBarFooter extends UiPart<Region> {
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        progressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        progressDelay.setOnFinished(event -> setProgressVisible(true));
+    }
+
+    /**
+     * Shows that {@code operation} is in progress, if it is still running after a short delay.
+     */
+    public void showProgress(String operation) {
+        progressLabel.setText(operation);
+        progressDelay.playFromStart();
+    }
+
+    /**
+     * Hides the progress of the operation shown by {@link #showProgress(String)}.
+     */
+    public void hideProgress() {
+        progressDelay.stop();
+        setProgressVisible(false);
+    }
+
+    /**
+     * Shows {@code reminder} until the next reminder is shown.
+     */
+    public void showReminder(String reminder) {
+        reminderStatus.setText(reminder);
+        reminderStatus.setVisible(true);
+        reminderStatus.setManaged(true);
+    }
+
+    private void setProgressVisible(boolean isVisible) {
+        progressStatus.setVisible(isVisible);
+        progressStatus.setManaged(isVisible);
     }
 
 }
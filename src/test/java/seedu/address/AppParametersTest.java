@@ -3,6 +3,7 @@ package seedu.address;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -13,6 +14,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Application;
+import seedu.address.logic.QueryRunner.OutputFormat;
 
 public class AppParametersTest {
 
@@ -39,10 +41,76 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parseCommandLine_noBatchParameters_notBatchMode() {
+        expected.setConfigPath(Paths.get("config.json"));
+        AppParameters parsed = AppParameters.parseCommandLine("--config=config.json", "--unknown=value", "unnamed");
+        assertEquals(expected, parsed);
+        assertFalse(parsed.isBatchMode());
+    }
+
+    @Test
+    public void parseCommandLine_batchParameters_success() {
+        expected.setBatchFilePath(Paths.get("commands.txt"));
+        expected.setCheckpointInterval(100);
+
+        // value after the name
+        AppParameters parsed = AppParameters.parseCommandLine("--batch", "commands.txt", "--checkpoint", "100");
+        assertEquals(expected, parsed);
+        assertTrue(parsed.isBatchMode());
+
+        // value after an equals sign
+        assertEquals(expected, AppParameters.parseCommandLine("--checkpoint=100", "--batch=commands.txt"));
+    }
+
+    @Test
+    public void parseCommandLine_invalidBatchParameters_throwsIllegalArgumentException() {
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_MISSING_VALUE, "--batch"), "--batch");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_INVALID_BATCH_PATH, ""), "--batch=");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_INVALID_BATCH_PATH, "a\0"),
+                "--batch", "a\0");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_INVALID_CHECKPOINT, "-1"),
+                "--batch", "commands.txt", "--checkpoint", "-1");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_INVALID_CHECKPOINT, "ten"),
+                "--checkpoint=ten");
+    }
+
+    @Test
+    public void parseCommandLine_queryParameters_success() {
+        expected.setQueryText("find e Concert Night");
+        expected.setOutputFormat(OutputFormat.JSON);
+
+        // value after the name
+        AppParameters parsed = AppParameters.parseCommandLine("--query", "find e Concert Night", "--format", "json");
+        assertEquals(expected, parsed);
+        assertTrue(parsed.isQueryMode());
+        assertFalse(parsed.isBatchMode());
+
+        // value after an equals sign, with the format in any case
+        assertEquals(expected, AppParameters.parseCommandLine("--format=JSON", "--query= find e Concert Night "));
+
+        // plain by default
+        assertEquals(OutputFormat.PLAIN, AppParameters.parseCommandLine("--query", "schedule 7").getOutputFormat());
+    }
+
+    @Test
+    public void parseCommandLine_invalidQueryParameters_throwsIllegalArgumentException() {
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_MISSING_VALUE, "--query"), "--query");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_MISSING_VALUE, "--query"), "--query= ");
+        assertParseCommandLineFailure(String.format(AppParameters.MESSAGE_INVALID_FORMAT, "xml"),
+                "--query", "schedule 7", "--format", "xml");
+        assertParseCommandLineFailure(AppParameters.MESSAGE_CONFLICTING_MODES,
+                "--query", "schedule 7", "--batch", "commands.txt");
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchFilePath=" + appParameters.getBatchFilePath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval()
+                + ", queryText=" + appParameters.getQueryText()
+                + ", outputFormat=" + appParameters.getOutputFormat() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +134,30 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchFilePath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different query -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setQueryText("schedule 7");
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different output format -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setOutputFormat(OutputFormat.JSON);
+        assertFalse(appParameters.equals(otherAppParameters));
+    }
+
+    private void assertParseCommandLineFailure(String expectedMessage, String... args) {
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> AppParameters.parseCommandLine(args));
     }
 
     private static class ParametersStub extends Application.Parameters {
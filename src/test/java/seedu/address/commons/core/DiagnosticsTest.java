@@ -0,0 +1,45 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DiagnosticsTest {
+
+    @AfterEach
+    public void tearDown() {
+        Diagnostics.setEnabled(false);
+    }
+
+    @Test
+    public void getReport_disabled_explainsHowToEnable() {
+        Diagnostics.recordTiming("command", 1_000_000);
+        String report = Diagnostics.getReport();
+        assertTrue(report.contains("disabled"));
+        assertFalse(report.contains("command"));
+    }
+
+    @Test
+    public void getReport_enabled_containsRecordedMeasurements() {
+        Diagnostics.setEnabled(true);
+        Diagnostics.recordTiming("command", 1_000_000);
+        Diagnostics.recordTiming("command", 3_000_000);
+        Diagnostics.incrementCounter("cells created");
+        Diagnostics.incrementCounter("cells created");
+
+        String report = Diagnostics.getReport();
+        assertTrue(report.contains("command: 2 / 2.00 / 3.00 / 3.00"));
+        assertTrue(report.contains("cells created: 2"));
+        assertTrue(report.contains("Timelines running: 0 (created: 0)"));
+    }
+
+    @Test
+    public void setEnabled_reenabled_clearsMeasurements() {
+        Diagnostics.setEnabled(true);
+        Diagnostics.incrementCounter("cells created");
+        Diagnostics.setEnabled(true);
+        assertFalse(Diagnostics.getReport().contains("cells created"));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexListTest {
+
+    private static final List<String> LIST = List.of("a", "b", "c", "d", "e", "f");
+
+    @Test
+    public void ofRange_firstAfterLast_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, IndexList.MESSAGE_INVALID_RANGE, ()
+            -> IndexList.ofRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void union_overlappingAndAdjacentRanges_merged() {
+        IndexList indexList = range(5, 6).union(range(1, 2)).union(IndexList.of(Index.fromOneBased(3)));
+        assertEquals(range(1, 3).union(range(5, 6)), indexList);
+        assertEquals(range(1, 6), indexList.union(range(2, 5)));
+
+        // repeated indexes are selected once
+        assertEquals(List.of("a", "b"), range(1, 2).union(range(1, 2)).select(LIST));
+    }
+
+    @Test
+    public void union_all_returnsAll() {
+        assertTrue(range(1, 2).union(IndexList.all()).isAll());
+        assertTrue(IndexList.all().union(range(1, 2)).isAll());
+    }
+
+    @Test
+    public void isWithin() {
+        assertTrue(range(1, 6).isWithin(6));
+        assertFalse(range(1, 7).isWithin(6));
+        assertFalse(range(1, 2).union(range(9, 9)).isWithin(6));
+        assertTrue(IndexList.all().isWithin(0));
+    }
+
+    @Test
+    public void select() {
+        assertEquals(List.of("b", "c", "d", "f"), range(6, 6).union(range(2, 4)).select(LIST));
+        assertEquals(LIST, IndexList.all().select(LIST));
+        assertThrows(IndexOutOfBoundsException.class, () -> range(5, 7).select(LIST));
+    }
+
+    @Test
+    public void equals() {
+        IndexList indexList = range(1, 3);
+
+        // same values -> returns true
+        assertTrue(indexList.equals(range(1, 3)));
+        assertTrue(IndexList.all().equals(IndexList.all()));
+
+        // same object -> returns true
+        assertTrue(indexList.equals(indexList));
+
+        // null -> returns false
+        assertFalse(indexList.equals(null));
+
+        // different type -> returns false
+        assertFalse(indexList.equals(5.0f));
+
+        // different indexes -> returns false
+        assertFalse(indexList.equals(range(1, 4)));
+        assertFalse(indexList.equals(IndexList.all()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexList indexList = range(1, 3).union(range(5, 5));
+        assertEquals(IndexList.class.getCanonicalName() + "{oneBasedIndexes=1-3,5}", indexList.toString());
+        assertEquals(IndexList.class.getCanonicalName() + "{oneBasedIndexes=all}", IndexList.all().toString());
+    }
+
+    private static IndexList range(int oneBasedFirst, int oneBasedLast) {
+        return IndexList.ofRange(Index.fromOneBased(oneBasedFirst), Index.fromOneBased(oneBasedLast));
+    }
+}
@@ -1,14 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,36 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void indexesOf() {
+        List<String> list = List.of("a", "b", "c", "b", "d");
+        assertArrayEquals(new int[] {1, 3, 4}, CollectionUtil.indexesOf(list, Set.of("b", "d", "z")));
+        assertArrayEquals(new int[0], CollectionUtil.indexesOf(list, Set.of()));
+    }
+
+    @Test
+    public void insertAll_indexesOfRemovedElements_restoresList() {
+        List<String> original = List.of("a", "b", "c", "d", "e", "f");
+        Set<String> toRemove = Set.of("a", "c", "d", "f");
+        int[] indexes = CollectionUtil.indexesOf(original, toRemove);
+
+        List<String> list = new ArrayList<>(original);
+        list.removeAll(toRemove);
+        CollectionUtil.insertAll(list, indexes, List.of("a", "c", "d", "f"));
+        assertEquals(original, list);
+
+        // inserting into an empty list
+        List<String> emptyList = new ArrayList<>();
+        CollectionUtil.insertAll(emptyList, new int[] {0, 1}, List.of("a", "b"));
+        assertEquals(List.of("a", "b"), emptyList);
+    }
+
+    @Test
+    public void insertAll_mismatchedIndexes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ()
+            -> CollectionUtil.insertAll(new ArrayList<>(), new int[] {0}, List.of("a", "b")));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_unquotedFields_success() {
+        assertEquals(Arrays.asList("a", "b c", "d"), CsvUtil.parseLine("a,b c,d"));
+        assertEquals(Arrays.asList("", "", ""), CsvUtil.parseLine(",,"));
+        assertEquals(Arrays.asList(""), CsvUtil.parseLine(""));
+        assertEquals(Arrays.asList(" a ", "b"), CsvUtil.parseLine(" a ,b"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_success() {
+        assertEquals(Arrays.asList("Block 312, Amy Street 1", "x"), CsvUtil.parseLine("\"Block 312, Amy Street 1\",x"));
+        assertEquals(Arrays.asList("say \"hi\"", ""), CsvUtil.parseLine("\"say \"\"hi\"\"\","));
+        assertEquals(Arrays.asList("", "a"), CsvUtil.parseLine("\"\",a"));
+    }
+
+    @Test
+    public void parseLine_invalidQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, ()
+            -> CsvUtil.parseLine("a,\"b"));
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, ()
+            -> CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void formatLine_fieldsNeedingQuotes_quoted() {
+        assertEquals("a,\"b,c\",\"say \"\"hi\"\"\",\" d \",", CsvUtil.formatLine(
+                Arrays.asList("a", "b,c", "say \"hi\"", " d ", "")));
+    }
+
+    @Test
+    public void formatLine_parseLine_roundTrip() {
+        List<String> fields = Arrays.asList("Alice Pauline", "123, Jurong West Ave 6, #08-111", "\"", ",", " ", "");
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.formatLine(fields)));
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    private static final String ADD_AMY = "add p" + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = "add p" + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+    private static final String INVALID_DELETE = "delete p 99";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private int saveCount;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, BatchRunner.MESSAGE_INVALID_CHECKPOINT_INTERVAL, () ->
+                new BatchRunner(logic, out, -1));
+    }
+
+    @Test
+    public void run_validCommands_savesOnceAtEnd() throws Exception {
+        Path batchFile = writeBatchFile(ADD_AMY, "", "# a comment", ADD_BOB, ListCommand.COMMAND_WORD);
+
+        assertTrue(new BatchRunner(logic, out, 0).run(batchFile));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount);
+
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("[line 1] " + BatchRunner.OUTCOME_SUCCESS));
+        assertTrue(report.contains("[line 4] " + BatchRunner.OUTCOME_SUCCESS));
+        assertTrue(report.contains("Ran 3 commands (0 failed)"));
+        assertFalse(report.contains("[line 3]"));
+    }
+
+    @Test
+    public void run_failingCommand_reportsFailureAndContinues() throws Exception {
+        Path batchFile = writeBatchFile(INVALID_DELETE, ADD_AMY);
+
+        assertFalse(new BatchRunner(logic, out, 0).run(batchFile));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount);
+
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("[line 1] " + BatchRunner.OUTCOME_FAILURE));
+        assertTrue(report.contains("[line 2] " + BatchRunner.OUTCOME_SUCCESS));
+        assertTrue(report.contains("Ran 2 commands (1 failed)"));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtCheckpointsAndEnd() throws Exception {
+        Path batchFile = writeBatchFile(ListCommand.COMMAND_WORD, ADD_AMY, INVALID_DELETE, ADD_BOB,
+                ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+
+        new BatchRunner(logic, out, 2).run(batchFile);
+        // After the 2nd and 4th successful commands, and after the last command
+        assertEquals(3, saveCount);
+    }
+
+    @Test
+    public void run_checkpointAfterLastCommand_notSavedAgain() throws Exception {
+        Path batchFile = writeBatchFile(ADD_AMY, ADD_BOB);
+
+        assertTrue(new BatchRunner(logic, out, 2).run(batchFile));
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_stopsRun() throws Exception {
+        Path batchFile = writeBatchFile(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertTrue(new BatchRunner(logic, out, 0).run(batchFile));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_noCommands_notSaved() throws Exception {
+        Path batchFile = writeBatchFile("# nothing to do");
+
+        assertTrue(new BatchRunner(logic, out, 0).run(batchFile));
+        assertEquals(0, saveCount);
+    }
+
+    @Test
+    public void run_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> new BatchRunner(logic, out, 0).run(temporaryFolder.resolve("none")));
+    }
+
+    private Path writeBatchFile(String... lines) throws IOException {
+        Path batchFile = temporaryFolder.resolve("commands.txt");
+        Files.write(batchFile, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return batchFile;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,16 +14,21 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.personcommands.AddPersonCommand;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -32,6 +38,7 @@ import seedu.address.model.types.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -42,6 +49,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -49,7 +57,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -71,11 +79,63 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_undoAfterCommand_restoresData() throws Exception {
+        String addCommand = AddPersonCommand.COMMAND_WORD + " p" + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandChangesThenFails_changesDiscarded() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) throws CommandException {
+                model.addPerson(AMY);
+                model.addEvent(new EventBuilder().build());
+                throw new CommandException("Failed part way");
+            }
+        };
+        logic = new LogicManager(model, storage, new AddressBookParser() {
+            @Override
+            public Command parseCommand(String userInput) {
+                return failingCommand;
+            }
+        });
+
+        assertThrows(CommandException.class, "Failed part way", () -> logic.execute("fail"));
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.canUndoAddressBook());
+    }
+
     @Test
     public void execute_getCommandHint_success() {
         assertEquals(logic.getCommandHint("zazaza"), HelpCommand.MESSAGE_USAGE);
     }
 
+    @Test
+    public void getCommandSuggestions_partialEventName_returnsCompletedCommands() {
+        model.addEvent(new EventBuilder().withName("Company Meeting").build());
+        model.addEvent(new EventBuilder().withName("Company Dinner").build());
+        model.addEvent(new EventBuilder().withName("Concert Night").build());
+
+        assertEquals(Arrays.asList("link 1 ev/Company Dinner", "link 1 ev/Company Meeting"),
+                logic.getCommandSuggestions("link 1 ev/comp"));
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("list"));
+    }
+
+    @Test
+    public void getCommandSuggestions_partialPersonName_returnsCompletedCommands() {
+        model.addPerson(new PersonBuilder(AMY).build());
+
+        assertEquals(Collections.singletonList("find p " + AMY.getName().fullName),
+                logic.getCommandSuggestions("find p am"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
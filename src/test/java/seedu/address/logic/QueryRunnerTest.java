@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.QueryRunner.OutputFormat;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.types.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class QueryRunnerTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+
+    @Test
+    public void run_findEventPlain_printsEventsWithLinkedPersons() throws Exception {
+        new QueryRunner(model, out, OutputFormat.PLAIN).run("find e Barbeque");
+
+        List<String> lines = getOutputLines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("Barbeque Party; Location: "));
+        assertTrue(lines.get(0).endsWith(QueryRunner.LINKED_PERSONS_LABEL + "Alice Pauline, Benson Meier, Carl Kurz"));
+    }
+
+    @Test
+    public void run_findPersonPlain_printsPersonsWithLinkedEvents() throws Exception {
+        new QueryRunner(model, out, OutputFormat.PLAIN).run("find p Carl");
+
+        List<String> lines = getOutputLines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith(QueryRunner.LINKED_EVENTS_LABEL + "Barbeque Party"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void run_searchPersonJson_printsJsonArray() throws Exception {
+        new QueryRunner(model, out, OutputFormat.JSON).run("search p owesMoney");
+
+        List<Map<String, Object>> results = JsonUtil.fromJsonString(output.toString(StandardCharsets.UTF_8),
+                List.class);
+        assertEquals(1, results.size());
+        assertEquals("Benson Meier", results.get(0).get("name"));
+        assertEquals(List.of("friends", "owesMoney"), results.get(0).get("tags"));
+        assertEquals(List.of("Barbeque Party"), results.get(0).get("events"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void run_findFullEvent_printsWaitlist() throws Exception {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        model.addEvent(smallEvent);
+        model.linkPersonsToEvent(List.of(model.getFilteredPersonList().get(0), model.getFilteredPersonList().get(1)),
+                smallEvent);
+
+        new QueryRunner(model, out, OutputFormat.PLAIN).run("find e Small");
+        assertTrue(getOutputLines().get(0).endsWith(QueryRunner.LINKED_PERSONS_LABEL + "Alice Pauline"
+                + QueryRunner.WAITLIST_LABEL + "Benson Meier"));
+
+        output.reset();
+        new QueryRunner(model, out, OutputFormat.JSON).run("find e Small");
+        List<Map<String, Object>> results = JsonUtil.fromJsonString(output.toString(StandardCharsets.UTF_8),
+                List.class);
+        assertEquals(List.of("Benson Meier"), results.get(0).get("waitlist"));
+    }
+
+    @Test
+    public void run_noResultsJson_printsEmptyArray() throws Exception {
+        new QueryRunner(new ModelManager(new AddressBook(), new UserPrefs()), out, OutputFormat.JSON)
+                .run("schedule 7");
+
+        assertEquals("[ ]", output.toString(StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    public void run_commandChangingData_throwsParseException() {
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        assertThrows(ParseException.class, QueryRunner.MESSAGE_NOT_A_QUERY, ()
+            -> new QueryRunner(model, out, OutputFormat.PLAIN).run("delete p 1"));
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertEquals("", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_unknownCommand_throwsParseException() {
+        assertThrows(ParseException.class, Messages.MESSAGE_UNKNOWN_COMMAND, ()
+            -> new QueryRunner(model, out, OutputFormat.PLAIN).run("unknown"));
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.UniqueEventList;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.SimulatedClock;
+
+public class ReminderSchedulerTest {
+
+    private static final Event LAUNCH = new EventBuilder().withName("Launch").withStartTime("2099-03-01 10:00")
+            .build();
+    private static final Event REVIEW = new EventBuilder().withName("Review").withStartTime("2099-03-01 09:00")
+            .build();
+
+    private final ObservableList<Event> events = FXCollections.observableArrayList();
+    private final List<String> notifications = new ArrayList<>();
+
+    @Test
+    public void pollDueReminders_remindersDue_returnsThemInChronologicalOrder() {
+        events.addAll(LAUNCH, REVIEW);
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 8, 45)), scheduler.getNextDueTime());
+        assertTrue(scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 1, 8, 44)).isEmpty());
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Review", "2099-03-01 09:00"),
+                String.format(ReminderScheduler.MESSAGE_REMINDER, "Launch", "2099-03-01 10:00")),
+                scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 1, 9, 45)));
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+        assertTrue(notifications.isEmpty());
+    }
+
+    @Test
+    public void pollDueReminders_eventsEditedAndDeleted_followsEventList() {
+        events.addAll(LAUNCH, REVIEW);
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+
+        Event movedLaunch = new EventBuilder(LAUNCH).withStartTime("2099-03-01 08:00").build();
+        events.set(0, movedLaunch);
+        events.remove(REVIEW);
+        FXCollections.sort(events, (first, second) -> first.getEventName().compareTo(second.getEventName()));
+
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 7, 45)), scheduler.getNextDueTime());
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Launch", "2099-03-01 08:00")),
+                scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 2, 0, 0)));
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void pollDueReminders_listReplacedWithSameEvents_notRemindedAgain() {
+        events.addAll(LAUNCH, REVIEW);
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+        assertEquals(1, scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 1, 8, 45)).size());
+
+        events.setAll(REVIEW, LAUNCH);
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 9, 45)), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void pollDueReminders_eventStartedBeforeReminded_remindedAfterOrderUpdate() {
+        SimulatedClock clock = SimulatedClock.startingAt(LocalDateTime.of(2099, 3, 1, 8, 0));
+        UniqueEventList eventList = new UniqueEventList();
+        eventList.setClock(clock);
+        eventList.setEvents(List.of(LAUNCH, REVIEW));
+        ReminderScheduler scheduler = new ReminderScheduler(eventList.asUnmodifiableObservableList(),
+                notifications::add, clock);
+
+        // the started event is moved after the upcoming one, and keeps its reminder that is due
+        clock.advance(Duration.ofMinutes(65));
+        eventList.updateEventOrder();
+        assertEquals(List.of(LAUNCH, REVIEW), eventList.asUnmodifiableObservableList());
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Review", "2099-03-01 09:00")),
+                scheduler.pollDueReminders(LocalDateTime.now(clock)));
+    }
+
+    @Test
+    public void pollDueReminders_recurringEvent_remindsOfEachOccurrence() {
+        events.add(new EventBuilder().withName("Standup").withStartTime("2099-03-01 09:00")
+                .withRecurrence("daily until 2099-03-02").build());
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Standup", "2099-03-01 09:00")),
+                scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 1, 8, 45)));
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 2, 8, 45)), scheduler.getNextDueTime());
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Standup", "2099-03-02 09:00")),
+                scheduler.pollDueReminders(LocalDateTime.of(2099, 3, 5, 0, 0)));
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void pollDueReminders_pastEvent_notReminded() {
+        events.add(new EventBuilder().withName("Retro").withStartTime("2000-01-01 09:00").build());
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void constructor_clockAfterEventStarted_onlyRemindsOfLaterEvents() {
+        events.addAll(LAUNCH, REVIEW);
+        SimulatedClock clock = SimulatedClock.startingAt(LocalDateTime.of(2099, 3, 1, 9, 30));
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add, clock);
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 9, 45)), scheduler.getNextDueTime());
+
+        // Events added after the clock is moved forward are scheduled from its new time
+        clock.advance(Duration.ofDays(1));
+        events.add(new EventBuilder().withName("Standup").withStartTime("2099-03-01 12:00")
+                .withRecurrence("daily").build());
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 9, 45)), scheduler.getNextDueTime());
+        assertEquals(List.of(String.format(ReminderScheduler.MESSAGE_REMINDER, "Launch", "2099-03-01 10:00"),
+                String.format(ReminderScheduler.MESSAGE_REMINDER, "Standup", "2099-03-02 12:00")),
+                scheduler.pollDueReminders(LocalDateTime.now(clock).plusHours(3)));
+    }
+
+    @Test
+    public void getQueueSize_manyEdits_staysWithinTwiceTheEvents() {
+        events.add(LAUNCH);
+        ReminderScheduler scheduler = new ReminderScheduler(events, notifications::add);
+        for (int i = 1; i <= 100; i++) {
+            events.set(0, new EventBuilder(LAUNCH).withStartTime(String.format("2099-03-01 10:%02d", i % 60))
+                    .build());
+        }
+        assertTrue(scheduler.getQueueSize() <= 3);
+        assertEquals(Optional.of(LocalDateTime.of(2099, 3, 1, 10, 25)), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void start_reminderDue_notifiesOnSchedulerThread() throws Exception {
+        ReminderScheduler scheduler = new ReminderScheduler(events, message -> {
+            synchronized (notifications) {
+                notifications.add(message);
+                notifications.notifyAll();
+            }
+        });
+        scheduler.start();
+        try {
+            // starts within the lead time, so its reminder is due at once
+            events.add(new EventBuilder().withName("Call").withStartTime(LocalDateTime.now().plusMinutes(5)
+                    .format(DATE_TIME_FORMATTER)).build());
+            synchronized (notifications) {
+                long deadline = System.currentTimeMillis() + 5000;
+                while (notifications.isEmpty() && System.currentTimeMillis() < deadline) {
+                    notifications.wait(deadline - System.currentTimeMillis());
+                }
+            }
+        } finally {
+            scheduler.stop();
+        }
+        assertEquals(1, notifications.size());
+        assertTrue(notifications.get(0).startsWith("Reminder: Call starts at "));
+    }
+}
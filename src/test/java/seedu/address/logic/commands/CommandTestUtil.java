@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
@@ -49,6 +50,7 @@ public class CommandTestUtil {
     public static final String VALID_ADDRESS_BOOK_FAIR = "45, Library Lane";
     public static final String VALID_START_TIME_ART_EXHIBIT = "2025-11-15 10:00";
     public static final String VALID_START_TIME_BOOK_FAIR = "2025-11-20 09:00";
+    public static final String VALID_END_TIME_BOOK_FAIR = "2025-11-20 18:00";
     public static final String VALID_TAG_LITERATURE = "literature";
     public static final String VALID_TAG_CULTURE = "culture";
 
@@ -70,6 +72,7 @@ public class CommandTestUtil {
     public static final String ADDRESS_DESC_BOOK_FAIR = " " + PREFIX_ADDRESS + VALID_ADDRESS_BOOK_FAIR;
     public static final String START_TIME_DESC_ART_EXHIBIT = " " + PREFIX_START_TIME + VALID_START_TIME_ART_EXHIBIT;
     public static final String START_TIME_DESC_BOOK_FAIR = " " + PREFIX_START_TIME + VALID_START_TIME_BOOK_FAIR;
+    public static final String END_TIME_DESC_BOOK_FAIR = " " + PREFIX_END_TIME + VALID_END_TIME_BOOK_FAIR;
     public static final String TAG_DESC_LITERATURE = " " + PREFIX_TAG + VALID_TAG_LITERATURE;
     public static final String TAG_DESC_CULTURE = " " + PREFIX_TAG + VALID_TAG_CULTURE;
 
@@ -8,10 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ANIME;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +25,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -48,6 +53,21 @@ public class AddEventCommandTest {
         assertEquals(Arrays.asList(validEvent), modelStub.eventsAdded);
     }
 
+    @Test
+    public void execute_overlappingEventAtSameLocation_addSuccessfulWithWarning() throws Exception {
+        ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
+        Event workshop = new EventBuilder().withName("Workshop").withStartTime("2024-10-15 09:00")
+                .withEndTime("2024-10-15 17:00").build();
+        Event talk = new EventBuilder().withName("Talk").withStartTime("2024-10-15 16:00").build();
+        new AddEventCommand(workshop).execute(modelStub);
+
+        CommandResult commandResult = new AddEventCommand(talk).execute(modelStub);
+
+        assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS, Messages.format(talk))
+                + "\n" + String.format(Messages.MESSAGE_EVENT_CONFLICTS, "Workshop"),
+                commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_duplicateEvent_throwsCommandException() {
         Event validEvent = new EventBuilder().build();
@@ -158,6 +178,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -178,6 +203,26 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int linkPersonsToEvent(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getWaitlistSize(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getWaitlist(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int unlinkPersonsFromEvent(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearAllEvents() {
             throw new AssertionError("This method should not be called.");
@@ -198,6 +243,21 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int showMoreFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAllFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addEvent(Event event) {
             throw new AssertionError("This method should not be called.");
@@ -234,7 +294,97 @@ public class AddEventCommandTest {
         }
 
         @Override
-        public void reSortEvents() {
+        public int showMoreFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getAllFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateEventOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Clock getClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getPersonNamesStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getEventNamesStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getConflictingEvents(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, List<Event>> getScheduleClashes(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatchUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatchUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -280,6 +430,15 @@ public class AddEventCommandTest {
             eventsAdded.add(event);
         }
 
+        @Override
+        public List<Event> getConflictingEvents(Event event) {
+            requireNonNull(event);
+            return eventsAdded.stream()
+                    .filter(other -> !other.isSameEvent(event) && other.overlaps(event)
+                            && other.getLocation().equals(event.getLocation()))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -24,6 +24,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.types.common.DateTimeUtil;
 import seedu.address.model.types.event.Event;
 import seedu.address.testutil.EditEventDescriptorBuilder;
 import seedu.address.testutil.EventBuilder;
@@ -104,6 +105,35 @@ public class EditEventCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_endTimeNotAfterEditedStartTime_failure() {
+        Event firstEvent = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
+        EditEventCommand.EditEventDescriptor descriptor = new EditEventDescriptorBuilder()
+                .withEndTime(firstEvent.getStartTime().toString()).build();
+        EditEventCommand editCommand = new EditEventCommand(INDEX_FIRST_EVENT, descriptor);
+
+        assertCommandFailure(editCommand, model, Event.MESSAGE_END_TIME_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_removeEndTime_success() {
+        Event firstEvent = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
+        Event firstEventWithEnd = new EventBuilder(firstEvent)
+                .withEndTime(firstEvent.getStartTime().toLocalDateTime().plusMinutes(1)
+                        .format(DateTimeUtil.DATE_TIME_FORMATTER))
+                .build();
+        model.setEvent(firstEvent, firstEventWithEnd);
+        EditEventCommand editCommand = new EditEventCommand(INDEX_FIRST_EVENT,
+                new EditEventDescriptorBuilder().withoutEndTime().build());
+
+        String expectedMessage = String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS,
+                Messages.format(firstEvent));
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setEvent(firstEventWithEnd, firstEvent);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_duplicateEventUnfilteredList_failure() {
         Event firstEvent = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
@@ -62,7 +62,10 @@ public class EditEventDescriptorTest {
         String expected = EditEventDescriptor.class.getCanonicalName() + "{name="
                 + editEventDescriptor.getName().orElse(null) + ", address="
                 + editEventDescriptor.getAddress().orElse(null) + ", start time="
-                + editEventDescriptor.getStartTime().orElse(null) + ", tags="
+                + editEventDescriptor.getStartTime().orElse(null) + ", end time="
+                + editEventDescriptor.getEndTime().orElse(null) + ", recurrence="
+                + editEventDescriptor.getRecurrence().orElse(null) + ", capacity="
+                + editEventDescriptor.getCapacity().orElse(null) + ", tags="
                 + editEventDescriptor.getTags().orElse(null) + "}";
         assertEquals(expected, editEventDescriptor.toString());
     }
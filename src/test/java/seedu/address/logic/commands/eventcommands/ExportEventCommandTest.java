@@ -0,0 +1,93 @@
+package seedu.address.logic.commands.eventcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.types.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ExportEventCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_unfilteredList_allEventsExported() {
+        Path file = temporaryFolder.resolve("events.csv");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ExportEventCommand(file), model, String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getFilteredEventList().size(), "events", file), expectedModel);
+    }
+
+    @Test
+    public void execute_exportThenImport_sameEvents() throws Exception {
+        Model bookFairModel = new ModelManager();
+        bookFairModel.addEvent(BOOK_FAIR);
+        Path file = temporaryFolder.resolve("events.csv");
+        new ExportEventCommand(file).execute(bookFairModel);
+
+        assertEquals(Arrays.asList("name,address,start time,tags,end time,recurrence,capacity",
+                "Book Fair,\"45, Library Lane\",2025-11-20 09:00,culture literature,,,"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+
+        // all typical events
+        new ExportEventCommand(file).execute(model);
+        Model importedModel = new ModelManager();
+        new ImportEventCommand(file).execute(importedModel);
+        assertEquals(model.getAddressBook().getEventList(), importedModel.getAddressBook().getEventList());
+    }
+
+    @Test
+    public void execute_exportThenImportScheduledEvent_sameEvent() throws Exception {
+        Event workshop = new EventBuilder().withName("Workshop").withStartTime("2025-11-20 09:00 Asia/Tokyo")
+                .withEndTime("2025-11-20 11:00 Asia/Tokyo").withRecurrence("weekly until 2025-12-18")
+                .withCapacity("20").build();
+        Model workshopModel = new ModelManager();
+        workshopModel.addEvent(workshop);
+        Path file = temporaryFolder.resolve("events.csv");
+        new ExportEventCommand(file).execute(workshopModel);
+
+        assertEquals("Workshop,\"" + workshop.getLocation() + "\",2025-11-20 09:00 Asia/Tokyo,,"
+                + "2025-11-20 11:00 Asia/Tokyo,weekly until 2025-12-18,20",
+                Files.readAllLines(file, StandardCharsets.UTF_8).get(1));
+
+        Model importedModel = new ModelManager();
+        new ImportEventCommand(file).execute(importedModel);
+        assertEquals(List.of(workshop), importedModel.getAddressBook().getEventList());
+    }
+
+    @Test
+    public void equals() {
+        ExportEventCommand exportFirstCommand = new ExportEventCommand(Paths.get("first.csv"));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportEventCommand(Paths.get("first.csv"))));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportEventCommand(Paths.get("second.csv"))));
+    }
+}
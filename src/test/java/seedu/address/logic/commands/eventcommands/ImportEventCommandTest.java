@@ -0,0 +1,128 @@
+package seedu.address.logic.commands.eventcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ImportEventCommandTest {
+
+    private static final String HEADER = "name,address,start time,tags,end time,recurrence,capacity";
+    private static final String BASIC_HEADER = "name,address,start time,tags";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_validAndInvalidRows_validRowsImported() throws IOException {
+        model.addEvent(ART_EXHIBIT);
+        Path file = writeFile(BASIC_HEADER,
+                "Book Fair,\"45, Library Lane\",2025-11-20 09:00,culture literature",
+                "Art Exhibit,\"101, Art Street\",2025-11-15 10:00,culture",
+                "Career Fair,Hall 1,2025-13-01 09:00,");
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addEvent(ART_EXHIBIT);
+        expectedModel.addEvent(BOOK_FAIR);
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, "events", file, 3, 2),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, AddEventCommand.MESSAGE_DUPLICATE_EVENT),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, DateTime.MESSAGE_CONSTRAINTS));
+
+        assertCommandSuccess(new ImportEventCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_endTimeRecurrenceAndCapacity_importedIfValid() throws IOException {
+        Path file = writeFile(HEADER,
+                "Book Fair,\"45, Library Lane\",2025-11-20 09:00,culture literature,,,",
+                "Workshop,Hall 1,2025-11-20 09:00,,2025-11-20 11:00,weekly,20",
+                "Career Fair,Hall 2,2025-11-20 09:00,,2025-11-20 08:00,,",
+                "Open Day,Hall 3,2025-11-20 09:00,,,daily until 2025-11-19,",
+                "Tour,Hall 4,2025-11-20 09:00,,,,none");
+
+        Event workshop = new EventBuilder().withName("Workshop").withAddress("Hall 1")
+                .withStartTime("2025-11-20 09:00").withEndTime("2025-11-20 11:00").withRecurrence("weekly")
+                .withCapacity("20").build();
+        Model expectedModel = new ModelManager();
+        expectedModel.addEvent(BOOK_FAIR);
+        expectedModel.addEvent(workshop);
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, "events", file, 5, 3),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, Event.MESSAGE_END_TIME_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, Event.MESSAGE_RECURRENCE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 6, Capacity.MESSAGE_CONSTRAINTS));
+
+        assertCommandSuccess(new ImportEventCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rowWithBasicColumnsUnderFullHeader_rowSkipped() throws IOException {
+        Path file = writeFile(HEADER, "Book Fair,\"45, Library Lane\",2025-11-20 09:00,culture literature");
+
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 0, "events", file, 1, 1),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 2,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 7, 4)));
+
+        assertCommandSuccess(new ImportEventCommand(file), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_personHeader_throwsCommandException() throws IOException {
+        Path file = writeFile("name,phone,email,address,tags");
+
+        assertCommandFailure(new ImportEventCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_HEADER, HEADER));
+    }
+
+    @Test
+    public void equals() {
+        ImportEventCommand importFirstCommand = new ImportEventCommand(Paths.get("first.csv"));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportEventCommand(Paths.get("first.csv"))));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(new ImportEventCommand(Paths.get("second.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("events.csv");
+        String expected = ImportEventCommand.class.getCanonicalName() + "{filePath=" + file + "}";
+        assertEquals(expected, new ImportEventCommand(file).toString());
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("events.csv");
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.eventcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_MORE_EVENTS;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.types.common.EventNameContainsKeywordsPredicate;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MoreEventCommand}.
+ */
+public class MoreEventCommandTest {
+
+    private static final int EVENT_COUNT = Model.PAGE_SIZE + 20;
+
+    private final Model model = new ModelManager(getManyEventsAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getManyEventsAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_findMoreEventsThanPage_firstPageListed() {
+        EventNameContainsKeywordsPredicate predicate = new EventNameContainsKeywordsPredicate(List.of("Event"));
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, Model.PAGE_SIZE)
+                + "\n" + MESSAGE_MORE_EVENTS;
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(new FindEventCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Model.PAGE_SIZE, model.getFilteredEventList().size());
+        assertEquals(EVENT_COUNT, model.getAllFilteredEvents().size());
+    }
+
+    @Test
+    public void execute_moreEvents_nextPageListed() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, EVENT_COUNT);
+        expectedModel.showMoreFilteredEvents();
+        assertCommandSuccess(new MoreEventCommand(), model, expectedMessage, expectedModel);
+        assertEquals(EVENT_COUNT, model.getFilteredEventList().size());
+        assertFalse(model.hasMoreFilteredEvents());
+    }
+
+    @Test
+    public void execute_noMoreEvents_nothingListed() {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedTypicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new MoreEventCommand(), typicalModel, MoreEventCommand.MESSAGE_NO_MORE_EVENTS,
+                expectedTypicalModel);
+    }
+
+    @Test
+    public void equals() {
+        MoreEventCommand moreEventCommand = new MoreEventCommand();
+
+        // same object -> returns true
+        assertTrue(moreEventCommand.equals(moreEventCommand));
+
+        // same type -> returns true
+        assertTrue(moreEventCommand.equals(new MoreEventCommand()));
+
+        // different types -> returns false
+        assertFalse(moreEventCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(moreEventCommand.equals(null));
+    }
+
+    private static AddressBook getManyEventsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            addressBook.addEvent(new EventBuilder().withName("Event " + i).build());
+        }
+        return addressBook;
+    }
+}
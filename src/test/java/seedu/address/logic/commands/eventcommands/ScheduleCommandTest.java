@@ -16,6 +16,11 @@ import static seedu.address.testutil.TypicalEvents.HIKING_TRIP;
 import static seedu.address.testutil.TypicalEvents.getExtendedAddressBook;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -27,22 +32,23 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.DateTimeUtil;
 import seedu.address.model.types.common.EventInSchedulePredicate;
+import seedu.address.testutil.SimulatedClock;
 
 public class ScheduleCommandTest {
-    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-    private Model extendedModel = new ModelManager(getExtendedAddressBook(), new UserPrefs());
-    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-    private Model extendedExpectedModel = new ModelManager(getExtendedAddressBook(), new UserPrefs());
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    private final LocalDateTime now = LocalDateTime.now(clock);
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), clock);
+    private Model extendedModel = new ModelManager(getExtendedAddressBook(), new UserPrefs(), clock);
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), clock);
+    private Model extendedExpectedModel = new ModelManager(getExtendedAddressBook(), new UserPrefs(), clock);
 
     @Test
     public void equals() {
-        EventInSchedulePredicate firstPredicate = new EventInSchedulePredicate(1);
-        EventInSchedulePredicate secondPredicate = new EventInSchedulePredicate(2);
         EventInSchedulePredicate thirdPredicate = new EventInSchedulePredicate(new DateTime("2024-10-15 14:30"));
         EventInSchedulePredicate fourthPredicate = new EventInSchedulePredicate(new DateTime("2024-10-16 15:30"));
 
-        ScheduleCommand scheduleFirstCommand = new ScheduleCommand(firstPredicate);
-        ScheduleCommand scheduleSecondCommand = new ScheduleCommand(secondPredicate);
+        ScheduleCommand scheduleFirstCommand = new ScheduleCommand(1);
+        ScheduleCommand scheduleSecondCommand = new ScheduleCommand(2);
         ScheduleCommand scheduleThirdCommand = new ScheduleCommand(thirdPredicate);
         ScheduleCommand scheduleFourthCommand = new ScheduleCommand(fourthPredicate);
 
@@ -51,7 +57,7 @@ public class ScheduleCommandTest {
         assertTrue(scheduleThirdCommand.equals(scheduleThirdCommand));
 
         // same values -> returns true
-        ScheduleCommand scheduleFirstCommandCopy = new ScheduleCommand(firstPredicate);
+        ScheduleCommand scheduleFirstCommandCopy = new ScheduleCommand(1);
         assertTrue(scheduleFirstCommand.equals(scheduleFirstCommandCopy));
         ScheduleCommand scheduleThirdCommandCopy = new ScheduleCommand(thirdPredicate);
         assertTrue(scheduleThirdCommand.equals(scheduleThirdCommandCopy));
@@ -71,9 +77,8 @@ public class ScheduleCommandTest {
     @Test
     public void execute_zero_noEventFound() {
         String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0);
-        EventInSchedulePredicate predicate = new EventInSchedulePredicate(0);
-        ScheduleCommand command = new ScheduleCommand(predicate);
-        expectedModel.updateFilteredEventList(predicate);
+        ScheduleCommand command = new ScheduleCommand(0);
+        expectedModel.updateFilteredEventList(new EventInSchedulePredicate(0, now));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredEventList());
     }
@@ -81,9 +86,8 @@ public class ScheduleCommandTest {
     @Test
     public void execute_year_multipleEventsFound() {
         String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 7);
-        EventInSchedulePredicate predicate = new EventInSchedulePredicate(365);
-        ScheduleCommand command = new ScheduleCommand(predicate);
-        expectedModel.updateFilteredEventList(predicate);
+        ScheduleCommand command = new ScheduleCommand(365);
+        expectedModel.updateFilteredEventList(new EventInSchedulePredicate(365, now));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ANIME, BARBEQUE, CONCERT, DINNER, EXHIBITION, FASHION_SHOW, GALA),
                 model.getFilteredEventList());
@@ -93,7 +97,7 @@ public class ScheduleCommandTest {
     public void execute_today_noEventFound() {
         String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0);
         EventInSchedulePredicate predicate = new EventInSchedulePredicate(
-                new DateTime(DateTimeUtil.getCurrentDateTimeString()));
+                new DateTime(DateTimeUtil.getCurrentDateTimeString(clock)));
         ScheduleCommand command = new ScheduleCommand(predicate);
         extendedExpectedModel.updateFilteredEventList(predicate);
         assertCommandSuccess(command, extendedModel, expectedMessage, extendedExpectedModel);
@@ -110,11 +114,29 @@ public class ScheduleCommandTest {
         assertEquals(Arrays.asList(HIKING_TRIP), extendedModel.getFilteredEventList());
     }
 
+    @Test
+    public void execute_rangeAfterClockMovesForward_countsFromCurrentTime() {
+        SimulatedClock simulatedClock = SimulatedClock.startingAt(now);
+        Model simulatedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), simulatedClock);
+        Model expectedSimulatedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), simulatedClock);
+        ScheduleCommand command = new ScheduleCommand(365);
+        simulatedClock.advance(Duration.ofDays(730));
+        expectedSimulatedModel.updateFilteredEventList(new EventInSchedulePredicate(365, now.plusDays(730)));
+
+        // the typical events are within a year of now, so none of them is in the year after two years from now
+        assertCommandSuccess(command, simulatedModel, String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0),
+                expectedSimulatedModel);
+        assertEquals(Collections.emptyList(), simulatedModel.getFilteredEventList());
+    }
+
     @Test
     public void toStringMethod() {
-        EventInSchedulePredicate predicate = new EventInSchedulePredicate(0);
+        EventInSchedulePredicate predicate = new EventInSchedulePredicate(new DateTime("2024-10-15 00:00"));
         ScheduleCommand scheduleCommand = new ScheduleCommand(predicate);
-        String expected = ScheduleCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = ScheduleCommand.class.getCanonicalName() + "{range=null, predicate=" + predicate + "}";
         assertEquals(expected, scheduleCommand.toString());
+
+        ScheduleCommand rangeCommand = new ScheduleCommand(7);
+        assertEquals(ScheduleCommand.class.getCanonicalName() + "{range=7, predicate=null}", rangeCommand.toString());
     }
 }
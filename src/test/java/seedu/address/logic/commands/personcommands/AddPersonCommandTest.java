@@ -8,8 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -21,6 +24,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -158,6 +162,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -178,6 +187,26 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int linkPersonsToEvent(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getWaitlistSize(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getWaitlist(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int unlinkPersonsFromEvent(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearAllEvents() {
             throw new AssertionError("This method should not be called.");
@@ -198,6 +227,21 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int showMoreFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAllFilteredPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addEvent(Event event) {
             throw new AssertionError("This method should not be called.");
@@ -234,7 +278,97 @@ public class AddPersonCommandTest {
         }
 
         @Override
-        public void reSortEvents() {
+        public int showMoreFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getAllFilteredEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateEventOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Clock getClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getPersonNamesStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getEventNamesStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getConflictingEvents(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, List<Event>> getScheduleClashes(List<Person> persons, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatchUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatchUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -10,9 +10,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -41,6 +44,33 @@ public class DeletePersonCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        IndexList targetIndexes = IndexList.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)
+                .union(IndexList.of(Index.fromOneBased(lastShownList.size())));
+        DeletePersonCommand deleteCommand = new DeletePersonCommand(targetIndexes);
+
+        String expectedMessage = String.format(DeletePersonCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(lastShownList.get(0));
+        expectedModel.deletePerson(lastShownList.get(1));
+        expectedModel.deletePerson(lastShownList.get(lastShownList.size() - 1));
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastEndOfList_throwsCommandException() {
+        IndexList targetIndexes = IndexList.ofRange(INDEX_FIRST_PERSON,
+                Index.fromOneBased(model.getFilteredPersonList().size() + 1));
+        DeletePersonCommand deleteCommand = new DeletePersonCommand(targetIndexes);
+
+        // no person is deleted
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -105,7 +135,8 @@ public class DeletePersonCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeletePersonCommand deleteCommand = new DeletePersonCommand(targetIndex);
-        String expected = DeletePersonCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeletePersonCommand.class.getCanonicalName() + "{targetIndexes=" + IndexList.of(targetIndex)
+                + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands.personcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportPersonCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_displayedPersonsExported() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path file = temporaryFolder.resolve("persons.csv");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        assertCommandSuccess(new ExportPersonCommand(file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, "persons", file), expectedModel);
+        assertEquals(2, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_exportThenImport_samePersons() throws Exception {
+        Model bobModel = new ModelManager();
+        bobModel.addPerson(BOB);
+        Path file = temporaryFolder.resolve("nested").resolve("persons.csv");
+        new ExportPersonCommand(file).execute(bobModel);
+
+        assertEquals(Arrays.asList("name,phone,email,address,tags",
+                "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\",friend husband"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+
+        Model importedModel = new ModelManager();
+        new ImportPersonCommand(file).execute(importedModel);
+        assertEquals(bobModel.getAddressBook(), importedModel.getAddressBook());
+
+        // all typical persons
+        new ExportPersonCommand(file).execute(model);
+        importedModel = new ModelManager();
+        new ImportPersonCommand(file).execute(importedModel);
+        assertEquals(model.getAddressBook().getPersonList(), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ExportPersonCommand exportFirstCommand = new ExportPersonCommand(Paths.get("first.csv"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportPersonCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(new ImportPersonCommand(Paths.get("first.csv"))));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportPersonCommand(Paths.get("second.csv"))));
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.logic.commands.personcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportPersonCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags";
+    private static final String AMY_ROW = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",friend";
+    private static final String BOB_ROW = "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\","
+            + "husband friend";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_validRows_allImported() throws IOException {
+        Path file = writeFile(HEADER, AMY_ROW, "", BOB_ROW);
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, "persons", file, 2, 0);
+
+        assertCommandSuccess(new ImportPersonCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws IOException {
+        model.addPerson(ALICE);
+        Path file = writeFile(HEADER,
+                AMY_ROW,
+                "Carl,9a,carl@example.com,street,", // invalid phone
+                "Alice Pauline,12345678,alice@example.com,street,", // already in the address book
+                "Amy Bee,33333333,amy2@example.com,street,", // earlier in the file
+                "Dan,12345678,dan@example.com", // too few fields
+                BOB_ROW);
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(ALICE);
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, "persons", file, 6, 4),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, AddPersonCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, "Amy Bee")),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 5, 3)));
+
+        assertCommandSuccess(new ImportPersonCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_severalChunks_allRowsImported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Person " + i + "," + (10000000 + i) + ",p" + i + "@example.com,street,");
+        }
+        lines.add("Invalid Person!,12345678,x@example.com,street,");
+        Path file = writeFile(lines.toArray(new String[0]));
+
+        String result = new ImportPersonCommand(file).execute(model).getFeedbackToUser();
+        assertEquals(rowCount, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Person " + (rowCount - 1)).build()));
+        // The error is reported with its line number in the file, after the header and all valid rows
+        assertTrue(result.endsWith(String.format(ImportCommand.MESSAGE_ROW_ERROR, rowCount + 2,
+                Name.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void execute_manySkippedRows_reportTruncated() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int invalidCount = ImportCommand.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < invalidCount; i++) {
+            lines.add("Person " + i + ",invalid,p@example.com,street,");
+        }
+        Path file = writeFile(lines.toArray(new String[0]));
+
+        String result = new ImportPersonCommand(file).execute(model).getFeedbackToUser();
+        assertEquals(1 + ImportCommand.MAX_REPORTED_ERRORS + 1, result.split("\n").length);
+        assertTrue(result.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_headerWithByteOrderMarkAndCapitals_success() throws Exception {
+        Path file = writeFile("\uFEFFName, Phone,Email,Address,Tags", AMY_ROW);
+
+        new ImportPersonCommand(file).execute(model);
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws IOException {
+        Path file = writeFile("name,phone,email,address", AMY_ROW);
+
+        assertCommandFailure(new ImportPersonCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_HEADER, HEADER));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+
+        // NoSuchFileException has the path as its message
+        assertCommandFailure(new ImportPersonCommand(file), model,
+                String.format(ImportCommand.MESSAGE_READ_ERROR, file, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportPersonCommand importFirstCommand = new ImportPersonCommand(Paths.get("first.csv"));
+        ImportPersonCommand importSecondCommand = new ImportPersonCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportPersonCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("persons.csv");
+        String expected = ImportPersonCommand.class.getCanonicalName() + "{filePath=" + file + "}";
+        assertEquals(expected, new ImportPersonCommand(file).toString());
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("persons.csv");
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
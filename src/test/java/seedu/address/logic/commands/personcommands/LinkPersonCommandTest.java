@@ -1,14 +1,21 @@
 package seedu.address.logic.commands.personcommands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalEvents.nowPlusDays;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersonEventManager.BARBEQUE;
+import static seedu.address.testutil.TypicalPersonEventManager.CONCERT;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -77,4 +84,139 @@ public class LinkPersonCommandTest {
 
         assertCommandFailure(linkPersonCommand, model, expectedMessage);
     }
+
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        IndexList indexes = IndexList.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON);
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(indexes, CONCERT.getName());
+
+        String expectedMessage = String.format(LinkPersonCommand.MESSAGE_LINK_PERSONS_SUCCESS, 3,
+                Messages.format(CONCERT));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(linkPersonCommand, model, expectedMessage, expectedModel);
+        for (Person person : indexes.select(model.getFilteredPersonList())) {
+            assertTrue(model.isPersonLinkedToEvent(person, CONCERT));
+        }
+    }
+
+    @Test
+    public void execute_allDisplayedPersons_linksUnlinkedPersons() throws Exception {
+        int displayedCount = model.getFilteredPersonList().size();
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(IndexList.all(), BARBEQUE.getName());
+
+        // Alice, Benson and Carl are already linked to the barbeque
+        String expectedMessage = String.format(LinkPersonCommand.MESSAGE_LINK_PERSONS_SUCCESS, displayedCount - 3,
+                Messages.format(BARBEQUE)) + String.format(LinkPersonCommand.MESSAGE_ALREADY_LINKED_SKIPPED, 3);
+
+        assertEquals(expectedMessage, linkPersonCommand.execute(model).getFeedbackToUser());
+        for (Person person : model.getFilteredPersonList()) {
+            assertTrue(model.isPersonLinkedToEvent(person, BARBEQUE));
+        }
+
+        // linking them again changes nothing
+        assertCommandFailure(linkPersonCommand, model, LinkPersonCommand.MESSAGE_DUPLICATE_PERSONS);
+    }
+
+    @Test
+    public void execute_allMatchingPersonsMoreThanPage_linksPersonsNotListedYet() throws Exception {
+        int volunteerCount = Model.PAGE_SIZE + 50;
+        for (int i = 0; i < volunteerCount; i++) {
+            model.addPerson(new PersonBuilder().withName("Volunteer " + i).withTags("volunteers").build());
+        }
+        model.updateFilteredPersonList(person -> person.getName().toString().startsWith("Volunteer"));
+        assertEquals(Model.PAGE_SIZE, model.getFilteredPersonList().size());
+
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(IndexList.all(), CONCERT.getName());
+        String expectedMessage = String.format(LinkPersonCommand.MESSAGE_LINK_PERSONS_SUCCESS, volunteerCount,
+                Messages.format(CONCERT));
+
+        assertEquals(expectedMessage, linkPersonCommand.execute(model).getFeedbackToUser());
+        for (Person person : model.getAllFilteredPersons()) {
+            assertTrue(model.isPersonLinkedToEvent(person, CONCERT));
+        }
+    }
+
+    @Test
+    public void execute_fullEvent_personsWaitlisted() throws Exception {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withStartTime("2031-03-03 10:00")
+                .withCapacity("2").build();
+        model.addEvent(smallEvent);
+
+        LinkPersonCommand linkPersonsCommand = new LinkPersonCommand(
+                IndexList.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), smallEvent.getName());
+        String expectedMessage = String.format(LinkPersonCommand.MESSAGE_LINK_PERSONS_SUCCESS, 2,
+                Messages.format(smallEvent)) + String.format(LinkPersonCommand.MESSAGE_WAITLISTED, 1);
+        assertEquals(expectedMessage, linkPersonsCommand.execute(model).getFeedbackToUser());
+        assertEquals(1, model.getWaitlistSize(smallEvent));
+
+        Index fourthPerson = Index.fromOneBased(4);
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(fourthPerson, smallEvent.getName());
+        assertEquals(String.format(LinkPersonCommand.MESSAGE_WAITLIST_SUCCESS, Messages.format(smallEvent)),
+                linkPersonCommand.execute(model).getFeedbackToUser());
+        assertFalse(model.isPersonLinkedToEvent(
+                model.getFilteredPersonList().get(fourthPerson.getZeroBased()), smallEvent));
+        assertEquals(2, model.getWaitlistSize(smallEvent));
+
+        // persons on the waitlist cannot be linked again
+        assertCommandFailure(linkPersonCommand, model, LinkPersonCommand.MESSAGE_DUPLICATE_PERSON);
+    }
+
+    @Test
+    public void execute_personLinkedToEventAtSameTime_warnsOfClash() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Event rehearsal = new EventBuilder().withName("Rehearsal").withAddress("Studio 5")
+                .withStartTime(CONCERT.getStartTime().toString()).build();
+        model.addEvent(rehearsal);
+        model.linkPersonToEvent(person, rehearsal);
+
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(INDEX_FIRST_PERSON, CONCERT.getName());
+        String expectedMessage = String.format(LinkPersonCommand.MESSAGE_LINK_SUCCESS, Messages.format(CONCERT))
+                + String.format(LinkPersonCommand.MESSAGE_SCHEDULE_CLASHES, person.getName() + " (Rehearsal)");
+
+        assertEquals(expectedMessage, linkPersonCommand.execute(model).getFeedbackToUser());
+        assertTrue(model.isPersonLinkedToEvent(person, CONCERT));
+    }
+
+    @Test
+    public void execute_waitlistedPersonLinkedToEventAtSameTime_noClashWarning() throws Exception {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withStartTime("2031-03-03 10:00")
+                .withCapacity("1").build();
+        Event rehearsal = new EventBuilder().withName("Rehearsal").withAddress("Studio 5")
+                .withStartTime("2031-03-03 10:00").build();
+        model.addEvent(smallEvent);
+        model.addEvent(rehearsal);
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.linkPersonToEvent(firstPerson, smallEvent);
+        Person secondPerson = model.getFilteredPersonList().get(1);
+        model.linkPersonToEvent(secondPerson, rehearsal);
+
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(Index.fromOneBased(2), smallEvent.getName());
+        assertEquals(String.format(LinkPersonCommand.MESSAGE_WAITLIST_SUCCESS, Messages.format(smallEvent)),
+                linkPersonCommand.execute(model).getFeedbackToUser());
+        assertEquals(1, model.getWaitlistSize(smallEvent));
+    }
+
+    @Test
+    public void execute_noDisplayedPersons_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        LinkPersonCommand linkPersonCommand = new LinkPersonCommand(IndexList.all(), CONCERT.getName());
+
+        assertCommandFailure(linkPersonCommand, model, LinkPersonCommand.MESSAGE_NO_PERSONS);
+    }
+
+    @Test
+    public void equals() {
+        LinkPersonCommand linkFirstCommand = new LinkPersonCommand(INDEX_FIRST_PERSON, CONCERT.getName());
+
+        // same values -> returns true
+        assertTrue(linkFirstCommand.equals(new LinkPersonCommand(IndexList.of(INDEX_FIRST_PERSON), CONCERT.getName())));
+
+        // different indexes -> returns false
+        assertFalse(linkFirstCommand.equals(new LinkPersonCommand(IndexList.all(), CONCERT.getName())));
+
+        // different event -> returns false
+        assertFalse(linkFirstCommand.equals(new LinkPersonCommand(INDEX_FIRST_PERSON, BARBEQUE.getName())));
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.personcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_MORE_PERSONS;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.types.common.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MorePersonCommand}.
+ */
+public class MorePersonCommandTest {
+
+    private static final int PERSON_COUNT = Model.PAGE_SIZE + 20;
+
+    private final Model model = new ModelManager(getManyPersonsAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getManyPersonsAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_findMorePersonsThanPage_firstPageListed() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Person"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, Model.PAGE_SIZE)
+                + "\n" + MESSAGE_MORE_PERSONS;
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindPersonCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Model.PAGE_SIZE, model.getFilteredPersonList().size());
+        assertEquals(PERSON_COUNT, model.getAllFilteredPersons().size());
+    }
+
+    @Test
+    public void execute_morePersons_nextPageListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, PERSON_COUNT);
+        expectedModel.showMoreFilteredPersons();
+        assertCommandSuccess(new MorePersonCommand(), model, expectedMessage, expectedModel);
+        assertEquals(PERSON_COUNT, model.getFilteredPersonList().size());
+        assertFalse(model.hasMoreFilteredPersons());
+    }
+
+    @Test
+    public void execute_noMorePersons_nothingListed() {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedTypicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new MorePersonCommand(), typicalModel, MorePersonCommand.MESSAGE_NO_MORE_PERSONS,
+                expectedTypicalModel);
+    }
+
+    @Test
+    public void equals() {
+        MorePersonCommand morePersonCommand = new MorePersonCommand();
+
+        // same object -> returns true
+        assertTrue(morePersonCommand.equals(morePersonCommand));
+
+        // same type -> returns true
+        assertTrue(morePersonCommand.equals(new MorePersonCommand()));
+
+        // different types -> returns false
+        assertFalse(morePersonCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(morePersonCommand.equals(null));
+    }
+
+    private static AddressBook getManyPersonsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        return addressBook;
+    }
+}
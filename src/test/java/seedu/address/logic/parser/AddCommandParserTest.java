@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.END_TIME_DESC_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_ADDRESS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
@@ -30,16 +31,21 @@ import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_LITERATURE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_END_TIME_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_START_TIME_ART_EXHIBIT;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_START_TIME_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailureEvent;
@@ -61,7 +67,9 @@ import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Email;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 import seedu.address.model.types.person.Person;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -288,6 +296,53 @@ public class AddCommandParserTest {
                         + START_TIME_DESC_BOOK_FAIR, new AddEventCommand(expectedEvent));
     }
 
+    @Test
+    public void parseEvent_endTimePresent_success() {
+        Event expectedEvent = new EventBuilder(BOOK_FAIR).withEndTime(VALID_END_TIME_BOOK_FAIR).build();
+        assertParseSuccessEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + END_TIME_DESC_BOOK_FAIR + TAG_DESC_CULTURE + TAG_DESC_LITERATURE, new AddEventCommand(expectedEvent));
+    }
+
+    @Test
+    public void parseEvent_endTimeNotAfterStartTime_failure() {
+        assertParseFailureEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_END_TIME + VALID_START_TIME_BOOK_FAIR, Event.MESSAGE_END_TIME_CONSTRAINTS);
+
+        // multiple end times
+        assertParseFailureEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + END_TIME_DESC_BOOK_FAIR + END_TIME_DESC_BOOK_FAIR,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_END_TIME));
+    }
+
+    @Test
+    public void parseEvent_recurrencePresent_success() {
+        Event expectedEvent = new EventBuilder(BOOK_FAIR).withRecurrence("weekly until 2025-12-31").build();
+        assertParseSuccessEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_RECURRENCE + "Weekly until 2025-12-31" + TAG_DESC_CULTURE + TAG_DESC_LITERATURE,
+                new AddEventCommand(expectedEvent));
+    }
+
+    @Test
+    public void parseEvent_invalidRecurrence_failure() {
+        assertParseFailureEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_RECURRENCE + "fortnightly", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // stops repeating before it starts
+        assertParseFailureEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_RECURRENCE + "daily until 2025-11-19", Event.MESSAGE_RECURRENCE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parseEvent_capacity() {
+        Event expectedEvent = new EventBuilder(BOOK_FAIR).withCapacity("50").build();
+        assertParseSuccessEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_CAPACITY + "50" + TAG_DESC_CULTURE + TAG_DESC_LITERATURE,
+                new AddEventCommand(expectedEvent));
+
+        assertParseFailureEvent(parser, NAME_DESC_BOOK_FAIR + ADDRESS_DESC_BOOK_FAIR + START_TIME_DESC_BOOK_FAIR
+                + " " + PREFIX_CAPACITY + "0", Capacity.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parseEvent_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddEventCommand.MESSAGE_USAGE);
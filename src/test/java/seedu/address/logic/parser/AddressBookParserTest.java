@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -21,15 +23,23 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.eventcommands.AddEventCommand;
 import seedu.address.logic.commands.eventcommands.ClearEventCommand;
 import seedu.address.logic.commands.eventcommands.DeleteEventCommand;
 import seedu.address.logic.commands.eventcommands.EditEventCommand;
+import seedu.address.logic.commands.eventcommands.ExportEventCommand;
 import seedu.address.logic.commands.eventcommands.FindEventCommand;
+import seedu.address.logic.commands.eventcommands.ImportEventCommand;
+import seedu.address.logic.commands.eventcommands.MoreEventCommand;
 import seedu.address.logic.commands.eventcommands.ScheduleCommand;
 import seedu.address.logic.commands.eventcommands.SearchEventCommand;
 import seedu.address.logic.commands.personcommands.AddPersonCommand;
@@ -37,8 +47,11 @@ import seedu.address.logic.commands.personcommands.ClearPersonCommand;
 import seedu.address.logic.commands.personcommands.DeletePersonCommand;
 import seedu.address.logic.commands.personcommands.EditPersonCommand;
 import seedu.address.logic.commands.personcommands.EditPersonCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.personcommands.ExportPersonCommand;
 import seedu.address.logic.commands.personcommands.FindPersonCommand;
+import seedu.address.logic.commands.personcommands.ImportPersonCommand;
 import seedu.address.logic.commands.personcommands.LinkPersonCommand;
+import seedu.address.logic.commands.personcommands.MorePersonCommand;
 import seedu.address.logic.commands.personcommands.SearchPersonCommand;
 import seedu.address.logic.commands.personcommands.UnlinkPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -186,7 +199,7 @@ public class AddressBookParserTest {
     public void parseCommand_schedule() throws Exception {
         ScheduleCommand firstCommand = (ScheduleCommand) parser.parseCommand(
                 ScheduleCommand.COMMAND_WORD + " 7");
-        assertEquals(new ScheduleCommand(new EventInSchedulePredicate(7)), firstCommand);
+        assertEquals(new ScheduleCommand(7), firstCommand);
 
         ScheduleCommand secondCommand = (ScheduleCommand) parser.parseCommand(
                 ScheduleCommand.COMMAND_WORD + " 2024-10-15");
@@ -206,6 +219,20 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_more() throws Exception {
+        assertEquals(new MorePersonCommand(), parser.parseCommand(MorePersonCommand.COMMAND_WORD + " p"));
+        assertEquals(new MoreEventCommand(), parser.parseCommand(MoreEventCommand.COMMAND_WORD + " e"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, MoreCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(MorePersonCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_link() throws Exception {
         LinkPersonCommand command = (LinkPersonCommand) parser.parseCommand(
@@ -220,12 +247,35 @@ public class AddressBookParserTest {
         assertEquals(new UnlinkPersonCommand(INDEX_FIRST_EVENT, new Name("Event Name")), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportPersonCommand(Paths.get("persons.csv")),
+                parser.parseCommand(ImportPersonCommand.COMMAND_WORD + " p persons.csv"));
+        assertEquals(new ImportEventCommand(Paths.get("events.csv")),
+                parser.parseCommand(ImportEventCommand.COMMAND_WORD + " e events.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportPersonCommand(Paths.get("persons.csv")),
+                parser.parseCommand(ExportPersonCommand.COMMAND_WORD + " p persons.csv"));
+        assertEquals(new ExportEventCommand(Paths.get("events.csv")),
+                parser.parseCommand(ExportEventCommand.COMMAND_WORD + " e events.csv"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_commandWordOnly_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parseCommand("schedule"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("link"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("edit"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -253,11 +303,32 @@ public class AddressBookParserTest {
         assertEquals(EditCommand.MESSAGE_USAGE + "\n" + ExitCommand.MESSAGE_USAGE, parser.getHint("e"));
     }
 
+    @Test
+    public void getHint_moreCommandHint() {
+        assertEquals(MorePersonCommand.MESSAGE_USAGE, parser.getHint("more p"));
+        assertEquals(MoreEventCommand.MESSAGE_USAGE, parser.getHint("more e"));
+        assertEquals(MoreCommand.MESSAGE_USAGE, parser.getHint("m"));
+    }
+
     @Test
     public void getHint_exitCommandHint() {
         assertEquals(ExitCommand.MESSAGE_USAGE, parser.getHint("ex"));
     }
 
+    @Test
+    public void getHint_importCommandHint() {
+        assertEquals(ImportPersonCommand.MESSAGE_USAGE, parser.getHint("import p"));
+        assertEquals(ImportEventCommand.MESSAGE_USAGE, parser.getHint("import e"));
+        assertEquals(ImportCommand.MESSAGE_USAGE, parser.getHint("i"));
+    }
+
+    @Test
+    public void getHint_exportCommandHint() {
+        assertEquals(ExportPersonCommand.MESSAGE_USAGE, parser.getHint("export p"));
+        assertEquals(ExportEventCommand.MESSAGE_USAGE, parser.getHint("export e"));
+        assertEquals(ExportCommand.MESSAGE_USAGE, parser.getHint("exp"));
+    }
+
     @Test
     public void getHint_findCommandHint() {
         assertEquals(FindPersonCommand.MESSAGE_USAGE, parser.getHint("find p"));
@@ -291,6 +362,12 @@ public class AddressBookParserTest {
         assertEquals(UnlinkPersonCommand.MESSAGE_USAGE, parser.getHint("u"));
     }
 
+    @Test
+    public void getHint_undoAndRedoCommandHint() {
+        assertEquals(UndoCommand.MESSAGE_USAGE, parser.getHint("und"));
+        assertEquals(RedoCommand.MESSAGE_USAGE, parser.getHint("r"));
+    }
+
     @Test
     public void getHint_clearCommandHint() {
         assertEquals(ClearPersonCommand.MESSAGE_USAGE, parser.getHint("clear p"));
@@ -307,4 +384,27 @@ public class AddressBookParserTest {
     public void getHint_unrecognizedCommandHint() {
         assertEquals(HelpCommand.MESSAGE_USAGE, parser.getHint("123"));
     }
+
+    @Test
+    public void getPartialName_eventPrefix_returnsPartialEventName() {
+        assertEquals(Optional.of(new PartialName(ModelType.EVENT, "Company Mee", 10)),
+                parser.getPartialName("link 3 ev/Company Mee"));
+        assertEquals(Optional.of(new PartialName(ModelType.EVENT, "", 13)),
+                parser.getPartialName("unlink 3 ev/ "));
+    }
+
+    @Test
+    public void getPartialName_findKeyword_returnsPartialName() {
+        assertEquals(Optional.of(new PartialName(ModelType.PERSON, "Ber", 12)),
+                parser.getPartialName("find p alex Ber"));
+        assertEquals(Optional.of(new PartialName(ModelType.EVENT, "Con", 7)),
+                parser.getPartialName("find e Con"));
+    }
+
+    @Test
+    public void getPartialName_noNameBeingTyped_returnsEmpty() {
+        assertEquals(Optional.empty(), parser.getPartialName("link 3"));
+        assertEquals(Optional.empty(), parser.getPartialName("find p alex "));
+        assertEquals(Optional.empty(), parser.getPartialName("add p n/Alex"));
+    }
 }
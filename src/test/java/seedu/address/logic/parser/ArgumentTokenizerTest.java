@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -56,7 +57,7 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_noPrefixes_allTakenAsPreamble() {
         String argsString = "  some random string /t tag with leading and trailing spaces ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer().tokenize(argsString);
 
         // Same string expected as preamble, but leading/trailing spaces should be trimmed
         assertPreamblePresent(argMultimap, argsString.trim());
@@ -136,6 +137,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixUsed() {
+        Prefix eSlash = new Prefix("e/");
+        Prefix evSlash = new Prefix("ev/");
+        Prefix e = new Prefix("e");
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(e, eSlash, evSlash);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenize("1 ev/Party e/mail eat");
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, evSlash, "Party");
+        assertArgumentPresent(argMultimap, eSlash, "mail");
+        assertArgumentPresent(argMultimap, e, "at");
+
+        // Reusing the tokenizer does not keep values from the previous arguments string
+        argMultimap = tokenizer.tokenize("2 e/x");
+        assertPreamblePresent(argMultimap, "2");
+        assertArgumentAbsent(argMultimap, evSlash);
+        assertArgumentPresent(argMultimap, eSlash, "x");
+    }
+
+    @Test
+    public void constructor_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("")));
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(pSlash, new Prefix("a b/")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -7,9 +7,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccessEvent;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.commands.eventcommands.DeleteEventCommand;
 import seedu.address.logic.commands.personcommands.DeletePersonCommand;
 
@@ -30,11 +33,20 @@ public class DeleteCommandParserTest {
         assertParseSuccessEvent(parser, "1", new DeleteEventCommand(INDEX_FIRST_EVENT));
     }
 
+    @Test
+    public void parse_indexesAndRanges_returnsDeletePersonCommand() {
+        IndexList expectedIndexes = IndexList.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)
+                .union(IndexList.of(Index.fromOneBased(7)));
+        assertParseSuccess(parser, "1-3,7", new DeletePersonCommand(expectedIndexes));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
             DeletePersonCommand.MESSAGE_USAGE));
         assertParseFailureEvent(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
             DeleteEventCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "3-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            DeletePersonCommand.MESSAGE_USAGE));
     }
 }
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.END_TIME_DESC_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_ADDRESS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
@@ -28,6 +29,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_END_TIME_BOOK_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOOK_FAIR;
@@ -40,9 +42,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_LITERATURE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -69,6 +74,8 @@ import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Email;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Recurrence;
 import seedu.address.testutil.EditEventDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 
@@ -337,6 +344,12 @@ public class EditCommandParserTest {
         expectedCommand = new EditEventCommand(targetIndex, descriptor);
         assertParseSuccessEvent(parser, userInput, expectedCommand);
 
+        // end time
+        userInput = targetIndex.getOneBased() + END_TIME_DESC_BOOK_FAIR;
+        descriptor = new EditEventDescriptorBuilder().withEndTime(VALID_END_TIME_BOOK_FAIR).build();
+        expectedCommand = new EditEventCommand(targetIndex, descriptor);
+        assertParseSuccessEvent(parser, userInput, expectedCommand);
+
         // tags
         userInput = targetIndex.getOneBased() + TAG_DESC_LITERATURE;
         descriptor = new EditEventDescriptorBuilder().withTags(VALID_TAG_LITERATURE).build();
@@ -344,6 +357,56 @@ public class EditCommandParserTest {
         assertParseSuccessEvent(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parseEvent_resetEndTime_success() {
+        Index targetIndex = INDEX_THIRD_EVENT;
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_END_TIME;
+
+        EditEventCommand.EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withoutEndTime().build();
+        EditEventCommand expectedCommand = new EditEventCommand(targetIndex, descriptor);
+
+        assertParseSuccessEvent(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parseEvent_recurrence_success() {
+        Index targetIndex = INDEX_THIRD_EVENT;
+
+        // set recurrence
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "weekly until 2026-06-30";
+        EditEventCommand.EditEventDescriptor descriptor = new EditEventDescriptorBuilder()
+                .withRecurrence("weekly until 2026-06-30").build();
+        assertParseSuccessEvent(parser, userInput, new EditEventCommand(targetIndex, descriptor));
+
+        // stop repeating
+        userInput = targetIndex.getOneBased() + " " + PREFIX_RECURRENCE;
+        descriptor = new EditEventDescriptorBuilder().withoutRecurrence().build();
+        assertParseSuccessEvent(parser, userInput, new EditEventCommand(targetIndex, descriptor));
+
+        // invalid recurrence
+        assertParseFailureEvent(parser, targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "yearly",
+                Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parseEvent_capacity_success() {
+        Index targetIndex = INDEX_THIRD_EVENT;
+
+        // set capacity
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_CAPACITY + "20";
+        EditEventCommand.EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withCapacity("20").build();
+        assertParseSuccessEvent(parser, userInput, new EditEventCommand(targetIndex, descriptor));
+
+        // remove capacity
+        userInput = targetIndex.getOneBased() + " " + PREFIX_CAPACITY;
+        descriptor = new EditEventDescriptorBuilder().withoutCapacity().build();
+        assertParseSuccessEvent(parser, userInput, new EditEventCommand(targetIndex, descriptor));
+
+        // invalid capacity
+        assertParseFailureEvent(parser, targetIndex.getOneBased() + " " + PREFIX_CAPACITY + "-1",
+                Capacity.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parseEvent_multipleRepeatedFields_failure() {
         // More extensive testing of duplicate parameter detections is done in
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailureEvent;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccessEvent;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.eventcommands.ExportEventCommand;
+import seedu.address.logic.commands.personcommands.ExportPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/persons.csv ", new ExportPersonCommand(Paths.get("data/persons.csv")));
+        assertParseSuccessEvent(parser, " my events.csv", new ExportEventCommand(Paths.get("my events.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportPersonCommand.MESSAGE_USAGE));
+        assertParseFailureEvent(parser, "a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportEventCommand.MESSAGE_USAGE));
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(ModelType.NEITHER, "persons.csv"));
+    }
+}
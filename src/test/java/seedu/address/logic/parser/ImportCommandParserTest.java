@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailureEvent;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccessEvent;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.eventcommands.ImportEventCommand;
+import seedu.address.logic.commands.personcommands.ImportPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/persons.csv ", new ImportPersonCommand(Paths.get("data/persons.csv")));
+        assertParseSuccessEvent(parser, " my events.csv", new ImportEventCommand(Paths.get("my events.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportPersonCommand.MESSAGE_USAGE));
+        assertParseFailureEvent(parser, "a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportEventCommand.MESSAGE_USAGE));
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(ModelType.NEITHER, "persons.csv"));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+public class LexedCommandTest {
+
+    private static final List<String> INPUTS = List.of(
+            "list", "  help  ", "add p n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2 t/friends",
+            "add e n/Company Meeting a/Office d/2025-12-01 10:00", "edit p 1 p/91234567", "delete e 2",
+            "find p alex   david", "link 1 ev/Company Meeting", "schedule 7", "cmd  zz  arg", "cmd  p  arg",
+            "cmd\tp\targ", "add\n p n/x", "add p n/x\ny", "add p\r\n n/x", "add p n/x\u2028y", "cmd \u2028x",
+            "cmd p", "cmd e ", "cmd\u000Bp arg", "cmd\u0085 p", "p", "", "   ", "\n");
+
+    @Test
+    public void lex_sameAsRegex() {
+        for (String input : INPUTS) {
+            assertEquals(lexWithRegex(input), LexedCommand.lex(input), "Input: " + input);
+        }
+    }
+
+    @Test
+    public void lex_modelType_argumentsAfterModelType() {
+        assertEquals(Optional.of(new LexedCommand("add", ModelType.PERSON, " n/John")),
+                LexedCommand.lex(" add p n/John "));
+    }
+
+    @Test
+    public void lex_noModelType_argumentsAfterCommandWord() {
+        assertEquals(Optional.of(new LexedCommand("link", ModelType.NEITHER, " 1 ev/Meeting")),
+                LexedCommand.lex("link 1 ev/Meeting"));
+        assertEquals(Optional.of(new LexedCommand("list", ModelType.NEITHER, "")), LexedCommand.lex("list"));
+    }
+
+    @Test
+    public void lex_blankOrMultiLineInput_empty() {
+        assertTrue(LexedCommand.lex(" ").isEmpty());
+        assertTrue(LexedCommand.lex("find p alex\ndavid").isEmpty());
+    }
+
+    /**
+     * Splits {@code input} with the regex of {@code AddressBookParser}, treating missing arguments as empty.
+     */
+    private static Optional<LexedCommand> lexWithRegex(String input) {
+        Matcher matcher = new AddressBookParser().getParserRegex().matcher(input.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        ModelType modelType = ModelType.fromShorthand(matcher.group("modelType"));
+        String arguments = modelType == ModelType.NEITHER ? matcher.group("combined") : matcher.group("arguments");
+        return Optional.of(new LexedCommand(matcher.group("commandWord"), modelType,
+                Objects.requireNonNullElse(arguments, "")));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.commands.personcommands.LinkPersonCommand;
 import seedu.address.model.types.common.Name;
 
@@ -63,4 +64,19 @@ public class LinkCommandParserTest {
         LinkPersonCommand expectedCommand = new LinkPersonCommand(Index.fromOneBased(1), expectedName);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_indexesAndRanges_success() {
+        Name expectedName = new Name(VALID_NAME_BOOK_FAIR);
+        IndexList expectedIndexes = IndexList.ofRange(Index.fromOneBased(1), Index.fromOneBased(300))
+                .union(IndexList.of(Index.fromOneBased(450)));
+        assertParseSuccess(parser, "1-300,450 ev/" + expectedName,
+                new LinkPersonCommand(expectedIndexes, expectedName));
+    }
+
+    @Test
+    public void parse_allDisplayedPersons_success() {
+        Name expectedName = new Name(VALID_NAME_BOOK_FAIR);
+        assertParseSuccess(parser, "ALL ev/" + expectedName, new LinkPersonCommand(IndexList.all(), expectedName));
+    }
 }
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccessEvent;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.eventcommands.MoreEventCommand;
+import seedu.address.logic.commands.personcommands.MorePersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class MoreCommandParserTest {
+
+    private MoreCommandParser parser = new MoreCommandParser();
+
+    @Test
+    public void parse_person_returnsMorePersonCommand() {
+        assertParseSuccess(parser, "", new MorePersonCommand());
+    }
+
+    @Test
+    public void parse_event_returnsMoreEventCommand() {
+        assertParseSuccessEvent(parser, "", new MoreEventCommand());
+    }
+
+    @Test
+    public void parse_neither_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, MoreCommand.MESSAGE_USAGE), ()
+            -> parser.parse(ModelType.NEITHER, ""));
+    }
+}
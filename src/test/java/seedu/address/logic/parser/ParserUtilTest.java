@@ -2,10 +2,13 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_FILE_PATH;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_LIST;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,6 +16,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexList;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
@@ -56,6 +61,44 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexList_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("1,,3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("1 2"));
+
+        // range ending before it starts
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_LIST, () -> ParserUtil.parseIndexList("5-3"));
+    }
+
+    @Test
+    public void parseIndexList_validInput_success() throws Exception {
+        // Single index
+        assertEquals(IndexList.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexList("1"));
+
+        // Indexes and ranges with whitespaces
+        IndexList expectedIndexList = IndexList.ofRange(Index.fromOneBased(1), Index.fromOneBased(300))
+                .union(IndexList.of(Index.fromOneBased(450)));
+        assertEquals(expectedIndexList, ParserUtil.parseIndexList(" 1 - 300 ,450" + WHITESPACE));
+
+        // Overlapping ranges
+        assertEquals(expectedIndexList, ParserUtil.parseIndexList("450,1-200,100-300"));
+    }
+
+    @Test
+    public void parseFilePath_validInput_success() throws Exception {
+        assertEquals(Paths.get("data", "persons.csv"), ParserUtil.parseFilePath(WHITESPACE + "data/persons.csv"));
+    }
+
+    @Test
+    public void parseFilePath_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FILE_PATH, () -> ParserUtil.parseFilePath(WHITESPACE));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FILE_PATH, () -> ParserUtil.parseFilePath("a\0b"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
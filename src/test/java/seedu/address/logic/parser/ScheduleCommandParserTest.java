@@ -72,19 +72,19 @@ public class ScheduleCommandParserTest {
     @Test
     public void parse_int_success() {
         assertParseSuccess(parser, "1",
-                new ScheduleCommand(new EventInSchedulePredicate(1)));
+                new ScheduleCommand(1));
         assertParseSuccess(parser, "-1",
-                new ScheduleCommand(new EventInSchedulePredicate(-1)));
+                new ScheduleCommand(-1));
         assertParseSuccess(parser, "0",
-                new ScheduleCommand(new EventInSchedulePredicate(0)));
+                new ScheduleCommand(0));
         assertParseSuccess(parser, "00",
-                new ScheduleCommand(new EventInSchedulePredicate(0)));
+                new ScheduleCommand(0));
         assertParseSuccess(parser, "-0",
-                new ScheduleCommand(new EventInSchedulePredicate(0)));
+                new ScheduleCommand(0));
         assertParseSuccess(parser, "365",
-                new ScheduleCommand(new EventInSchedulePredicate(365)));
+                new ScheduleCommand(365));
         assertParseSuccess(parser, "-365",
-                new ScheduleCommand(new EventInSchedulePredicate(-365)));
+                new ScheduleCommand(-365));
     }
 
     @Test
@@ -11,17 +11,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
 import seedu.address.model.types.common.PersonEventManager;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
@@ -122,6 +127,67 @@ public class AddressBookTest {
         assertTrue(addressBook.hasEvent(editedEvent));
     }
 
+    @Test
+    public void getConflictingEvents_overlappingEvents_returnsThoseAtSameLocationOrWithSamePersons() {
+        Event workshop = new EventBuilder().withName("Workshop").withAddress("Hall A")
+                .withStartTime("2024-10-15 09:00").withEndTime("2024-10-15 17:00").build();
+        Event sameHall = new EventBuilder().withName("Talk").withAddress("Hall A")
+                .withStartTime("2024-10-15 10:00").build();
+        Event otherHall = new EventBuilder().withName("Lunch").withAddress("Hall B")
+                .withStartTime("2024-10-15 12:00").withEndTime("2024-10-15 13:00").build();
+        Event sameHallLater = new EventBuilder().withName("Dinner").withAddress("Hall A")
+                .withStartTime("2024-10-15 17:00").withEndTime("2024-10-15 19:00").build();
+        addressBook.addPerson(ALICE);
+        for (Event event : List.of(workshop, sameHall, otherHall, sameHallLater)) {
+            addressBook.addEvent(event);
+        }
+        assertEquals(List.of(sameHall), addressBook.getConflictingEvents(workshop));
+
+        addressBook.linkPersonToEvent(ALICE, workshop);
+        addressBook.linkPersonToEvent(ALICE, otherHall);
+        assertEquals(List.of(sameHall, otherHall), addressBook.getConflictingEvents(workshop));
+        assertEquals(List.of(workshop), addressBook.getConflictingEvents(otherHall));
+    }
+
+    @Test
+    public void getStatistics_countsPersonsEventsAndLinks() {
+        Event workshop = new EventBuilder().withName("Workshop").withStartTime("2024-10-15 09:00")
+                .withTags(VALID_TAG_CULTURE).build();
+        Event talk = new EventBuilder().withName("Talk").withStartTime("2024-10-17 10:00").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addEvent(workshop);
+        addressBook.addEvent(talk);
+        addressBook.linkPersonToEvent(ALICE, workshop);
+        addressBook.linkPersonToEvent(BENSON, workshop);
+        addressBook.linkPersonToEvent(ALICE, talk);
+
+        AddressBookStatistics statistics = addressBook.getStatistics(LocalDate.of(2024, 10, 14));
+        assertEquals(2, statistics.getPersonCount());
+        assertEquals(2, statistics.getEventCount());
+        assertEquals(3, statistics.getLinkCount());
+        assertEquals(List.of(workshop, talk), getItems(statistics.getTopEvents()));
+        assertEquals(2, statistics.getTopEvents().get(0).getCount());
+        assertEquals(List.of(ALICE, BENSON), getItems(statistics.getTopPersons()));
+        assertEquals(List.of(new Tag("friends"), new Tag("owesMoney")), getItems(statistics.getTopPersonTags()));
+        assertEquals(List.of(new Tag(VALID_TAG_CULTURE)), getItems(statistics.getTopEventTags()));
+        assertEquals(List.of(0, 1, 0, 1, 0, 0, 0), List.copyOf(statistics.getUpcomingEventCounts().values()));
+
+        // same counts -> same statistics
+        assertEquals(statistics, addressBook.getStatistics(LocalDate.of(2024, 10, 14)));
+
+        addressBook.removeEvent(workshop);
+        statistics = addressBook.getStatistics(LocalDate.of(2024, 10, 14));
+        assertEquals(1, statistics.getLinkCount());
+        assertEquals(List.of(talk), getItems(statistics.getTopEvents()));
+        assertEquals(List.of(ALICE), getItems(statistics.getTopPersons()));
+        assertTrue(statistics.getTopEventTags().isEmpty());
+    }
+
+    private static <T> List<T> getItems(List<CountRanking.Entry<T>> ranking) {
+        return ranking.stream().map(CountRanking.Entry::getItem).collect(Collectors.toList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -18,6 +19,8 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,7 @@ import seedu.address.model.types.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SimulatedClock;
 
 public class ModelManagerTest {
 
@@ -157,6 +161,21 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
     }
 
+    @Test
+    public void updateEventOrder_simulatedClock_ordersForClockTime() {
+        Event morning = new EventBuilder().withName("Morning").withStartTime("2020-01-01 09:00").build();
+        Event evening = new EventBuilder().withName("Evening").withStartTime("2020-01-01 18:00").build();
+        SimulatedClock clock = SimulatedClock.startingAt(LocalDateTime.of(2020, 1, 1, 8, 0));
+        modelManager = new ModelManager(new AddressBookBuilder().withEvent(evening).withEvent(morning).build(),
+                new UserPrefs(), clock);
+        assertSame(clock, modelManager.getClock());
+        assertEquals(Arrays.asList(morning, evening), modelManager.getFilteredEventList());
+
+        clock.advance(Duration.ofHours(2));
+        modelManager.updateEventOrder();
+        assertEquals(Arrays.asList(evening, morning), modelManager.getFilteredEventList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
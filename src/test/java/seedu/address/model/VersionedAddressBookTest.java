@@ -0,0 +1,283 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersonEventManager.ALICE;
+import static seedu.address.testutil.TypicalPersonEventManager.BARBEQUE;
+import static seedu.address.testutil.TypicalPersonEventManager.BENSON;
+import static seedu.address.testutil.TypicalPersonEventManager.CARL;
+import static seedu.address.testutil.TypicalPersonEventManager.CONCERT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").build();
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_initialData_nothingToUndo() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertFalse(versionedAddressBook.commit());
+    }
+
+    @Test
+    public void constructor_invalidHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), 0));
+    }
+
+    @Test
+    public void undoRedo_addPerson_success() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        assertTrue(versionedAddressBook.commit());
+        State changedState = State.of(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.redo();
+        assertEquals(changedState, State.of(versionedAddressBook));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void discardPendingChanges_changesNotCommitted_restoresLastCommit() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        State committedState = State.of(versionedAddressBook);
+
+        versionedAddressBook.unlinkPersonsFromEvent(List.of(ALICE, CARL), BARBEQUE);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.discardPendingChanges();
+        assertEquals(committedState, State.of(versionedAddressBook));
+        assertFalse(versionedAddressBook.commit());
+
+        // the committed change can still be undone
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undo_removeLinkedPersons_restoresPositionsAndLinks() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.removePersons(List.of(CARL, ALICE));
+        versionedAddressBook.commit();
+        State changedState = State.of(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(changedState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_editLinkedPerson_restoresLinkPosition() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_linkAndUnlinkInOneChange_restoresLinks() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.unlinkPersonsFromEvent(List.of(ALICE, CARL), BARBEQUE);
+        versionedAddressBook.linkPersonsToEvent(List.of(CARL, BENSON), CONCERT);
+        versionedAddressBook.unlinkPersonFromEvent(BENSON, BARBEQUE);
+        versionedAddressBook.commit();
+        State changedState = State.of(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(changedState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_removeLinkedEvent_restoresLinks() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.removeEvent(BARBEQUE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_changesToFullEvent_restoresWaitlist() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        versionedAddressBook.addEvent(smallEvent);
+        versionedAddressBook.commit();
+        State emptyState = State.of(versionedAddressBook);
+
+        versionedAddressBook.linkPersonsToEvent(List.of(ALICE, BENSON, CARL), smallEvent);
+        versionedAddressBook.commit();
+        State fullState = State.of(versionedAddressBook);
+        assertEquals(List.of(BENSON, CARL), versionedAddressBook.getPersonEventManager().getWaitlist(smallEvent));
+
+        // unlinking and deleting promote persons from the waitlist
+        versionedAddressBook.unlinkPersonFromEvent(ALICE, smallEvent);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        assertEquals(List.of(CARL), versionedAddressBook.getPersonEventAssociationMap().get(smallEvent));
+
+        versionedAddressBook.undo();
+        assertEquals(fullState, State.of(versionedAddressBook));
+
+        // a larger capacity promotes persons from the waitlist
+        Event largerEvent = new EventBuilder(smallEvent).withCapacity("3").build();
+        versionedAddressBook.setEvent(smallEvent, largerEvent);
+        versionedAddressBook.commit();
+        State largerState = State.of(versionedAddressBook);
+        assertEquals(List.of(ALICE, BENSON, CARL),
+                versionedAddressBook.getPersonEventAssociationMap().get(largerEvent));
+
+        versionedAddressBook.undo();
+        assertEquals(fullState, State.of(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(emptyState, State.of(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(fullState, State.of(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(largerState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_clearAll_restoresEverything() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.clearEvents(new AddressBook());
+        versionedAddressBook.clearPersons(new AddressBook());
+        versionedAddressBook.commit();
+        State clearedState = State.of(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(clearedState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedFirst() {
+        State initialState = State.of(versionedAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, State.of(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, VersionedAddressBook.MESSAGE_NO_REDO, ()
+            -> versionedAddressBook.redo());
+    }
+
+    @Test
+    public void undo_beyondHistoryLimit_throwsIllegalStateException() {
+        VersionedAddressBook shortHistory = new VersionedAddressBook(getTypicalAddressBook(), 2);
+        shortHistory.removePerson(ALICE);
+        shortHistory.commit();
+        shortHistory.removePerson(BENSON);
+        shortHistory.commit();
+        shortHistory.removePerson(CARL);
+        shortHistory.commit();
+
+        shortHistory.undo();
+        shortHistory.undo();
+        assertTrue(shortHistory.hasPerson(BENSON));
+        assertFalse(shortHistory.hasPerson(ALICE));
+        assertThrows(IllegalStateException.class, VersionedAddressBook.MESSAGE_NO_UNDO, shortHistory::undo);
+    }
+
+    /**
+     * Holds copies of the persons, events, links and waitlists of an address book, to compare states including the
+     * order of every list.
+     */
+    private static class State {
+        private final List<Person> persons;
+        private final List<Event> events;
+        private final Map<Event, List<Person>> links;
+        private final Map<Event, List<Person>> waitlists;
+
+        private State(List<Person> persons, List<Event> events, Map<Event, List<Person>> links,
+                Map<Event, List<Person>> waitlists) {
+            this.persons = persons;
+            this.events = events;
+            this.links = links;
+            this.waitlists = waitlists;
+        }
+
+        static State of(AddressBook addressBook) {
+            Map<Event, List<Person>> links = new HashMap<>();
+            addressBook.getPersonEventAssociationMap().forEach((event, persons) ->
+                    links.put(event, new ArrayList<>(persons)));
+            Map<Event, List<Person>> waitlists = new HashMap<>();
+            addressBook.getEventList().forEach(event ->
+                    waitlists.put(event, addressBook.getPersonEventManager().getWaitlist(event)));
+            return new State(new ArrayList<>(addressBook.getPersonList()),
+                    new ArrayList<>(addressBook.getEventList()), links, waitlists);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof State)) {
+                return false;
+            }
+
+            State otherState = (State) other;
+            return persons.equals(otherState.persons)
+                    && events.equals(otherState.events)
+                    && links.equals(otherState.links)
+                    && waitlists.equals(otherState.waitlists);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(persons, events, links, waitlists);
+        }
+
+        @Override
+        public String toString() {
+            return persons + "\n" + events + "\n" + links + "\n" + waitlists;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.types.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CountRankingTest {
+
+    private final CountRanking<String> ranking = new CountRanking<>(Comparator.naturalOrder());
+
+    @Test
+    public void increment_rankedByCountThenOrder() {
+        ranking.increment("b");
+        ranking.increment("c");
+        ranking.increment("c");
+        ranking.increment("a");
+        assertEquals(List.of("c", "a", "b"), getTopItems(5));
+        assertEquals(2, ranking.getCount("c"));
+        assertEquals(4, ranking.getTotal());
+        assertEquals(3, ranking.size());
+
+        // only the first items
+        assertEquals(List.of("c", "a"), getTopItems(2));
+        assertTrue(ranking.getTop(0).isEmpty());
+    }
+
+    @Test
+    public void decrement_toZero_noLongerCounted() {
+        ranking.add("a", 2);
+        ranking.increment("b");
+        ranking.decrement("a");
+        assertEquals(List.of("a", "b"), getTopItems(5));
+
+        ranking.decrement("a");
+        assertEquals(List.of("b"), getTopItems(5));
+        assertEquals(0, ranking.getCount("a"));
+        assertEquals(1, ranking.getTotal());
+        assertEquals(1, ranking.size());
+    }
+
+    @Test
+    public void decrement_notCounted_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ranking.decrement("a"));
+    }
+
+    @Test
+    public void set() {
+        ranking.set("a", 3);
+        ranking.set("b", 5);
+        assertEquals(List.of("b", "a"), getTopItems(5));
+
+        ranking.set("a", 7);
+        assertEquals(List.of("a", "b"), getTopItems(5));
+        assertEquals(12, ranking.getTotal());
+
+        // zero stops counting the item
+        ranking.set("a", 0);
+        assertEquals(List.of("b"), getTopItems(5));
+        assertEquals(5, ranking.getTotal());
+
+        assertThrows(IllegalArgumentException.class, () -> ranking.set("a", -1));
+        assertThrows(NullPointerException.class, () -> ranking.set(null, 1));
+    }
+
+    @Test
+    public void set_sameInOrder_rankedByFirstCounted() {
+        CountRanking<String> byLength = new CountRanking<>(Comparator.comparingInt(String::length));
+        byLength.increment("bb");
+        byLength.increment("aa");
+        byLength.increment("c");
+        assertEquals(List.of("c", "bb", "aa"), byLength.getTop(5).stream()
+                .map(CountRanking.Entry::getItem).collect(Collectors.toList()));
+
+        // keeps its place when its count changes back
+        byLength.increment("bb");
+        byLength.decrement("bb");
+        assertEquals(List.of("c", "bb", "aa"), byLength.getTop(5).stream()
+                .map(CountRanking.Entry::getItem).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void remove_andClear() {
+        ranking.add("a", 2);
+        ranking.add("b", 3);
+        ranking.remove("a");
+        ranking.remove("c");
+        assertEquals(List.of("b"), getTopItems(5));
+
+        ranking.clear();
+        assertTrue(ranking.getTop(5).isEmpty());
+        assertEquals(0, ranking.getTotal());
+        assertEquals(0, ranking.size());
+    }
+
+    @Test
+    public void entry_equals() {
+        ranking.add("a", 2);
+        CountRanking<String> otherRanking = new CountRanking<>(Comparator.reverseOrder());
+        otherRanking.add("b", 1);
+        otherRanking.add("a", 2);
+        CountRanking.Entry<String> entry = ranking.getTop(1).get(0);
+
+        // same item and count -> returns true
+        assertTrue(entry.equals(otherRanking.getTop(1).get(0)));
+        assertEquals(entry.hashCode(), otherRanking.getTop(1).get(0).hashCode());
+
+        // same object -> returns true
+        assertTrue(entry.equals(entry));
+
+        // null -> returns false
+        assertFalse(entry.equals(null));
+
+        // different count -> returns false
+        ranking.increment("a");
+        assertFalse(entry.equals(ranking.getTop(1).get(0)));
+
+        assertEquals("a=2", entry.toString());
+    }
+
+    private List<String> getTopItems(int limit) {
+        return ranking.getTop(limit).stream().map(CountRanking.Entry::getItem).collect(Collectors.toList());
+    }
+}
@@ -1,9 +1,16 @@
 package seedu.address.model.types.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTimeTest {
@@ -72,6 +79,123 @@ public class DateTimeTest {
         assertTrue(DateTime.isValidDateTime("0001-12-25 00:00")); // the first Christmas
         assertTrue(DateTime.isValidDateTime("2024-10-15 00:00")); // midnight
         assertTrue(DateTime.isValidDateTime("2024-10-15 23:59")); // one minute before midnight
+
+        // time zones
+        assertFalse(DateTime.isValidDateTime("2024-10-15 14:30 Mars/Olympus")); // unknown time zone
+        assertFalse(DateTime.isValidDateTime("2024-10-15 14:30  Asia/Tokyo")); // double space
+        assertFalse(DateTime.isValidDateTime("2024-03-10 02:30 America/New_York")); // skipped by daylight saving
+        assertTrue(DateTime.isValidDateTime("2024-10-15 14:30 Asia/Tokyo")); // region
+        assertTrue(DateTime.isValidDateTime("2024-10-15 14:30 UTC")); // UTC
+        assertTrue(DateTime.isValidDateTime("2024-10-15 14:30 UTC+08:00")); // offset
+        assertTrue(DateTime.isValidDateTime("2024-11-03 01:30 America/New_York")); // repeated by daylight saving
+    }
+
+    @Test
+    public void toString_formatsAsEntered() {
+        assertEquals("2024-10-15 14:30", new DateTime("2024-10-15 14:30").toString());
+        assertEquals("0001-12-25 00:00", new DateTime("0001-12-25 00:00").toString());
+        assertEquals("2024-10-15 14:30 Asia/Tokyo", new DateTime("2024-10-15 14:30 Asia/Tokyo").toString());
+        assertEquals("2024-11-03 01:30 America/New_York",
+                new DateTime("2024-11-03 01:30 America/New_York").toString());
+    }
+
+    @Test
+    public void toLocalDateTime_timeZone_convertedToSystemTimeZone() {
+        LocalDateTime expected = ZonedDateTime.of(LocalDateTime.of(2024, 10, 15, 14, 30), ZoneId.of("Asia/Tokyo"))
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        DateTime dateTime = new DateTime("2024-10-15 14:30 Asia/Tokyo");
+        assertEquals(expected, dateTime.toLocalDateTime());
+        assertEquals(DateTime.toEpochMinute(expected), dateTime.getEpochMinute());
+
+        assertEquals(LocalDateTime.of(2024, 10, 15, 14, 30), new DateTime("2024-10-15 14:30").toLocalDateTime());
+    }
+
+    @Test
+    public void compareTo() {
+        DateTime dateTime = new DateTime("2024-10-15 14:30");
+        assertEquals(0, dateTime.compareTo(new DateTime("2024-10-15 14:30")));
+        assertTrue(dateTime.compareTo(new DateTime("2024-10-15 14:31")) < 0);
+        assertTrue(dateTime.compareTo(new DateTime("2023-12-31 23:59")) > 0);
+
+        // same instant in different time zones
+        assertEquals(0, new DateTime("2024-10-15 14:30 UTC").compareTo(new DateTime("2024-10-15 23:30 Asia/Tokyo")));
+    }
+
+    @Test
+    public void compareToAndEquals_timeZoneDuringLocalFallBack_keepInstantsApart() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        try {
+            // both instants are 01:30 on the clocks in London, which go back from 02:00 to 01:00
+            DateTime beforeFallBack = new DateTime("2024-10-27 00:30 UTC");
+            DateTime afterFallBack = new DateTime("2024-10-27 01:30 UTC");
+            assertEquals(LocalDateTime.of(2024, 10, 27, 1, 30), beforeFallBack.toLocalDateTime());
+            assertEquals(LocalDateTime.of(2024, 10, 27, 1, 30), afterFallBack.toLocalDateTime());
+
+            assertFalse(beforeFallBack.equals(afterFallBack));
+            assertNotEquals(beforeFallBack.hashCode(), afterFallBack.hashCode());
+            assertTrue(beforeFallBack.compareTo(afterFallBack) < 0);
+            assertEquals(60, beforeFallBack.getMinutesUntil(afterFallBack));
+            assertEquals("2024-10-27 01:30 UTC", afterFallBack.toString());
+
+            // a local time shown twice is taken at its earlier instant
+            DateTime local = new DateTime("2024-10-27 01:30");
+            assertEquals(0, local.compareTo(beforeFallBack));
+            assertTrue(local.compareTo(afterFallBack) < 0);
+            assertTrue(afterFallBack.compareTo(local) > 0);
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void isBeforeAndIsAfter() {
+        DateTime dateTime = new DateTime("2024-10-15 14:30");
+        LocalDateTime sameMinute = LocalDateTime.of(2024, 10, 15, 14, 30);
+
+        assertFalse(dateTime.isBefore(sameMinute));
+        assertFalse(dateTime.isAfter(sameMinute));
+        assertTrue(dateTime.isBefore(sameMinute.plusNanos(1)));
+        assertFalse(dateTime.isAfter(sameMinute.plusNanos(1)));
+        assertTrue(dateTime.isAfter(sameMinute.minusNanos(1)));
+        assertFalse(dateTime.isBefore(sameMinute.minusNanos(1)));
+    }
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, DateTime.toEpochMinute(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        assertEquals(-1, DateTime.toEpochMinute(LocalDateTime.of(1969, 12, 31, 23, 59, 30)));
+        assertEquals(1, DateTime.toEpochMinute(LocalDateTime.of(1970, 1, 1, 0, 1, 59)));
+
+        assertEquals(0, DateTime.toEpochMinuteCeiling(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        assertEquals(0, DateTime.toEpochMinuteCeiling(LocalDateTime.of(1969, 12, 31, 23, 59, 30)));
+        assertEquals(1, DateTime.toEpochMinuteCeiling(LocalDateTime.of(1970, 1, 1, 0, 0).plusNanos(1)));
+    }
+
+    @Test
+    public void plusMinutes_keepsTimeZone() {
+        assertEquals(new DateTime("2024-10-16 00:10"), new DateTime("2024-10-15 23:40").plusMinutes(30));
+        assertEquals(new DateTime("2024-10-22 14:30 UTC"),
+                new DateTime("2024-10-15 14:30 UTC").plusMinutes(7 * 24 * 60));
+    }
+
+    @Test
+    public void toShownDateTime_timeZone_shownInItsTimeZone() {
+        DateTime dateTime = new DateTime("2024-10-15 14:30 Asia/Tokyo");
+        assertEquals(LocalDateTime.of(2024, 10, 15, 14, 30), dateTime.toShownDateTime());
+        assertEquals(LocalDateTime.of(2024, 10, 15, 14, 30), dateTime.toShownDateTime(dateTime.toLocalDateTime()));
+
+        // no time zone -> local timeline
+        assertEquals(LocalDateTime.of(2024, 10, 15, 14, 30), new DateTime("2024-10-15 14:30").toShownDateTime());
+    }
+
+    @Test
+    public void withShownDateTime_keepsTimeZone() {
+        DateTime dateTime = new DateTime("2024-10-28 09:00 America/New_York");
+        assertEquals(new DateTime("2024-11-04 09:00 America/New_York"),
+                dateTime.withShownDateTime(LocalDateTime.of(2024, 11, 4, 9, 0)));
+        assertEquals(new DateTime("2024-10-16 00:10"),
+                new DateTime("2024-10-15 23:40").withShownDateTime(LocalDateTime.of(2024, 10, 16, 0, 10)));
     }
 
     @Test
@@ -92,5 +216,10 @@ public class DateTimeTest {
 
         // different values -> returns false
         assertFalse(dateTime.equals(new DateTime("2024-10-16 15:30")));
+
+        // same time in a time zone -> returns false
+        assertFalse(new DateTime("2024-10-15 14:30 UTC").equals(new DateTime("2024-10-15 23:30 Asia/Tokyo")));
+        assertTrue(new DateTime("2024-10-15 14:30 UTC").equals(new DateTime("2024-10-15 14:30 UTC")));
+        assertEquals(new DateTime("2024-10-15 14:30 UTC").hashCode(), new DateTime("2024-10-15 14:30 UTC").hashCode());
     }
 }
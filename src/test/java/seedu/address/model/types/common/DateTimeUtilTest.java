@@ -3,6 +3,10 @@ package seedu.address.model.types.common;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,13 @@ public class DateTimeUtilTest {
         assertTrue(output.matches("^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}$"));
     }
 
+    @Test
+    public void getCurrentDateTimeString_fixedClock() {
+        Clock clock = Clock.fixed(Instant.parse("2024-10-15T06:30:59Z"), ZoneOffset.UTC);
+        assertEquals("2024-10-15 06:30", DateTimeUtil.getCurrentDateTimeString(clock));
+        assertEquals(LocalDateTime.of(2024, 10, 15, 6, 30, 59), DateTimeUtil.getCurrentDateTime(clock));
+    }
+
     @Test
     public void createTimeLine_oneArgument() {
         AtomicBoolean actionExecuted = new AtomicBoolean(false);
@@ -3,18 +3,20 @@ package seedu.address.model.types.common;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
-import static seedu.address.model.types.common.DateTimeUtil.getCurrentDateTime;
+
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.EventBuilder;
 
 public class EventInSchedulePredicateTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 15, 14, 30);
 
     @Test
     public void equals() {
-        EventInSchedulePredicate firstPredicate = new EventInSchedulePredicate(1);
-        EventInSchedulePredicate secondPredicate = new EventInSchedulePredicate(2);
+        EventInSchedulePredicate firstPredicate = new EventInSchedulePredicate(1, NOW);
+        EventInSchedulePredicate secondPredicate = new EventInSchedulePredicate(2, NOW);
         EventInSchedulePredicate thirdPredicate = new EventInSchedulePredicate(new DateTime("2024-10-15 14:30"));
         EventInSchedulePredicate fourthPredicate = new EventInSchedulePredicate(new DateTime("2024-10-16 15:30"));
 
@@ -23,7 +25,7 @@ public class EventInSchedulePredicateTest {
 
         // same values -> returns true
         EventInSchedulePredicate firstPredicateCopy =
-                new EventInSchedulePredicate(1);
+                new EventInSchedulePredicate(1, NOW);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
 
         EventInSchedulePredicate thirdPredicateCopy =
@@ -43,11 +45,11 @@ public class EventInSchedulePredicateTest {
     @Test
     public void test_eventInSchedule_returnsTrue() {
         // Plus one day
-        EventInSchedulePredicate predicate = new EventInSchedulePredicate(1);
+        EventInSchedulePredicate predicate = new EventInSchedulePredicate(1, NOW);
         assertTrue(predicate.test(new EventBuilder().withStartTime(currentTimeAdder(1, 0, 0)).build()));
 
         // Minus one day
-        EventInSchedulePredicate predicate2 = new EventInSchedulePredicate(-1);
+        EventInSchedulePredicate predicate2 = new EventInSchedulePredicate(-1, NOW);
         assertTrue(predicate2.test(new EventBuilder().withStartTime(currentTimeAdder(-1, 0, 0)).build()));
 
         // Event at start of day
@@ -62,11 +64,11 @@ public class EventInSchedulePredicateTest {
     @Test
     public void test_eventInSchedule_returnsFalse() {
         // Plus one day
-        EventInSchedulePredicate predicate = new EventInSchedulePredicate(1);
+        EventInSchedulePredicate predicate = new EventInSchedulePredicate(1, NOW);
         assertFalse(predicate.test(new EventBuilder().withStartTime(currentTimeAdder(0, 0, -1)).build()));
 
         // Minus one day
-        EventInSchedulePredicate predicate2 = new EventInSchedulePredicate(-1);
+        EventInSchedulePredicate predicate2 = new EventInSchedulePredicate(-1, NOW);
         assertFalse(predicate2.test(new EventBuilder().withStartTime(currentTimeAdder(0, 0, 1)).build()));
 
         // Event at start of day
@@ -78,7 +80,24 @@ public class EventInSchedulePredicateTest {
         assertFalse(predicate4.test(new EventBuilder().withStartTime("2024-10-15 23:59").build()));
     }
 
+    @Test
+    public void test_recurringEvent_matchesOccurrencesInSchedule() {
+        EventInSchedulePredicate predicate = new EventInSchedulePredicate(new DateTime("2024-10-22 00:00"));
+
+        // weekly from a week before -> occurs on the date
+        assertTrue(predicate.test(new EventBuilder().withStartTime("2024-10-15 09:00").withRecurrence("weekly")
+                .build()));
+
+        // weekly from a day before -> no occurrence on the date
+        assertFalse(predicate.test(new EventBuilder().withStartTime("2024-10-21 09:00").withRecurrence("weekly")
+                .build()));
+
+        // daily, stopped before the date -> no occurrence on the date
+        assertFalse(predicate.test(new EventBuilder().withStartTime("2024-10-15 09:00")
+                .withRecurrence("daily until 2024-10-21").build()));
+    }
+
     private String currentTimeAdder(int days, int hours, int minutes) {
-        return getCurrentDateTime().plusDays(days).plusHours(hours).plusMinutes(minutes).format(DATE_TIME_FORMATTER);
+        return NOW.plusDays(days).plusHours(hours).plusMinutes(minutes).format(DATE_TIME_FORMATTER);
     }
 }
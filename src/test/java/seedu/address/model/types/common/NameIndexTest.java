@@ -0,0 +1,96 @@
+package seedu.address.model.types.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex<String> nameIndex = new NameIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex.add(new Name("Company Meeting"), "meeting");
+        nameIndex.add(new Name("company dinner"), "dinner");
+        nameIndex.add(new Name("Concert Night"), "concert");
+        nameIndex.add(new Name("Anime Expo"), "anime");
+    }
+
+    @Test
+    public void add_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null, "item"));
+    }
+
+    @Test
+    public void get_exactName_returnsItem() {
+        assertEquals("meeting", nameIndex.get(new Name("Company Meeting")));
+        assertTrue(nameIndex.contains(new Name("Company Meeting")));
+    }
+
+    @Test
+    public void get_differentCase_returnsNull() {
+        assertNull(nameIndex.get(new Name("company meeting")));
+        assertFalse(nameIndex.contains(new Name("company meeting")));
+    }
+
+    @Test
+    public void add_sameName_replacesItem() {
+        nameIndex.add(new Name("Anime Expo"), "edited anime");
+        assertEquals("edited anime", nameIndex.get(new Name("Anime Expo")));
+        assertEquals(4, nameIndex.size());
+    }
+
+    @Test
+    public void remove_existingName_removesItem() {
+        nameIndex.remove(new Name("Concert Night"));
+        assertFalse(nameIndex.contains(new Name("Concert Night")));
+        assertEquals(3, nameIndex.size());
+
+        // removing again has no effect
+        nameIndex.remove(new Name("Concert Night"));
+        assertEquals(3, nameIndex.size());
+    }
+
+    @Test
+    public void getNamesStartingWith_prefixIgnoringCase_returnsSortedMatches() {
+        assertEquals(Arrays.asList("company dinner", "Company Meeting"),
+                nameIndex.getNamesStartingWith("COMPANY", 10));
+        assertEquals(Arrays.asList("company dinner", "Company Meeting", "Concert Night"),
+                nameIndex.getNamesStartingWith("co", 10));
+    }
+
+    @Test
+    public void getNamesStartingWith_namesDifferingInCase_returnsInFixedOrder() {
+        nameIndex.add(new Name("concert night"), "lower concert");
+        nameIndex.add(new Name("CONCERT NIGHT"), "upper concert");
+        assertEquals(Arrays.asList("CONCERT NIGHT", "Concert Night", "concert night"),
+                nameIndex.getNamesStartingWith("conc", 10));
+        assertEquals(Arrays.asList("CONCERT NIGHT", "Concert Night"), nameIndex.getNamesStartingWith("conc", 2));
+    }
+
+    @Test
+    public void getNamesStartingWith_limit_returnsAtMostLimit() {
+        assertEquals(Collections.singletonList("company dinner"), nameIndex.getNamesStartingWith("co", 1));
+        assertEquals(4, nameIndex.getNamesStartingWith("", 10).size());
+    }
+
+    @Test
+    public void getNamesStartingWith_noMatch_returnsEmptyList() {
+        assertTrue(nameIndex.getNamesStartingWith("Zoo", 10).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllNames() {
+        nameIndex.clear();
+        assertEquals(0, nameIndex.size());
+        assertTrue(nameIndex.getNamesStartingWith("", 10).isEmpty());
+    }
+}
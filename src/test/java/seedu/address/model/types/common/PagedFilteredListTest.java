@@ -0,0 +1,182 @@
+package seedu.address.model.types.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(range(0, 20));
+
+    @Test
+    public void constructor_invalidPageSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PagedFilteredList<>(source, 0));
+    }
+
+    @Test
+    public void setPredicate_showsFirstPageOnly() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 3);
+        assertEquals(List.of(0, 1, 2), pagedList);
+
+        pagedList.setPredicate(IS_EVEN);
+        assertEquals(List.of(0, 2, 4), pagedList);
+        assertTrue(pagedList.hasMore());
+        assertEquals(4, pagedList.getSourceIndex(2));
+        assertEquals(1, pagedList.getViewIndex(2));
+        assertEquals(-1, pagedList.getViewIndex(3));
+
+        // only the first matches are tested
+        List<Integer> tested = new ArrayList<>();
+        pagedList.setPredicate(number -> tested.add(number) && number > 5);
+        assertEquals(List.of(6, 7, 8), pagedList);
+        assertEquals(range(0, 9), tested);
+    }
+
+    @Test
+    public void showNextPage_addsMatchesUntilNoMore() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 4);
+        pagedList.setPredicate(IS_EVEN);
+        assertEquals(4, pagedList.showNextPage());
+        assertEquals(List.of(0, 2, 4, 6, 8, 10, 12, 14), pagedList);
+
+        assertEquals(2, pagedList.showNextPage());
+        assertEquals(List.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18), pagedList);
+        assertFalse(pagedList.hasMore());
+        assertEquals(0, pagedList.showNextPage());
+
+        // a new predicate starts from the first page again
+        pagedList.setPredicate(number -> number > 10);
+        assertEquals(List.of(11, 12, 13, 14), pagedList);
+    }
+
+    @Test
+    public void getAllMatches_includesMatchesNotShown() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 2);
+        pagedList.setPredicate(number -> number % 5 == 0);
+        assertEquals(List.of(0, 5), pagedList);
+        assertEquals(List.of(0, 5, 10, 15), pagedList.getAllMatches());
+    }
+
+    @Test
+    public void sourceChanged_changesInTestedPart_keepsFirstMatches() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 3);
+        pagedList.setPredicate(IS_EVEN);
+
+        // added before the last match shown, which is dropped
+        source.add(1, 100);
+        assertEquals(List.of(0, 100, 2), pagedList);
+
+        // removed, so the next match is shown
+        source.remove(Integer.valueOf(100));
+        source.remove(Integer.valueOf(2));
+        assertEquals(List.of(0, 4, 6), pagedList);
+
+        // replaced by an element that no longer matches
+        source.set(source.indexOf(4), 5);
+        assertEquals(List.of(0, 6, 8), pagedList);
+
+        // added after the tested part, so not shown
+        source.add(0);
+        assertEquals(List.of(0, 6, 8), pagedList);
+
+        source.setAll(range(10, 20));
+        assertEquals(List.of(10, 12, 14), pagedList);
+
+        source.clear();
+        assertTrue(pagedList.isEmpty());
+        assertFalse(pagedList.hasMore());
+    }
+
+    @Test
+    public void sourceChanged_permutation_keepsFirstMatches() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 3);
+        pagedList.setPredicate(IS_EVEN);
+        FXCollections.sort(source, Comparator.reverseOrder());
+        assertEquals(List.of(18, 16, 14), pagedList);
+    }
+
+    @Test
+    public void sourceChanged_updatedElements_retested() {
+        ObservableList<IntegerProperty> numbers =
+                FXCollections.observableArrayList(number -> new Observable[] {number});
+        numbers.addAll(new SimpleIntegerProperty(1), new SimpleIntegerProperty(2), new SimpleIntegerProperty(3));
+        PagedFilteredList<IntegerProperty> pagedList = new PagedFilteredList<>(numbers, 5);
+        pagedList.setPredicate(number -> number.get() % 2 == 0);
+        assertEquals(List.of(numbers.get(1)), pagedList);
+
+        numbers.get(0).set(4);
+        assertEquals(List.of(numbers.get(0), numbers.get(1)), pagedList);
+
+        numbers.get(1).set(5);
+        assertEquals(List.of(numbers.get(0)), pagedList);
+    }
+
+    @Test
+    public void sourceChanged_viewUnchanged_noChangeFired() {
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 3);
+        pagedList.setPredicate(IS_EVEN);
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Integer>) changes::add);
+
+        // after the matches shown
+        source.add(7, 101);
+        source.remove(15);
+        assertTrue(changes.isEmpty());
+
+        source.add(0, 102);
+        assertEquals(1, changes.size());
+        assertEquals(List.of(102, 0, 2), pagedList);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFirstMatches() {
+        Random random = new Random(50);
+        PagedFilteredList<Integer> pagedList = new PagedFilteredList<>(source, 4);
+        pagedList.setPredicate(IS_EVEN);
+        pagedList.showNextPage();
+
+        for (int i = 0; i < 1000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 3) {
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + random.nextInt(3)));
+            } else {
+                // removed in several parts of one change
+                source.removeAll(random.nextInt(10) * 2, random.nextInt(10) * 2 + 1);
+            }
+
+            List<Integer> expected = source.stream().filter(IS_EVEN).limit(8).collect(Collectors.toList());
+            assertEquals(expected, pagedList);
+        }
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
@@ -6,6 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalEvents.nowPlusDays;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +50,21 @@ public class PersonEventManagerTest {
         assertTrue(personEventManager.isPersonLinkedToEvent(person, event));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenLinksChange() {
+        long version = personEventManager.getVersion();
+        personEventManager.isPersonLinkedToEvent(person, event);
+        personEventManager.getScheduleClashes(List.of(person), event);
+        assertEquals(version, personEventManager.getVersion());
+
+        personEventManager.addPersonToEvent(person, event);
+        assertTrue(personEventManager.getVersion() != version);
+
+        version = personEventManager.getVersion();
+        personEventManager.removePersonFromEvent(person, event);
+        assertTrue(personEventManager.getVersion() != version);
+    }
+
     @Test
     public void removePersonFromEvent_personRemovedSuccessfully() {
         personEventManager.addPersonToEvent(person, event);
@@ -70,6 +89,160 @@ public class PersonEventManagerTest {
         assertFalse(personEventManager.isPersonLinkedToEvent(person, anotherEvent));
     }
 
+    @Test
+    public void addPersonsToEvent_onlyUnlinkedPersonsAdded() {
+        Person otherPerson = new PersonBuilder().withName("Elle Meyer").build();
+        personEventManager.addPersonToEvent(person, event);
+
+        assertEquals(1, personEventManager.addPersonsToEvent(Arrays.asList(person, otherPerson, otherPerson), event));
+        assertTrue(personEventManager.isPersonLinkedToEvent(otherPerson, event));
+        assertEquals(2, personEventManager.getEventPersonMap().get(event).size());
+    }
+
+    @Test
+    public void removePersonsFromEvent_linkedPersonsRemoved() {
+        Person otherPerson = new PersonBuilder().withName("Elle Meyer").build();
+        personEventManager.addPersonToEvent(person, event);
+
+        assertEquals(1, personEventManager.removePersonsFromEvent(Arrays.asList(person, otherPerson), event));
+        assertFalse(personEventManager.isPersonLinkedToEvent(person, event));
+    }
+
+    @Test
+    public void removePersonsFromAllEvents_personsRemovedFromAllEvents() {
+        Person otherPerson = new PersonBuilder().withName("Elle Meyer").build();
+        Event anotherEvent = new EventBuilder().withName("Sentosa").build();
+        personEventManager.addEvent(anotherEvent);
+        personEventManager.addPersonToEvent(person, event);
+        personEventManager.addPersonToEvent(otherPerson, event);
+        personEventManager.addPersonToEvent(person, anotherEvent);
+
+        personEventManager.removePersonsFromAllEvents(Arrays.asList(person, otherPerson));
+        assertTrue(personEventManager.getEventPersonMap().get(event).isEmpty());
+        assertTrue(personEventManager.getEventPersonMap().get(anotherEvent).isEmpty());
+    }
+
+    @Test
+    public void addPersonsToEvent_fullEvent_remainingPersonsWaitlisted() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("2").build();
+        personEventManager.addEvent(smallEvent);
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+
+        assertEquals(2, personEventManager.addPersonsToEvent(Arrays.asList(person, benson, carl), smallEvent));
+        assertEquals(Arrays.asList(person, benson), personEventManager.getEventPersonMap().get(smallEvent));
+        assertEquals(Arrays.asList(carl), personEventManager.getWaitlist(smallEvent));
+        assertEquals(1, personEventManager.getWaitlistSize(smallEvent));
+
+        // events not managed have no waitlist
+        Event otherEvent = new EventBuilder().withName("Other Talk").build();
+        assertEquals(0, personEventManager.getWaitlistSize(otherEvent));
+        assertTrue(personEventManager.getWaitlist(otherEvent).isEmpty());
+
+        // persons already waiting are skipped
+        assertEquals(0, personEventManager.addPersonsToEvent(Arrays.asList(carl), smallEvent));
+        assertFalse(personEventManager.addPersonToEvent(carl, smallEvent));
+        assertEquals(1, personEventManager.getWaitlistSize(smallEvent));
+    }
+
+    @Test
+    public void removePersonFromEvent_fullEvent_promotesFromWaitlist() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        personEventManager.addEvent(smallEvent);
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        personEventManager.addPersonsToEvent(Arrays.asList(person, benson, carl), smallEvent);
+
+        personEventManager.removePersonFromEvent(person, smallEvent);
+        assertEquals(Arrays.asList(benson), personEventManager.getEventPersonMap().get(smallEvent));
+        assertEquals(Arrays.asList(carl), personEventManager.getWaitlist(smallEvent));
+
+        // leaving the waitlist promotes no one
+        personEventManager.removePersonFromEvent(carl, smallEvent);
+        assertEquals(Arrays.asList(benson), personEventManager.getEventPersonMap().get(smallEvent));
+        assertEquals(0, personEventManager.getWaitlistSize(smallEvent));
+    }
+
+    @Test
+    public void removePersonFromAllEvents_fullEvent_promotesFromWaitlist() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        personEventManager.addEvent(smallEvent);
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        personEventManager.addPersonsToEvent(Arrays.asList(person, benson), smallEvent);
+
+        personEventManager.removePersonFromAllEvents(person);
+        assertEquals(Arrays.asList(benson), personEventManager.getEventPersonMap().get(smallEvent));
+        assertEquals(0, personEventManager.getWaitlistSize(smallEvent));
+    }
+
+    @Test
+    public void setEvent_largerCapacity_promotesFromWaitlist() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        personEventManager.addEvent(smallEvent);
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        personEventManager.addPersonsToEvent(Arrays.asList(person, benson, carl), smallEvent);
+
+        Event largerEvent = new EventBuilder(smallEvent).withCapacity("2").build();
+        personEventManager.setEvent(smallEvent, largerEvent);
+        assertEquals(Arrays.asList(person, benson), personEventManager.getEventPersonMap().get(largerEvent));
+        assertEquals(Arrays.asList(carl), personEventManager.getWaitlist(largerEvent));
+    }
+
+    @Test
+    public void restoreWaitlistPlaces_afterPromotion_restoresLinksAndWaitlist() {
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        personEventManager.addEvent(smallEvent);
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        personEventManager.addPersonsToEvent(Arrays.asList(person, benson, carl), smallEvent);
+        Map<Person, Long> places = personEventManager.getWaitlistPlaces(Arrays.asList(person), smallEvent);
+
+        personEventManager.removePersonFromEvent(person, smallEvent);
+        personEventManager.restoreWaitlistPlaces(smallEvent, places);
+        personEventManager.insertPersonsToEvent(Arrays.asList(person), smallEvent, new int[] {0});
+        assertEquals(Arrays.asList(person), personEventManager.getEventPersonMap().get(smallEvent));
+        assertEquals(Arrays.asList(benson, carl), personEventManager.getWaitlist(smallEvent));
+    }
+
+    @Test
+    public void getScheduleClashes_overlappingLinkedEvents_returnsClashesOfUnlinkedPersons() {
+        Person otherPerson = new PersonBuilder().withName("Elle Meyer").build();
+        Event workshop = new EventBuilder().withName("Workshop").withStartTime("2030-01-07 09:00")
+                .withEndTime("2030-01-07 17:00").build();
+        Event lunch = new EventBuilder().withName("Lunch").withStartTime("2030-01-07 12:00")
+                .withEndTime("2030-01-07 13:00").build();
+        Event standUp = new EventBuilder().withName("Standup").withStartTime("2029-12-31 16:45")
+                .withEndTime("2029-12-31 17:15").withRecurrence("weekly").build();
+        Event dinner = new EventBuilder().withName("Dinner").withStartTime("2030-01-07 17:00").build();
+        Arrays.asList(workshop, lunch, standUp, dinner).forEach(personEventManager::addEvent);
+        personEventManager.addPersonToEvent(person, lunch);
+        personEventManager.addPersonToEvent(person, standUp);
+        personEventManager.addPersonToEvent(person, dinner);
+        personEventManager.addPersonToEvent(otherPerson, workshop);
+
+        assertEquals(Map.of(person, Arrays.asList(standUp, lunch)),
+                personEventManager.getScheduleClashes(Arrays.asList(person, otherPerson), workshop));
+
+        // persons already linked to the event are left out
+        assertEquals(Map.of(), personEventManager.getScheduleClashes(Arrays.asList(person), lunch));
+        assertEquals(Map.of(otherPerson, Arrays.asList(workshop)),
+                personEventManager.getScheduleClashes(Arrays.asList(person, otherPerson), lunch));
+
+        // changes to links and events are reflected
+        Event movedLunch = new EventBuilder(lunch).withStartTime("2030-01-07 18:00")
+                .withEndTime("2030-01-07 19:00").build();
+        personEventManager.setEvent(lunch, movedLunch);
+        personEventManager.removePersonFromEvent(person, standUp);
+        assertEquals(Map.of(), personEventManager.getScheduleClashes(Arrays.asList(person), workshop));
+
+        Person editedPerson = new PersonBuilder(person).withPhone("91234567").build();
+        personEventManager.setPersonForAllEvents(person, editedPerson);
+        assertEquals(Map.of(editedPerson, Arrays.asList(movedLunch)),
+                personEventManager.getScheduleClashes(Arrays.asList(person, editedPerson),
+                        new EventBuilder().withName("Drinks").withStartTime("2030-01-07 18:30").build()));
+    }
+
     @Test
     public void setPersonForAllEvents_personReplacedSuccessfully() {
         Person editedPerson = new PersonBuilder()
@@ -120,6 +293,41 @@ public class PersonEventManagerTest {
         assertTrue(personEventManager.isPersonLinkedToEvent(person, event));
     }
 
+    @Test
+    public void getTopEventsByAttendees_keptUpToDateWithLinks() {
+        Event otherEvent = new EventBuilder().withName("Sentosa").withStartTime(nowPlusDays(10)).build();
+        Person otherPerson = new PersonBuilder().withName("Elle Meyer").build();
+        personEventManager.addEvent(otherEvent);
+        personEventManager.addPersonToEvent(person, event);
+        personEventManager.addPersonToEvent(person, otherEvent);
+        personEventManager.addPersonToEvent(otherPerson, otherEvent);
+
+        assertEquals(3, personEventManager.getLinkCount());
+        assertEquals(Arrays.asList(otherEvent, event), getItems(personEventManager.getTopEventsByAttendees(5)));
+        assertEquals(2, personEventManager.getTopEventsByAttendees(1).get(0).getCount());
+        assertEquals(Arrays.asList(person, otherPerson),
+                getItems(personEventManager.getTopPersonsByLinkedEvents(5)));
+
+        personEventManager.removePersonFromEvent(person, otherEvent);
+        assertEquals(2, personEventManager.getLinkCount());
+        assertEquals(Arrays.asList(event, otherEvent), getItems(personEventManager.getTopEventsByAttendees(5)));
+        assertEquals(1, personEventManager.getTopPersonsByLinkedEvents(5).get(0).getCount());
+
+        personEventManager.removeEvent(event);
+        assertEquals(1, personEventManager.getLinkCount());
+        assertEquals(Arrays.asList(otherEvent), getItems(personEventManager.getTopEventsByAttendees(5)));
+        assertEquals(Arrays.asList(otherPerson), getItems(personEventManager.getTopPersonsByLinkedEvents(5)));
+
+        personEventManager.removePersonFromAllEvents(otherPerson);
+        assertEquals(0, personEventManager.getLinkCount());
+        assertTrue(personEventManager.getTopEventsByAttendees(5).isEmpty());
+        assertTrue(personEventManager.getTopPersonsByLinkedEvents(5).isEmpty());
+    }
+
+    private static <T> List<T> getItems(List<CountRanking.Entry<T>> ranking) {
+        return ranking.stream().map(CountRanking.Entry::getItem).collect(Collectors.toList());
+    }
+
     @Test
     public void getLinkedPersonsEntryList_linkedPersonsEntryListRetrievedSuccessfully() {
         ArrayList<Person> persons = new ArrayList<>();
@@ -0,0 +1,129 @@
+package seedu.address.model.types.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.types.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WaitlistTest {
+
+    @Test
+    public void add_personsInOrder_keptInOrder() {
+        Waitlist waitlist = new Waitlist();
+        assertTrue(waitlist.isEmpty());
+        assertTrue(waitlist.add(ALICE));
+        assertTrue(waitlist.add(BENSON));
+        assertTrue(waitlist.add(CARL));
+
+        // already waiting
+        assertFalse(waitlist.add(ALICE));
+
+        assertEquals(3, waitlist.size());
+        assertTrue(waitlist.contains(BENSON));
+        assertFalse(waitlist.contains(DANIEL));
+        assertEquals(List.of(ALICE, BENSON, CARL), waitlist.asList());
+    }
+
+    @Test
+    public void poll_takesFromFront() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON));
+        assertEquals(ALICE, waitlist.poll());
+        assertEquals(BENSON, waitlist.poll());
+        assertNull(waitlist.poll());
+        assertTrue(waitlist.isEmpty());
+    }
+
+    @Test
+    public void remove() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON, CARL));
+        assertTrue(waitlist.remove(BENSON));
+        assertFalse(waitlist.remove(BENSON));
+        assertEquals(List.of(ALICE, CARL), waitlist.asList());
+    }
+
+    @Test
+    public void addAt_removedPersons_restoredInPlace() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON, CARL, DANIEL));
+        Map<Person, Long> places = waitlist.getPlaces(List.of(ALICE, CARL, ELLE));
+        assertEquals(2, places.size());
+
+        waitlist.remove(CARL);
+        waitlist.poll();
+        waitlist.add(ELLE);
+        places.forEach(waitlist::addAt);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), waitlist.asList());
+
+        // already in place
+        waitlist.addAt(ALICE, places.get(ALICE));
+        assertEquals(5, waitlist.size());
+
+        // place taken by another person
+        assertThrows(IllegalArgumentException.class, () -> waitlist.addAt(ALICE, places.get(CARL)));
+    }
+
+    @Test
+    public void getFirstPlaces_restoresPolledPersons() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON, CARL));
+        Map<Person, Long> firstPlaces = waitlist.getFirstPlaces(2);
+        assertEquals(List.of(ALICE, BENSON), List.copyOf(firstPlaces.keySet()));
+
+        waitlist.poll();
+        waitlist.poll();
+        firstPlaces.forEach(waitlist::addAt);
+        assertEquals(List.of(ALICE, BENSON, CARL), waitlist.asList());
+    }
+
+    @Test
+    public void getLast() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON, CARL));
+        assertEquals(List.of(BENSON, CARL), waitlist.getLast(2));
+        assertEquals(List.of(ALICE, BENSON, CARL), waitlist.getLast(5));
+        assertTrue(waitlist.getLast(0).isEmpty());
+    }
+
+    @Test
+    public void replace_keepsPlace() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        waitlist.replace(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson, CARL), waitlist.asList());
+
+        // not waiting
+        waitlist.replace(DANIEL, ELLE);
+        assertFalse(waitlist.contains(ELLE));
+    }
+
+    @Test
+    public void equals() {
+        Waitlist waitlist = new Waitlist(List.of(ALICE, BENSON));
+
+        // same persons in the same order -> returns true
+        Waitlist otherWaitlist = new Waitlist(List.of(CARL, ALICE, BENSON));
+        otherWaitlist.poll();
+        assertTrue(waitlist.equals(otherWaitlist));
+        assertEquals(waitlist.hashCode(), otherWaitlist.hashCode());
+
+        // same object -> returns true
+        assertTrue(waitlist.equals(waitlist));
+
+        // null -> returns false
+        assertFalse(waitlist.equals(null));
+
+        // different order -> returns false
+        assertFalse(waitlist.equals(new Waitlist(List.of(BENSON, ALICE))));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.types.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CapacityTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Capacity(null));
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Capacity("0"));
+    }
+
+    @Test
+    public void isValidCapacity() {
+        // null capacity
+        assertThrows(NullPointerException.class, () -> Capacity.isValidCapacity(null));
+
+        // invalid capacities
+        assertFalse(Capacity.isValidCapacity("")); // empty string
+        assertFalse(Capacity.isValidCapacity("0")); // no places
+        assertFalse(Capacity.isValidCapacity("-3")); // negative
+        assertFalse(Capacity.isValidCapacity("2.5")); // not a whole number
+        assertFalse(Capacity.isValidCapacity("ten")); // not a number
+        assertFalse(Capacity.isValidCapacity("2147483648")); // too large
+
+        // valid capacities
+        assertTrue(Capacity.isValidCapacity("1"));
+        assertTrue(Capacity.isValidCapacity("050")); // leading zeros
+        assertTrue(Capacity.isValidCapacity("2147483647"));
+    }
+
+    @Test
+    public void isReachedBy() {
+        Capacity capacity = new Capacity("3");
+        assertFalse(capacity.isReachedBy(0));
+        assertFalse(capacity.isReachedBy(2));
+        assertTrue(capacity.isReachedBy(3));
+        assertTrue(capacity.isReachedBy(4));
+    }
+
+    @Test
+    public void equals() {
+        Capacity capacity = new Capacity("10");
+
+        // same values -> returns true
+        assertTrue(capacity.equals(new Capacity("010")));
+
+        // same object -> returns true
+        assertTrue(capacity.equals(capacity));
+
+        // null -> returns false
+        assertFalse(capacity.equals(null));
+
+        // different types -> returns false
+        assertFalse(capacity.equals(10));
+
+        // different values -> returns false
+        assertFalse(capacity.equals(new Capacity("11")));
+
+        assertEquals(capacity.hashCode(), new Capacity("10").hashCode());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("10", new Capacity("010").toString());
+    }
+}
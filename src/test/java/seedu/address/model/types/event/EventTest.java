@@ -14,8 +14,15 @@ import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
 import static seedu.address.testutil.TypicalEvents.BARBEQUE;
 import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.types.common.DateTime;
 import seedu.address.testutil.EventBuilder;
 
 
@@ -87,13 +94,164 @@ public class EventTest {
         // different tags -> returns false
         editedAnime = new EventBuilder(ANIME).withTags(VALID_TAG_CULTURE).build();
         assertFalse(ANIME.equals(editedAnime));
+
+        // different endTime -> returns false
+        Event event = new EventBuilder().build();
+        assertFalse(event.equals(new EventBuilder(event).withEndTime("2024-10-15 18:00").build()));
+    }
+
+    @Test
+    public void constructor_endTimeNotAfterStartTime_throwsIllegalArgumentException() {
+        EventBuilder eventBuilder = new EventBuilder().withStartTime("2024-10-15 14:30");
+        assertThrows(IllegalArgumentException.class, Event.MESSAGE_END_TIME_CONSTRAINTS, ()
+            -> eventBuilder.withEndTime("2024-10-15 14:30").build());
+        assertThrows(IllegalArgumentException.class, Event.MESSAGE_END_TIME_CONSTRAINTS, ()
+            -> eventBuilder.withEndTime("2024-10-14 18:00").build());
+    }
+
+    @Test
+    public void constructor_recurrenceEndingBeforeStart_throwsIllegalArgumentException() {
+        EventBuilder eventBuilder = new EventBuilder().withStartTime("2024-10-15 14:30")
+                .withRecurrence("daily until 2024-10-14");
+        assertThrows(IllegalArgumentException.class, Event.MESSAGE_RECURRENCE_CONSTRAINTS, eventBuilder::build);
+    }
+
+    @Test
+    public void getOccurrencesBetween_recurringEvent_returnsOccurrencesInWindow() {
+        Event meeting = new EventBuilder().withStartTime("2024-10-15 09:00").withEndTime("2024-10-15 10:00")
+                .withRecurrence("weekly until 2024-11-05").build();
+        EventBuilder occurrence = new EventBuilder(meeting).withoutRecurrence();
+
+        assertEquals(List.of(occurrence.withStartTime("2024-10-22 09:00").withEndTime("2024-10-22 10:00").build(),
+                occurrence.withStartTime("2024-10-29 09:00").withEndTime("2024-10-29 10:00").build()),
+                meeting.getOccurrencesBetween(LocalDateTime.of(2024, 10, 15, 9, 1),
+                        LocalDateTime.of(2024, 11, 5, 9, 0)));
+
+        // occurrences stop at the last date
+        assertEquals(4, meeting.getOccurrencesBetween(LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 0, 0)).size());
+
+        // event that does not repeat -> itself if it starts in the window
+        Event event = new EventBuilder().withStartTime("2024-10-15 09:00").build();
+        assertEquals(List.of(event), event.getOccurrencesBetween(LocalDateTime.of(2024, 10, 15, 9, 0),
+                LocalDateTime.of(2024, 10, 15, 9, 1)));
+        assertTrue(event.getOccurrencesBetween(LocalDateTime.of(2024, 10, 15, 9, 1),
+                LocalDateTime.of(2024, 10, 16, 0, 0)).isEmpty());
+    }
+
+    @Test
+    public void getOccurrencesBetween_zonedRecurringEventAcrossDstChange_keepsTimeInItsTimeZone() {
+        TimeZone systemTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        try {
+            // the local clocks go back on 27 October, but those in Tokyo do not change
+            Event tokyoMeeting = new EventBuilder().withStartTime("2024-10-21 09:00 Asia/Tokyo")
+                    .withEndTime("2024-10-21 10:00 Asia/Tokyo").withRecurrence("weekly").build();
+            assertEquals(List.of("2024-10-21 09:00 Asia/Tokyo", "2024-10-28 09:00 Asia/Tokyo",
+                    "2024-11-04 09:00 Asia/Tokyo"), getStartTimes(tokyoMeeting.getOccurrencesBetween(
+                            LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 11, 10, 0, 0))));
+            assertEquals("2024-10-28 10:00 Asia/Tokyo", tokyoMeeting.getOccurrenceAt(
+                    LocalDateTime.of(2024, 10, 27, 0, 0)).getEndTime().get().toString());
+            assertEquals(Optional.of(new DateTime("2024-10-28 09:00 Asia/Tokyo")),
+                    tokyoMeeting.getNextStartTimeAfter(LocalDateTime.of(2024, 10, 27, 0, 0)));
+
+            // the clocks in New York go back on 3 November, a week after the local clocks
+            Event newYorkMeeting = new EventBuilder().withStartTime("2024-10-25 09:00 America/New_York")
+                    .withRecurrence("daily until 2024-11-05").build();
+            List<Event> occurrences = newYorkMeeting.getOccurrencesBetween(LocalDateTime.of(2024, 10, 1, 0, 0),
+                    LocalDateTime.of(2024, 12, 1, 0, 0));
+            assertEquals(12, occurrences.size());
+            assertTrue(getStartTimes(occurrences).stream().allMatch(time -> time.endsWith("09:00 America/New_York")));
+            assertEquals(LocalDateTime.of(2024, 11, 2, 13, 0), occurrences.get(8).getStartTime().toLocalDateTime());
+            assertEquals(LocalDateTime.of(2024, 11, 3, 14, 0), occurrences.get(9).getStartTime().toLocalDateTime());
+        } finally {
+            TimeZone.setDefault(systemTimeZone);
+        }
+    }
+
+    @Test
+    public void getOccurrenceAt_recurringEvent_returnsOngoingOrNextOccurrence() {
+        Event meeting = new EventBuilder().withStartTime("2024-10-15 09:00").withEndTime("2024-10-15 10:00")
+                .withRecurrence("daily until 2024-10-17").build();
+
+        // before the first occurrence -> first occurrence
+        assertEquals("2024-10-15 09:00", meeting.getOccurrenceAt(LocalDateTime.of(2024, 10, 1, 0, 0))
+                .getStartTime().toString());
+
+        // during an occurrence -> that occurrence
+        assertEquals("2024-10-16 09:00", meeting.getOccurrenceAt(LocalDateTime.of(2024, 10, 16, 9, 59))
+                .getStartTime().toString());
+
+        // after an occurrence ends -> next occurrence
+        assertEquals("2024-10-17 09:00", meeting.getOccurrenceAt(LocalDateTime.of(2024, 10, 16, 10, 0))
+                .getStartTime().toString());
+
+        // after the last occurrence -> last occurrence
+        assertEquals("2024-10-17 09:00", meeting.getOccurrenceAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .getStartTime().toString());
+    }
+
+    @Test
+    public void getNextStartTimeAfter() {
+        Event event = new EventBuilder().withStartTime("2024-10-15 09:00").build();
+        assertEquals(Optional.of(event.getStartTime()),
+                event.getNextStartTimeAfter(LocalDateTime.of(2024, 10, 15, 8, 59)));
+        assertEquals(Optional.empty(), event.getNextStartTimeAfter(LocalDateTime.of(2024, 10, 15, 9, 0)));
+
+        Event meeting = new EventBuilder(event).withRecurrence("weekly until 2024-10-29").build();
+        assertEquals(Optional.of(new DateTime("2024-10-22 09:00")),
+                meeting.getNextStartTimeAfter(LocalDateTime.of(2024, 10, 15, 9, 0)));
+        assertEquals(Optional.empty(), meeting.getNextStartTimeAfter(LocalDateTime.of(2024, 10, 29, 9, 0)));
+    }
+
+    @Test
+    public void hasOccurrenceOverlapping_recurringEvent() {
+        Event meeting = new EventBuilder().withStartTime("2024-10-15 09:00").withEndTime("2024-10-15 10:00")
+                .withRecurrence("weekly").build();
+
+        assertTrue(meeting.hasOccurrenceOverlapping(LocalDateTime.of(2024, 12, 3, 9, 59),
+                LocalDateTime.of(2024, 12, 3, 11, 0)));
+        assertFalse(meeting.hasOccurrenceOverlapping(LocalDateTime.of(2024, 12, 3, 10, 0),
+                LocalDateTime.of(2024, 12, 10, 9, 0)));
+    }
+
+    @Test
+    public void overlaps() {
+        Event afternoon = new EventBuilder().withStartTime("2024-10-15 14:00").withEndTime("2024-10-15 17:00")
+                .build();
+
+        // starts during the other event -> returns true
+        Event evening = new EventBuilder().withStartTime("2024-10-15 16:00").withEndTime("2024-10-15 20:00").build();
+        assertTrue(afternoon.overlaps(evening));
+        assertTrue(evening.overlaps(afternoon));
+
+        // starts when the other event ends -> returns false
+        evening = new EventBuilder().withStartTime("2024-10-15 17:00").withEndTime("2024-10-15 20:00").build();
+        assertFalse(afternoon.overlaps(evening));
+        assertFalse(evening.overlaps(afternoon));
+
+        // no end time, starts during the other event -> returns true
+        Event instant = new EventBuilder().withStartTime("2024-10-15 16:59").build();
+        assertTrue(afternoon.overlaps(instant));
+
+        // no end time, starts before the other event -> returns false
+        instant = new EventBuilder().withStartTime("2024-10-15 13:59").build();
+        assertFalse(afternoon.overlaps(instant));
+
+        // neither has an end time, same start time -> returns true
+        assertTrue(instant.overlaps(new EventBuilder().withStartTime("2024-10-15 13:59").build()));
     }
 
     @Test
     public void toStringMethod() {
         String expected = Event.class.getCanonicalName() + "{name=" + ANIME.getName()
                 + ", location=" + ANIME.getLocation() + ", startTime=" + ANIME.getStartTime()
-                + ", tags=" + ANIME.getTags() + "}";
+                + ", endTime=" + ANIME.getEndTime().orElse(null) + ", recurrence=" + ANIME.getRecurrence().orElse(null)
+                + ", capacity=" + ANIME.getCapacity().orElse(null) + ", tags=" + ANIME.getTags() + "}";
         assertEquals(expected, ANIME.toString());
     }
+
+    private static List<String> getStartTimes(List<Event> events) {
+        return events.stream().map(event -> event.getStartTime().toString()).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.address.model.types.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null));
+    }
+
+    @Test
+    public void constructor_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence("yearly"));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // null recurrence
+        assertThrows(NullPointerException.class, () -> Recurrence.isValidRecurrence(null));
+
+        // invalid recurrences
+        assertFalse(Recurrence.isValidRecurrence("")); // empty string
+        assertFalse(Recurrence.isValidRecurrence("fortnightly")); // unknown frequency
+        assertFalse(Recurrence.isValidRecurrence("weekly until")); // missing date
+        assertFalse(Recurrence.isValidRecurrence("weekly until 2024-02-30")); // invalid date
+        assertFalse(Recurrence.isValidRecurrence("weekly 2024-12-31")); // missing until
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence("daily"));
+        assertTrue(Recurrence.isValidRecurrence("Weekly")); // any capitalization
+        assertTrue(Recurrence.isValidRecurrence("monthly until 2024-12-31"));
+    }
+
+    @Test
+    public void constructor_anyCapitalization_normalizesValue() {
+        assertEquals("weekly until 2024-12-31", new Recurrence("WEEKLY Until 2024-12-31").value);
+        assertEquals(new Recurrence("daily"), new Recurrence("Daily"));
+        assertFalse(new Recurrence("daily").equals(new Recurrence("daily until 2024-12-31")));
+    }
+
+    @Test
+    public void getFirstOccurrenceFrom_monthlyFromEndOfMonth_countsFromStart() {
+        Recurrence monthly = new Recurrence("monthly");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 31, 10, 0);
+        assertEquals(LocalDateTime.of(2024, 2, 29, 10, 0), monthly.getOccurrence(start, 1));
+        assertEquals(LocalDateTime.of(2024, 3, 31, 10, 0), monthly.getOccurrence(start, 2));
+
+        assertEquals(0, monthly.getFirstOccurrenceFrom(start, start.minusDays(1)));
+        assertEquals(0, monthly.getFirstOccurrenceFrom(start, start));
+        assertEquals(1, monthly.getFirstOccurrenceFrom(start, start.plusMinutes(1)));
+        assertEquals(2, monthly.getFirstOccurrenceFrom(start, LocalDateTime.of(2024, 2, 29, 10, 1)));
+        assertEquals(2, monthly.getFirstOccurrenceFrom(start, LocalDateTime.of(2024, 3, 31, 10, 0)));
+    }
+
+    @Test
+    public void getLastOccurrence() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 15, 9, 0);
+        assertEquals(Long.MAX_VALUE, new Recurrence("weekly").getLastOccurrence(start));
+        assertEquals(0, new Recurrence("weekly until 2024-10-15").getLastOccurrence(start));
+        assertEquals(2, new Recurrence("weekly until 2024-10-29").getLastOccurrence(start));
+        assertEquals(2, new Recurrence("weekly until 2024-11-04").getLastOccurrence(start));
+    }
+}
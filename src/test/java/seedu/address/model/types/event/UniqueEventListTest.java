@@ -9,16 +9,33 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CULTURE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
 import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+import static seedu.address.testutil.TypicalEvents.HIKING_TRIP;
+import static seedu.address.testutil.TypicalEvents.ICE_CREAM_FEST;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
+import seedu.address.model.types.common.DateTimeUtil;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.event.exceptions.EventNotFoundException;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.SimulatedClock;
 
 public class UniqueEventListTest {
 
@@ -163,6 +180,310 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void getEventsBetween_eventsInRange_returnsEventsInChronologicalOrder() {
+        uniqueEventList.add(ICE_CREAM_FEST);
+        uniqueEventList.add(HIKING_TRIP);
+        assertEquals(Arrays.asList(HIKING_TRIP, ICE_CREAM_FEST), uniqueEventList.getEventsBetween(
+                LocalDateTime.of(2025, 12, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void getEventsBetween_rangeEnd_isExclusive() {
+        uniqueEventList.add(HIKING_TRIP);
+        LocalDateTime hikingStart = HIKING_TRIP.getStartTime().toLocalDateTime();
+        assertTrue(uniqueEventList.getEventsBetween(hikingStart.minusDays(1), hikingStart).isEmpty());
+        assertEquals(Collections.singletonList(HIKING_TRIP),
+                uniqueEventList.getEventsBetween(hikingStart, hikingStart.plusMinutes(1)));
+    }
+
+    @Test
+    public void getEventsBetween_afterSetAndRemove_reflectsChanges() {
+        uniqueEventList.add(HIKING_TRIP);
+        Event movedHikingTrip = new EventBuilder(HIKING_TRIP).withStartTime("2025-12-22 08:00").build();
+        uniqueEventList.setEvent(HIKING_TRIP, movedHikingTrip);
+        uniqueEventList.add(ICE_CREAM_FEST);
+        LocalDateTime from = LocalDateTime.of(2025, 12, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 0, 0);
+        assertEquals(Arrays.asList(ICE_CREAM_FEST, movedHikingTrip), uniqueEventList.getEventsBetween(from, to));
+
+        uniqueEventList.remove(ICE_CREAM_FEST);
+        assertEquals(Collections.singletonList(movedHikingTrip), uniqueEventList.getEventsBetween(from, to));
+
+        uniqueEventList.setEvents(Collections.singletonList(ICE_CREAM_FEST));
+        assertEquals(Collections.singletonList(ICE_CREAM_FEST), uniqueEventList.getEventsBetween(from, to));
+    }
+
+    @Test
+    public void getEventsOverlapping_eventsWithAndWithoutEndTime_returnsOverlappingInChronologicalOrder() {
+        Event workshop = new EventBuilder().withName("Workshop").withStartTime("2024-10-15 09:00")
+                .withEndTime("2024-10-15 17:00").build();
+        Event lunch = new EventBuilder().withName("Lunch").withStartTime("2024-10-15 12:00")
+                .withEndTime("2024-10-15 13:00").build();
+        Event call = new EventBuilder().withName("Call").withStartTime("2024-10-15 16:30").build();
+        Event dinner = new EventBuilder().withName("Dinner").withStartTime("2024-10-15 17:00")
+                .withEndTime("2024-10-15 19:00").build();
+        uniqueEventList.setEvents(Arrays.asList(dinner, call, lunch, workshop));
+
+        assertEquals(Arrays.asList(lunch, call), uniqueEventList.getEventsOverlapping(workshop));
+        assertEquals(Collections.singletonList(workshop), uniqueEventList.getEventsOverlapping(lunch));
+        assertTrue(uniqueEventList.getEventsOverlapping(dinner).isEmpty());
+
+        Event longerWorkshop = new EventBuilder(workshop).withEndTime("2024-10-15 18:00").build();
+        uniqueEventList.setEvent(workshop, longerWorkshop);
+        assertEquals(Collections.singletonList(longerWorkshop), uniqueEventList.getEventsOverlapping(dinner));
+
+        uniqueEventList.remove(longerWorkshop);
+        assertTrue(uniqueEventList.getEventsOverlapping(dinner).isEmpty());
+    }
+
+    @Test
+    public void getEventsBetween_recurringEvent_returnsOccurrencesInChronologicalOrder() {
+        Event standUp = new EventBuilder().withName("Standup").withStartTime("2024-10-01 09:00")
+                .withRecurrence("weekly").build();
+        Event launch = new EventBuilder().withName("Launch").withStartTime("2024-10-10 12:00").build();
+        uniqueEventList.setEvents(Arrays.asList(standUp, launch));
+
+        EventBuilder occurrence = new EventBuilder(standUp).withoutRecurrence();
+        assertEquals(Arrays.asList(occurrence.withStartTime("2024-10-08 09:00").build(), launch,
+                occurrence.withStartTime("2024-10-15 09:00").build()), uniqueEventList.getEventsBetween(
+                LocalDateTime.of(2024, 10, 2, 0, 0), LocalDateTime.of(2024, 10, 16, 0, 0)));
+
+        // the series is still stored once
+        assertEquals(2, uniqueEventList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void getEventsOverlapping_recurringEvent_matchesAnyOccurrence() {
+        Event standUp = new EventBuilder().withName("Standup").withStartTime("2024-10-01 09:00")
+                .withEndTime("2024-10-01 09:30").withRecurrence("daily").build();
+        uniqueEventList.add(standUp);
+
+        Event review = new EventBuilder().withName("Review").withStartTime("2024-12-24 09:15").build();
+        assertEquals(Collections.singletonList(standUp), uniqueEventList.getEventsOverlapping(review));
+
+        Event lunch = new EventBuilder().withName("Lunch").withStartTime("2024-12-24 12:00").build();
+        assertTrue(uniqueEventList.getEventsOverlapping(lunch).isEmpty());
+    }
+
+    @Test
+    public void getEventsOverlapping_manyEvents_matchesLinearScan() {
+        Random random = new Random(41);
+        List<Event> events = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(10_000));
+            EventBuilder builder = new EventBuilder().withName("Event " + i)
+                    .withStartTime(start.format(DateTimeUtil.DATE_TIME_FORMATTER));
+            if (random.nextBoolean()) {
+                LocalDateTime end = start.plusMinutes(1 + random.nextInt(2_000));
+                builder.withEndTime(end.format(DateTimeUtil.DATE_TIME_FORMATTER));
+            }
+            Event event = builder.build();
+            events.add(event);
+            uniqueEventList.add(event);
+        }
+        for (int i = 0; i < 100; i++) {
+            uniqueEventList.remove(events.remove(random.nextInt(events.size())));
+        }
+
+        for (Event event : events) {
+            Set<Event> expected = new HashSet<>();
+            for (Event other : events) {
+                if (other != event && other.overlaps(event)) {
+                    expected.add(other);
+                }
+            }
+            List<Event> actual = uniqueEventList.getEventsOverlapping(event);
+            assertEquals(expected, new HashSet<>(actual));
+            assertEquals(expected.size(), actual.size());
+        }
+    }
+
+    @Test
+    public void batchUpdate_addsAndSorts_deliveredAsSingleSortedChange() {
+        int[] changeCount = {0};
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change ->
+                changeCount[0]++);
+
+        uniqueEventList.beginBatchUpdate();
+        uniqueEventList.add(ICE_CREAM_FEST);
+        uniqueEventList.add(HIKING_TRIP);
+        uniqueEventList.updateEventOrder();
+        assertEquals(0, changeCount[0]);
+        uniqueEventList.endBatchUpdate();
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(HIKING_TRIP, ICE_CREAM_FEST), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_eventsAtDifferentTimes_keepsUpcomingThenPastOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        Event past = eventStartingAt("Past", now.minusDays(2));
+        Event recentPast = eventStartingAt("Recent", now.minusDays(1));
+        Event soon = eventStartingAt("Soon", now.plusDays(1));
+        Event later = eventStartingAt("Later", now.plusDays(2));
+
+        uniqueEventList.add(recentPast);
+        uniqueEventList.add(later);
+        uniqueEventList.add(past);
+        uniqueEventList.add(soon);
+        assertEquals(Arrays.asList(soon, later, past, recentPast), uniqueEventList.asUnmodifiableObservableList());
+
+        // edited events are moved to their new place
+        Event postponedSoon = eventStartingAt("Soon", now.plusDays(3));
+        uniqueEventList.setEvent(soon, postponedSoon);
+        assertEquals(Arrays.asList(later, postponedSoon, past, recentPast),
+                uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateEventOrder_eventsStarted_movesOnlyStartedEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        Event past = eventStartingAt("Past", now.minusDays(1));
+        Event first = eventStartingAt("First", now.plusMinutes(10));
+        Event second = eventStartingAt("Second", now.plusMinutes(20));
+        Event third = eventStartingAt("Third", now.plusMinutes(30));
+        uniqueEventList.setEvents(Arrays.asList(third, past, second, first));
+        assertEquals(Arrays.asList(first, second, third, past), uniqueEventList.asUnmodifiableObservableList());
+
+        List<ListChangeListener.Change<? extends Event>> changes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) changes::add);
+
+        // no event has started
+        uniqueEventList.updateEventOrder(now.plusMinutes(5));
+        assertTrue(changes.isEmpty());
+
+        // both started events are moved in one change
+        uniqueEventList.updateEventOrder(now.plusMinutes(25));
+        assertEquals(Arrays.asList(third, past, first, second), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+
+        // the order is not taken back in time
+        uniqueEventList.updateEventOrder(now);
+        assertEquals(Arrays.asList(third, past, first, second), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateEventOrder_eventsStartingTogether_sameAsSortedOrder() {
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            // several events start in each of a few minutes
+            events.add(eventStartingAt("Event " + i, now.plusMinutes(10 + i % 4)));
+            events.add(eventStartingAt("Past " + i, now.minusDays(1).plusMinutes(i % 3)));
+        }
+        uniqueEventList.setEvents(events);
+
+        for (int minutes = 10; minutes <= 14; minutes++) {
+            uniqueEventList.updateEventOrder(now.plusMinutes(minutes).plusSeconds(1));
+            UniqueEventList sortedEventList = new UniqueEventList();
+            sortedEventList.setClock(SimulatedClock.startingAt(now.plusMinutes(minutes).plusSeconds(1)));
+            sortedEventList.setEvents(events);
+            assertEquals(sortedEventList.asUnmodifiableObservableList(),
+                    uniqueEventList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void updateEventOrder_recurringEvent_movesBackAfterOccurrenceEnds() {
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        Event standUp = new EventBuilder().withName("Standup")
+                .withStartTime(now.plusMinutes(10).format(DateTimeUtil.DATE_TIME_FORMATTER))
+                .withEndTime(now.plusMinutes(20).format(DateTimeUtil.DATE_TIME_FORMATTER))
+                .withRecurrence("daily").build();
+        Event review = eventStartingAt("Review", now.plusHours(1));
+        Event past = eventStartingAt("Past", now.minusDays(1));
+        uniqueEventList.setEvents(Arrays.asList(past, review, standUp));
+        assertEquals(Arrays.asList(standUp, review, past), uniqueEventList.asUnmodifiableObservableList());
+
+        // ongoing
+        uniqueEventList.updateEventOrder(now.plusMinutes(15));
+        assertEquals(Arrays.asList(review, past, standUp), uniqueEventList.asUnmodifiableObservableList());
+
+        // ended, and repeats tomorrow
+        uniqueEventList.updateEventOrder(now.plusMinutes(20));
+        assertEquals(Arrays.asList(review, standUp, past), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setClock_simulatedClock_ordersForItsTime() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 8, 0);
+        Event early = eventStartingAt("Early", start.minusHours(1));
+        Event first = eventStartingAt("First", start.plusHours(1));
+        Event second = eventStartingAt("Second", start.plusHours(2));
+        uniqueEventList.setEvents(Arrays.asList(second, early, first));
+
+        // ordered for a time before the current one
+        SimulatedClock clock = SimulatedClock.startingAt(start);
+        uniqueEventList.setClock(clock);
+        assertEquals(Arrays.asList(first, second, early), uniqueEventList.asUnmodifiableObservableList());
+
+        clock.advance(Duration.ofMinutes(90));
+        uniqueEventList.updateEventOrder();
+        assertEquals(Arrays.asList(second, early, first), uniqueEventList.asUnmodifiableObservableList());
+
+        // events added are placed for the time of the clock
+        Event later = eventStartingAt("Later", start.plusHours(3));
+        uniqueEventList.add(later);
+        assertEquals(Arrays.asList(second, later, early, first), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    private List<Tag> getTopTags(int limit) {
+        return uniqueEventList.getTopTags(limit).stream().map(CountRanking.Entry::getItem)
+                .collect(Collectors.toList());
+    }
+
+    private static Event eventStartingAt(String name, LocalDateTime start) {
+        return new EventBuilder().withName(name).withStartTime(start.format(DateTimeUtil.DATE_TIME_FORMATTER)).build();
+    }
+
+    @Test
+    public void getTopTags_keptUpToDateWithEvents() {
+        uniqueEventList.add(ART_EXHIBIT);
+        uniqueEventList.add(BOOK_FAIR);
+        uniqueEventList.add(HIKING_TRIP);
+        assertEquals(Arrays.asList(new Tag(VALID_TAG_CULTURE), new Tag("hobby"), new Tag("literature"),
+                new Tag("outdoor")), getTopTags(5));
+        assertEquals(2, uniqueEventList.getTopTags(1).get(0).getCount());
+
+        uniqueEventList.remove(ART_EXHIBIT);
+        Event editedBookFair = new EventBuilder(BOOK_FAIR).withTags("hobby").build();
+        uniqueEventList.setEvent(BOOK_FAIR, editedBookFair);
+        assertEquals(Arrays.asList(new Tag("hobby"), new Tag("outdoor")), getTopTags(5));
+
+        uniqueEventList.setEvents(Collections.singletonList(ICE_CREAM_FEST));
+        assertTrue(getTopTags(5).isEmpty());
+    }
+
+    @Test
+    public void getEventCountsByDay_oneOffAndRecurringEvents() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 1, 9, 0);
+        Event first = eventStartingAt("First", start);
+        Event second = eventStartingAt("Second", start.plusHours(3));
+        Event later = eventStartingAt("Later", start.plusDays(2));
+        Event weekly = new EventBuilder().withName("Weekly")
+                .withStartTime(start.minusDays(6).format(DateTimeUtil.DATE_TIME_FORMATTER))
+                .withRecurrence("weekly").build();
+        uniqueEventList.setEvents(Arrays.asList(first, second, later, weekly));
+
+        Map<LocalDate, Integer> expected = new LinkedHashMap<>();
+        expected.put(start.toLocalDate(), 2);
+        expected.put(start.toLocalDate().plusDays(1), 1);
+        expected.put(start.toLocalDate().plusDays(2), 1);
+        assertEquals(expected, uniqueEventList.getEventCountsByDay(start.toLocalDate(), 3));
+
+        uniqueEventList.remove(second);
+        expected.put(start.toLocalDate(), 1);
+        assertEquals(expected, uniqueEventList.getEventCountsByDay(start.toLocalDate(), 3));
+    }
+
+    @Test
+    public void endBatchUpdate_noBatchUpdate_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniqueEventList.endBatchUpdate());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -7,14 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.CountRanking;
 import seedu.address.model.types.person.exceptions.DuplicatePersonException;
 import seedu.address.model.types.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +134,27 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+
+        // the list is left unchanged
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +190,77 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void endBatchUpdate_noBatchUpdate_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.endBatchUpdate());
+    }
+
+    @Test
+    public void batchUpdate_multipleChanges_deliveredAsSingleChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginBatchUpdate();
+        uniquePersonList.add(BOB);
+        uniquePersonList.beginBatchUpdate();
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.endBatchUpdate();
+
+        // changes are visible through the list itself but not yet through the observable list
+        assertTrue(uniquePersonList.contains(CARL));
+        assertEquals(Arrays.asList(BOB, CARL), toList(uniquePersonList));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+
+        uniquePersonList.endBatchUpdate();
+        assertEquals(Arrays.asList(BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void batchUpdate_noChanges_notDelivered() {
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+        uniquePersonList.beginBatchUpdate();
+        uniquePersonList.endBatchUpdate();
+        assertEquals(0, changeCount[0]);
+    }
+
+    private static List<Person> toList(UniquePersonList uniquePersonList) {
+        List<Person> persons = new ArrayList<>();
+        uniquePersonList.forEach(persons::add);
+        return persons;
+    }
+
+    @Test
+    public void getTopTags_keptUpToDateWithPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("owesMoney")), getTopTags(5));
+        assertEquals(2, uniquePersonList.getTopTags(1).get(0).getCount());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag(VALID_TAG_HUSBAND), new Tag("owesMoney")),
+                getTopTags(5));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(new Tag(VALID_TAG_HUSBAND)), getTopTags(5));
+
+        uniquePersonList.setPersons(Collections.singletonList(BENSON));
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("owesMoney")), getTopTags(5));
+    }
+
+    private List<Tag> getTopTags(int limit) {
+        return uniquePersonList.getTopTags(limit).stream().map(CountRanking.Entry::getItem)
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
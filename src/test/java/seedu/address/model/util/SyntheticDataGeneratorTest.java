@@ -0,0 +1,61 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(0, -1, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(0, 10, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(0, 10, 1, 1, 11));
+    }
+
+    @Test
+    public void generate_validArguments_generatesRequestedData() {
+        AddressBook addressBook = new SyntheticDataGenerator(1, 100, 20, 5, 7).generate();
+
+        assertEquals(100, addressBook.getPersonList().size());
+        assertEquals(20, addressBook.getEventList().size());
+        for (ArrayList<Person> linkedPersons : addressBook.getPersonEventAssociationMap().values()) {
+            assertEquals(7, linkedPersons.size());
+            assertEquals(7, linkedPersons.stream().distinct().count());
+        }
+    }
+
+    @Test
+    public void generate_sameSeed_generatesEqualAddressBooks() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1, 50, 10, 5, 3);
+        assertEquals(generator.generate(), generator.generate());
+        assertEquals(generator.generate(), new SyntheticDataGenerator(1, 50, 10, 5, 3).generate());
+        assertNotEquals(generator.generate(), new SyntheticDataGenerator(2, 50, 10, 5, 3).generate());
+    }
+
+    @Test
+    public void generate_manyPersons_tagsFollowPowerLaw() {
+        AddressBook addressBook = new SyntheticDataGenerator(1, 2000, 0, 10, 0).generate();
+
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> person.getTags()
+                .forEach(tag -> tagCounts.merge(tag, 1, Integer::sum)));
+
+        // The most common tag is used about ten times as often as the tenth
+        int mostCommonCount = tagCounts.get(new Tag("friends"));
+        int leastCommonCount = tagCounts.get(new Tag("tag10"));
+        assertTrue(mostCommonCount > 5 * leastCommonCount);
+        assertTrue(tagCounts.values().stream().allMatch(count -> count <= mostCommonCount));
+    }
+}
@@ -15,6 +15,10 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
+import seedu.address.testutil.EventBuilder;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_NAME = "R@ce";
@@ -38,14 +42,15 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(INVALID_NAME, VALID_ADDRESS, VALID_START_TIME, VALID_TAGS);
+                new JsonAdaptedEvent(INVALID_NAME, VALID_ADDRESS, VALID_START_TIME, null, null, null, VALID_TAGS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_ADDRESS, VALID_START_TIME, VALID_TAGS);
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(null, VALID_ADDRESS, VALID_START_TIME, null, null, null, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
@@ -53,28 +58,29 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(VALID_NAME, INVALID_ADDRESS, VALID_START_TIME, VALID_TAGS);
+                new JsonAdaptedEvent(VALID_NAME, INVALID_ADDRESS, VALID_START_TIME, null, null, null, VALID_TAGS);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, null, VALID_START_TIME, VALID_TAGS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, null, VALID_START_TIME, null, null, null, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_invalidStartTime_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, INVALID_START_TIME, VALID_TAGS);
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, INVALID_START_TIME, null, null, null, VALID_TAGS);
         String expectedMessage = DateTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_nullStartTime_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, null, VALID_TAGS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, null, null, null, null, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DateTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
@@ -84,8 +90,75 @@ public class JsonAdaptedEventTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, invalidTags);
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, null, null, null, invalidTags);
         assertThrows(IllegalValueException.class, event::toModelType);
     }
 
+    @Test
+    public void toModelType_withEndTime_returnsEvent() throws Exception {
+        Event eventWithEnd = new EventBuilder().withEndTime("2024-10-15 18:00").build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(eventWithEnd);
+        assertEquals(eventWithEnd, event.toModelType());
+    }
+
+    @Test
+    public void toModelType_withTimeZones_returnsEvent() throws Exception {
+        Event zonedEvent = new EventBuilder().withStartTime("2024-10-15 09:00 Asia/Tokyo")
+                .withEndTime("2024-10-15 03:00 Europe/London").build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(zonedEvent);
+        assertEquals(zonedEvent, event.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidEndTime_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, INVALID_START_TIME, null, null,
+                        VALID_TAGS);
+        assertThrows(IllegalValueException.class, DateTime.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_endTimeNotAfterStartTime_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, VALID_START_TIME, null, null,
+                        VALID_TAGS);
+        assertThrows(IllegalValueException.class, Event.MESSAGE_END_TIME_CONSTRAINTS, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_withRecurrence_returnsEvent() throws Exception {
+        Event recurringEvent = new EventBuilder().withRecurrence("weekly until 2024-12-31").build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(recurringEvent);
+        assertEquals(recurringEvent, event.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, null, "fortnightly", null,
+                        VALID_TAGS);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_recurrenceEndingBeforeStart_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, "2024-10-15 14:30", null,
+                "daily until 2024-10-14", null, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Event.MESSAGE_RECURRENCE_CONSTRAINTS, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_withCapacity_returnsEvent() throws Exception {
+        Event limitedEvent = new EventBuilder().withCapacity("30").build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(limitedEvent);
+        assertEquals(limitedEvent, event.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidCapacity_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_START_TIME, null, null, 0, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Capacity.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
 }
@@ -2,15 +2,21 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.types.event.Event;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TypicalEvents;
 import seedu.address.testutil.TypicalPersons;
 
@@ -72,4 +78,16 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_fullEventWithWaitlist_waitlistKept() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Event smallEvent = new EventBuilder().withName("Small Talk").withCapacity("1").build();
+        addressBook.addEvent(smallEvent);
+        addressBook.linkPersonsToEvent(List.of(ALICE, BENSON, CARL), smallEvent);
+
+        AddressBook addressBookFromJson = new JsonSerializableAddressBook(addressBook).toModelType();
+        assertEquals(addressBook, addressBookFromJson);
+        assertEquals(List.of(BENSON, CARL), addressBookFromJson.getPersonEventManager().getWaitlist(smallEvent));
+    }
+
 }
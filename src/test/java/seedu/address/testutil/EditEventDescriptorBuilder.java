@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -9,7 +10,9 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 
 /**
  * A utility class to help with building EditEventDescriptor objects.
@@ -34,6 +37,9 @@ public class EditEventDescriptorBuilder {
         descriptor.setName(event.getName());
         descriptor.setAddress(event.getLocation());
         descriptor.setStartTime(event.getStartTime());
+        descriptor.setEndTime(event.getEndTime());
+        descriptor.setRecurrence(event.getRecurrence());
+        descriptor.setCapacity(event.getCapacity());
         descriptor.setTags(event.getTags());
     }
 
@@ -61,6 +67,54 @@ public class EditEventDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the end time of the {@code EditEventDescriptor} that we are building.
+     */
+    public EditEventDescriptorBuilder withEndTime(String endTime) {
+        descriptor.setEndTime(Optional.of(new DateTime(endTime)));
+        return this;
+    }
+
+    /**
+     * Sets the {@code EditEventDescriptor} that we are building to remove the end time.
+     */
+    public EditEventDescriptorBuilder withoutEndTime() {
+        descriptor.setEndTime(Optional.empty());
+        return this;
+    }
+
+    /**
+     * Sets the {@code Recurrence} of the {@code EditEventDescriptor} that we are building.
+     */
+    public EditEventDescriptorBuilder withRecurrence(String recurrence) {
+        descriptor.setRecurrence(Optional.of(new Recurrence(recurrence)));
+        return this;
+    }
+
+    /**
+     * Sets the {@code EditEventDescriptor} that we are building to stop the event from repeating.
+     */
+    public EditEventDescriptorBuilder withoutRecurrence() {
+        descriptor.setRecurrence(Optional.empty());
+        return this;
+    }
+
+    /**
+     * Sets the {@code Capacity} of the {@code EditEventDescriptor} that we are building.
+     */
+    public EditEventDescriptorBuilder withCapacity(String capacity) {
+        descriptor.setCapacity(Optional.of(new Capacity(capacity)));
+        return this;
+    }
+
+    /**
+     * Sets the {@code EditEventDescriptor} that we are building to remove the capacity of the event.
+     */
+    public EditEventDescriptorBuilder withoutCapacity() {
+        descriptor.setCapacity(Optional.empty());
+        return this;
+    }
+
     /**
      * Parses the {@code tags} into a {@code Set<Tag>} and set it to the {@code EditEventDescriptor}
      * that we are building.
@@ -7,7 +7,9 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
 import seedu.address.model.types.common.Name;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
+import seedu.address.model.types.event.Recurrence;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -21,6 +23,9 @@ public class EventBuilder {
     private Name name;
     private Address address;
     private DateTime startTime;
+    private DateTime endTime;
+    private Recurrence recurrence;
+    private Capacity capacity;
     private Set<Tag> tags;
 
     /**
@@ -40,6 +45,9 @@ public class EventBuilder {
         name = eventToCopy.getName();
         address = eventToCopy.getLocation();
         startTime = eventToCopy.getStartTime();
+        endTime = eventToCopy.getEndTime().orElse(null);
+        recurrence = eventToCopy.getRecurrence().orElse(null);
+        capacity = eventToCopy.getCapacity().orElse(null);
         tags = new HashSet<>(eventToCopy.getTags());
     }
 
@@ -75,7 +83,47 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the end time of the {@code Event} that we are building.
+     */
+    public EventBuilder withEndTime(String endTime) {
+        this.endTime = new DateTime(endTime);
+        return this;
+    }
+
+    /**
+     * Removes the end time of the {@code Event} that we are building.
+     */
+    public EventBuilder withoutEndTime() {
+        this.endTime = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Recurrence} of the {@code Event} that we are building.
+     */
+    public EventBuilder withRecurrence(String recurrence) {
+        this.recurrence = new Recurrence(recurrence);
+        return this;
+    }
+
+    /**
+     * Makes the {@code Event} that we are building not repeat.
+     */
+    public EventBuilder withoutRecurrence() {
+        this.recurrence = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Capacity} of the {@code Event} that we are building.
+     */
+    public EventBuilder withCapacity(String capacity) {
+        this.capacity = new Capacity(capacity);
+        return this;
+    }
+
     public Event build() {
-        return new Event(name, address, startTime, tags);
+        return new Event(name, address, startTime, endTime, recurrence, capacity, tags);
     }
 }
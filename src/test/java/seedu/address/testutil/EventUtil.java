@@ -1,7 +1,10 @@
 package seedu.address.testutil;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -10,6 +13,8 @@ import java.util.Set;
 import seedu.address.logic.commands.eventcommands.AddEventCommand;
 import seedu.address.logic.commands.eventcommands.EditEventCommand;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.event.Capacity;
 import seedu.address.model.types.event.Event;
 
 /**
@@ -30,7 +35,10 @@ public class EventUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + event.getName().fullName + " ");
         sb.append(PREFIX_ADDRESS + event.getLocation().value + " ");
-        sb.append(PREFIX_START_TIME + event.getStartTime().value + " ");
+        sb.append(PREFIX_START_TIME + event.getStartTime().toString() + " ");
+        event.getEndTime().ifPresent(endTime -> sb.append(PREFIX_END_TIME + endTime.toString() + " "));
+        event.getRecurrence().ifPresent(recurrence -> sb.append(PREFIX_RECURRENCE + recurrence.value + " "));
+        event.getCapacity().ifPresent(capacity -> sb.append(PREFIX_CAPACITY + capacity.toString() + " "));
         event.getTags().stream().forEach(
                 s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
@@ -45,7 +53,13 @@ public class EventUtil {
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
         descriptor.getAddress().ifPresent(address -> sb.append(PREFIX_ADDRESS).append(address.value).append(" "));
         descriptor.getStartTime().ifPresent(startTime
-                -> sb.append(PREFIX_START_TIME).append(startTime.value).append(" "));
+                -> sb.append(PREFIX_START_TIME).append(startTime).append(" "));
+        descriptor.getEndTime().ifPresent(endTime
+                -> sb.append(PREFIX_END_TIME).append(endTime.map(DateTime::toString).orElse("")).append(" "));
+        descriptor.getRecurrence().ifPresent(recurrence
+                -> sb.append(PREFIX_RECURRENCE).append(recurrence.map(rule -> rule.value).orElse("")).append(" "));
+        descriptor.getCapacity().ifPresent(capacity
+                -> sb.append(PREFIX_CAPACITY).append(capacity.map(Capacity::toString).orElse("")).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();
             if (tags.isEmpty()) {
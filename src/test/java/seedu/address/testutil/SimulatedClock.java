@@ -0,0 +1,73 @@
+package seedu.address.testutil;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A {@code Clock} whose time only changes when it is moved forward, for testing and benchmarking time-dependent
+ * behaviour, such as the order of the events and their countdowns, deterministically over simulated days.
+ * It can be read and moved forward from different threads.
+ */
+public class SimulatedClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    /**
+     * Creates a {@code SimulatedClock} showing {@code instant} in {@code zone}.
+     */
+    public SimulatedClock(Instant instant, ZoneId zone) {
+        requireAllNonNull(instant, zone);
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates a {@code SimulatedClock} showing {@code dateTime} in the system default time zone.
+     */
+    public static SimulatedClock startingAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        ZoneId zone = ZoneId.systemDefault();
+        return new SimulatedClock(dateTime.atZone(zone).toInstant(), zone);
+    }
+
+    /**
+     * Moves the time of this clock forward by {@code duration}, which must not be negative.
+     */
+    public synchronized void advance(Duration duration) {
+        requireNonNull(duration);
+        checkArgument(!duration.isNegative(), "A clock can only be moved forward");
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a clock that shows the same instant in {@code zone}, but is not moved forward with this clock.
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        requireNonNull(zone);
+        return zone.equals(this.zone) ? this : new SimulatedClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedClock[" + instant + "," + zone + "]";
+    }
+}
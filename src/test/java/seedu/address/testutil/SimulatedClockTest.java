@@ -0,0 +1,61 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class SimulatedClockTest {
+
+    private static final Instant START = Instant.parse("2024-10-15T06:30:00Z");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SimulatedClock(null, ZoneOffset.UTC));
+        assertThrows(NullPointerException.class, () -> new SimulatedClock(START, null));
+    }
+
+    @Test
+    public void instant_notAdvanced_staysFixed() {
+        SimulatedClock clock = new SimulatedClock(START, ZoneOffset.UTC);
+        assertEquals(START, clock.instant());
+        assertEquals(START, clock.instant());
+        assertEquals(START.toEpochMilli(), clock.millis());
+    }
+
+    @Test
+    public void advance_validDuration_movesForward() {
+        SimulatedClock clock = SimulatedClock.startingAt(LocalDateTime.of(2024, 10, 15, 14, 30));
+        clock.advance(Duration.ofDays(2));
+        clock.advance(Duration.ofMinutes(15));
+        assertEquals(LocalDateTime.of(2024, 10, 17, 14, 45), LocalDateTime.now(clock));
+
+        clock.advance(Duration.ZERO);
+        assertEquals(LocalDateTime.of(2024, 10, 17, 14, 45), LocalDateTime.now(clock));
+    }
+
+    @Test
+    public void advance_negativeDuration_throwsIllegalArgumentException() {
+        SimulatedClock clock = new SimulatedClock(START, ZoneOffset.UTC);
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(Duration.ofMinutes(-1)));
+        assertEquals(START, clock.instant());
+    }
+
+    @Test
+    public void withZone() {
+        SimulatedClock clock = new SimulatedClock(START, ZoneOffset.UTC);
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+
+        Clock otherZoneClock = clock.withZone(ZoneId.of("Asia/Singapore"));
+        assertEquals(START, otherZoneClock.instant());
+        assertEquals(LocalDateTime.of(2024, 10, 15, 14, 30), LocalDateTime.now(otherZoneClock));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersonEventManager.ALICE;
+import static seedu.address.testutil.TypicalPersonEventManager.BENSON;
+import static seedu.address.testutil.TypicalPersonEventManager.CARL;
+import static seedu.address.testutil.TypicalPersonEventManager.CONCERT;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.types.common.PersonEventManager;
+import seedu.address.model.types.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class PersonEventLinksMirrorTest {
+
+    @Test
+    public void getPendingUpdate_linksChanged_copiesLinks() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addEvent(CONCERT);
+        PersonEventLinksMirror mirror = new PersonEventLinksMirror(addressBook);
+        int[] updateCount = new int[1];
+        mirror.setOnUpdate(() -> updateCount[0]++);
+        assertEquals(List.of(), mirror.getPersonEventAssociations().get(CONCERT));
+
+        addressBook.linkPersonToEvent(ALICE, CONCERT);
+        mirror.getPendingUpdate().run();
+        assertEquals(List.of(ALICE), mirror.getPersonEventAssociations().get(CONCERT));
+        assertEquals(1, updateCount[0]);
+
+        // the copy is not changed by later links until the next update
+        addressBook.addPerson(BENSON);
+        addressBook.linkPersonToEvent(BENSON, CONCERT);
+        assertEquals(List.of(ALICE), mirror.getPersonEventAssociations().get(CONCERT));
+    }
+
+    @Test
+    public void getPendingUpdate_linksUnchanged_noUpdate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(CONCERT);
+        PersonEventLinksMirror mirror = new PersonEventLinksMirror(addressBook);
+        int[] updateCount = new int[1];
+        mirror.setOnUpdate(() -> updateCount[0]++);
+
+        mirror.getPendingUpdate().run();
+        assertEquals(0, updateCount[0]);
+
+        // a new manager, e.g. after an undo, is copied even if it has the same version
+        addressBook.setPersonEventManager(new PersonEventManager());
+        mirror.getPendingUpdate().run();
+        assertEquals(1, updateCount[0]);
+    }
+
+    @Test
+    public void getPendingUpdate_eventFull_copiesWaitlist() {
+        AddressBook addressBook = new AddressBook();
+        Event smallEvent = new EventBuilder(CONCERT).withCapacity("1").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.addEvent(smallEvent);
+        PersonEventLinksMirror mirror = new PersonEventLinksMirror(addressBook);
+        assertFalse(mirror.getWaitlists().containsKey(smallEvent));
+
+        addressBook.linkPersonToEvent(ALICE, smallEvent);
+        addressBook.linkPersonToEvent(BENSON, smallEvent);
+        addressBook.linkPersonToEvent(CARL, smallEvent);
+        mirror.getPendingUpdate().run();
+        assertEquals(List.of(ALICE), mirror.getPersonEventAssociations().get(smallEvent));
+        assertEquals(List.of(BENSON, CARL), mirror.getWaitlists().get(smallEvent));
+    }
+}